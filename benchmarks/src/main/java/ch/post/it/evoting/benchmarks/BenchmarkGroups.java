@@ -0,0 +1,38 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
+
+/**
+ * Provides the encryption group used by all benchmarks.
+ */
+public final class BenchmarkGroups {
+
+	/**
+	 * The bit length of the modulus p of the encryption group used in production.
+	 */
+	public static final int ENCRYPTION_GROUP_BIT_LENGTH = 3072;
+
+	private BenchmarkGroups() {
+		// static usage only.
+	}
+
+	/**
+	 * @return the encryption group of production size.
+	 * @throws IllegalStateException if the available group does not have the production size.
+	 */
+	public static GqGroup getEncryptionGroup() {
+		final GqGroup encryptionGroup = GroupTestData.getLargeGqGroup();
+
+		final int bitLength = encryptionGroup.getP().bitLength();
+		checkState(bitLength == ENCRYPTION_GROUP_BIT_LENGTH, "The encryption group does not have the production size. [expected: %s, actual: %s]",
+				ENCRYPTION_GROUP_BIT_LENGTH, bitLength);
+
+		return encryptionGroup;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.controlcomponent;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.post.it.evoting.benchmarks.BenchmarkGroups;
+import ch.post.it.evoting.controlcomponent.process.HashedPartialChoiceReturnCodeAllowList;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.CreateLCCShareAlgorithm;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.CreateLCCShareContext;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.CreateLCCShareInput;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.CreateLCCShareOutput;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
+import ch.post.it.evoting.cryptoprimitives.math.Base64;
+import ch.post.it.evoting.cryptoprimitives.math.BaseEncodingFactory;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.GqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ZqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivationFactory;
+import ch.post.it.evoting.domain.ElectionSetupUtils;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+
+/**
+ * Benchmarks the CCR<sub>j</sub>'s long Choice Return Code shares generation of the send vote phase.
+ * <p>
+ * The partial Choice Return Codes allow list is the in-memory allow list served once the election event is configured, filled with
+ * {@value #ALLOW_LIST_SIZE} entries.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@SuppressWarnings("java:S117")
+public class CreateLCCShareBenchmark {
+
+	private static final int NODE_ID = 1;
+	private static final int ALLOW_LIST_SIZE = 1_000_000;
+	private static final int DIGEST_LENGTH = 32;
+
+	@Param({ "1", "10", "50" })
+	private int numberOfSelections;
+
+	private CreateLCCShareAlgorithm createLCCShareAlgorithm;
+	private CreateLCCShareContext context;
+	private CreateLCCShareInput input;
+
+	@Setup
+	public void setUp() {
+		final Hash hash = HashFactory.createHash();
+		final Base64 base64 = BaseEncodingFactory.createBase64();
+		createLCCShareAlgorithm = new CreateLCCShareAlgorithm(hash, base64, KeyDerivationFactory.createKeyDerivation(),
+				new InMemoryVerificationCardStateService());
+
+		final GqGroup encryptionGroup = BenchmarkGroups.getEncryptionGroup();
+		final GqGroupGenerator gqGroupGenerator = new GqGroupGenerator(encryptionGroup);
+		final ZqGroupGenerator zqGroupGenerator = new ZqGroupGenerator(ZqGroup.sameOrderAs(encryptionGroup));
+
+		final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+		final String electionEventId = uuidGenerator.generate();
+		final String verificationCardSetId = uuidGenerator.generate();
+		final String verificationCardId = uuidGenerator.generate();
+		final ImmutableList<String> blankCorrectnessInformation = ElectionSetupUtils.genBlankCorrectnessInformation(numberOfSelections);
+
+		final GroupVector<GqElement, GqGroup> partialChoiceReturnCodes = gqGroupGenerator.genRandomGqElementVector(numberOfSelections);
+
+		// The allow list contains the long partial Choice Return Codes of the voter among the ones of the other voters.
+		final List<String> allowList = new ArrayList<>(ALLOW_LIST_SIZE);
+		IntStream.range(0, numberOfSelections)
+				.mapToObj(i -> {
+					final GqElement hpCC_id_i = hash.hashAndSquare(partialChoiceReturnCodes.get(i).getValue(), encryptionGroup);
+					return base64.base64Encode(hash.recursiveHash(hpCC_id_i, HashableString.from(verificationCardId),
+							HashableString.from(electionEventId), HashableString.from(blankCorrectnessInformation.get(i))));
+				})
+				.forEach(allowList::add);
+		final SecureRandom secureRandom = new SecureRandom();
+		while (allowList.size() < ALLOW_LIST_SIZE) {
+			final byte[] digest = new byte[DIGEST_LENGTH];
+			secureRandom.nextBytes(digest);
+			allowList.add(java.util.Base64.getEncoder().encodeToString(digest));
+		}
+
+		context = new CreateLCCShareContext(encryptionGroup, NODE_ID, electionEventId, verificationCardSetId, verificationCardId,
+				blankCorrectnessInformation);
+		input = new CreateLCCShareInput(HashedPartialChoiceReturnCodeAllowList.from(allowList, false), partialChoiceReturnCodes,
+				zqGroupGenerator.genRandomZqElementMember());
+	}
+
+	@Benchmark
+	public CreateLCCShareOutput createLCCShare() {
+		return createLCCShareAlgorithm.createLCCShare(context, input);
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.controlcomponent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.post.it.evoting.benchmarks.BenchmarkGroups;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.CreateLVCCShareAlgorithm;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.CreateLVCCShareInput;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.CreateLVCCShareOutput;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.LVCCHashContext;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
+import ch.post.it.evoting.cryptoprimitives.math.BaseEncodingFactory;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.GqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ZqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivationFactory;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+
+/**
+ * Benchmarks the CCR<sub>j</sub>'s long Vote Cast Return Code share generation of the confirm vote phase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CreateLVCCShareBenchmark {
+
+	private static final int NODE_ID = 1;
+
+	private CreateLVCCShareAlgorithm createLVCCShareAlgorithm;
+	private LVCCHashContext context;
+	private CreateLVCCShareInput input;
+
+	@Setup
+	public void setUp() {
+		createLVCCShareAlgorithm = new CreateLVCCShareAlgorithm(HashFactory.createHash(), BaseEncodingFactory.createBase64(),
+				KeyDerivationFactory.createKeyDerivation(), new InMemoryVerificationCardStateService());
+
+		final GqGroup encryptionGroup = BenchmarkGroups.getEncryptionGroup();
+		final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+
+		context = new LVCCHashContext(encryptionGroup, NODE_ID, uuidGenerator.generate(), uuidGenerator.generate(), uuidGenerator.generate());
+		input = new CreateLVCCShareInput(new GqGroupGenerator(encryptionGroup).genMember(),
+				new ZqGroupGenerator(ZqGroup.sameOrderAs(encryptionGroup)).genRandomZqElementMember());
+	}
+
+	@Benchmark
+	public CreateLVCCShareOutput createLVCCShare() {
+		return createLVCCShareAlgorithm.createLVCCShare(context, input);
+	}
+}
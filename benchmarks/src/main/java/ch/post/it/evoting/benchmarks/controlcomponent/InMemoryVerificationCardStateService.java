@@ -0,0 +1,84 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.controlcomponent;
+
+import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+
+import ch.post.it.evoting.controlcomponent.process.VerificationCardStateService;
+
+/**
+ * Verification card state service without persistence.
+ * <p>
+ * Every requirement on the state of a verification card is fulfilled and every transition is accepted, so that the same verification card can be
+ * processed repeatedly by the benchmarks and the load generator. Only the validation of the verification card id is kept.
+ * </p>
+ */
+public class InMemoryVerificationCardStateService extends VerificationCardStateService {
+
+	public InMemoryVerificationCardStateService() {
+		super(null);
+	}
+
+	@Override
+	public boolean isPartiallyDecrypted(final String verificationCardId) {
+		validateUUID(verificationCardId);
+		return true;
+	}
+
+	@Override
+	public boolean isNotPartiallyDecrypted(final String verificationCardId) {
+		validateUUID(verificationCardId);
+		return true;
+	}
+
+	@Override
+	public void setPartiallyDecrypted(final String verificationCardId) {
+		validateUUID(verificationCardId);
+	}
+
+	@Override
+	public boolean isSentVote(final String verificationCardId) {
+		validateUUID(verificationCardId);
+		return true;
+	}
+
+	@Override
+	public boolean isNotSentVote(final String verificationCardId) {
+		validateUUID(verificationCardId);
+		return true;
+	}
+
+	@Override
+	public void setSentVote(final String verificationCardId) {
+		validateUUID(verificationCardId);
+	}
+
+	@Override
+	public boolean isNotConfirmedVote(final String verificationCardId) {
+		validateUUID(verificationCardId);
+		return true;
+	}
+
+	@Override
+	public boolean isConfirmedVote(final String verificationCardId) {
+		validateUUID(verificationCardId);
+		return false;
+	}
+
+	@Override
+	public void setConfirmedVote(final String verificationCardId) {
+		validateUUID(verificationCardId);
+	}
+
+	@Override
+	public int getNextConfirmationAttemptId(final String verificationCardId) {
+		validateUUID(verificationCardId);
+		return 0;
+	}
+
+	@Override
+	public void incrementConfirmationAttempts(final String verificationCardId) {
+		validateUUID(verificationCardId);
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.controlcomponent;
+
+import static ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProofFactory.createZeroKnowledgeProof;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.post.it.evoting.benchmarks.BenchmarkGroups;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.DecryptPCCContext;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.PartialDecryptPCCAlgorithm;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.PartialDecryptPCCInput;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.PartialDecryptPCCOutput;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientKeyPair;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
+import ch.post.it.evoting.cryptoprimitives.math.BaseEncodingFactory;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ElGamalGenerator;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ZqGroupGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+
+/**
+ * Benchmarks the CCR<sub>j</sub>'s partial decryption of the encrypted partial Choice Return Codes of the send vote phase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@SuppressWarnings("java:S117")
+public class PartialDecryptPCCBenchmark {
+
+	private static final int NODE_ID = 1;
+
+	@Param({ "1", "10", "50" })
+	private int numberOfSelections;
+
+	@Param({ "0", "5" })
+	private int numberOfWriteIns;
+
+	private PartialDecryptPCCAlgorithm partialDecryptPCCAlgorithm;
+	private DecryptPCCContext context;
+	private PartialDecryptPCCInput input;
+
+	@Setup
+	public void setUp() {
+		final GqGroup encryptionGroup = BenchmarkGroups.getEncryptionGroup();
+		final ElGamalGenerator elGamalGenerator = new ElGamalGenerator(encryptionGroup);
+		final ZqGroupGenerator zqGroupGenerator = new ZqGroupGenerator(ZqGroup.sameOrderAs(encryptionGroup));
+
+		final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+		final String electionEventId = uuidGenerator.generate();
+		final String verificationCardId = uuidGenerator.generate();
+		final String hashExtractedElectionEvent = BaseEncodingFactory.createBase64()
+				.base64Encode(HashFactory.createHash().recursiveHash(HashableString.from(electionEventId)));
+
+		partialDecryptPCCAlgorithm = new PartialDecryptPCCAlgorithm(createZeroKnowledgeProof(), new InMemoryVerificationCardStateService(),
+				new PrecomputedGetHashExtractedElectionEventService(electionEventId, hashExtractedElectionEvent));
+
+		final int delta = numberOfWriteIns + 1;
+		final ElGamalMultiRecipientCiphertext E1 = elGamalGenerator.genRandomCiphertext(delta);
+		final ZqElement k_id = zqGroupGenerator.genRandomZqElementMember();
+		final ElGamalMultiRecipientCiphertext E1_tilde = ElGamalMultiRecipientCiphertext.create(E1.getGamma(), GroupVector.of(E1.getPhis().getFirst()))
+				.getCiphertextExponentiation(k_id);
+		final ElGamalMultiRecipientCiphertext E2 = elGamalGenerator.genRandomCiphertext(numberOfSelections);
+		final ElGamalMultiRecipientKeyPair keyPair = ElGamalMultiRecipientKeyPair.genKeyPair(encryptionGroup, numberOfSelections,
+				RandomFactory.createRandom());
+
+		context = new DecryptPCCContext.Builder()
+				.setNodeId(NODE_ID)
+				.setVerificationCardId(verificationCardId)
+				.setNumberOfSelections(numberOfSelections)
+				.setNumberOfWriteInsPlusOne(delta)
+				.setEncryptionGroup(encryptionGroup)
+				.setElectionEventId(electionEventId)
+				.build();
+		input = new PartialDecryptPCCInput.Builder()
+				.setEncryptedVote(E1)
+				.setExponentiatedEncryptedVote(E1_tilde)
+				.setEncryptedPartialChoiceReturnCodes(E2)
+				.setCcrjChoiceReturnCodesEncryptionSecretKey(keyPair.getPrivateKey())
+				.setCcrjChoiceReturnCodesEncryptionPublicKey(keyPair.getPublicKey())
+				.build();
+	}
+
+	@Benchmark
+	public PartialDecryptPCCOutput partialDecryptPCC() {
+		return partialDecryptPCCAlgorithm.partialDecryptPCC(context, input);
+	}
+}
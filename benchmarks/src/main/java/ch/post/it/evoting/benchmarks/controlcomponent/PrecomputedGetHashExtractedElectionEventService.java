@@ -0,0 +1,33 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.controlcomponent;
+
+import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import ch.post.it.evoting.controlcomponent.protocol.preliminaries.agreementalgorithms.GetHashExtractedElectionEventService;
+
+/**
+ * Returns a precomputed hash of the extracted election event, as the cached production service does once warmed up.
+ */
+class PrecomputedGetHashExtractedElectionEventService extends GetHashExtractedElectionEventService {
+
+	private final String electionEventId;
+	private final String hashExtractedElectionEvent;
+
+	PrecomputedGetHashExtractedElectionEventService(final String electionEventId, final String hashExtractedElectionEvent) {
+		super(null);
+		this.electionEventId = validateUUID(electionEventId);
+		this.hashExtractedElectionEvent = checkNotNull(hashExtractedElectionEvent);
+	}
+
+	@Override
+	public String getHashExtractedElectionEvent(final String electionEventId) {
+		validateUUID(electionEventId);
+		checkArgument(this.electionEventId.equals(electionEventId), "Unknown election event. [electionEventId: %s]", electionEventId);
+
+		return hashExtractedElectionEvent;
+	}
+}
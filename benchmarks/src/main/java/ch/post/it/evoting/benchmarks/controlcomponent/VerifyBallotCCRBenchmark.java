@@ -0,0 +1,138 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.controlcomponent;
+
+import static ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProofFactory.createZeroKnowledgeProof;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.post.it.evoting.benchmarks.BenchmarkGroups;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.VerifyBallotCCRAlgorithm;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.VerifyBallotCCRContext;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.VerifyBallotCCRInput;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
+import ch.post.it.evoting.cryptoprimitives.math.BaseEncodingFactory;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ElGamalGenerator;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.GqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ZqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ExponentiationProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.PlaintextEqualityProof;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.election.PrimesMappingTable;
+import ch.post.it.evoting.evotinglibraries.domain.election.generators.PrimesMappingTableGenerator;
+import ch.post.it.evoting.evotinglibraries.protocol.algorithms.preliminaries.agreementalgorithms.GetHashContextAlgorithm;
+import ch.post.it.evoting.evotinglibraries.protocol.algorithms.preliminaries.electoralmodel.PrimesMappingTableAlgorithms;
+
+/**
+ * Benchmarks the CCR<sub>j</sub>'s verification of the voting client's encrypted vote of the send vote phase.
+ * <p>
+ * The zero-knowledge proofs are random: the verification performs the same exponentiations whether the proofs are valid or not.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@SuppressWarnings("java:S117")
+public class VerifyBallotCCRBenchmark {
+
+	@Param({ "1", "10", "50" })
+	private int numberOfSelections;
+
+	@Param({ "0", "5" })
+	private int numberOfWriteIns;
+
+	private VerifyBallotCCRAlgorithm verifyBallotCCRAlgorithm;
+	private VerifyBallotCCRContext context;
+	private VerifyBallotCCRInput input;
+
+	@Setup
+	public void setUp() {
+		final int delta = numberOfWriteIns + 1;
+		final PrimesMappingTableAlgorithms primesMappingTableAlgorithms = new FixedSizePrimesMappingTableAlgorithms(numberOfSelections, delta);
+		verifyBallotCCRAlgorithm = new VerifyBallotCCRAlgorithm(createZeroKnowledgeProof(), primesMappingTableAlgorithms,
+				new GetHashContextAlgorithm(BaseEncodingFactory.createBase64(), HashFactory.createHash(), primesMappingTableAlgorithms));
+
+		final GqGroup encryptionGroup = BenchmarkGroups.getEncryptionGroup();
+		final GqGroupGenerator gqGroupGenerator = new GqGroupGenerator(encryptionGroup);
+		final ZqGroupGenerator zqGroupGenerator = new ZqGroupGenerator(ZqGroup.sameOrderAs(encryptionGroup));
+		final ElGamalGenerator elGamalGenerator = new ElGamalGenerator(encryptionGroup);
+
+		final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+		final PrimesMappingTable primesMappingTable = new PrimesMappingTableGenerator(encryptionGroup).generate(numberOfSelections);
+
+		context = new VerifyBallotCCRContext.Builder()
+				.setEncryptionGroup(encryptionGroup)
+				.setElectionEventId(uuidGenerator.generate())
+				.setVerificationCardSetId(uuidGenerator.generate())
+				.setVerificationCardId(uuidGenerator.generate())
+				.setPrimesMappingTable(primesMappingTable)
+				.setVerificationCardPublicKey(gqGroupGenerator.genMember())
+				.setElectionPublicKey(new ElGamalMultiRecipientPublicKey(gqGroupGenerator.genRandomGqElementVector(delta)))
+				.setChoiceReturnCodesEncryptionPublicKey(new ElGamalMultiRecipientPublicKey(gqGroupGenerator.genRandomGqElementVector(numberOfSelections)))
+				.build();
+
+		final ElGamalMultiRecipientCiphertext E1 = elGamalGenerator.genRandomCiphertext(delta);
+		final ZqElement k_id = zqGroupGenerator.genRandomZqElementMember();
+		final ElGamalMultiRecipientCiphertext E1_tilde = ElGamalMultiRecipientCiphertext.create(E1.getGamma(), GroupVector.of(E1.getPhis().getFirst()))
+				.getCiphertextExponentiation(k_id);
+
+		input = new VerifyBallotCCRInput.Builder()
+				.setEncryptedVote(E1)
+				.setExponentiatedEncryptedVote(E1_tilde)
+				.setEncryptedPartialChoiceReturnCodes(elGamalGenerator.genRandomCiphertext(numberOfSelections))
+				.setExponentiationProof(new ExponentiationProof(zqGroupGenerator.genRandomZqElementMember(), zqGroupGenerator.genRandomZqElementMember()))
+				.setPlaintextEqualityProof(new PlaintextEqualityProof(zqGroupGenerator.genRandomZqElementMember(), zqGroupGenerator.genRandomZqElementVector(2)))
+				.build();
+	}
+
+	@Benchmark
+	public boolean verifyBallotCCR() {
+		return verifyBallotCCRAlgorithm.verifyBallotCCR(context, input);
+	}
+
+	/**
+	 * Decouples &psi; and &delta; from the generated primes mapping table, which only contains voting options.
+	 */
+	private static class FixedSizePrimesMappingTableAlgorithms extends PrimesMappingTableAlgorithms {
+
+		private final int psi;
+		private final int delta;
+
+		private FixedSizePrimesMappingTableAlgorithms(final int psi, final int delta) {
+			this.psi = psi;
+			this.delta = delta;
+		}
+
+		@Override
+		public int getPsi(final PrimesMappingTable primesMappingTable) {
+			return psi;
+		}
+
+		@Override
+		public int getDelta(final PrimesMappingTable primesMappingTable) {
+			return delta;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.controlcomponent;
+
+import static ch.post.it.evoting.cryptoprimitives.hashing.HashableList.toHashableList;
+import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.BASE64_ENCODED_HASH_OUTPUT_LENGTH;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.post.it.evoting.benchmarks.BenchmarkGroups;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.LVCCHashContext;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.VerifyLVCCHashAlgorithm;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.VerifyLVCCHashInput;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
+import ch.post.it.evoting.cryptoprimitives.math.Base64;
+import ch.post.it.evoting.cryptoprimitives.math.Base64Alphabet;
+import ch.post.it.evoting.cryptoprimitives.math.BaseEncodingFactory;
+import ch.post.it.evoting.cryptoprimitives.math.Random;
+import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+
+/**
+ * Benchmarks the CCR<sub>j</sub>'s verification of the hashed long Vote Cast Return Code shares of the confirm vote phase.
+ * <p>
+ * The long Vote Cast Return Codes allow list is a set of {@value #ALLOW_LIST_SIZE} entries containing the voter's hashed long Vote Cast Return
+ * Code.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@SuppressWarnings("java:S117")
+public class VerifyLVCCHashBenchmark {
+
+	private static final int NODE_ID = 1;
+	private static final int ALLOW_LIST_SIZE = 100_000;
+
+	private VerifyLVCCHashAlgorithm verifyLVCCHashAlgorithm;
+	private LVCCHashContext context;
+	private VerifyLVCCHashInput input;
+
+	@Setup
+	public void setUp() {
+		final Hash hash = HashFactory.createHash();
+		final Base64 base64 = BaseEncodingFactory.createBase64();
+		verifyLVCCHashAlgorithm = new VerifyLVCCHashAlgorithm(hash, base64, new InMemoryVerificationCardStateService());
+
+		final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+		final String electionEventId = uuidGenerator.generate();
+		final String verificationCardSetId = uuidGenerator.generate();
+		final String verificationCardId = uuidGenerator.generate();
+		context = new LVCCHashContext(BenchmarkGroups.getEncryptionGroup(), NODE_ID, electionEventId, verificationCardSetId, verificationCardId);
+
+		final Random random = RandomFactory.createRandom();
+		final Base64Alphabet base64Alphabet = Base64Alphabet.getInstance();
+		// Ordered by node id, the CCR_j being the first node.
+		final ImmutableList<String> hlVCC_id = Stream.generate(() -> random.genRandomString(BASE64_ENCODED_HASH_OUTPUT_LENGTH, base64Alphabet))
+				.limit(4)
+				.collect(ImmutableList.toImmutableList());
+
+		final HashableList i_aux = Stream.of("VerifyLVCCHash", electionEventId, verificationCardSetId, verificationCardId)
+				.map(HashableString::from)
+				.collect(toHashableList());
+		final String hhlVCC_id = base64.base64Encode(hash.recursiveHash(i_aux, HashableString.from(hlVCC_id.get(0)),
+				HashableString.from(hlVCC_id.get(1)), HashableString.from(hlVCC_id.get(2)), HashableString.from(hlVCC_id.get(3))));
+
+		final Set<String> allowList = new HashSet<>(ALLOW_LIST_SIZE);
+		allowList.add(hhlVCC_id);
+		while (allowList.size() < ALLOW_LIST_SIZE) {
+			allowList.add(random.genRandomString(BASE64_ENCODED_HASH_OUTPUT_LENGTH, base64Alphabet));
+		}
+
+		input = new VerifyLVCCHashInput.Builder()
+				.setLongVoteCastReturnCodesAllowList(allowList::contains)
+				.setCcrjHashedLongVoteCastReturnCode(hlVCC_id.get(0))
+				.setOtherCCRsHashedLongVoteCastReturnCodes(ImmutableList.of(hlVCC_id.get(1), hlVCC_id.get(2), hlVCC_id.get(3)))
+				.build();
+	}
+
+	@Benchmark
+	public boolean verifyLVCCHash() {
+		return verifyLVCCHashAlgorithm.verifyLVCCHash(context, input);
+	}
+}
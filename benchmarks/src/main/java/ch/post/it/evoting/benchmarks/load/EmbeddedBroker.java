@@ -0,0 +1,119 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+import static ch.post.it.evoting.domain.SharedQueue.CONTROL_COMPONENTS_ADDRESS;
+import static ch.post.it.evoting.domain.SharedQueue.VOTING_SERVER_ADDRESS;
+import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.NUMBER_OF_CONTROL_COMPONENTS;
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.apache.activemq.artemis.api.core.QueueConfiguration;
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.CoreAddressConfiguration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
+
+/**
+ * In-process Artemis broker with the addresses, queues and address settings of the message broker configuration (see
+ * message-broker/node0/broker.xml), reachable through a TCP acceptor on localhost. Messages are not persisted.
+ */
+public final class EmbeddedBroker implements AutoCloseable {
+
+	private static final String DEAD_LETTER_QUEUE = "DLQ";
+	private static final String EXPIRY_QUEUE = "ExpiryQueue";
+	private static final String BROADCAST_TOPIC_EXCHANGE = "broadcast-topic-exchange";
+
+	private final EmbeddedActiveMQ server = new EmbeddedActiveMQ();
+	private final int port;
+
+	/**
+	 * @param port the port of the TCP acceptor. Must be strictly positive.
+	 */
+	public EmbeddedBroker(final int port) {
+		checkArgument(port > 0, "The port must be strictly positive.");
+		this.port = port;
+	}
+
+	/**
+	 * Starts the broker.
+	 *
+	 * @throws IllegalStateException if the broker could not be started.
+	 */
+	public EmbeddedBroker start() {
+		final CoreAddressConfiguration controlComponentsAddress = new CoreAddressConfiguration()
+				.setName(CONTROL_COMPONENTS_ADDRESS)
+				.addRoutingType(RoutingType.MULTICAST);
+		for (int nodeId = 1; nodeId <= NUMBER_OF_CONTROL_COMPONENTS; nodeId++) {
+			controlComponentsAddress.addQueueConfiguration(QueueConfiguration.of("control-component-" + nodeId)
+					.setAddress(CONTROL_COMPONENTS_ADDRESS)
+					.setRoutingType(RoutingType.MULTICAST)
+					.setFilterString(String.format("(nodeId IS NULL) OR (nodeId='%s')", nodeId)));
+		}
+
+		final AddressSettings defaultAddressSettings = new AddressSettings()
+				.setDeadLetterAddress(SimpleString.of(DEAD_LETTER_QUEUE))
+				.setExpiryAddress(SimpleString.of(EXPIRY_QUEUE))
+				.setRedeliveryDelay(5000)
+				.setMaxDeliveryAttempts(2)
+				.setAutoCreateQueues(false)
+				.setAutoCreateAddresses(false);
+
+		try {
+			final Configuration configuration = new ConfigurationImpl()
+					.setPersistenceEnabled(false)
+					.setSecurityEnabled(false)
+					.setJMXManagementEnabled(false)
+					.addAcceptorConfiguration("tcp", String.format("tcp://localhost:%s", port))
+					.addAddressConfiguration(anycastAddress(DEAD_LETTER_QUEUE))
+					.addAddressConfiguration(anycastAddress(EXPIRY_QUEUE))
+					.addAddressConfiguration(anycastAddress(deadLetterAddress(VOTING_SERVER_ADDRESS)))
+					.addAddressConfiguration(anycastAddress(deadLetterAddress(CONTROL_COMPONENTS_ADDRESS)))
+					.addAddressConfiguration(anycastAddress(VOTING_SERVER_ADDRESS))
+					.addAddressConfiguration(controlComponentsAddress)
+					.addAddressConfiguration(new CoreAddressConfiguration()
+							.setName(BROADCAST_TOPIC_EXCHANGE)
+							.addRoutingType(RoutingType.MULTICAST))
+					.addAddressSetting("#", defaultAddressSettings)
+					.addAddressSetting(VOTING_SERVER_ADDRESS, new AddressSettings()
+							.setDeadLetterAddress(SimpleString.of(deadLetterAddress(VOTING_SERVER_ADDRESS))))
+					.addAddressSetting(CONTROL_COMPONENTS_ADDRESS, new AddressSettings()
+							.setDeadLetterAddress(SimpleString.of(deadLetterAddress(CONTROL_COMPONENTS_ADDRESS))));
+			server.setConfiguration(configuration);
+			server.start();
+		} catch (final Exception e) {
+			throw new IllegalStateException("Could not start the embedded broker.", e);
+		}
+
+		return this;
+	}
+
+	public String getBrokerUrl() {
+		return String.format("tcp://localhost:%s", port);
+	}
+
+	@Override
+	public void close() {
+		try {
+			server.stop();
+		} catch (final Exception e) {
+			throw new IllegalStateException("Could not stop the embedded broker.", e);
+		}
+	}
+
+	private static String deadLetterAddress(final String address) {
+		return "DLA." + address;
+	}
+
+	private static CoreAddressConfiguration anycastAddress(final String name) {
+		return new CoreAddressConfiguration()
+				.setName(name)
+				.addRoutingType(RoutingType.ANYCAST)
+				.addQueueConfiguration(QueueConfiguration.of(name)
+						.setAddress(name)
+						.setRoutingType(RoutingType.ANYCAST));
+	}
+}
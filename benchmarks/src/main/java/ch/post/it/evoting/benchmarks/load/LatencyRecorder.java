@@ -0,0 +1,107 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the latencies of the {@link Leg}s and summarizes them into throughput and percentiles.
+ */
+public final class LatencyRecorder {
+
+	private final Map<Leg, LatencyArray> latencies = new EnumMap<>(Leg.class);
+	private final Set<String> failures = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger failureCount = new AtomicInteger();
+
+	public LatencyRecorder(final int expectedCountPerLeg) {
+		checkArgument(expectedCountPerLeg > 0, "The expected count per leg must be strictly positive.");
+		for (final Leg leg : Leg.values()) {
+			latencies.put(leg, new LatencyArray(expectedCountPerLeg));
+		}
+	}
+
+	/**
+	 * Records the latency of the given leg started at the given {@link System#nanoTime()}.
+	 *
+	 * @return the current {@link System#nanoTime()}, to be used as start of the next leg.
+	 */
+	public long record(final Leg leg, final long startNanos) {
+		checkNotNull(leg);
+		final long endNanos = System.nanoTime();
+		latencies.get(leg).add(endNanos - startNanos);
+		return endNanos;
+	}
+
+	public void recordFailure(final RuntimeException exception) {
+		checkNotNull(exception);
+		failureCount.incrementAndGet();
+		failures.add(exception.getClass().getSimpleName() + ": " + exception.getMessage());
+	}
+
+	/**
+	 * Summarizes the recorded latencies.
+	 *
+	 * @param elapsed the wall-clock duration of the run, used to compute the throughput.
+	 * @return the report, one line per leg.
+	 */
+	public String report(final Duration elapsed) {
+		checkNotNull(elapsed);
+		final double elapsedSeconds = elapsed.toNanos() / 1e9;
+
+		final StringBuilder report = new StringBuilder(String.format("%n%-32s %8s %10s %10s %10s %10s %10s%n", "leg", "count", "ops/s",
+				"p50 (ms)", "p99 (ms)", "p999 (ms)", "max (ms)"));
+		for (final Leg leg : Leg.values()) {
+			final long[] sorted = latencies.get(leg).sorted();
+			if (sorted.length == 0) {
+				continue;
+			}
+			report.append(String.format("%-32s %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n", leg, sorted.length, sorted.length / elapsedSeconds,
+					percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999), sorted[sorted.length - 1] / 1e6));
+		}
+		report.append(String.format("failures: %d%n", failureCount.get()));
+		failures.forEach(failure -> report.append("  ").append(failure).append(System.lineSeparator()));
+
+		return report.toString();
+	}
+
+	private static double percentile(final long[] sorted, final double quantile) {
+		final int index = (int) Math.ceil(quantile * sorted.length) - 1;
+		return sorted[Math.max(index, 0)] / 1e6;
+	}
+
+	/**
+	 * Growable array of latencies in nanoseconds.
+	 */
+	private static final class LatencyArray {
+
+		private long[] values;
+		private int size;
+
+		private LatencyArray(final int initialCapacity) {
+			this.values = new long[initialCapacity];
+		}
+
+		private synchronized void add(final long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		private synchronized long[] sorted() {
+			final long[] sorted = Arrays.copyOf(values, size);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+	}
+}
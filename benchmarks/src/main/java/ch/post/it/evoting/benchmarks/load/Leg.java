@@ -0,0 +1,18 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+/**
+ * The measured legs of the send vote and confirm vote flows. The send vote request is broken down into the round trips of the partial decryption of
+ * the pCC and of the creation of the lCC shares with the control components, and the extraction of the short Choice Return Codes, recorded within
+ * the voting server by the {@link SendVoteLegsBeanPostProcessor}. The latencies of the protocol algorithms of the control components and of the
+ * messaging are exposed by the metrics of the services.
+ */
+public enum Leg {
+	SEND_VOTE,
+	PARTIAL_DECRYPT_PCC_ROUND_TRIP,
+	LCC_SHARE_ROUND_TRIP,
+	EXTRACT_CRC,
+	CONFIRM_VOTE
+}
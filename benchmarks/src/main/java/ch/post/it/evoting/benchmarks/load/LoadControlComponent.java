@@ -0,0 +1,132 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Security;
+import java.util.stream.Stream;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import ch.post.it.evoting.controlcomponent.ControlComponentsApplication;
+import ch.post.it.evoting.controlcomponent.process.CcrjReturnCodesKeysService;
+import ch.post.it.evoting.controlcomponent.process.ElectionEventContextService;
+import ch.post.it.evoting.controlcomponent.process.ElectionEventService;
+import ch.post.it.evoting.controlcomponent.process.ElectionEventState;
+import ch.post.it.evoting.controlcomponent.process.ElectionEventStateService;
+import ch.post.it.evoting.controlcomponent.process.ExtractedElectionEventHashService;
+import ch.post.it.evoting.controlcomponent.process.LVCCAllowListEntryEntity;
+import ch.post.it.evoting.controlcomponent.process.LVCCAllowListEntryService;
+import ch.post.it.evoting.controlcomponent.process.PCCAllowListEntryEntity;
+import ch.post.it.evoting.controlcomponent.process.PCCAllowListEntryService;
+import ch.post.it.evoting.controlcomponent.process.SetupComponentPublicKeysService;
+import ch.post.it.evoting.controlcomponent.process.VerificationCard;
+import ch.post.it.evoting.controlcomponent.process.VerificationCardService;
+import ch.post.it.evoting.controlcomponent.process.VerificationCardSetEntity;
+import ch.post.it.evoting.controlcomponent.process.VerificationCardSetService;
+import ch.post.it.evoting.controlcomponent.protocol.configuration.setupvoting.GenKeysCCROutput;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientKeyPair;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrivateKey;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.SchnorrProof;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.election.ElectionEventContext;
+
+/**
+ * Starts a control component, whose node id is given by the {@code nodeID} property, and saves the {@link LoadSeed} found in the
+ * {@code load.seed-directory} through its services, as the configuration phase would. Started by the {@link LoadGenerator}, it signals that it is
+ * ready to process the load by creating the file {@code control-component-<nodeID>.ready} in the seed directory.
+ */
+public final class LoadControlComponent {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LoadControlComponent.class);
+
+	private LoadControlComponent() {
+		// Intentionally left blank.
+	}
+
+	public static void main(final String[] args) {
+		Security.addProvider(new BouncyCastleProvider());
+		final ConfigurableApplicationContext context = SpringApplication.run(ControlComponentsApplication.class, args);
+
+		final Path seedDirectory = Path.of(context.getEnvironment().getRequiredProperty("load.seed-directory"));
+		final int nodeId = context.getEnvironment().getRequiredProperty("nodeID", Integer.class);
+		final LoadSeed seed = LoadSeed.read(seedDirectory);
+
+		context.getBean(ContextHolder.class).setTenantId(seed.electionEventContextPayload().getTenantId());
+		save(context, nodeId, seed);
+
+		try {
+			Files.createFile(seedDirectory.resolve(readyFileName(nodeId)));
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Could not signal that the control component is ready.", e);
+		}
+		LOGGER.info("Control component ready. [nodeId: {}]", nodeId);
+	}
+
+	static String readyFileName(final int nodeId) {
+		return String.format("control-component-%s.ready", nodeId);
+	}
+
+	private static void save(final ConfigurableApplicationContext context, final int nodeId, final LoadSeed seed) {
+		final GqGroup encryptionGroup = seed.encryptionGroup();
+		final ZqGroup zqGroup = ZqGroup.sameOrderAs(encryptionGroup);
+		final ElectionEventContext electionEventContext = seed.electionEventContext();
+		final String electionEventId = electionEventContext.electionEventId();
+		final String verificationCardSetId = seed.verificationCardSetContext().getVerificationCardSetId();
+
+		context.getBean(ElectionEventService.class).save(electionEventId, encryptionGroup);
+		context.getBean(ElectionEventStateService.class).updateElectionEventState(electionEventId, ElectionEventState.CONFIGURED);
+		context.getBean(ElectionEventContextService.class).save(electionEventContext);
+
+		final VerificationCardSetEntity verificationCardSetEntity = context.getBean(VerificationCardSetService.class)
+				.getVerificationCardSet(verificationCardSetId);
+		context.getBean(PCCAllowListEntryService.class).saveAll(seed.partialChoiceReturnCodesAllowList().stream()
+				.map(partialChoiceReturnCode -> new PCCAllowListEntryEntity(verificationCardSetEntity, partialChoiceReturnCode, 0))
+				.collect(toImmutableList()));
+		context.getBean(LVCCAllowListEntryService.class).saveAll(seed.longVoteCastReturnCodesAllowList().stream()
+				.map(longVoteCastReturnCode -> new LVCCAllowListEntryEntity(verificationCardSetEntity, longVoteCastReturnCode))
+				.collect(toImmutableList()));
+		context.getBean(VerificationCardService.class).saveAll(seed.voters().stream()
+				.map(voter -> new VerificationCard(voter.verificationCardId(), verificationCardSetId, new ElGamalMultiRecipientPublicKey(
+						GroupVector.of(GqElement.GqElementFactory.fromValue(voter.verificationCardPublicKey(), encryptionGroup)))))
+				.collect(toImmutableList()));
+
+		context.getBean(SetupComponentPublicKeysService.class).save(electionEventId, seed.setupComponentPublicKeys());
+
+		// The Schnorr proofs were verified by the setup component and are not used in the voting phase.
+		final LoadSeed.ControlComponentSecrets secrets = seed.controlComponentSecrets(nodeId);
+		final ElGamalMultiRecipientKeyPair ccrjChoiceReturnCodesEncryptionKeyPair = ElGamalMultiRecipientKeyPair.from(
+				new ElGamalMultiRecipientPrivateKey(secrets.ccrjChoiceReturnCodesEncryptionSecretKey().stream()
+						.map(value -> ZqElement.create(value, zqGroup))
+						.collect(toGroupVector())),
+				encryptionGroup.getGenerator());
+		final ZqElement zero = ZqElement.create(BigInteger.ZERO, zqGroup);
+		final GroupVector<SchnorrProof, ZqGroup> ccrjSchnorrProofs = Stream.generate(() -> new SchnorrProof(zero, zero))
+				.limit(ccrjChoiceReturnCodesEncryptionKeyPair.size())
+				.collect(toGroupVector());
+		context.getBean(CcrjReturnCodesKeysService.class).save(electionEventId, new GenKeysCCROutput(ccrjChoiceReturnCodesEncryptionKeyPair,
+				ZqElement.create(secrets.ccrjReturnCodesGenerationSecretKey(), zqGroup), ccrjSchnorrProofs));
+
+		context.getBean(ExtractedElectionEventHashService.class).computeAndSave(electionEventId);
+
+		LOGGER.info("Load seed saved. [nodeId: {}, electionEventId: {}, numberOfVoters: {}]", nodeId, electionEventId, seed.voters().size());
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.NUMBER_OF_CONTROL_COMPONENTS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SignatureException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ch.post.it.evoting.benchmarks.BenchmarkGroups;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.signing.SignatureKeystore;
+import ch.post.it.evoting.cryptoprimitives.signing.SignatureKeystoreFactory;
+import ch.post.it.evoting.evotinglibraries.direct.trust.KeystoreFilesCreator;
+import ch.post.it.evoting.evotinglibraries.domain.common.ChannelSecurityContextData;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.ElectionEventContextPayload;
+import ch.post.it.evoting.evotinglibraries.domain.signature.Alias;
+import ch.post.it.evoting.evotinglibraries.domain.signature.CryptoPrimitivesSignature;
+
+/**
+ * Drives the send vote and confirm vote flows of a synthetic election event end to end through the real voting server and control components, and
+ * reports the throughput and the latency percentiles of the requests.
+ * <p>
+ * The load generator generates a {@link SyntheticElectionEvent}, starts an in-process message broker and runs the four control components
+ * ({@link LoadControlComponent}) and the voting server ({@link LoadVotingServer}) as separate processes from their runnable jars, each with its own
+ * in-memory H2 database. The messages therefore go through the message handlers, the exactly once processing, the persistence, the signature
+ * verifications and the serialization of the services. The following system properties configure the run:
+ * <ul>
+ *     <li>{@code load.voters}: the number of voters (default 500).</li>
+ *     <li>{@code load.concurrency}: the number of concurrent voters (default 50).</li>
+ *     <li>{@code load.selections}: the number of selections &psi; (default 10).</li>
+ *     <li>{@code load.broker-port}: the port of the message broker (default 61616).</li>
+ *     <li>{@code load.directory}: the working directory, containing the runnable jars in its {@code lib} directory (default target/load).</li>
+ *     <li>{@code load.classes}: the benchmark classes added to the loader path of the services (default target/classes).</li>
+ * </ul>
+ * </p>
+ */
+public final class LoadGenerator {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LoadGenerator.class);
+	private static final String TENANT_ID = "load";
+	private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(10);
+
+	private LoadGenerator() {
+		// Intentionally left blank.
+	}
+
+	public static void main(final String[] args) throws InterruptedException {
+		final int numberOfVoters = Integer.getInteger("load.voters", 500);
+		final int concurrency = Integer.getInteger("load.concurrency", 50);
+		final int numberOfSelections = Integer.getInteger("load.selections", 10);
+		final int brokerPort = Integer.getInteger("load.broker-port", 61616);
+		final Path directory = Path.of(System.getProperty("load.directory", "target/load")).toAbsolutePath();
+		final Path classes = Path.of(System.getProperty("load.classes", "target/classes")).toAbsolutePath();
+
+		final Path seedDirectory = directory.resolve("seed");
+		final Path keystoreLocation = seedDirectory.resolve("signing_keystore_load.p12");
+		final Path keystorePasswordLocation = seedDirectory.resolve("signing_pw_load.txt");
+		deleteSeedDirectory(seedDirectory);
+		createKeystore(keystoreLocation, keystorePasswordLocation);
+
+		final LoadSeed unsignedSeed = SyntheticElectionEvent.generate(BenchmarkGroups.getEncryptionGroup(), numberOfVoters, numberOfSelections,
+				TENANT_ID);
+		signElectionEventContextPayload(unsignedSeed.electionEventContextPayload(), keystoreLocation, keystorePasswordLocation);
+		unsignedSeed.write(seedDirectory);
+
+		final ServiceLauncher serviceLauncher = new ServiceLauncher(directory.resolve("lib"), classes, seedDirectory, keystoreLocation,
+				keystorePasswordLocation);
+		final List<Process> controlComponents = new ArrayList<>(NUMBER_OF_CONTROL_COMPONENTS);
+		try (final EmbeddedBroker broker = new EmbeddedBroker(brokerPort).start()) {
+			for (int nodeId = 1; nodeId <= NUMBER_OF_CONTROL_COMPONENTS; nodeId++) {
+				controlComponents.add(serviceLauncher.launch("control-component-runnable.jar", LoadControlComponent.class, "control-component-" + nodeId,
+						broker.getBrokerUrl(), Map.of("nodeID", String.valueOf(nodeId))));
+			}
+			awaitControlComponents(controlComponents, seedDirectory);
+
+			LOGGER.info("Starting voting server. [numberOfVoters: {}, concurrency: {}, numberOfSelections: {}]", numberOfVoters, concurrency,
+					numberOfSelections);
+			final Process votingServer = serviceLauncher.launch("voting-server-runnable.jar", LoadVotingServer.class, "voting-server",
+					broker.getBrokerUrl(), Map.of("load.concurrency", String.valueOf(concurrency)));
+			final int exitCode = votingServer.waitFor();
+			LOGGER.info("Voting server exited. [exitCode: {}]", exitCode);
+		} finally {
+			controlComponents.forEach(Process::destroy);
+		}
+	}
+
+	private static void deleteSeedDirectory(final Path seedDirectory) {
+		if (Files.notExists(seedDirectory)) {
+			return;
+		}
+		try (final Stream<Path> paths = Files.walk(seedDirectory)) {
+			paths.sorted((first, second) -> second.compareTo(first)).forEach(path -> {
+				try {
+					Files.delete(path);
+				} catch (final IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Could not delete the seed directory.", e);
+		}
+	}
+
+	/**
+	 * Creates the keystore, holding the keys of all aliases, shared by the control components and the voting server.
+	 */
+	private static void createKeystore(final Path keystoreLocation, final Path keystorePasswordLocation) {
+		try {
+			Files.createDirectories(keystoreLocation.getParent());
+			KeystoreFilesCreator.create(keystoreLocation.toString(), keystorePasswordLocation.toString(), Alias.VOTING_SERVER.get());
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Could not create the keystore.", e);
+		}
+	}
+
+	/**
+	 * Signs the election event context payload as the setup component, for the voting server to verify it.
+	 */
+	private static void signElectionEventContextPayload(final ElectionEventContextPayload electionEventContextPayload, final Path keystoreLocation,
+			final Path keystorePasswordLocation) {
+		try (final InputStream keystoreStream = Files.newInputStream(keystoreLocation)) {
+			final char[] keystorePassword = Files.readString(keystorePasswordLocation, StandardCharsets.UTF_8).toCharArray();
+			final SignatureKeystore<Alias> signatureKeystore = SignatureKeystoreFactory.createSignatureKeystore(keystoreStream, "PKCS12",
+					keystorePassword, keystore -> true, Alias.SDM_CONFIG);
+			final ImmutableByteArray signature = signatureKeystore.generateSignature(electionEventContextPayload,
+					ChannelSecurityContextData.electionEventContext(electionEventContextPayload.getElectionEventContext().electionEventId()));
+			electionEventContextPayload.setSignature(new CryptoPrimitivesSignature(signature));
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Could not read the keystore.", e);
+		} catch (final SignatureException e) {
+			throw new IllegalStateException("Could not sign the election event context payload.", e);
+		}
+	}
+
+	private static void awaitControlComponents(final List<Process> controlComponents, final Path seedDirectory) throws InterruptedException {
+		final Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+		for (int nodeId = 1; nodeId <= NUMBER_OF_CONTROL_COMPONENTS; nodeId++) {
+			final Path readyFile = seedDirectory.resolve(LoadControlComponent.readyFileName(nodeId));
+			while (Files.notExists(readyFile)) {
+				if (!controlComponents.get(nodeId - 1).isAlive()) {
+					throw new IllegalStateException(String.format("The control component exited during startup. [nodeId: %s]", nodeId));
+				}
+				if (Instant.now().isAfter(deadline)) {
+					throw new IllegalStateException(String.format("The control component did not start within the timeout. [nodeId: %s]", nodeId));
+				}
+				Thread.sleep(1000);
+			}
+		}
+		LOGGER.info("Control components ready.");
+	}
+
+	/**
+	 * Launches a service from its runnable jar, with the benchmark classes and the H2 driver on its loader path and the given main class.
+	 */
+	private record ServiceLauncher(Path lib, Path classes, Path seedDirectory, Path keystoreLocation, Path keystorePasswordLocation) {
+
+		private Process launch(final String jar, final Class<?> mainClass, final String database, final String brokerUrl,
+				final Map<String, String> properties) {
+			final String tenantPrefix = "multitenancy.tenants." + TENANT_ID;
+			final List<String> command = new ArrayList<>(List.of(
+					Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+					"-Dloader.path=" + classes + "," + lib.resolve("h2.jar"),
+					"-Dloader.main=" + mainClass.getName(),
+					"-Dserver.port=0",
+					"-Dspring.artemis.mode=native",
+					"-Dspring.artemis.broker-url=" + brokerUrl,
+					// The Flyway migrations are specific to the production databases, the schema is generated from the entities instead.
+					"-Dspring.jpa.hibernate.ddl-auto=create",
+					"-D" + tenantPrefix + ".datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;NON_KEYWORDS=KEY,VALUE",
+					"-D" + tenantPrefix + ".datasource.username=sa",
+					"-D" + tenantPrefix + ".datasource.password=",
+					"-D" + tenantPrefix + ".direct-trust.keystore-location=" + keystoreLocation,
+					"-D" + tenantPrefix + ".direct-trust.password-location=" + keystorePasswordLocation,
+					"-Dload.seed-directory=" + seedDirectory,
+					"-Dlogging.level.root=WARN",
+					"-Dlogging.level.ch.post.it.evoting.benchmarks=INFO"));
+			properties.forEach((key, value) -> command.add(String.format("-D%s=%s", key, value)));
+			command.add("-jar");
+			command.add(lib.resolve(jar).toString());
+
+			try {
+				return new ProcessBuilder(command).inheritIO().start();
+			} catch (final IOException e) {
+				throw new UncheckedIOException(String.format("Could not launch the service. [jar: %s]", jar), e);
+			}
+		}
+	}
+}
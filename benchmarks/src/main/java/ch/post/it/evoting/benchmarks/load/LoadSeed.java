@@ -0,0 +1,138 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.evotinglibraries.domain.election.ElectionEventContext;
+import ch.post.it.evoting.evotinglibraries.domain.election.SetupComponentPublicKeys;
+import ch.post.it.evoting.evotinglibraries.domain.election.VerificationCardSetContext;
+import ch.post.it.evoting.evotinglibraries.domain.mapper.DomainObjectMapper;
+import ch.post.it.evoting.evotinglibraries.domain.mapper.EncryptionGroupUtils;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.ElectionEventContextPayload;
+
+/**
+ * The configuration phase output of a {@link SyntheticElectionEvent}, written by the {@link LoadGenerator} and read by the control components and
+ * the voting server it starts, which save it through their own services before the load begins. Only the first verification card set of the
+ * election event is used.
+ *
+ * @param electionEventContextPayload       the signed election event context payload.
+ * @param setupComponentPublicKeys          the setup component public keys.
+ * @param controlComponentSecrets           the secret keys of each control component.
+ * @param partialChoiceReturnCodesAllowList the partial Choice Return Codes allow list L<sub>pCC</sub>.
+ * @param longVoteCastReturnCodesAllowList  the long Vote Cast Return Codes allow list L<sub>lVCC</sub>.
+ * @param returnCodesMappingTable           the return codes mapping table CMtable.
+ * @param voters                            the voters.
+ */
+public record LoadSeed(ElectionEventContextPayload electionEventContextPayload,
+					   SetupComponentPublicKeys setupComponentPublicKeys,
+					   List<ControlComponentSecrets> controlComponentSecrets,
+					   List<String> partialChoiceReturnCodesAllowList,
+					   List<String> longVoteCastReturnCodesAllowList,
+					   Map<String, String> returnCodesMappingTable,
+					   List<SyntheticVoter> voters) {
+
+	private static final String SEED_FILE_NAME = "seed.json";
+
+	public LoadSeed {
+		checkNotNull(electionEventContextPayload);
+		checkNotNull(setupComponentPublicKeys);
+		controlComponentSecrets = List.copyOf(controlComponentSecrets);
+		partialChoiceReturnCodesAllowList = List.copyOf(partialChoiceReturnCodesAllowList);
+		longVoteCastReturnCodesAllowList = List.copyOf(longVoteCastReturnCodesAllowList);
+		returnCodesMappingTable = Map.copyOf(returnCodesMappingTable);
+		voters = List.copyOf(voters);
+		checkArgument(!voters.isEmpty(), "There must be at least one voter.");
+	}
+
+	/**
+	 * Reads the seed written by {@link #write(Path)} in the given directory.
+	 *
+	 * @param directory the seed directory. Must be non-null.
+	 * @return the seed.
+	 * @throws UncheckedIOException if the seed could not be read.
+	 */
+	public static LoadSeed read(final Path directory) {
+		checkNotNull(directory);
+
+		final ObjectMapper objectMapper = DomainObjectMapper.getNewInstance();
+		try {
+			final JsonNode node = objectMapper.readTree(directory.resolve(SEED_FILE_NAME).toFile());
+			final GqGroup encryptionGroup = EncryptionGroupUtils.getEncryptionGroup(objectMapper,
+					node.get("electionEventContextPayload").get("encryptionGroup"));
+
+			return objectMapper.reader()
+					.withAttribute("group", encryptionGroup)
+					.readValue(node, LoadSeed.class);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(String.format("Could not read the load seed. [directory: %s]", directory), e);
+		}
+	}
+
+	/**
+	 * Writes this seed in the given directory.
+	 *
+	 * @param directory the seed directory, created if needed. Must be non-null.
+	 * @throws UncheckedIOException if the seed could not be written.
+	 */
+	public void write(final Path directory) {
+		checkNotNull(directory);
+
+		try {
+			Files.createDirectories(directory);
+			DomainObjectMapper.getNewInstance().writeValue(directory.resolve(SEED_FILE_NAME).toFile(), this);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(String.format("Could not write the load seed. [directory: %s]", directory), e);
+		}
+	}
+
+	public GqGroup encryptionGroup() {
+		return electionEventContextPayload.getEncryptionGroup();
+	}
+
+	public ElectionEventContext electionEventContext() {
+		return electionEventContextPayload.getElectionEventContext();
+	}
+
+	public VerificationCardSetContext verificationCardSetContext() {
+		return electionEventContext().verificationCardSetContexts().getFirst();
+	}
+
+	public ControlComponentSecrets controlComponentSecrets(final int nodeId) {
+		return controlComponentSecrets.stream()
+				.filter(secrets -> secrets.nodeId() == nodeId)
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException(String.format("Unknown node. [nodeId: %s]", nodeId)));
+	}
+
+	/**
+	 * The secret keys of a control component.
+	 *
+	 * @param nodeId                                   the node id j.
+	 * @param ccrjChoiceReturnCodesEncryptionSecretKey the values of the CCR<sub>j</sub> Choice Return Codes encryption secret key.
+	 * @param ccrjReturnCodesGenerationSecretKey       the value of the CCR<sub>j</sub> Return Codes Generation secret key k'<sub>j</sub>.
+	 */
+	public record ControlComponentSecrets(int nodeId,
+										  List<BigInteger> ccrjChoiceReturnCodesEncryptionSecretKey,
+										  BigInteger ccrjReturnCodesGenerationSecretKey) {
+
+		public ControlComponentSecrets {
+			ccrjChoiceReturnCodesEncryptionSecretKey = List.copyOf(ccrjChoiceReturnCodesEncryptionSecretKey);
+			checkNotNull(ccrjReturnCodesGenerationSecretKey);
+		}
+	}
+}
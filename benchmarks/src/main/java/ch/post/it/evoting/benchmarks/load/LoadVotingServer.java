@@ -0,0 +1,146 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.nio.file.Path;
+import java.security.Security;
+import java.time.Duration;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.domain.configuration.SetupComponentCMTablePayload;
+import ch.post.it.evoting.domain.configuration.SetupComponentVoterAuthenticationData;
+import ch.post.it.evoting.domain.configuration.SetupComponentVoterAuthenticationDataPayload;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
+import ch.post.it.evoting.evotinglibraries.domain.election.VerificationCardSetContext;
+import ch.post.it.evoting.votingserver.VotingServerApplication;
+import ch.post.it.evoting.votingserver.process.ElectionEventContextService;
+import ch.post.it.evoting.votingserver.process.IdentifierValidationService;
+import ch.post.it.evoting.votingserver.process.ReturnCodesMappingTableService;
+import ch.post.it.evoting.votingserver.process.SetupComponentVoterAuthenticationDataPayloadService;
+import ch.post.it.evoting.votingserver.process.voting.confirmvote.VoteCastReturnCodeService;
+import ch.post.it.evoting.votingserver.process.voting.sendvote.ChoiceReturnCodesService;
+
+/**
+ * Starts the voting server, saves the {@link LoadSeed} found in the {@code load.seed-directory} through its services and drives the send vote and
+ * confirm vote requests of all voters through the services called by the voting server's controllers, once the {@link LoadGenerator} started the
+ * control components. The voter authentication is not performed. The legs of the send vote request are recorded by the
+ * {@link SendVoteLegsBeanPostProcessor}.
+ * <p>
+ * The load is a closed loop: {@code load.concurrency} voters vote at the same time, each of them sending and then confirming its vote and checking
+ * that it receives its expected return codes. The process exits once all voters voted, after reporting the throughput and the latency percentiles.
+ * </p>
+ */
+public final class LoadVotingServer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LoadVotingServer.class);
+
+	private LoadVotingServer() {
+		// Intentionally left blank.
+	}
+
+	public static void main(final String[] args) throws InterruptedException {
+		Security.addProvider(new BouncyCastleProvider());
+		final LoadSeed seed = LoadSeed.read(Path.of(checkNotNull(System.getProperty("load.seed-directory"))));
+		final LatencyRecorder latencyRecorder = new LatencyRecorder(seed.voters().size());
+
+		// Registered as a bean, the post processor applies after the transactional proxies.
+		final SpringApplication application = new SpringApplication(VotingServerApplication.class);
+		application.addInitializers(applicationContext -> ((GenericApplicationContext) applicationContext).registerBean(
+				SendVoteLegsBeanPostProcessor.class, () -> new SendVoteLegsBeanPostProcessor(latencyRecorder)));
+		final ConfigurableApplicationContext context = application.run(args);
+
+		final int concurrency = context.getEnvironment().getRequiredProperty("load.concurrency", Integer.class);
+		final ContextHolder contextHolder = context.getBean(ContextHolder.class);
+		final String tenantId = seed.electionEventContextPayload().getTenantId();
+
+		contextHolder.setTenantId(tenantId);
+		save(context, seed);
+
+		final ChoiceReturnCodesService choiceReturnCodesService = context.getBean(ChoiceReturnCodesService.class);
+		final VoteCastReturnCodeService voteCastReturnCodeService = context.getBean(VoteCastReturnCodeService.class);
+		final IdentifierValidationService identifierValidationService = context.getBean(IdentifierValidationService.class);
+		final GqGroup encryptionGroup = seed.encryptionGroup();
+		final String electionEventId = seed.electionEventContext().electionEventId();
+		final String verificationCardSetId = seed.verificationCardSetContext().getVerificationCardSetId();
+
+		LOGGER.info("Starting load. [numberOfVoters: {}, concurrency: {}]", seed.voters().size(), concurrency);
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+		final long startNanos = System.nanoTime();
+		seed.voters().forEach(voter -> executorService.execute(() -> {
+			try {
+				contextHolder.setTenantId(tenantId);
+				final ContextIds contextIds = new ContextIds(electionEventId, verificationCardSetId, voter.verificationCardId());
+
+				long legStartNanos = System.nanoTime();
+				identifierValidationService.validateContextIdsAndCredentialId(contextIds, voter.credentialId());
+				final ImmutableList<String> shortChoiceReturnCodes = choiceReturnCodesService.retrieveShortChoiceReturnCodes(contextIds,
+						voter.credentialId(), voter.encryptedVerifiableVote()).get();
+				checkState(shortChoiceReturnCodes.asList().equals(voter.shortChoiceReturnCodes()),
+						"Unexpected short Choice Return Codes. [contextIds: %s]", contextIds);
+				legStartNanos = latencyRecorder.record(Leg.SEND_VOTE, legStartNanos);
+
+				identifierValidationService.validateContextIdsAndCredentialId(contextIds, voter.credentialId());
+				final String shortVoteCastReturnCode = voteCastReturnCodeService.retrieveShortVoteCastCode(contextIds,
+						GqElement.GqElementFactory.fromValue(voter.confirmationKey(), encryptionGroup)).get();
+				checkState(shortVoteCastReturnCode.equals(voter.shortVoteCastReturnCode()),
+						"Unexpected short Vote Cast Return Code. [contextIds: %s]", contextIds);
+				latencyRecorder.record(Leg.CONFIRM_VOTE, legStartNanos);
+			} catch (final RuntimeException e) {
+				latencyRecorder.recordFailure(e);
+			}
+		}));
+		executorService.shutdown();
+		if (!executorService.awaitTermination(1, TimeUnit.HOURS)) {
+			LOGGER.warn("The load did not complete within one hour.");
+		}
+
+		LOGGER.info("Load completed.{}", latencyRecorder.report(Duration.ofNanos(System.nanoTime() - startNanos)));
+		System.exit(SpringApplication.exit(context));
+	}
+
+	private static void save(final ConfigurableApplicationContext context, final LoadSeed seed) {
+		final String electionEventId = seed.electionEventContext().electionEventId();
+		final VerificationCardSetContext verificationCardSetContext = seed.verificationCardSetContext();
+		final String verificationCardSetId = verificationCardSetContext.getVerificationCardSetId();
+
+		context.getBean(ElectionEventContextService.class).saveElectionEventContext(seed.electionEventContextPayload());
+
+		context.getBean(ReturnCodesMappingTableService.class).save(new SetupComponentCMTablePayload.Builder()
+				.setElectionEventId(electionEventId)
+				.setVerificationCardSetId(verificationCardSetId)
+				.setChunkId(0)
+				.setReturnCodesMappingTable(ImmutableMap.from(seed.returnCodesMappingTable(), TreeMap::new))
+				.build());
+
+		final ImmutableList<SetupComponentVoterAuthenticationData> setupComponentVoterAuthenticationData = seed.voters().stream()
+				.map(voter -> new SetupComponentVoterAuthenticationData(electionEventId, verificationCardSetId,
+						verificationCardSetContext.getBallotBoxId(), voter.verificationCardId(), voter.votingCardId(), voter.credentialId(),
+						voter.baseAuthenticationChallenge()))
+				.collect(toImmutableList());
+		context.getBean(SetupComponentVoterAuthenticationDataPayloadService.class).save(
+				new SetupComponentVoterAuthenticationDataPayload(electionEventId, verificationCardSetId, setupComponentVoterAuthenticationData));
+
+		LOGGER.info("Load seed saved. [electionEventId: {}, numberOfVoters: {}]", electionEventId, seed.voters().size());
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.domain.voting.sendvote.ControlComponentPartialDecryptPayload;
+import ch.post.it.evoting.domain.voting.sendvote.ControlComponentlCCSharePayload;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
+import ch.post.it.evoting.votingserver.process.voting.sendvote.ChoiceReturnCodesService;
+import ch.post.it.evoting.votingserver.protocol.voting.sendvote.ExtractCRCService;
+
+/**
+ * Records the legs of the send vote request within the voting server, by proxying the {@link ChoiceReturnCodesService} and the
+ * {@link ExtractCRCService}:
+ * <ul>
+ *     <li>{@link Leg#PARTIAL_DECRYPT_PCC_ROUND_TRIP}: from the start of the send vote request until the voting server handles the partial
+ *     decryptions of all the control components.</li>
+ *     <li>{@link Leg#LCC_SHARE_ROUND_TRIP}: from the start of the handling of the partial decryptions until the voting server handles the lCC
+ *     shares of all the control components.</li>
+ *     <li>{@link Leg#EXTRACT_CRC}: the extraction of the short Choice Return Codes.</li>
+ * </ul>
+ * The round trips therefore include the preparation of the request by the voting server. The requests of a voter are correlated by its
+ * verification card id.
+ */
+final class SendVoteLegsBeanPostProcessor implements BeanPostProcessor {
+
+	private final LatencyRecorder latencyRecorder;
+	private final Map<String, Long> roundTripStartNanosByVerificationCardId = new ConcurrentHashMap<>();
+
+	SendVoteLegsBeanPostProcessor(final LatencyRecorder latencyRecorder) {
+		this.latencyRecorder = checkNotNull(latencyRecorder);
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+		if (bean instanceof ChoiceReturnCodesService) {
+			return proxy(bean, this::recordRoundTrips);
+		}
+		if (bean instanceof ExtractCRCService) {
+			return proxy(bean, this::recordExtractCRC);
+		}
+		return bean;
+	}
+
+	private Object recordRoundTrips(final MethodInvocation invocation) throws Throwable {
+		final Object[] arguments = invocation.getArguments();
+		switch (invocation.getMethod().getName()) {
+			case "retrieveShortChoiceReturnCodes" -> {
+				final ContextIds contextIds = (ContextIds) arguments[0];
+				roundTripStartNanosByVerificationCardId.put(contextIds.verificationCardId(), System.nanoTime());
+			}
+			case "onResponsePartialDecrypt" -> {
+				@SuppressWarnings("unchecked")
+				final ImmutableList<ControlComponentPartialDecryptPayload> payloads = (ImmutableList<ControlComponentPartialDecryptPayload>) arguments[1];
+				final String verificationCardId = payloads.getFirst().getPartiallyDecryptedEncryptedPCC().contextIds().verificationCardId();
+				recordRoundTrip(Leg.PARTIAL_DECRYPT_PCC_ROUND_TRIP, verificationCardId);
+				roundTripStartNanosByVerificationCardId.put(verificationCardId, System.nanoTime());
+			}
+			case "onResponseLongChoiceReturnCodesShare" -> {
+				@SuppressWarnings("unchecked")
+				final ImmutableList<ControlComponentlCCSharePayload> payloads = (ImmutableList<ControlComponentlCCSharePayload>) arguments[1];
+				recordRoundTrip(Leg.LCC_SHARE_ROUND_TRIP, payloads.getFirst().getLongChoiceReturnCodeShare().verificationCardId());
+			}
+			default -> {
+				// Not a leg of the send vote request.
+			}
+		}
+		return invocation.proceed();
+	}
+
+	private Object recordExtractCRC(final MethodInvocation invocation) throws Throwable {
+		if (!invocation.getMethod().getName().equals("extractCRC")) {
+			return invocation.proceed();
+		}
+
+		final long startNanos = System.nanoTime();
+		final Object result = invocation.proceed();
+		latencyRecorder.record(Leg.EXTRACT_CRC, startNanos);
+		return result;
+	}
+
+	private void recordRoundTrip(final Leg leg, final String verificationCardId) {
+		// A response handled again, for instance after a redelivery, has no round trip in progress.
+		final Long startNanos = roundTripStartNanosByVerificationCardId.remove(verificationCardId);
+		if (startNanos != null) {
+			latencyRecorder.record(leg, startNanos);
+		}
+	}
+
+	private static Object proxy(final Object bean, final MethodInterceptor interceptor) {
+		final ProxyFactory proxyFactory = new ProxyFactory(bean);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(interceptor);
+		return proxyFactory.getProxy(AopUtils.getTargetClass(bean).getClassLoader());
+	}
+}
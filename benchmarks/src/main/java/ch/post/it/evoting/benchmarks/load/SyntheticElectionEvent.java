@@ -0,0 +1,415 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static ch.post.it.evoting.cryptoprimitives.hashing.HashableList.toHashableList;
+import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
+import static ch.post.it.evoting.cryptoprimitives.math.PrimeGqElement.PrimeGqElementFactory.getSmallPrimeGroupMembers;
+import static ch.post.it.evoting.cryptoprimitives.utils.Conversions.integerToString;
+import static ch.post.it.evoting.evotinglibraries.domain.VotingOptionsConstants.MAXIMUM_SUPPORTED_NUMBER_OF_WRITE_INS;
+import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.BASE64_ENCODED_HASH_OUTPUT_LENGTH;
+import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.NUMBER_OF_CONTROL_COMPONENTS;
+import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.SHORT_CHOICE_RETURN_CODE_LENGTH;
+import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.SHORT_VOTE_CAST_RETURN_CODE_LENGTH;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Streams;
+
+import ch.post.it.evoting.benchmarks.controlcomponent.InMemoryVerificationCardStateService;
+import ch.post.it.evoting.controlcomponent.process.HashedPartialChoiceReturnCodeAllowList;
+import ch.post.it.evoting.controlcomponent.process.PartialChoiceReturnCodeAllowList;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.CreateLVCCShareAlgorithm;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.CreateLVCCShareInput;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.CreateLVCCShareOutput;
+import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.LVCCHashContext;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.CreateLCCShareAlgorithm;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.CreateLCCShareContext;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.CreateLCCShareInput;
+import ch.post.it.evoting.cryptoprimitives.collection.AuxiliaryInformation;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamal;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalFactory;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientKeyPair;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientMessage;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrivateKey;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
+import ch.post.it.evoting.cryptoprimitives.math.Base64;
+import ch.post.it.evoting.cryptoprimitives.math.Base64Alphabet;
+import ch.post.it.evoting.cryptoprimitives.math.BaseEncodingFactory;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupElement;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.PrimeGqElement;
+import ch.post.it.evoting.cryptoprimitives.math.Random;
+import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.symmetric.Symmetric;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricCiphertext;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricFactory;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ElGamalGenerator;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.GqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ZqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.utils.Conversions;
+import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivation;
+import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivationFactory;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ExponentiationProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.PlaintextEqualityProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProofFactory;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
+import ch.post.it.evoting.evotinglibraries.domain.common.EncryptedVerifiableVote;
+import ch.post.it.evoting.evotinglibraries.domain.election.ElectionEventContext;
+import ch.post.it.evoting.evotinglibraries.domain.election.PrimesMappingTable;
+import ch.post.it.evoting.evotinglibraries.domain.election.PrimesMappingTableEntry;
+import ch.post.it.evoting.evotinglibraries.domain.election.SetupComponentPublicKeys;
+import ch.post.it.evoting.evotinglibraries.domain.election.VerificationCardSetContext;
+import ch.post.it.evoting.evotinglibraries.domain.election.generators.PrimesMappingTableGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.ElectionEventContextPayload;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.generators.ElectionEventContextPayloadGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.generators.SetupComponentPublicKeysPayloadGenerator;
+import ch.post.it.evoting.evotinglibraries.protocol.algorithms.preliminaries.electoralmodel.PrimesMappingTableAlgorithms;
+
+/**
+ * Generates a synthetic election event, standing in for the output of the configuration phase.
+ * <p>
+ * Each of the &psi; questions offers a yes, a no and a blank answer, and each voter selects one of them at random. The votes are created as by the
+ * voting client, with valid zero-knowledge proofs, so that the control components accept them. The control components' keys are random, but the
+ * allow lists and the return codes mapping table are computed from them with the real protocol algorithms, so that the voting server extracts the
+ * expected return codes.
+ * </p>
+ */
+@SuppressWarnings("java:S117")
+public final class SyntheticElectionEvent {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SyntheticElectionEvent.class);
+	private static final int KEY_DERIVATION_BYTES_LENGTH = 32;
+
+	private SyntheticElectionEvent() {
+		// Intentionally left blank.
+	}
+
+	/**
+	 * Generates a synthetic election event. The election event context payload is left unsigned.
+	 *
+	 * @param encryptionGroup    the encryption group. Must be non-null.
+	 * @param numberOfVoters     the number of voters. Must be strictly positive.
+	 * @param numberOfSelections the number of selections &psi;. Must be strictly positive.
+	 * @param tenantId           the tenant of the election event. Must be non-null.
+	 * @return the seed of the control components and of the voting server.
+	 */
+	public static LoadSeed generate(final GqGroup encryptionGroup, final int numberOfVoters, final int numberOfSelections, final String tenantId) {
+		checkNotNull(encryptionGroup);
+		checkArgument(numberOfVoters > 0, "The number of voters must be strictly positive.");
+		checkArgument(numberOfSelections > 0, "The number of selections must be strictly positive.");
+		checkNotNull(tenantId);
+
+		final Hash hash = HashFactory.createHash();
+		final Base64 base64 = BaseEncodingFactory.createBase64();
+		final ZqGroupGenerator zqGroupGenerator = new ZqGroupGenerator(ZqGroup.sameOrderAs(encryptionGroup));
+		final ElGamalGenerator elGamalGenerator = new ElGamalGenerator(encryptionGroup);
+		final PrimesMappingTableAlgorithms primesMappingTableAlgorithms = new PrimesMappingTableAlgorithms();
+
+		final ElectionEventContextPayload generatedPayload = new ElectionEventContextPayloadGenerator(encryptionGroup)
+				.generate(genPrimesMappingTable(encryptionGroup, numberOfSelections), numberOfVoters);
+		final ElectionEventContextPayload electionEventContextPayload = new ElectionEventContextPayload(generatedPayload.getEncryptionGroup(),
+				generatedPayload.getSeed(), generatedPayload.getSmallPrimes(), generatedPayload.getElectionEventContext(), tenantId);
+		final ElectionEventContext electionEventContext = electionEventContextPayload.getElectionEventContext();
+		final VerificationCardSetContext verificationCardSetContext = electionEventContext.verificationCardSetContexts().getFirst();
+		final String ee = electionEventContext.electionEventId();
+		final String vcs = verificationCardSetContext.getVerificationCardSetId();
+		final PrimesMappingTable pTable = verificationCardSetContext.getPrimesMappingTable();
+
+		// GenKeysCCR and SetupTallyCCM.
+		final int psi_max = electionEventContext.maximumNumberOfSelections();
+		final ImmutableList<ElGamalMultiRecipientKeyPair> ccrEncryptionKeyPairs = Stream.generate(() -> elGamalGenerator.genRandomKeyPair(psi_max))
+				.limit(NUMBER_OF_CONTROL_COMPONENTS)
+				.collect(toImmutableList());
+		final ImmutableList<ZqElement> ccrReturnCodesGenerationSecretKeys = Stream.generate(zqGroupGenerator::genRandomZqElementMember)
+				.limit(NUMBER_OF_CONTROL_COMPONENTS)
+				.collect(toImmutableList());
+		final GroupVector<ElGamalMultiRecipientPublicKey, GqGroup> ccrEncryptionPublicKeys = ccrEncryptionKeyPairs.stream()
+				.map(ElGamalMultiRecipientKeyPair::getPublicKey)
+				.collect(toGroupVector());
+		final GroupVector<ElGamalMultiRecipientPublicKey, GqGroup> ccmElectionPublicKeys = Stream.generate(
+						() -> elGamalGenerator.genRandomKeyPair(MAXIMUM_SUPPORTED_NUMBER_OF_WRITE_INS + 1))
+				.limit(NUMBER_OF_CONTROL_COMPONENTS)
+				.map(ElGamalMultiRecipientKeyPair::getPublicKey)
+				.collect(toGroupVector());
+		final SetupComponentPublicKeys setupComponentPublicKeys = new SetupComponentPublicKeysPayloadGenerator(encryptionGroup)
+				.generate(ccrEncryptionPublicKeys, ccmElectionPublicKeys)
+				.getSetupComponentPublicKeys();
+
+		LOGGER.info("Generating synthetic voters... [numberOfVoters: {}, numberOfSelections: {}]", numberOfVoters, numberOfSelections);
+		final VoteFactory voteFactory = new VoteFactory(ee, pTable, setupComponentPublicKeys.electionPublicKey(), ccrEncryptionPublicKeys,
+				primesMappingTableAlgorithms);
+		final ImmutableList<GeneratedVoter> voters = IntStream.range(0, numberOfVoters).parallel()
+				.mapToObj(v -> voteFactory.createVoter(vcs))
+				.collect(toImmutableList());
+
+		LOGGER.info("Generating pCC allow list...");
+		final ImmutableList<String> tau = primesMappingTableAlgorithms.getCorrectnessInformation(pTable, ImmutableList.emptyList());
+		final GroupVector<PrimeGqElement, GqGroup> p_tilde = pTable.pTable().stream()
+				.map(PrimesMappingTableEntry::encodedVotingOption)
+				.collect(toGroupVector());
+		final ImmutableList<String> L_pCC = voters.stream().parallel()
+				.flatMap(voter -> IntStream.range(0, p_tilde.size())
+						.mapToObj(k -> base64.base64Encode(hash.recursiveHash(
+								hash.hashAndSquare(p_tilde.get(k).exponentiate(voter.verificationCardSecretKey()).getValue(), encryptionGroup),
+								HashableString.from(voter.voter().verificationCardId()), HashableString.from(ee), HashableString.from(tau.get(k))))))
+				.sorted()
+				.collect(toImmutableList());
+
+		LOGGER.info("Generating return codes mapping table and lVCC allow list...");
+		final Map<String, String> CMtable = new ConcurrentHashMap<>();
+		final Set<String> L_lVCC = ConcurrentHashMap.newKeySet();
+		final ReturnCodesSetup returnCodesSetup = new ReturnCodesSetup(encryptionGroup, ee, vcs,
+				primesMappingTableAlgorithms.getBlankCorrectnessInformation(pTable), ccrReturnCodesGenerationSecretKeys,
+				HashedPartialChoiceReturnCodeAllowList.from(L_pCC.asList(), false));
+		voters.stream().parallel().forEach(voter -> returnCodesSetup.addVoter(voter, CMtable, L_lVCC));
+
+		final ImmutableList<LoadSeed.ControlComponentSecrets> controlComponentSecrets = IntStream.rangeClosed(1, NUMBER_OF_CONTROL_COMPONENTS)
+				.mapToObj(j -> {
+					final ElGamalMultiRecipientPrivateKey sk_CCR_j = ccrEncryptionKeyPairs.get(j - 1).getPrivateKey();
+					return new LoadSeed.ControlComponentSecrets(j,
+							IntStream.range(0, sk_CCR_j.size()).mapToObj(i -> sk_CCR_j.get(i).getValue()).toList(),
+							ccrReturnCodesGenerationSecretKeys.get(j - 1).getValue());
+				})
+				.collect(toImmutableList());
+
+		return new LoadSeed(electionEventContextPayload, setupComponentPublicKeys, controlComponentSecrets.asList(), L_pCC.asList(),
+				L_lVCC.stream().sorted().toList(), CMtable, voters.stream().map(GeneratedVoter::voter).toList());
+	}
+
+	private static PrimesMappingTable genPrimesMappingTable(final GqGroup encryptionGroup, final int numberOfSelections) {
+		final ImmutableList<String> answers = ImmutableList.of("YES", "NO", "EMPTY");
+		final ImmutableList<String> actualVotingOptions = IntStream.range(0, numberOfSelections)
+				.boxed()
+				.flatMap(i -> answers.stream().map(answer -> String.format("Q%s|%s", i, answer)))
+				.collect(toImmutableList());
+		final ImmutableList<String> semanticInformation = actualVotingOptions.stream()
+				.map(actualVotingOption -> (actualVotingOption.endsWith("EMPTY") ? "BLANK|" : "NON_BLANK|") + actualVotingOption)
+				.collect(toImmutableList());
+		final ImmutableList<String> correctnessInformation = IntStream.range(0, numberOfSelections)
+				.boxed()
+				.flatMap(i -> answers.stream().map(answer -> "question" + i))
+				.collect(toImmutableList());
+
+		return new PrimesMappingTableGenerator(encryptionGroup).generate(actualVotingOptions,
+				getSmallPrimeGroupMembers(encryptionGroup, actualVotingOptions.size()), semanticInformation, correctnessInformation);
+	}
+
+	/**
+	 * A synthetic voter along with the secrets the return codes are derived from.
+	 */
+	private record GeneratedVoter(SyntheticVoter voter, ZqElement verificationCardSecretKey, GroupVector<GqElement, GqGroup> partialChoiceReturnCodes,
+								  GqElement confirmationKey) {
+	}
+
+	/**
+	 * Creates the voters and their votes, as the algorithms GenVerDat and CreateVote do.
+	 */
+	private static final class VoteFactory {
+
+		private final Random random = RandomFactory.createRandom();
+		private final ElGamal elGamal = ElGamalFactory.createElGamal();
+		private final ZeroKnowledgeProof zeroKnowledgeProof = ZeroKnowledgeProofFactory.createZeroKnowledgeProof();
+		private final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+		private final String ee;
+		private final GqGroup encryptionGroup;
+		private final ZqGroupGenerator zqGroupGenerator;
+		private final GqGroupGenerator gqGroupGenerator;
+		private final ElGamalMultiRecipientPublicKey EL_pk;
+		private final ElGamalMultiRecipientPublicKey pk_CCR;
+		private final ImmutableList<ImmutableList<PrimeGqElement>> questionOptions;
+		private final ImmutableList<String> iAuxVotingOptions;
+
+		private VoteFactory(final String ee, final PrimesMappingTable pTable, final ElGamalMultiRecipientPublicKey EL_pk,
+				final GroupVector<ElGamalMultiRecipientPublicKey, GqGroup> ccrEncryptionPublicKeys,
+				final PrimesMappingTableAlgorithms primesMappingTableAlgorithms) {
+			this.ee = ee;
+			this.encryptionGroup = pTable.getEncryptionGroup();
+			this.zqGroupGenerator = new ZqGroupGenerator(ZqGroup.sameOrderAs(encryptionGroup));
+			this.gqGroupGenerator = new GqGroupGenerator(encryptionGroup);
+			this.EL_pk = EL_pk;
+			this.pk_CCR = elGamal.combinePublicKeys(ccrEncryptionPublicKeys);
+
+			// The encoded voting options of each question, in the order of the blank correctness information.
+			final GroupVector<PrimesMappingTableEntry, GqGroup> entries = pTable.pTable();
+			this.questionOptions = primesMappingTableAlgorithms.getBlankCorrectnessInformation(pTable).stream()
+					.map(tau_hat_i -> entries.stream()
+							.filter(entry -> entry.correctnessInformation().equals(tau_hat_i))
+							.map(PrimesMappingTableEntry::encodedVotingOption)
+							.collect(toImmutableList()))
+					.collect(toImmutableList());
+			this.iAuxVotingOptions = Streams.concat(
+					Stream.of("EncodedVotingOptions"),
+					entries.stream().map(entry -> integerToString(entry.encodedVotingOption().getValue())),
+					Stream.of("ActualVotingOptions"),
+					entries.stream().map(PrimesMappingTableEntry::actualVotingOption),
+					Stream.of("SemanticInformation"),
+					entries.stream().map(PrimesMappingTableEntry::semanticInformation)
+			).collect(toImmutableList());
+		}
+
+		private GeneratedVoter createVoter(final String vcs) {
+			final String vc_id = uuidGenerator.generate();
+			final ZqElement k_id = zqGroupGenerator.genRandomZqElementMember();
+
+			final GroupVector<PrimeGqElement, GqGroup> p_hat = questionOptions.stream()
+					.map(options -> options.get(random.genRandomInteger(BigInteger.valueOf(options.size())).intValueExact()))
+					.collect(toGroupVector());
+			final GroupVector<GqElement, GqGroup> pCC_id = p_hat.stream()
+					.map(p_hat_i -> p_hat_i.exponentiate(k_id))
+					.collect(toGroupVector());
+
+			final EncryptedVerifiableVote encryptedVerifiableVote = createVote(new ContextIds(ee, vcs, vc_id), p_hat, pCC_id, k_id);
+			final GqElement CK_id = gqGroupGenerator.genMember();
+			final SyntheticVoter voter = new SyntheticVoter(vc_id, uuidGenerator.generate(), uuidGenerator.generate(),
+					random.genRandomString(BASE64_ENCODED_HASH_OUTPUT_LENGTH, Base64Alphabet.getInstance()),
+					encryptionGroup.getGenerator().exponentiate(k_id).getValue(), encryptedVerifiableVote, CK_id.getValue(),
+					random.genUniqueDecimalStrings(SHORT_CHOICE_RETURN_CODE_LENGTH, p_hat.size()).asList(),
+					random.genUniqueDecimalStrings(SHORT_VOTE_CAST_RETURN_CODE_LENGTH, 1).get(0));
+
+			return new GeneratedVoter(voter, k_id, pCC_id, CK_id);
+		}
+
+		private EncryptedVerifiableVote createVote(final ContextIds contextIds, final GroupVector<PrimeGqElement, GqGroup> p_hat,
+				final GroupVector<GqElement, GqGroup> pCC_id, final ZqElement k_id) {
+			final ZqGroup zqGroup = ZqGroup.sameOrderAs(encryptionGroup);
+
+			final GqElement rho = p_hat.stream()
+					.map(p_hat_i -> GqElement.GqElementFactory.fromValue(p_hat_i.getValue(), encryptionGroup))
+					.reduce(encryptionGroup.getIdentity(), GqElement::multiply);
+			final ZqElement r = ZqElement.create(random.genRandomInteger(encryptionGroup.getQ()), zqGroup);
+			final ElGamalMultiRecipientCiphertext E1 = elGamal.getCiphertext(new ElGamalMultiRecipientMessage(GroupVector.of(rho)), r, EL_pk);
+
+			final ZqElement r_prime = ZqElement.create(random.genRandomInteger(encryptionGroup.getQ()), zqGroup);
+			final ElGamalMultiRecipientCiphertext E2 = elGamal.getCiphertext(new ElGamalMultiRecipientMessage(pCC_id), r_prime, pk_CCR);
+
+			final ElGamalMultiRecipientCiphertext E1_tilde = ElGamalMultiRecipientCiphertext.create(E1.getGamma(),
+					GroupVector.of(E1.getPhis().getFirst())).getCiphertextExponentiation(k_id);
+			final GqElement E2_tilde_phi = E2.getPhis().stream().reduce(encryptionGroup.getIdentity(), GqElement::multiply);
+			final ElGamalMultiRecipientCiphertext E2_tilde = ElGamalMultiRecipientCiphertext.create(E2.getGamma(), GroupVector.of(E2_tilde_phi));
+			final GqElement K_id = encryptionGroup.getGenerator().exponentiate(k_id);
+
+			final AuxiliaryInformation i_aux = AuxiliaryInformation.from(Streams.concat(
+					Stream.of("CreateVote", contextIds.electionEventId(), contextIds.verificationCardId()),
+					EL_pk.stream().map(GroupElement::getValue).map(Conversions::integerToString),
+					E1.getPhis().stream().map(GroupElement::getValue).map(Conversions::integerToString),
+					iAuxVotingOptions.stream()
+			).collect(toImmutableList()));
+
+			final ExponentiationProof pi_Exp = zeroKnowledgeProof.genExponentiationProof(
+					GroupVector.from(ImmutableList.of(encryptionGroup.getGenerator(), E1.getGamma(), E1.getPhis().getFirst())), k_id,
+					GroupVector.from(ImmutableList.of(K_id, E1_tilde.getGamma(), E1_tilde.getPhis().getFirst())), i_aux);
+
+			final GqElement pk_CCR_tilde = pk_CCR.stream().limit(p_hat.size()).reduce(encryptionGroup.getIdentity(), GqElement::multiply);
+			final PlaintextEqualityProof pi_EqEnc = zeroKnowledgeProof.genPlaintextEqualityProof(E1_tilde, E2_tilde, EL_pk.get(0), pk_CCR_tilde,
+					GroupVector.from(ImmutableList.of(r.multiply(k_id), r_prime)), i_aux);
+
+			return new EncryptedVerifiableVote(contextIds, E1, E1_tilde, E2, pi_Exp, pi_EqEnc);
+		}
+	}
+
+	/**
+	 * Computes the entries of the return codes mapping table and of the long Vote Cast Return Codes allow list of a voter from the shares of the
+	 * control components.
+	 */
+	private static final class ReturnCodesSetup {
+
+		private final Hash hash = HashFactory.createHash();
+		private final Base64 base64 = BaseEncodingFactory.createBase64();
+		private final Symmetric symmetric = SymmetricFactory.createSymmetric();
+		private final KeyDerivation keyDerivation = KeyDerivationFactory.createKeyDerivation();
+		private final CreateLCCShareAlgorithm createLCCShareAlgorithm;
+		private final CreateLVCCShareAlgorithm createLVCCShareAlgorithm;
+		private final GqGroup encryptionGroup;
+		private final String ee;
+		private final String vcs;
+		private final ImmutableList<String> tau_hat;
+		private final ImmutableList<ZqElement> k_prime;
+		private final PartialChoiceReturnCodeAllowList L_pCC;
+
+		private ReturnCodesSetup(final GqGroup encryptionGroup, final String ee, final String vcs, final ImmutableList<String> tau_hat,
+				final ImmutableList<ZqElement> k_prime, final PartialChoiceReturnCodeAllowList L_pCC) {
+			final InMemoryVerificationCardStateService verificationCardStateService = new InMemoryVerificationCardStateService();
+			this.createLCCShareAlgorithm = new CreateLCCShareAlgorithm(hash, base64, keyDerivation, verificationCardStateService);
+			this.createLVCCShareAlgorithm = new CreateLVCCShareAlgorithm(hash, base64, keyDerivation, verificationCardStateService);
+			this.encryptionGroup = encryptionGroup;
+			this.ee = ee;
+			this.vcs = vcs;
+			this.tau_hat = tau_hat;
+			this.k_prime = k_prime;
+			this.L_pCC = L_pCC;
+		}
+
+		private void addVoter(final GeneratedVoter generatedVoter, final Map<String, String> CMtable, final Set<String> L_lVCC) {
+			final SyntheticVoter voter = generatedVoter.voter();
+			final String vc_id = voter.verificationCardId();
+			final int psi = generatedVoter.partialChoiceReturnCodes().size();
+
+			final ImmutableList<GroupVector<GqElement, GqGroup>> lCC_id = IntStream.rangeClosed(1, NUMBER_OF_CONTROL_COMPONENTS)
+					.mapToObj(j -> createLCCShareAlgorithm.createLCCShare(
+									new CreateLCCShareContext(encryptionGroup, j, ee, vcs, vc_id, tau_hat),
+									new CreateLCCShareInput(L_pCC, generatedVoter.partialChoiceReturnCodes(), k_prime.get(j - 1)))
+							.longChoiceReturnCodeShare())
+					.collect(toImmutableList());
+			for (int i = 0; i < psi; i++) {
+				final int final_i = i;
+				final GqElement pC_id_i = lCC_id.stream()
+						.map(lCC_j_id -> lCC_j_id.get(final_i))
+						.reduce(encryptionGroup.getIdentity(), GqElement::multiply);
+				final ImmutableByteArray lCC_id_i = hash.recursiveHash(pC_id_i, HashableString.from(vc_id), HashableString.from(ee),
+						HashableString.from(tau_hat.get(i)));
+				putEntry(CMtable, lCC_id_i, voter.shortChoiceReturnCodes().get(i));
+			}
+
+			final ImmutableList<CreateLVCCShareOutput> lVCC_id = IntStream.rangeClosed(1, NUMBER_OF_CONTROL_COMPONENTS)
+					.mapToObj(j -> createLVCCShareAlgorithm.createLVCCShare(new LVCCHashContext(encryptionGroup, j, ee, vcs, vc_id),
+							new CreateLVCCShareInput(generatedVoter.confirmationKey(), k_prime.get(j - 1))))
+					.collect(toImmutableList());
+			final GqElement pVCC_id = lVCC_id.stream()
+					.map(CreateLVCCShareOutput::longVoteCastReturnCodeShare)
+					.reduce(encryptionGroup.getIdentity(), GqElement::multiply);
+			putEntry(CMtable, hash.recursiveHash(pVCC_id, HashableString.from(vc_id), HashableString.from(ee)), voter.shortVoteCastReturnCode());
+
+			final HashableList i_aux = Stream.of("VerifyLVCCHash", ee, vcs, vc_id)
+					.map(HashableString::from)
+					.collect(toHashableList());
+			final HashableString[] hlVCC_id = lVCC_id.stream()
+					.map(CreateLVCCShareOutput::hashedLongVoteCastReturnCodeShare)
+					.map(HashableString::from)
+					.toArray(HashableString[]::new);
+			L_lVCC.add(base64.base64Encode(hash.recursiveHash(i_aux, hlVCC_id[0], hlVCC_id[1], hlVCC_id[2], hlVCC_id[3])));
+		}
+
+		private void putEntry(final Map<String, String> CMtable, final ImmutableByteArray longReturnCode, final String shortReturnCode) {
+			final ImmutableByteArray sk = keyDerivation.KDF(longReturnCode, ImmutableList.emptyList(), KEY_DERIVATION_BYTES_LENGTH);
+			final SymmetricCiphertext ct = symmetric.genCiphertextSymmetric(sk, Conversions.stringToByteArray(shortReturnCode),
+					ImmutableList.emptyList());
+			CMtable.put(base64.base64Encode(hash.recursiveHash(longReturnCode)), base64.base64Encode(ImmutableByteArray.concat(ct.ciphertext(), ct.nonce())));
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.load;
+
+import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import ch.post.it.evoting.evotinglibraries.domain.common.EncryptedVerifiableVote;
+
+/**
+ * A synthetic voter of a {@link LoadSeed}, holding what its voting client sends and the return codes it expects to receive.
+ *
+ * @param verificationCardId          the verification card id vc<sub>id</sub>.
+ * @param votingCardId                the voting card id.
+ * @param credentialId                the derived voter identifier.
+ * @param baseAuthenticationChallenge the base authentication challenge.
+ * @param verificationCardPublicKey   the value of the verification card public key K<sub>id</sub>.
+ * @param encryptedVerifiableVote     the encrypted verifiable vote, with valid zero-knowledge proofs.
+ * @param confirmationKey             the value of the confirmation key CK<sub>id</sub>.
+ * @param shortChoiceReturnCodes      the expected short Choice Return Codes.
+ * @param shortVoteCastReturnCode     the expected short Vote Cast Return Code.
+ */
+public record SyntheticVoter(String verificationCardId,
+							 String votingCardId,
+							 String credentialId,
+							 String baseAuthenticationChallenge,
+							 BigInteger verificationCardPublicKey,
+							 EncryptedVerifiableVote encryptedVerifiableVote,
+							 BigInteger confirmationKey,
+							 List<String> shortChoiceReturnCodes,
+							 String shortVoteCastReturnCode) {
+
+	public SyntheticVoter {
+		validateUUID(verificationCardId);
+		validateUUID(votingCardId);
+		validateUUID(credentialId);
+		checkNotNull(baseAuthenticationChallenge);
+		checkNotNull(verificationCardPublicKey);
+		checkNotNull(encryptedVerifiableVote);
+		checkNotNull(confirmationKey);
+		shortChoiceReturnCodes = List.copyOf(shortChoiceReturnCodes);
+		checkNotNull(shortVoteCastReturnCode);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.votingserver;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.SHORT_CHOICE_RETURN_CODE_LENGTH;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.post.it.evoting.benchmarks.BenchmarkGroups;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
+import ch.post.it.evoting.cryptoprimitives.math.Base64;
+import ch.post.it.evoting.cryptoprimitives.math.BaseEncodingFactory;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+import ch.post.it.evoting.cryptoprimitives.symmetric.Symmetric;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricCiphertext;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricFactory;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.GqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.utils.Conversions;
+import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivation;
+import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivationFactory;
+import ch.post.it.evoting.domain.ElectionSetupUtils;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.Constants;
+import ch.post.it.evoting.votingserver.protocol.voting.sendvote.ExtractCRCAlgorithm;
+import ch.post.it.evoting.votingserver.protocol.voting.sendvote.ExtractCRCContext;
+import ch.post.it.evoting.votingserver.protocol.voting.sendvote.ExtractCRCInput;
+import ch.post.it.evoting.votingserver.protocol.voting.sendvote.ExtractCRCOutput;
+
+/**
+ * Benchmarks the voting server's extraction of the short Choice Return Codes of the send vote phase.
+ * <p>
+ * The return codes mapping table is an in-memory map holding the voter's entries, so that only the cost of the algorithm is measured.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@SuppressWarnings("java:S117")
+public class ExtractCRCBenchmark {
+
+	@Param({ "1", "10", "50" })
+	private int numberOfSelections;
+
+	private ExtractCRCAlgorithm extractCRCAlgorithm;
+	private ExtractCRCContext context;
+	private ExtractCRCInput input;
+
+	@Setup
+	public void setUp() {
+		final Hash hash = HashFactory.createHash();
+		final Base64 base64 = BaseEncodingFactory.createBase64();
+		final Symmetric symmetric = SymmetricFactory.createSymmetric();
+		final KeyDerivation keyDerivation = KeyDerivationFactory.createKeyDerivation();
+		extractCRCAlgorithm = new ExtractCRCAlgorithm(hash, base64, symmetric, keyDerivation);
+
+		final GqGroup encryptionGroup = BenchmarkGroups.getEncryptionGroup();
+		final GqGroupGenerator gqGroupGenerator = new GqGroupGenerator(encryptionGroup);
+
+		final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+		final String electionEventId = uuidGenerator.generate();
+		final String verificationCardId = uuidGenerator.generate();
+		final ImmutableList<String> blankCorrectnessInformation = ElectionSetupUtils.genBlankCorrectnessInformation(numberOfSelections);
+		final ImmutableList<String> shortChoiceReturnCodes = RandomFactory.createRandom()
+				.genUniqueDecimalStrings(SHORT_CHOICE_RETURN_CODE_LENGTH, numberOfSelections);
+
+		final ImmutableList<GroupVector<GqElement, GqGroup>> lCC_j_id = IntStream.range(0, Constants.NUMBER_OF_CONTROL_COMPONENTS)
+				.mapToObj(j -> gqGroupGenerator.genRandomGqElementVector(numberOfSelections))
+				.collect(toImmutableList());
+
+		final GqElement identity = GqElement.GqElementFactory.fromValue(BigInteger.ONE, encryptionGroup);
+		final Map<String, String> CMtable = new HashMap<>(numberOfSelections);
+		for (int i = 0; i < numberOfSelections; i++) {
+			final int final_i = i;
+			final GqElement pC_id_i = lCC_j_id.stream()
+					.map(lCC_j -> lCC_j.get(final_i))
+					.reduce(identity, GqElement::multiply);
+
+			final ImmutableByteArray lCC_id_i = hash.recursiveHash(pC_id_i, HashableString.from(verificationCardId), HashableString.from(electionEventId),
+					HashableString.from(blankCorrectnessInformation.get(i)));
+			final ImmutableByteArray skcc_id_i = keyDerivation.KDF(lCC_id_i, ImmutableList.emptyList(), 32);
+			final SymmetricCiphertext ctcc_id_i = symmetric.genCiphertextSymmetric(skcc_id_i,
+					Conversions.stringToByteArray(shortChoiceReturnCodes.get(i)), ImmutableList.emptyList());
+
+			CMtable.put(base64.base64Encode(hash.recursiveHash(lCC_id_i)),
+					base64.base64Encode(ImmutableByteArray.concat(ctcc_id_i.ciphertext(), ctcc_id_i.nonce())));
+		}
+
+		context = new ExtractCRCContext(encryptionGroup, electionEventId, verificationCardId, blankCorrectnessInformation);
+		input = new ExtractCRCInput(lCC_j_id, hashedLongReturnCode -> Optional.ofNullable(CMtable.get(hashedLongReturnCode)));
+	}
+
+	@Benchmark
+	public ExtractCRCOutput extractCRC() {
+		return extractCRCAlgorithm.extractCRC(context, input);
+	}
+}
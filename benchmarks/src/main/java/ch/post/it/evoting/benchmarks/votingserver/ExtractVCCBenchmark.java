@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.benchmarks.votingserver;
+
+import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.SHORT_VOTE_CAST_RETURN_CODE_LENGTH;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.post.it.evoting.benchmarks.BenchmarkGroups;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
+import ch.post.it.evoting.cryptoprimitives.math.BaseEncodingFactory;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+import ch.post.it.evoting.cryptoprimitives.symmetric.Symmetric;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricCiphertext;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricFactory;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.GqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.utils.Conversions;
+import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivation;
+import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivationFactory;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.Constants;
+import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCAlgorithm;
+import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCContext;
+import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCInput;
+import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCOutput;
+
+/**
+ * Benchmarks the voting server's extraction of the short Vote Cast Return Code of the confirm vote phase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@SuppressWarnings("java:S117")
+public class ExtractVCCBenchmark {
+
+	private ExtractVCCAlgorithm extractVCCAlgorithm;
+	private ExtractVCCContext context;
+	private ExtractVCCInput input;
+
+	@Setup
+	public void setUp() {
+		final Hash hash = HashFactory.createHash();
+		final Symmetric symmetric = SymmetricFactory.createSymmetric();
+		final KeyDerivation keyDerivation = KeyDerivationFactory.createKeyDerivation();
+		extractVCCAlgorithm = new ExtractVCCAlgorithm(hash, symmetric, keyDerivation);
+
+		final GqGroup encryptionGroup = BenchmarkGroups.getEncryptionGroup();
+		final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+		final String electionEventId = uuidGenerator.generate();
+		final String verificationCardId = uuidGenerator.generate();
+		final String shortVoteCastReturnCode = RandomFactory.createRandom().genUniqueDecimalStrings(SHORT_VOTE_CAST_RETURN_CODE_LENGTH, 1).get(0);
+
+		final GroupVector<GqElement, GqGroup> lVCC_j_id = new GqGroupGenerator(encryptionGroup)
+				.genRandomGqElementVector(Constants.NUMBER_OF_CONTROL_COMPONENTS);
+
+		final GqElement identity = GqElement.GqElementFactory.fromValue(BigInteger.ONE, encryptionGroup);
+		final GqElement pVCC_id = lVCC_j_id.stream().reduce(identity, GqElement::multiply);
+		final ImmutableByteArray lVCC_id = hash.recursiveHash(pVCC_id, HashableString.from(verificationCardId), HashableString.from(electionEventId));
+		final ImmutableByteArray skvcc_id = keyDerivation.KDF(lVCC_id, ImmutableList.emptyList(), 32);
+		final SymmetricCiphertext ctvcc_id = symmetric.genCiphertextSymmetric(skvcc_id, Conversions.stringToByteArray(shortVoteCastReturnCode),
+				ImmutableList.emptyList());
+		final String encodedLVCC = BaseEncodingFactory.createBase64()
+				.base64Encode(ImmutableByteArray.concat(ctvcc_id.ciphertext(), ctvcc_id.nonce()));
+
+		context = new ExtractVCCContext(encryptionGroup, electionEventId, verificationCardId);
+		input = new ExtractVCCInput(lVCC_j_id, hashedLongReturnCode -> Optional.of(encodedLVCC));
+	}
+
+	@Benchmark
+	public ExtractVCCOutput extractVCC() {
+		return extractVCCAlgorithm.extractVCC(context, input);
+	}
+}
@@ -3,11 +3,15 @@
  */
 package ch.post.it.evoting.controlcomponent;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import jakarta.jms.ConnectionFactory;
 
 import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
 import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
@@ -27,6 +31,9 @@ import org.springframework.transaction.support.AbstractPlatformTransactionManage
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamal;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalFactory;
@@ -42,6 +49,7 @@ import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivation;
 import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivationFactory;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProofFactory;
+import ch.post.it.evoting.domain.metrics.AlgorithmMetricsBeanPostProcessor;
 import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
 import ch.post.it.evoting.evotinglibraries.domain.mapper.DomainObjectMapper;
 import ch.post.it.evoting.evotinglibraries.domain.signature.Alias;
@@ -94,6 +102,11 @@ public class ControlComponentsConfig {
 		return new PropertySourcesPlaceholderConfigurer();
 	}
 
+	@Bean
+	public static AlgorithmMetricsBeanPostProcessor algorithmMetricsBeanPostProcessor(final ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		return new AlgorithmMetricsBeanPostProcessor(meterRegistryProvider, "ch.post.it.evoting.controlcomponent.protocol");
+	}
+
 	@Bean
 	Mixnet mixnet() {
 		return MixnetFactory.createMixnet();
@@ -109,6 +122,15 @@ public class ControlComponentsConfig {
 		return KeyDerivationFactory.createKeyDerivation();
 	}
 
+	@Bean
+	ForkJoinPool genEncLongCodeSharesForkJoinPool(
+			@Value("${gen-enc-long-code-shares.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+			final int parallelism) {
+		checkArgument(parallelism > 0, "Property 'gen-enc-long-code-shares.parallelism' must be strictly positive. [Current: %s]", parallelism);
+
+		return new ForkJoinPool(parallelism);
+	}
+
 	@Bean
 	GetMixnetInitialCiphertextsAlgorithm getMixnetInitialCiphertextsAlgorithm(final Hash hash, final Base64 base64, final ElGamal elGamal) {
 		return new GetMixnetInitialCiphertextsAlgorithm(hash, base64, elGamal);
@@ -182,7 +204,8 @@ public class ControlComponentsConfig {
 	@Bean
 	public TenantService tenantService(
 			final HikariConfig hikariConfig,
-			final TenantProperties tenantProperties) {
+			final TenantProperties tenantProperties,
+			final MeterRegistry meterRegistry) {
 
 		return new TenantService(tenantProperties, (tenantId, property) -> {
 
@@ -192,6 +215,8 @@ public class ControlComponentsConfig {
 			tenantHikariConfig.setUsername(property.getUsername());
 			tenantHikariConfig.setPassword(property.getPassword());
 			tenantHikariConfig.setPoolName(hikariConfig().getPoolName() + "-" + tenantId);
+			// Publishes the connection acquisition time of each tenant pool, the tenant data sources are not instrumented by Spring Boot.
+			tenantHikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
 
 			return new HikariDataSource(tenantHikariConfig);
 		}, true);
@@ -6,8 +6,12 @@ package ch.post.it.evoting.controlcomponent;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 
@@ -18,20 +22,22 @@ public class ExactlyOnceCommand<U> {
 	private final String context;
 	private final Runnable preTask;
 	private final Callable<U> task;
+	private final Callable<Callable<U>> concurrentTask;
 	private final Callable<U> replayTask;
 	private final Function<U, ImmutableByteArray> serializer;
 	private final ImmutableByteArray requestPayloadHash;
 	private final int transactionTimeout;
 
 	private ExactlyOnceCommand(final String correlationId, final String contextId, final String context, final Runnable preTask,
-			final Callable<U> task, final Callable<U> replayTask, final Function<U, ImmutableByteArray> serializer,
-			final ImmutableByteArray requestPayloadHash,
+			final Callable<U> task, final Callable<Callable<U>> concurrentTask, final Callable<U> replayTask,
+			final Function<U, ImmutableByteArray> serializer, final ImmutableByteArray requestPayloadHash,
 			final int transactionTimeout) {
 		this.correlationId = correlationId;
 		this.contextId = contextId;
 		this.context = context;
 		this.preTask = preTask;
 		this.task = task;
+		this.concurrentTask = concurrentTask;
 		this.replayTask = replayTask;
 		this.serializer = serializer;
 		this.requestPayloadHash = requestPayloadHash;
@@ -54,6 +60,10 @@ public class ExactlyOnceCommand<U> {
 		return task;
 	}
 
+	public Optional<Callable<Callable<U>>> getConcurrentTask() {
+		return Optional.ofNullable(concurrentTask);
+	}
+
 	public Callable<U> getReplayTask() {
 		return replayTask;
 	}
@@ -74,12 +84,28 @@ public class ExactlyOnceCommand<U> {
 		return transactionTimeout;
 	}
 
+	/**
+	 * Returns a copy of this command whose pre-validation task is run at most once successfully, for a command that may be processed again after
+	 * the failure of a batch it was part of.
+	 *
+	 * @return the copy of this command.
+	 */
+	ExactlyOnceCommand<U> withPreTaskRunOnce() {
+		final Supplier<Boolean> preTaskRun = Suppliers.memoize(() -> {
+			preTask.run();
+			return true;
+		});
+		return new ExactlyOnceCommand<>(correlationId, contextId, context, preTaskRun::get, task, concurrentTask, replayTask, serializer,
+				requestPayloadHash, transactionTimeout);
+	}
+
 	public static class Builder<U> {
 		private String correlationId;
 		private String contextId;
 		private String context;
 		private Runnable preValidationTask;
 		private Callable<U> task;
+		private Callable<Callable<U>> concurrentTask;
 		private Callable<U> replayTask;
 		private Function<U, ImmutableByteArray> serializer;
 		private ImmutableByteArray requestPayloadHash;
@@ -154,6 +180,22 @@ public class ExactlyOnceCommand<U> {
 			return this;
 		}
 
+		/**
+		 * Sets the optional concurrent task, an alternative to the task when the command is processed in a batch.
+		 * <p>
+		 * The concurrent task computes the response outside any transaction, concurrently with the concurrent tasks of the other commands of the
+		 * batch, and returns the task persisting its results, which runs in the transaction of the batch and returns the response. Together they
+		 * must be equivalent to the task. Without a concurrent task, the task runs in the transaction of the batch.
+		 * </p>
+		 *
+		 * @param concurrentTask The concurrent task to be executed in the ExactlyOnceCommand when processed in a batch.
+		 * @return the Builder with the concurrent task set.
+		 */
+		public Builder<U> setConcurrentTask(final Callable<Callable<U>> concurrentTask) {
+			this.concurrentTask = concurrentTask;
+			return this;
+		}
+
 		/**
 		 * Sets the on-replay task, which is only called in case of replays.
 		 *
@@ -203,7 +245,7 @@ public class ExactlyOnceCommand<U> {
 			checkNotNull(serializer);
 			checkState(transactionTimeout >= -1, "Transaction Timeout must be a non-negative integer or TIMEOUT_DEFAULT");
 
-			return new ExactlyOnceCommand<>(correlationId, contextId, context, preValidationTask, task, replayTask, serializer,
+			return new ExactlyOnceCommand<>(correlationId, contextId, context, preValidationTask, task, concurrentTask, replayTask, serializer,
 					requestPayloadHash, transactionTimeout);
 		}
 	}
@@ -0,0 +1,256 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static ch.post.it.evoting.domain.SharedQueue.VOTING_SERVER_ADDRESS;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jms.JmsException;
+import org.springframework.jms.core.MessageCreator;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.stereotype.Service;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+
+/**
+ * Groups the exactly once commands of concurrently received messages into batches processed in a single transaction.
+ * <p>
+ * Each listener thread enqueues its command and then either becomes a leader, processing batches of up to {@code maxSize} pending commands of the
+ * same tenant with {@link ExactlyOnceCommandExecutor#processBatch(ImmutableList)} until no command is pending, or waits for its command to be
+ * processed by another leader. At most {@code maxConcurrentBatches} leaders process batches of a tenant at the same time. A leader checks for pending commands
+ * again after giving back its permit, so that a command enqueued while all the permits were taken is never left behind.
+ * </p>
+ * <p>
+ * If a batch fails, each of its commands is processed individually with {@link ExactlyOnceCommandExecutor#process(ExactlyOnceCommand)} so that a
+ * failing command does not affect the others. The pre-validation task of a command is not run again if it already succeeded in the failed batch.
+ * </p>
+ * <p>
+ * The calling thread always returns the response of its own command, or throws its own failure, so that the acknowledgement of each message
+ * remains tied to the outcome of its command. With {@link #processAndSend(ExactlyOnceCommand, Function)}, the leader also sends the responses of
+ * the commands of a batch together, in a transacted session of its own committed once for the whole batch, before the calling threads return.
+ * A response is thus sent before its message is acknowledged, but no longer in the same transaction: if the acknowledgement is lost, the message
+ * is redelivered and its command replayed.
+ * </p>
+ */
+@Service
+public class ExactlyOnceCommandBatcher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExactlyOnceCommandBatcher.class);
+
+	private final ExactlyOnceCommandExecutor exactlyOnceCommandExecutor;
+	private final ContextHolder contextHolder;
+	private final ConnectionFactory connectionFactory;
+	private final int maxSize;
+	private final int maxConcurrentBatches;
+	private final Map<String, TenantBatches> batchesByTenant = new ConcurrentHashMap<>();
+
+	public ExactlyOnceCommandBatcher(
+			final ExactlyOnceCommandExecutor exactlyOnceCommandExecutor,
+			final ContextHolder contextHolder,
+			final ConnectionFactory connectionFactory,
+			@Value("${jms.listener.batching.max-size}")
+			final int maxSize,
+			@Value("${jms.listener.batching.max-concurrent-batches}")
+			final int maxConcurrentBatches) {
+		checkArgument(maxSize > 0, "The maximum batch size must be strictly positive.");
+		checkArgument(maxConcurrentBatches > 0, "The maximum number of concurrent batches must be strictly positive.");
+
+		this.exactlyOnceCommandExecutor = exactlyOnceCommandExecutor;
+		this.contextHolder = contextHolder;
+		this.connectionFactory = connectionFactory;
+		this.maxSize = maxSize;
+		this.maxConcurrentBatches = maxConcurrentBatches;
+	}
+
+	/**
+	 * Processes the given command exactly once, possibly together with commands of other messages of the same tenant.
+	 *
+	 * @param exactlyOnceCommand the command to be processed. Must be non-null.
+	 * @return the result of the processing of the given command as a byte array.
+	 * @throws NullPointerException  if the exactlyOnceCommand is null.
+	 * @throws IllegalStateException if the command could not be processed correctly.
+	 */
+	public <T extends Hashable> ImmutableByteArray process(final ExactlyOnceCommand<T> exactlyOnceCommand) {
+		checkNotNull(exactlyOnceCommand);
+
+		return process(new PendingCommand(exactlyOnceCommand.withPreTaskRunOnce(), Optional.empty()));
+	}
+
+	/**
+	 * Processes the given command exactly once, possibly together with commands of other messages of the same tenant, and sends its response
+	 * together with the responses of the other commands of its batch.
+	 *
+	 * @param exactlyOnceCommand     the command to be processed. Must be non-null.
+	 * @param responseMessageCreator the function creating the response message of the command from its response. Must be non-null.
+	 * @throws NullPointerException  if any parameter is null.
+	 * @throws IllegalStateException if the command could not be processed correctly.
+	 * @throws JmsException          if the response could not be sent.
+	 */
+	public <T extends Hashable> void processAndSend(final ExactlyOnceCommand<T> exactlyOnceCommand,
+			final Function<ImmutableByteArray, MessageCreator> responseMessageCreator) {
+		checkNotNull(exactlyOnceCommand);
+		checkNotNull(responseMessageCreator);
+
+		process(new PendingCommand(exactlyOnceCommand.withPreTaskRunOnce(), Optional.of(responseMessageCreator)));
+	}
+
+	private ImmutableByteArray process(final PendingCommand pendingCommand) {
+		final TenantBatches tenantBatches = batchesByTenant.computeIfAbsent(contextHolder.getTenantId(),
+				tenantId -> new TenantBatches(new ConcurrentLinkedQueue<>(), new Semaphore(maxConcurrentBatches)));
+		final Queue<PendingCommand> pendingCommands = tenantBatches.pendingCommands();
+		final Semaphore batchPermits = tenantBatches.batchPermits();
+		pendingCommands.add(pendingCommand);
+
+		// Either the queue is drained up to the command, or another leader holds a permit and checks the queue again once it gives it back.
+		while (!pendingCommands.isEmpty() && batchPermits.tryAcquire()) {
+			try {
+				processPendingCommands(pendingCommands);
+			} finally {
+				batchPermits.release();
+			}
+		}
+
+		try {
+			return pendingCommand.response().join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
+	private void processPendingCommands(final Queue<PendingCommand> pendingCommands) {
+		List<PendingCommand> batch;
+		while (!(batch = poll(pendingCommands)).isEmpty()) {
+			processBatch(batch);
+		}
+	}
+
+	private List<PendingCommand> poll(final Queue<PendingCommand> pendingCommands) {
+		final List<PendingCommand> batch = new ArrayList<>(maxSize);
+		PendingCommand next;
+		while (batch.size() < maxSize && (next = pendingCommands.poll()) != null) {
+			batch.add(next);
+		}
+		return batch;
+	}
+
+	private void processBatch(final List<PendingCommand> batch) {
+		final ImmutableList<ExactlyOnceCommand<? extends Hashable>> exactlyOnceCommands = batch.stream()
+				.map(PendingCommand::exactlyOnceCommand)
+				.collect(toImmutableList());
+		final ImmutableList<ImmutableByteArray> responses;
+		try {
+			responses = exactlyOnceCommandExecutor.processBatch(exactlyOnceCommands);
+			LOGGER.debug("Processed batch of commands. [size: {}]", batch.size());
+		} catch (final RuntimeException batchException) {
+			LOGGER.warn("Failed to process batch of commands, processing them individually. [size: {}]", batch.size(), batchException);
+			batch.forEach(this::processIndividually);
+			return;
+		} catch (final Error error) {
+			// The waiting callers must not block forever.
+			batch.forEach(pendingCommand -> pendingCommand.response().completeExceptionally(error));
+			throw error;
+		}
+		sendResponsesAndComplete(batch, responses);
+	}
+
+	private void processIndividually(final PendingCommand pendingCommand) {
+		final ImmutableByteArray response;
+		try {
+			response = exactlyOnceCommandExecutor.process(pendingCommand.exactlyOnceCommand());
+		} catch (final RuntimeException e) {
+			pendingCommand.response().completeExceptionally(e);
+			return;
+		}
+		sendResponsesAndComplete(List.of(pendingCommand), List.of(response));
+	}
+
+	private void sendResponsesAndComplete(final List<PendingCommand> pendingCommands, final List<ImmutableByteArray> responses) {
+		try {
+			sendResponses(pendingCommands, responses);
+		} catch (final RuntimeException | Error e) {
+			// The waiting callers must not block forever, their messages are redelivered and their commands replayed.
+			pendingCommands.forEach(pendingCommand -> pendingCommand.response().completeExceptionally(e));
+			if (e instanceof final Error error) {
+				throw error;
+			}
+			return;
+		}
+		for (int i = 0; i < pendingCommands.size(); i++) {
+			pendingCommands.get(i).response().complete(responses.get(i));
+		}
+	}
+
+	/**
+	 * Sends the responses of the given commands that have a response message creator in a single transacted session, committed once.
+	 */
+	private void sendResponses(final List<PendingCommand> pendingCommands, final List<ImmutableByteArray> responses) {
+		final List<MessageCreator> messageCreators = IntStream.range(0, pendingCommands.size())
+				.filter(i -> pendingCommands.get(i).responseMessageCreator().isPresent())
+				.mapToObj(i -> pendingCommands.get(i).responseMessageCreator().orElseThrow().apply(responses.get(i)))
+				.toList();
+		if (messageCreators.isEmpty()) {
+			return;
+		}
+
+		// A session of its own and not the one of the listener of the leader, which only commits with the acknowledgement of the leader's message.
+		try (final Connection connection = connectionFactory.createConnection();
+				final Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+				final MessageProducer producer = session.createProducer(session.createQueue(VOTING_SERVER_ADDRESS))) {
+			for (final MessageCreator messageCreator : messageCreators) {
+				producer.send(messageCreator.createMessage(session));
+			}
+			session.commit();
+		} catch (final JMSException e) {
+			throw JmsUtils.convertJmsAccessException(e);
+		}
+		LOGGER.debug("Sent responses of batch of commands. [size: {}]", messageCreators.size());
+	}
+
+	/**
+	 * The leaders of a tenant only process the commands of that tenant, since the tasks run in the tenant context of the leader's thread.
+	 */
+	private record TenantBatches(Queue<PendingCommand> pendingCommands, Semaphore batchPermits) {
+	}
+
+	private record PendingCommand(
+			ExactlyOnceCommand<? extends Hashable> exactlyOnceCommand,
+			Optional<Function<ImmutableByteArray, MessageCreator>> responseMessageCreator,
+			CompletableFuture<ImmutableByteArray> response) {
+
+		private PendingCommand(final ExactlyOnceCommand<? extends Hashable> exactlyOnceCommand,
+				final Optional<Function<ImmutableByteArray, MessageCreator>> responseMessageCreator) {
+			this(exactlyOnceCommand, responseMessageCreator, new CompletableFuture<>());
+		}
+	}
+}
@@ -3,14 +3,25 @@
  */
 package ch.post.it.evoting.controlcomponent;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 
+import jakarta.annotation.PreDestroy;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,13 +31,19 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import ch.post.it.evoting.controlcomponent.commandmessaging.CommandEntity;
 import ch.post.it.evoting.controlcomponent.commandmessaging.CommandId;
+import ch.post.it.evoting.controlcomponent.commandmessaging.CommandResponseEntity;
 import ch.post.it.evoting.controlcomponent.commandmessaging.CommandService;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
 
 /**
  * Class for processing requests exactly once.
@@ -35,10 +52,15 @@ import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
 public class ExactlyOnceCommandExecutor {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ExactlyOnceCommandExecutor.class);
+	private static final String COMMAND_METRIC_NAME = "evoting.exactly.once.command";
+	private static final String BATCH_METRIC_NAME = "evoting.exactly.once.batch";
 
 	private final Hash hash;
 	private final CommandService commandService;
 	private final PlatformTransactionManager platformTransactionManager;
+	private final MeterRegistry meterRegistry;
+	private final ContextHolder contextHolder;
+	private final ExecutorService concurrentTaskExecutor;
 
 	@Value("${nodeID}")
 	private int nodeId;
@@ -46,10 +68,20 @@ public class ExactlyOnceCommandExecutor {
 	public ExactlyOnceCommandExecutor(
 			final Hash hash,
 			final CommandService commandService,
-			final PlatformTransactionManager platformTransactionManager) {
+			final PlatformTransactionManager platformTransactionManager,
+			final MeterRegistry meterRegistry,
+			final ContextHolder contextHolder,
+			@Value("${jms.listener.batching.parallelism}")
+			final int parallelism) {
+		checkArgument(parallelism > 0, "The parallelism must be strictly positive. [parallelism: %s]", parallelism);
+
 		this.hash = hash;
 		this.commandService = commandService;
 		this.platformTransactionManager = platformTransactionManager;
+		this.meterRegistry = meterRegistry;
+		this.contextHolder = contextHolder;
+		this.concurrentTaskExecutor = Executors.newFixedThreadPool(parallelism,
+				Thread.ofPlatform().name("exactly-once-batch-", 0).daemon().factory());
 	}
 
 	/**
@@ -85,16 +117,191 @@ public class ExactlyOnceCommandExecutor {
 				.correlationId(correlationId)
 				.nodeId(nodeId)
 				.build();
-		final ImmutableList<CommandEntity> identicalCommandEntity = commandService.findSemanticallyIdenticalCommand(commandId);
-		checkState(identicalCommandEntity.size() <= 1,
-				"There was a problem with exactly once processing, multiple semantically identical commands exist.");
+		final Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "failure";
+		try {
+			final ImmutableList<CommandEntity> identicalCommandEntity = commandService.findSemanticallyIdenticalCommand(commandId);
+			checkState(identicalCommandEntity.size() <= 1,
+					"There was a problem with exactly once processing, multiple semantically identical commands exist.");
 
-		if (identicalCommandEntity.size() == 1) {
-			return handleIdenticalCommand(identicalCommandEntity, requestPayloadHash, correlationId, contextId, context, replayTask, serializer);
-		} else {
-			runPreTask(preTask);
-			return runTask(task, requestPayloadHash, serializer, commandId, requestTimestamp, transactionTimeout);
+			final ImmutableByteArray serializedResponsePayload;
+			if (identicalCommandEntity.size() == 1) {
+				serializedResponsePayload = handleIdenticalCommand(identicalCommandEntity, requestPayloadHash, correlationId, contextId, context,
+						replayTask, serializer);
+				outcome = "replayed";
+			} else {
+				runPreTask(preTask);
+				serializedResponsePayload = runTask(task, requestPayloadHash, serializer, commandId, requestTimestamp, transactionTimeout);
+				outcome = "processed";
+			}
+			return serializedResponsePayload;
+		} finally {
+			sample.stop(Timer.builder(COMMAND_METRIC_NAME)
+					.tag("context", context)
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * Processes the given commands exactly once, executing the tasks of all not yet processed commands in a single transaction.
+	 * <p>
+	 * Each command is handled as in {@link #process(ExactlyOnceCommand)}: replayed commands are answered from their replay task and new commands
+	 * have their pre-validation task run before the transaction is created. The concurrent tasks of the new commands then compute their responses
+	 * at the same time, outside the transaction and in the tenant of the calling thread. Only the persisting tasks they return, the tasks of the
+	 * new commands without a concurrent task and the commands themselves run in the transaction. The results of all new commands are thus
+	 * persisted together, so either all of them are committed or none is, in a transaction whose timeout is the sum of their transaction
+	 * timeouts. If any command fails, an IllegalStateException is thrown and the caller is responsible for processing the commands individually to
+	 * isolate the failing one.
+	 * </p>
+	 *
+	 * @param exactlyOnceCommands the exactlyOnceCommands to be processed. Must be non-null and non-empty.
+	 * @return the results of the processing as byte arrays, in the order of the given commands.
+	 * @throws NullPointerException     if the exactlyOnceCommands are null.
+	 * @throws IllegalArgumentException if the exactlyOnceCommands are empty.
+	 * @throws IllegalStateException    if any of the commands could not be processed correctly.
+	 */
+	// The transaction is handled manually in the code below and ensures all processing is atomically executed in its own transaction.
+	public ImmutableList<ImmutableByteArray> processBatch(final ImmutableList<ExactlyOnceCommand<? extends Hashable>> exactlyOnceCommands) {
+		checkNotNull(exactlyOnceCommands);
+		checkArgument(!exactlyOnceCommands.isEmpty(), "The batch of exactly once commands must not be empty.");
+
+		final Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "failure";
+		try {
+			final ImmutableList<ImmutableByteArray> serializedResponsePayloads = processCommandsOfBatch(exactlyOnceCommands);
+			outcome = "processed";
+			return serializedResponsePayloads;
+		} finally {
+			sample.stop(Timer.builder(BATCH_METRIC_NAME)
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+			DistributionSummary.builder(BATCH_METRIC_NAME + ".size")
+					.register(meterRegistry)
+					.record(exactlyOnceCommands.size());
+		}
+	}
+
+	private ImmutableList<ImmutableByteArray> processCommandsOfBatch(final ImmutableList<ExactlyOnceCommand<? extends Hashable>> exactlyOnceCommands) {
+		final Instant requestTimestamp = Instant.now();
+		final ImmutableByteArray[] serializedResponsePayloads = new ImmutableByteArray[exactlyOnceCommands.size()];
+		final List<Integer> newCommandIndexes = new ArrayList<>();
+		final List<CommandId> newCommandIds = new ArrayList<>();
+		for (int i = 0; i < exactlyOnceCommands.size(); i++) {
+			final ExactlyOnceCommand<? extends Hashable> exactlyOnceCommand = exactlyOnceCommands.get(i);
+			final CommandId commandId = CommandId.builder()
+					.contextId(exactlyOnceCommand.getContextId())
+					.context(exactlyOnceCommand.getContext())
+					.correlationId(exactlyOnceCommand.getCorrelationId())
+					.nodeId(nodeId)
+					.build();
+			final ImmutableList<CommandEntity> identicalCommandEntity = commandService.findSemanticallyIdenticalCommand(commandId);
+			checkState(identicalCommandEntity.size() <= 1,
+					"There was a problem with exactly once processing, multiple semantically identical commands exist.");
+
+			if (identicalCommandEntity.size() == 1) {
+				serializedResponsePayloads[i] = handleIdenticalCommand(identicalCommandEntity, exactlyOnceCommand);
+			} else {
+				runPreTask(exactlyOnceCommand.getPreTask());
+				newCommandIndexes.add(i);
+				newCommandIds.add(commandId);
+			}
+		}
+
+		if (!newCommandIndexes.isEmpty()) {
+			// Joined in order, so that the reported failure does not depend on the scheduling of the concurrent tasks.
+			final List<CompletableFuture<? extends BatchedTask<?>>> concurrentTasks = newCommandIndexes.stream()
+					.<CompletableFuture<? extends BatchedTask<?>>>map(i -> runConcurrentTask(exactlyOnceCommands.get(i)))
+					.toList();
+			final List<BatchedTask<?>> batchedTasks = new ArrayList<>(newCommandIndexes.size());
+			try {
+				concurrentTasks.forEach(concurrentTask -> batchedTasks.add(concurrentTask.join()));
+			} catch (final CompletionException e) {
+				throw new IllegalStateException("Failed to execute batch of exactly once commands.", e.getCause());
+			}
+
+			// The tasks run one after the other in the same transaction, hence the timeouts add up.
+			final int transactionTimeout = (int) Math.min(newCommandIndexes.stream()
+					.mapToLong(i -> exactlyOnceCommands.get(i).getTransactionTimeout())
+					.sum(), Integer.MAX_VALUE);
+			final DefaultTransactionDefinition definition = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+			definition.setTimeout(transactionTimeout);
+			final TransactionStatus transaction = platformTransactionManager.getTransaction(definition);
+			try {
+				final List<CommandResponseEntity> commandResponseEntities = new ArrayList<>(newCommandIndexes.size());
+				for (int j = 0; j < newCommandIndexes.size(); j++) {
+					final int i = newCommandIndexes.get(j);
+					final CommandResponseEntity commandResponseEntity = runBatchedTask(batchedTasks.get(j), newCommandIds.get(j), requestTimestamp);
+					serializedResponsePayloads[i] = commandResponseEntity.getResponsePayload();
+					commandResponseEntities.add(commandResponseEntity);
+				}
+				commandService.saveAll(ImmutableList.from(commandResponseEntities));
+			} catch (final Exception e) {
+				platformTransactionManager.rollback(transaction);
+				throw new IllegalStateException("Failed to execute batch of exactly once commands.", e);
+			}
+			platformTransactionManager.commit(transaction);
+		}
+
+		LOGGER.debug("Processed batch of exactly once commands. [size: {}, new: {}]", exactlyOnceCommands.size(), newCommandIndexes.size());
+
+		return ImmutableList.from(Arrays.asList(serializedResponsePayloads));
+	}
+
+	private <T extends Hashable> ImmutableByteArray handleIdenticalCommand(final ImmutableList<CommandEntity> identicalCommandEntity,
+			final ExactlyOnceCommand<T> exactlyOnceCommand) {
+		return handleIdenticalCommand(identicalCommandEntity, exactlyOnceCommand.getRequestPayloadHash(), exactlyOnceCommand.getCorrelationId(),
+				exactlyOnceCommand.getContextId(), exactlyOnceCommand.getContext(), exactlyOnceCommand.getReplayTask(),
+				exactlyOnceCommand.getSerializer());
+	}
+
+	/**
+	 * Runs the concurrent task of the given command, if any, on the concurrent task executor in the tenant of the calling thread.
+	 *
+	 * @return the task of the command to run in the transaction of the batch: the persisting task returned by its concurrent task, or its task if
+	 * it has no concurrent task.
+	 */
+	private <T extends Hashable> CompletableFuture<BatchedTask<T>> runConcurrentTask(final ExactlyOnceCommand<T> exactlyOnceCommand) {
+		final Optional<Callable<Callable<T>>> concurrentTask = exactlyOnceCommand.getConcurrentTask();
+		if (concurrentTask.isEmpty()) {
+			return CompletableFuture.completedFuture(new BatchedTask<>(exactlyOnceCommand, exactlyOnceCommand.getTask()));
 		}
+
+		final String tenantId = contextHolder.getTenantId();
+		return CompletableFuture.supplyAsync(() -> {
+			contextHolder.setTenantId(tenantId);
+			try {
+				return new BatchedTask<>(exactlyOnceCommand, concurrentTask.get().call());
+			} catch (final Exception e) {
+				throw new CompletionException(e);
+			} finally {
+				contextHolder.clear();
+			}
+		}, concurrentTaskExecutor);
+	}
+
+	private <T extends Hashable> CommandResponseEntity runBatchedTask(final BatchedTask<T> batchedTask, final CommandId commandId,
+			final Instant requestTimestamp) throws Exception {
+		final ExactlyOnceCommand<T> exactlyOnceCommand = batchedTask.exactlyOnceCommand();
+		final T responsePayload = batchedTask.task().call();
+		final ImmutableByteArray responsePayloadHash = hash.recursiveHash(responsePayload);
+		final ImmutableByteArray serializedResponsePayload = exactlyOnceCommand.getSerializer().apply(responsePayload);
+
+		final CommandEntity commandEntity = CommandEntity.builder()
+				.commandId(commandId)
+				.requestPayloadHash(exactlyOnceCommand.getRequestPayloadHash())
+				.requestTimestamp(requestTimestamp)
+				.responsePayloadHash(responsePayloadHash)
+				.responseTimestamp(Instant.now())
+				.build();
+		return new CommandResponseEntity(commandEntity, serializedResponsePayload);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		concurrentTaskExecutor.shutdown();
 	}
 
 	private <T extends Hashable> ImmutableByteArray handleIdenticalCommand(final ImmutableList<CommandEntity> identicalCommandEntity,
@@ -150,4 +357,7 @@ public class ExactlyOnceCommandExecutor {
 		platformTransactionManager.commit(transaction);
 		return serializedResponsePayload;
 	}
+
+	private record BatchedTask<T extends Hashable>(ExactlyOnceCommand<T> exactlyOnceCommand, Callable<T> task) {
+	}
 }
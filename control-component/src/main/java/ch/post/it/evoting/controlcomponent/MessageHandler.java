@@ -10,8 +10,11 @@ import static ch.post.it.evoting.domain.SharedQueue.VOTING_SERVER_ADDRESS;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -23,27 +26,45 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jms.annotation.JmsListener;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessageCreator;
 import org.springframework.stereotype.Component;
 
 import com.google.common.collect.MoreCollectors;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import ch.post.it.evoting.controlcomponent.VerifiedRequestCache.VerifiedRequestKey;
 import ch.post.it.evoting.controlcomponent.commandmessaging.Context;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
 import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.signature.SignedPayload;
 
 @Component
 public class MessageHandler {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MessageHandler.class);
+	private static final String RECEIVE_METRIC_NAME = "evoting.jms.receive";
+	private static final String SEND_METRIC_NAME = "evoting.jms.send";
+
+	/**
+	 * The contexts of the high-volume voting phase requests whose exactly once commands may be processed in batches.
+	 */
+	private static final Set<Context> BATCHABLE_CONTEXTS = EnumSet.of(Context.VOTING_RETURN_CODES_PARTIAL_DECRYPT_PCC,
+			Context.VOTING_RETURN_CODES_CREATE_LCC_SHARE);
 
 	private final List<Configuration<?, ?>> configurations;
 	private final ExactlyOnceCommandExecutor exactlyOnceCommandExecutor;
+	private final ExactlyOnceCommandBatcher exactlyOnceCommandBatcher;
+	private final boolean batchingEnabled;
 	private final JmsTemplate jmsTemplate;
 	private final ContextHolder contextHolder;
 	private final int defaultTransactionTimeout;
 	private final Hash hash;
+	private final MeterRegistry meterRegistry;
+	private final VerifiedRequestCache verifiedRequestCache;
 
 	@Value("${nodeID}")
 	private int nodeId;
@@ -51,17 +72,26 @@ public class MessageHandler {
 	MessageHandler(
 			final List<Configuration<?, ?>> configurations,
 			final ExactlyOnceCommandExecutor exactlyOnceCommandExecutor,
+			final ExactlyOnceCommandBatcher exactlyOnceCommandBatcher,
 			final JmsTemplate jmsTemplate,
 			final ContextHolder contextHolder,
 			@Value("${spring.transaction.default-timeout}")
 			final int defaultTransactionTimeout,
-			final Hash hash) {
+			@Value("${jms.listener.batching.enabled}")
+			final boolean batchingEnabled,
+			final Hash hash,
+			final MeterRegistry meterRegistry,
+			final VerifiedRequestCache verifiedRequestCache) {
 		this.configurations = configurations;
 		this.exactlyOnceCommandExecutor = exactlyOnceCommandExecutor;
+		this.exactlyOnceCommandBatcher = exactlyOnceCommandBatcher;
+		this.batchingEnabled = batchingEnabled;
 		this.jmsTemplate = jmsTemplate;
 		this.defaultTransactionTimeout = defaultTransactionTimeout;
 		this.contextHolder = contextHolder;
 		this.hash = hash;
+		this.meterRegistry = meterRegistry;
+		this.verifiedRequestCache = verifiedRequestCache;
 	}
 
 	@JmsListener(
@@ -70,10 +100,13 @@ public class MessageHandler {
 			containerFactory = "customFactory"
 	)
 	public <T extends Hashable, U extends Hashable> void onMessage(final Message message) throws JMSException {
+		final Timer.Sample receiveSample = Timer.start(meterRegistry);
+		String requestMessageType = "unknown";
+		String outcome = "failure";
 		try {
 			final ImmutableByteArray messageBody = new ImmutableByteArray(checkNotNull(message).getBody(byte[].class));
 			contextHolder.setTenantId(checkNotNull(message.getStringProperty(MESSAGE_HEADER_TENANT_ID)));
-			final String requestMessageType = checkNotNull(message.getStringProperty(MESSAGE_HEADER_MESSAGE_TYPE));
+			requestMessageType = checkNotNull(message.getStringProperty(MESSAGE_HEADER_MESSAGE_TYPE));
 			final String correlationId = checkNotNull(message.getJMSCorrelationID());
 
 			LOGGER.info("Received new request. [requestMessageType: {}, correlationId: {}, nodeId: {}]", requestMessageType, correlationId, nodeId);
@@ -82,15 +115,26 @@ public class MessageHandler {
 			final Configuration<T, U> configuration = (Configuration<T, U>) getConfiguration(requestMessageType);
 
 			final T requestPayload = configuration.requestDeserializer().apply(messageBody);
+
 			final ImmutableByteArray requestPayloadHash = hash.recursiveHash(requestPayload);
 
-			checkState(configuration.signatureValidator().apply(requestPayload),
-					"The signature is not valid. [requestMessageType: %s, correlationId: %s, nodeId: %s]", requestMessageType, correlationId, nodeId);
+			// A request payload whose signature was already verified, for instance a redelivered request, is not verified again.
+			final VerifiedRequestKey verifiedRequestKey = new VerifiedRequestKey(contextHolder.getTenantId(), requestMessageType, requestPayloadHash,
+					requestPayload instanceof final SignedPayload signedPayload && signedPayload.getSignature() != null ?
+							signedPayload.getSignature().signatureContents() :
+							ImmutableByteArray.EMPTY);
+			if (!verifiedRequestCache.isVerified(verifiedRequestKey)) {
+				checkState(configuration.signatureValidator().apply(requestPayload),
+						"The signature is not valid. [requestMessageType: %s, correlationId: %s, nodeId: %s]", requestMessageType, correlationId,
+						nodeId);
+				verifiedRequestCache.putVerified(verifiedRequestKey);
+			}
 
 			final String contextId = configuration.contextIdExtractor().apply(requestPayload);
 			final Context context = configuration.context();
 			final Consumer<T> preValidationTask = configuration.preValidationTask();
 			final Function<T, U> exactlyOnceTask = configuration.exactlyOnceTask();
+			final Optional<Function<T, Callable<U>>> concurrentExactlyOnceTask = configuration.concurrentExactlyOnceTask();
 			final Function<T, U> replayTask = configuration.replayTask();
 			final Function<U, ImmutableByteArray> responseSerializer = configuration.responseSerializer();
 			final int transactionTimeout = configuration.transactionTimeout().orElse(defaultTransactionTimeout);
@@ -102,25 +146,46 @@ public class MessageHandler {
 					.setContext(context.toString())
 					.setPreValidationTask(() -> preValidationTask.accept(requestPayload))
 					.setTask(() -> exactlyOnceTask.apply(requestPayload))
+					.setConcurrentTask(concurrentExactlyOnceTask.<Callable<Callable<U>>>map(task -> () -> task.apply(requestPayload)).orElse(null))
 					.setReplayTask(() -> replayTask.apply(requestPayload))
 					.setSerializer(responseSerializer)
 					.setRequestPayloadHash(requestPayloadHash)
 					.setTransactionTimeout(transactionTimeout)
 					.build();
 
-			final ImmutableByteArray responsePayload = exactlyOnceCommandExecutor.process(exactlyOnceCommand);
 			final String responseMessageTypeName = configuration.responseType.getName();
-
-			jmsTemplate.convertAndSend(VOTING_SERVER_ADDRESS, responsePayload.elements(), jmsMessage -> {
+			final String tenantId = contextHolder.getTenantId();
+			final Function<ImmutableByteArray, MessageCreator> responseMessageCreator = responsePayload -> session -> {
+				final Message jmsMessage = jmsTemplate.getMessageConverter().toMessage(responsePayload.elements(), session);
 				jmsMessage.setJMSCorrelationID(correlationId);
 				jmsMessage.setStringProperty(MESSAGE_HEADER_MESSAGE_TYPE, responseMessageTypeName);
-				jmsMessage.setStringProperty(MESSAGE_HEADER_TENANT_ID, contextHolder.getTenantId());
+				jmsMessage.setStringProperty(MESSAGE_HEADER_TENANT_ID, tenantId);
 				return jmsMessage;
-			});
+			};
+
+			if (batchingEnabled && BATCHABLE_CONTEXTS.contains(context)) {
+				// The response is sent by the leader of the batch, together with the responses of the other commands of the batch.
+				exactlyOnceCommandBatcher.processAndSend(exactlyOnceCommand, responseMessageCreator);
+			} else {
+				final ImmutableByteArray responsePayload = exactlyOnceCommandExecutor.process(exactlyOnceCommand);
+
+				final Timer.Sample sendSample = Timer.start(meterRegistry);
+				jmsTemplate.send(VOTING_SERVER_ADDRESS, responseMessageCreator.apply(responsePayload));
+				sendSample.stop(Timer.builder(SEND_METRIC_NAME)
+						.tag("messageType", configuration.responseType.getSimpleName())
+						.publishPercentileHistogram()
+						.register(meterRegistry));
+			}
 
 			LOGGER.info("Response sent. [requestMessageType: {}, responseMessageType: {}, correlationId: {}, nodeId: {}]", requestMessageType,
 					responseMessageTypeName, correlationId, nodeId);
+			outcome = "success";
 		} finally {
+			receiveSample.stop(Timer.builder(RECEIVE_METRIC_NAME)
+					.tag("messageType", requestMessageType.substring(requestMessageType.lastIndexOf('.') + 1))
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
 			contextHolder.clear();
 		}
 	}
@@ -150,14 +215,28 @@ public class MessageHandler {
 			Function<ImmutableByteArray, T> requestDeserializer,
 			Class<U> responseType,
 			Function<U, ImmutableByteArray> responseSerializer,
-			Optional<Integer> transactionTimeout) {
+			Optional<Integer> transactionTimeout,
+			Optional<Function<T, Callable<U>>> concurrentExactlyOnceTask) {
 
 		public Configuration(final Class<T> requestType, final Function<T, Boolean> signatureValidator, final Context context,
 				final Function<T, U> exactlyOnceTask, final Function<T, U> replayTask, final Function<T, String> contextIdExtractor,
 				final Function<ImmutableByteArray, T> requestDeserializer, final Class<U> responseType,
 				final Function<U, ImmutableByteArray> responseSerializer) {
 			this(requestType, signatureValidator, context, ignored -> {}, exactlyOnceTask, replayTask, contextIdExtractor,
-					requestDeserializer, responseType, responseSerializer, Optional.empty());
+					requestDeserializer, responseType, responseSerializer, Optional.empty(), Optional.empty());
+		}
+
+		/**
+		 * Creates the configuration of a request whose exactly once task is also split into a concurrent task, used when the request is processed in
+		 * a batch. The concurrent task computes the response outside the transaction of the batch and returns the task persisting it in that
+		 * transaction.
+		 */
+		public Configuration(final Class<T> requestType, final Function<T, Boolean> signatureValidator, final Context context,
+				final Function<T, U> exactlyOnceTask, final Function<T, Callable<U>> concurrentExactlyOnceTask, final Function<T, U> replayTask,
+				final Function<T, String> contextIdExtractor, final Function<ImmutableByteArray, T> requestDeserializer, final Class<U> responseType,
+				final Function<U, ImmutableByteArray> responseSerializer) {
+			this(requestType, signatureValidator, context, ignored -> {}, exactlyOnceTask, replayTask, contextIdExtractor,
+					requestDeserializer, responseType, responseSerializer, Optional.empty(), Optional.of(concurrentExactlyOnceTask));
 		}
 	}
 
@@ -4,6 +4,7 @@
 package ch.post.it.evoting.controlcomponent;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -185,6 +186,7 @@ public class MessageHandlerConfiguration {
 				longChoiceReturnCodeShareProcessor::verifyPayload,
 				Context.VOTING_RETURN_CODES_CREATE_LCC_SHARE,
 				longChoiceReturnCodeShareProcessor::onRequest,
+				longChoiceReturnCodeShareProcessor::onConcurrentRequest,
 				longChoiceReturnCodeShareProcessor::onReplay,
 				ContextIdExtractor::extract,
 				longChoiceReturnCodeShareProcessor::deserializeRequest,
@@ -213,6 +215,7 @@ public class MessageHandlerConfiguration {
 				partialDecryptProcessor::verifyPayload,
 				Context.VOTING_RETURN_CODES_PARTIAL_DECRYPT_PCC,
 				partialDecryptProcessor::onRequest,
+				partialDecryptProcessor::onConcurrentRequest,
 				partialDecryptProcessor::onReplay,
 				ContextIdExtractor::extract,
 				partialDecryptProcessor::deserializeRequest,
@@ -233,7 +236,8 @@ public class MessageHandlerConfiguration {
 				mixDecryptProcessor::deserializeRequest,
 				MixDecryptOnlineResponsePayload.class,
 				mixDecryptProcessor::serializeResponse,
-				mixDecryptProcessor.getTransactionTimeout()
+				mixDecryptProcessor.getTransactionTimeout(),
+				Optional.empty()
 		);
 	}
 
@@ -0,0 +1,77 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+
+/**
+ * Bounded cache of the request payloads whose signature was successfully verified.
+ * <p>
+ * The signer of a request, and therefore the alias whose certificate verifies it, is determined by the request type, and the additional context
+ * data of its signature by the payload. A request payload is hence identified by its tenant, its request type, its recursive hash, which the exactly
+ * once processing computes anyway, and its signature. A request payload received again, such as a request redelivered by the broker or sent again by
+ * the voting server, is then not verified again. Only successfully verified request payloads are cached.
+ * </p>
+ */
+@Component
+class VerifiedRequestCache {
+
+	private final Cache<VerifiedRequestKey, Boolean> verifiedRequests;
+
+	VerifiedRequestCache(
+			@Value("${verified-request.cache.maximum-size}")
+			final long maximumSize) {
+		checkArgument(maximumSize >= 0, "The maximum size of the verified request cache must be positive.");
+
+		this.verifiedRequests = CacheBuilder.newBuilder()
+				.maximumSize(maximumSize)
+				.build();
+	}
+
+	/**
+	 * @param verifiedRequestKey the key of the request payload. Must be non-null.
+	 * @return true if the signature of the request payload was already successfully verified, false otherwise.
+	 */
+	boolean isVerified(final VerifiedRequestKey verifiedRequestKey) {
+		checkNotNull(verifiedRequestKey);
+
+		return verifiedRequests.getIfPresent(verifiedRequestKey) != null;
+	}
+
+	/**
+	 * Records that the signature of the request payload was successfully verified.
+	 *
+	 * @param verifiedRequestKey the key of the request payload. Must be non-null.
+	 */
+	void putVerified(final VerifiedRequestKey verifiedRequestKey) {
+		checkNotNull(verifiedRequestKey);
+
+		verifiedRequests.put(verifiedRequestKey, Boolean.TRUE);
+	}
+
+	/**
+	 * @param tenantId           the tenant id of the request. Must be non-null.
+	 * @param requestType        the request type, determining the signer. Must be non-null.
+	 * @param requestPayloadHash the recursive hash of the request payload. Must be non-null.
+	 * @param signature          the signature of the request payload, empty if the payload carries the signatures of its parts. Must be non-null.
+	 */
+	record VerifiedRequestKey(String tenantId, String requestType, ImmutableByteArray requestPayloadHash, ImmutableByteArray signature) {
+
+		VerifiedRequestKey {
+			checkNotNull(tenantId);
+			checkNotNull(requestType);
+			checkNotNull(requestPayloadHash);
+			checkNotNull(signature);
+		}
+	}
+}
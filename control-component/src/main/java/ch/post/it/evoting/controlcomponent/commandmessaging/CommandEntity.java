@@ -11,29 +11,31 @@ import java.util.Objects;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
-import jakarta.persistence.IdClass;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
-import ch.post.it.evoting.domain.converters.ImmutableByteArrayConverter;
 import ch.post.it.evoting.domain.converters.PayloadHashConverter;
 
+/**
+ * A command processed exactly once, identified by its fixed-width {@link CommandKey}. The response payload is kept apart, in the
+ * {@link CommandResponseEntity}, so that the command rows and their index stay small.
+ */
 @Entity
-@IdClass(CommandId.class)
 @Table(name = "command")
 public class CommandEntity {
 
 	@Id
+	private String commandKey;
+
+	private String electionEventId;
+
 	private String contextId;
 
-	@Id
 	private String context;
 
-	@Id
 	private String correlationId;
 
-	@Id
 	private Integer nodeId;
 
 	@Convert(converter = PayloadHashConverter.class)
@@ -44,15 +46,14 @@ public class CommandEntity {
 	@Convert(converter = PayloadHashConverter.class)
 	private ImmutableByteArray responsePayloadHash;
 
-	@Convert(converter = ImmutableByteArrayConverter.class)
-	private ImmutableByteArray responsePayload;
-
 	private Instant responseTimestamp;
 
 	@Version
 	private Long changeControlId;
 
 	private CommandEntity(final Builder builder) {
+		this.commandKey = CommandKey.of(builder.contextId, builder.context, builder.nodeId);
+		this.electionEventId = CommandKey.electionEventIdOf(builder.contextId);
 		this.contextId = builder.contextId;
 		this.context = builder.context;
 		this.correlationId = builder.correlationId;
@@ -60,13 +61,20 @@ public class CommandEntity {
 		this.requestPayloadHash = builder.requestPayloadHash;
 		this.requestTimestamp = Objects.nonNull(builder.requestTimestamp) ? builder.requestTimestamp : Instant.now();
 		this.responsePayloadHash = builder.responsePayloadHash;
-		this.responsePayload = builder.responsePayload;
 		this.responseTimestamp = builder.responseTimestamp;
 	}
 
 	protected CommandEntity() {
 	}
 
+	public String getCommandKey() {
+		return commandKey;
+	}
+
+	public String getElectionEventId() {
+		return electionEventId;
+	}
+
 	public String getContextId() {
 		return contextId;
 	}
@@ -99,14 +107,6 @@ public class CommandEntity {
 		this.responsePayloadHash = responsePayloadHash;
 	}
 
-	public ImmutableByteArray getResponsePayload() {
-		return responsePayload;
-	}
-
-	public void setResponsePayload(final ImmutableByteArray responsePayload) {
-		this.responsePayload = responsePayload;
-	}
-
 	public Instant getResponseTimestamp() {
 		return responseTimestamp;
 	}
@@ -131,7 +131,6 @@ public class CommandEntity {
 		private ImmutableByteArray requestPayloadHash;
 		private Instant requestTimestamp;
 		private ImmutableByteArray responsePayloadHash;
-		private ImmutableByteArray responsePayload;
 		private Instant responseTimestamp;
 
 		private Builder() {
@@ -161,11 +160,6 @@ public class CommandEntity {
 			return this;
 		}
 
-		public Builder responsePayload(final ImmutableByteArray responsePayload) {
-			this.responsePayload = responsePayload;
-			return this;
-		}
-
 		public Builder responseTimestamp(final Instant responseTimestamp) {
 			this.responseTimestamp = responseTimestamp;
 			return this;
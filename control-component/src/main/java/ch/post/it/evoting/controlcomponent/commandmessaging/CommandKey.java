@@ -0,0 +1,63 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.commandmessaging;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Derives the fixed-width key of a command and the election event it belongs to.
+ * <p>
+ * The key is the hexadecimal SHA-256 digest of the context id, the context and the node id, i.e. of the semantic identity of the command. The
+ * correlation id is left out on purpose: a replayed request carries a new correlation id but must resolve to the same key. The V3 migration
+ * computes the same digest in SQL for the commands stored before, both must be kept in sync.
+ * </p>
+ */
+final class CommandKey {
+
+	static final int LENGTH = 64;
+
+	private static final String SEPARATOR = "|";
+	private static final String CONTEXT_ID_SEPARATOR = "-";
+
+	private CommandKey() {
+		// Intentionally left blank.
+	}
+
+	/**
+	 * @param contextId the context id of the command. Must be non-null.
+	 * @param context   the context of the command. Must be non-null.
+	 * @param nodeId    the node id of the command. Must be non-null.
+	 * @return the key of the command, {@value #LENGTH} lowercase hexadecimal characters.
+	 */
+	static String of(final String contextId, final String context, final Integer nodeId) {
+		checkNotNull(contextId);
+		checkNotNull(context);
+		checkNotNull(nodeId);
+
+		final byte[] input = String.join(SEPARATOR, contextId, context, String.valueOf(nodeId)).getBytes(StandardCharsets.UTF_8);
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(input));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available.", e);
+		}
+	}
+
+	/**
+	 * The context ids are made of the election event id followed by the other ids of the context, joined by "-".
+	 *
+	 * @param contextId the context id of the command. Must be non-null.
+	 * @return the election event id of the context id.
+	 */
+	static String electionEventIdOf(final String contextId) {
+		checkNotNull(contextId);
+
+		final int separatorIndex = contextId.indexOf(CONTEXT_ID_SEPARATOR);
+		return separatorIndex < 0 ? contextId : contextId.substring(0, separatorIndex);
+	}
+}
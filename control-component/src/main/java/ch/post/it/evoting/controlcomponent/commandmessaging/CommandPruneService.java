@@ -0,0 +1,82 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.commandmessaging;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import ch.post.it.evoting.controlcomponent.process.ElectionEventContextService;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.Tenant;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.TenantService;
+
+/**
+ * Prunes the exactly once commands of the closed election events, i.e. the election events finished for longer than the retention.
+ * <p>
+ * The commands are only needed to detect the replayed requests, which cannot happen once the election event is closed. Pruning them keeps the
+ * command index small for the election events still running. The job runs on every tenant and is disabled by default.
+ * </p>
+ */
+@Service
+public class CommandPruneService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CommandPruneService.class);
+
+	private final CommandService commandService;
+	private final ElectionEventContextService electionEventContextService;
+	private final TenantService tenantService;
+	private final ContextHolder contextHolder;
+	private final Duration retention;
+
+	public CommandPruneService(
+			final CommandService commandService,
+			final ElectionEventContextService electionEventContextService,
+			final TenantService tenantService,
+			final ContextHolder contextHolder,
+			@Value("${command-store.prune.retention}")
+			final Duration retention) {
+		checkNotNull(retention);
+		checkArgument(!retention.isNegative(), "The retention must be positive.");
+
+		this.commandService = commandService;
+		this.electionEventContextService = electionEventContextService;
+		this.tenantService = tenantService;
+		this.contextHolder = contextHolder;
+		this.retention = retention;
+	}
+
+	@Scheduled(cron = "${command-store.prune.cron}")
+	public void pruneClosedElectionEvents() {
+		final LocalDateTime closedBefore = LocalDateTime.now().minus(retention);
+		for (final Tenant tenant : tenantService.getTenants()) {
+			try {
+				contextHolder.setTenantId(tenant.id());
+				pruneElectionEventsFinishedBefore(closedBefore);
+			} catch (final RuntimeException e) {
+				// The other tenants are still pruned, this tenant is retried on the next run.
+				LOGGER.error("Failed to prune the commands of the closed election events. [tenantId: {}]", tenant.id(), e);
+			} finally {
+				contextHolder.clear();
+			}
+		}
+	}
+
+	private void pruneElectionEventsFinishedBefore(final LocalDateTime closedBefore) {
+		for (final String electionEventId : electionEventContextService.getElectionEventIdsFinishedBefore(closedBefore)) {
+			final int prunedCommands = commandService.deleteAllCommandsOfElectionEvent(electionEventId);
+			if (prunedCommands > 0) {
+				LOGGER.info("Pruned the commands of a closed election event. [electionEventId: {}, commands: {}]", electionEventId, prunedCommands);
+			}
+		}
+	}
+}
@@ -5,15 +5,20 @@ package ch.post.it.evoting.controlcomponent.commandmessaging;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @Transactional(readOnly = true)
-public interface CommandRepository extends CrudRepository<CommandEntity, CommandId> {
-
-	List<CommandEntity> findAllByContextIdAndContextAndNodeId(String contextId, String context, Integer nodeId);
+public interface CommandRepository extends CrudRepository<CommandEntity, String> {
 
 	List<CommandEntity> findAllByCorrelationId(String correlationId);
+
+	@Modifying
+	@Transactional
+	@Query("delete from CommandEntity e where e.electionEventId = ?1")
+	int deleteAllByElectionEventId(String electionEventId);
 }
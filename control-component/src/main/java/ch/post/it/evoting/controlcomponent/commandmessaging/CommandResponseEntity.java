@@ -0,0 +1,71 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.commandmessaging;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+
+/**
+ * The compressed response payload of a {@link CommandEntity}. It is only written by the exactly once processing and never read back on a replay.
+ */
+@Entity
+@Table(name = "command_response")
+public class CommandResponseEntity {
+
+	@Id
+	private String commandKey;
+
+	@MapsId
+	@OneToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "COMMAND_KEY", referencedColumnName = "COMMAND_KEY")
+	private CommandEntity commandEntity;
+
+	private String electionEventId;
+
+	@Convert(converter = CompressedByteArrayConverter.class)
+	private ImmutableByteArray responsePayload;
+
+	@Version
+	private Long changeControlId;
+
+	public CommandResponseEntity(final CommandEntity commandEntity, final ImmutableByteArray responsePayload) {
+		this.commandEntity = checkNotNull(commandEntity);
+		this.electionEventId = commandEntity.getElectionEventId();
+		this.responsePayload = checkNotNull(responsePayload);
+	}
+
+	protected CommandResponseEntity() {
+	}
+
+	public String getCommandKey() {
+		return commandKey;
+	}
+
+	public CommandEntity getCommandEntity() {
+		return commandEntity;
+	}
+
+	public String getElectionEventId() {
+		return electionEventId;
+	}
+
+	public ImmutableByteArray getResponsePayload() {
+		return responsePayload;
+	}
+
+	public Long getChangeControlId() {
+		return changeControlId;
+	}
+}
@@ -0,0 +1,20 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.commandmessaging;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface CommandResponseRepository extends CrudRepository<CommandResponseEntity, String> {
+
+	@Modifying
+	@Transactional
+	@Query("delete from CommandResponseEntity e where e.electionEventId = ?1")
+	int deleteAllByElectionEventId(String electionEventId);
+}
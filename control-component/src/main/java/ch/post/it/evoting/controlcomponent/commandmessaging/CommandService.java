@@ -9,6 +9,7 @@ import java.time.Instant;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
@@ -17,9 +18,11 @@ import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 public class CommandService {
 
 	private final CommandRepository commandRepository;
+	private final CommandResponseRepository commandResponseRepository;
 
-	public CommandService(final CommandRepository commandRepository) {
+	public CommandService(final CommandRepository commandRepository, final CommandResponseRepository commandResponseRepository) {
 		this.commandRepository = commandRepository;
+		this.commandResponseRepository = commandResponseRepository;
 	}
 
 	public CommandEntity save(final CommandId commandId, final ImmutableByteArray requestPayloadHash, final Instant requestTimestamp,
@@ -34,10 +37,23 @@ public class CommandService {
 				.requestPayloadHash(requestPayloadHash)
 				.requestTimestamp(requestTimestamp)
 				.responsePayloadHash(responsePayloadHash)
-				.responsePayload(responsePayload)
 				.responseTimestamp(responseTimestamp)
 				.build();
-		return commandRepository.save(commandEntity);
+		final CommandEntity savedCommandEntity = commandRepository.save(commandEntity);
+		commandResponseRepository.save(new CommandResponseEntity(savedCommandEntity, responsePayload));
+		return savedCommandEntity;
+	}
+
+	/**
+	 * Saves the given commands along with their responses.
+	 *
+	 * @param commandResponseEntities the responses of the commands to save. Must be non-null.
+	 */
+	public void saveAll(final ImmutableList<CommandResponseEntity> commandResponseEntities) {
+		checkNotNull(commandResponseEntities);
+
+		commandRepository.saveAll(commandResponseEntities.stream().map(CommandResponseEntity::getCommandEntity).toList());
+		commandResponseRepository.saveAll(commandResponseEntities);
 	}
 
 	public ImmutableList<CommandEntity> findAllCommandsWithCorrelationId(final String correlationId) {
@@ -49,16 +65,40 @@ public class CommandService {
 	public Optional<CommandEntity> findIdenticalCommand(final CommandId commandId) {
 		checkNotNull(commandId);
 
-		return commandRepository.findById(commandId);
+		return findByCommandKey(commandId)
+				.filter(commandEntity -> commandEntity.getCorrelationId().equals(commandId.getCorrelationId()));
 	}
 
+	/**
+	 * Finds the command with the same context id, context and node id as the given command, whatever its correlation id. The lookup is a single
+	 * primary key access on the command key and never loads the response payload.
+	 *
+	 * @param commandId the command id. Must be non-null.
+	 * @return the semantically identical command, if any, as a list of at most one element.
+	 */
 	public ImmutableList<CommandEntity> findSemanticallyIdenticalCommand(final CommandId commandId) {
 		checkNotNull(commandId);
 
-		final String contextId = commandId.getContextId();
-		final String context = commandId.getContext();
-		final Integer nodeId = commandId.getNodeId();
+		return findByCommandKey(commandId)
+				.map(commandEntity -> ImmutableList.of(commandEntity))
+				.orElse(ImmutableList.emptyList());
+	}
+
+	/**
+	 * Deletes the commands of the given election event along with their responses.
+	 *
+	 * @param electionEventId the election event id. Must be non-null.
+	 * @return the number of deleted commands.
+	 */
+	@Transactional
+	public int deleteAllCommandsOfElectionEvent(final String electionEventId) {
+		checkNotNull(electionEventId);
+
+		commandResponseRepository.deleteAllByElectionEventId(electionEventId);
+		return commandRepository.deleteAllByElectionEventId(electionEventId);
+	}
 
-		return ImmutableList.from(commandRepository.findAllByContextIdAndContextAndNodeId(contextId, context, nodeId));
+	private Optional<CommandEntity> findByCommandKey(final CommandId commandId) {
+		return commandRepository.findById(CommandKey.of(commandId.getContextId(), commandId.getContext(), commandId.getNodeId()));
 	}
 }
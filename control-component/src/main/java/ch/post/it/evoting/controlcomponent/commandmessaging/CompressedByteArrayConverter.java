@@ -0,0 +1,65 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.commandmessaging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+
+/**
+ * Stores an {@link ImmutableByteArray} GZIP compressed.
+ * <p>
+ * Columns written before the compression was introduced hold the raw bytes. They are told apart by the GZIP magic number, which a serialized
+ * payload never starts with, and read as is.
+ * </p>
+ */
+@Converter
+public class CompressedByteArrayConverter implements AttributeConverter<ImmutableByteArray, byte[]> {
+
+	private static final int GZIP_MAGIC_FIRST_BYTE = GZIPInputStream.GZIP_MAGIC & 0xFF;
+	private static final int GZIP_MAGIC_SECOND_BYTE = (GZIPInputStream.GZIP_MAGIC >> 8) & 0xFF;
+
+	@Override
+	public byte[] convertToDatabaseColumn(final ImmutableByteArray immutableByteArray) {
+		if (immutableByteArray == null) {
+			return null;
+		}
+
+		final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+			gzipOutputStream.write(immutableByteArray.elements());
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Failed to compress the byte array.", e);
+		}
+		return compressed.toByteArray();
+	}
+
+	@Override
+	public ImmutableByteArray convertToEntityAttribute(final byte[] bytes) {
+		if (bytes == null) {
+			return null;
+		}
+		if (!isCompressed(bytes)) {
+			return new ImmutableByteArray(bytes);
+		}
+
+		try (final GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+			return new ImmutableByteArray(gzipInputStream.readAllBytes());
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Failed to decompress the byte array.", e);
+		}
+	}
+
+	private static boolean isCompressed(final byte[] bytes) {
+		return bytes.length >= 2 && (bytes[0] & 0xFF) == GZIP_MAGIC_FIRST_BYTE && (bytes[1] & 0xFF) == GZIP_MAGIC_SECOND_BYTE;
+	}
+}
@@ -3,6 +3,10 @@
  */
 package ch.post.it.evoting.controlcomponent.process;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,4 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository
 @Transactional(readOnly = true)
 public interface ElectionContextRepository extends CrudRepository<ElectionContextEntity, String> {
+
+	@Query("select e.electionEventId from ElectionContextEntity e where e.finishTime < ?1")
+	List<String> findAllElectionEventIdsFinishedBefore(LocalDateTime finishTime);
 }
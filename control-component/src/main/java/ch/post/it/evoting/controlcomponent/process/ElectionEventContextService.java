@@ -124,6 +124,16 @@ public class ElectionEventContextService {
 		return getElectionContextEntity(electionEventId).getFinishTime();
 	}
 
+	/**
+	 * @param finishTime the time before which the election events must have finished. Must be non-null.
+	 * @return the ids of the election events that finished before the given time.
+	 */
+	public ImmutableList<String> getElectionEventIdsFinishedBefore(final LocalDateTime finishTime) {
+		checkNotNull(finishTime);
+
+		return ImmutableList.from(electionContextRepository.findAllElectionEventIdsFinishedBefore(finishTime));
+	}
+
 	private ElectionContextEntity getElectionContextEntity(final String electionEventId) {
 		validateUUID(electionEventId);
 
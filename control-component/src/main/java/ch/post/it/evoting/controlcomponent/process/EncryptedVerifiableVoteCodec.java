@@ -0,0 +1,187 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ExponentiationProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.PlaintextEqualityProof;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
+import ch.post.it.evoting.evotinglibraries.domain.common.EncryptedVerifiableVote;
+
+/**
+ * Binary encoding of an {@link EncryptedVerifiableVote}, stored in a single column.
+ * <p>
+ * The encoding starts with a version byte followed by the context ids, the encrypted vote, the exponentiated encrypted vote, the encrypted partial
+ * Choice Return Codes, the exponentiation proof and the plaintext equality proof. The ids are written as modified UTF-8 strings, the vectors are
+ * prefixed by their size and the group elements are written as unsigned big-endian integers of fixed length: the byte length of p for the
+ * {@link GqElement}s and of q for the {@link ZqElement}s. The group elements are validated against the encryption group when decoded, as done by
+ * the JSON deserialization.
+ * </p>
+ */
+final class EncryptedVerifiableVoteCodec {
+
+	static final byte VERSION = 1;
+
+	private final GqGroup encryptionGroup;
+	private final ZqGroup zqGroup;
+	private final int gqElementLength;
+	private final int zqElementLength;
+
+	EncryptedVerifiableVoteCodec(final GqGroup encryptionGroup) {
+		this.encryptionGroup = checkNotNull(encryptionGroup);
+		this.zqGroup = ZqGroup.sameOrderAs(encryptionGroup);
+		this.gqElementLength = byteLength(encryptionGroup.getP());
+		this.zqElementLength = byteLength(encryptionGroup.getQ());
+	}
+
+	GqGroup getEncryptionGroup() {
+		return encryptionGroup;
+	}
+
+	/**
+	 * @param encryptedVerifiableVote the vote to encode. Must be non-null and in the encryption group of this codec.
+	 * @return the binary encoding of the vote.
+	 */
+	ImmutableByteArray encode(final EncryptedVerifiableVote encryptedVerifiableVote) {
+		checkNotNull(encryptedVerifiableVote);
+		checkArgument(encryptedVerifiableVote.encryptedVote().getGroup().equals(encryptionGroup),
+				"The encrypted verifiable vote must be in the encryption group of the codec.");
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (final DataOutputStream output = new DataOutputStream(bytes)) {
+			output.writeByte(VERSION);
+
+			final ContextIds contextIds = encryptedVerifiableVote.contextIds();
+			output.writeUTF(contextIds.electionEventId());
+			output.writeUTF(contextIds.verificationCardSetId());
+			output.writeUTF(contextIds.verificationCardId());
+
+			writeCiphertext(output, encryptedVerifiableVote.encryptedVote());
+			writeCiphertext(output, encryptedVerifiableVote.exponentiatedEncryptedVote());
+			writeCiphertext(output, encryptedVerifiableVote.encryptedPartialChoiceReturnCodes());
+
+			final ExponentiationProof exponentiationProof = encryptedVerifiableVote.exponentiationProof();
+			writeInteger(output, exponentiationProof.get_e().getValue(), zqElementLength);
+			writeInteger(output, exponentiationProof.get_z().getValue(), zqElementLength);
+
+			final PlaintextEqualityProof plaintextEqualityProof = encryptedVerifiableVote.plaintextEqualityProof();
+			writeInteger(output, plaintextEqualityProof.get_e().getValue(), zqElementLength);
+			output.writeInt(plaintextEqualityProof.get_z().size());
+			for (final ZqElement z : plaintextEqualityProof.get_z()) {
+				writeInteger(output, z.getValue(), zqElementLength);
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Failed to encode encrypted verifiable vote.", e);
+		}
+		return new ImmutableByteArray(bytes.toByteArray());
+	}
+
+	/**
+	 * @param encodedVote the binary encoding of a vote. Must be non-null.
+	 * @return the decoded vote.
+	 * @throws IllegalStateException if the encoding version is not supported.
+	 */
+	EncryptedVerifiableVote decode(final ImmutableByteArray encodedVote) {
+		checkNotNull(encodedVote);
+
+		try (final DataInputStream input = new DataInputStream(new ByteArrayInputStream(encodedVote.elements()))) {
+			final byte version = input.readByte();
+			checkState(version == VERSION, "Unsupported encrypted verifiable vote encoding version. [version: %s]", version);
+
+			final ContextIds contextIds = new ContextIds(input.readUTF(), input.readUTF(), input.readUTF());
+
+			final ElGamalMultiRecipientCiphertext encryptedVote = readCiphertext(input);
+			final ElGamalMultiRecipientCiphertext exponentiatedEncryptedVote = readCiphertext(input);
+			final ElGamalMultiRecipientCiphertext encryptedPartialChoiceReturnCodes = readCiphertext(input);
+
+			final ExponentiationProof exponentiationProof = new ExponentiationProof(readZqElement(input), readZqElement(input));
+
+			final ZqElement e = readZqElement(input);
+			final GroupVector<ZqElement, ZqGroup> z = readZqElements(input, input.readInt());
+			final PlaintextEqualityProof plaintextEqualityProof = new PlaintextEqualityProof(e, z);
+
+			checkState(input.available() == 0, "Unexpected trailing bytes in the encrypted verifiable vote encoding.");
+
+			return new EncryptedVerifiableVote(contextIds, encryptedVote, exponentiatedEncryptedVote, encryptedPartialChoiceReturnCodes,
+					exponentiationProof, plaintextEqualityProof);
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Failed to decode encrypted verifiable vote.", e);
+		}
+	}
+
+	private void writeCiphertext(final DataOutputStream output, final ElGamalMultiRecipientCiphertext ciphertext) throws IOException {
+		output.writeInt(ciphertext.getPhis().size());
+		writeInteger(output, ciphertext.getGamma().getValue(), gqElementLength);
+		for (final GqElement phi : ciphertext.getPhis()) {
+			writeInteger(output, phi.getValue(), gqElementLength);
+		}
+	}
+
+	private ElGamalMultiRecipientCiphertext readCiphertext(final DataInputStream input) throws IOException {
+		final int size = input.readInt();
+		final GqElement gamma = readGqElement(input);
+		final GroupVector<GqElement, GqGroup> phis = IntStream.range(0, size)
+				.mapToObj(i -> readGqElement(input))
+				.collect(GroupVector.toGroupVector());
+		return ElGamalMultiRecipientCiphertext.create(gamma, phis);
+	}
+
+	private GqElement readGqElement(final DataInputStream input) {
+		return GqElement.GqElementFactory.fromValue(readInteger(input, gqElementLength), encryptionGroup);
+	}
+
+	private ZqElement readZqElement(final DataInputStream input) {
+		return ZqElement.create(readInteger(input, zqElementLength), zqGroup);
+	}
+
+	private GroupVector<ZqElement, ZqGroup> readZqElements(final DataInputStream input, final int size) {
+		return IntStream.range(0, size)
+				.mapToObj(i -> readZqElement(input))
+				.collect(GroupVector.toGroupVector());
+	}
+
+	private static void writeInteger(final DataOutputStream output, final BigInteger value, final int length) throws IOException {
+		final byte[] magnitude = value.toByteArray();
+		// toByteArray prepends a zero sign byte when the most significant bit is set, the group elements are non-negative.
+		final int start = magnitude.length > 1 && magnitude[0] == 0 ? 1 : 0;
+		final int magnitudeLength = magnitude.length - start;
+		checkState(magnitudeLength <= length, "The group element does not fit in the fixed length. [length: %s]", length);
+
+		output.write(new byte[length - magnitudeLength]);
+		output.write(magnitude, start, magnitudeLength);
+	}
+
+	private static BigInteger readInteger(final DataInputStream input, final int length) {
+		try {
+			final byte[] magnitude = new byte[length];
+			input.readFully(magnitude);
+			return new BigInteger(1, magnitude);
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Failed to decode encrypted verifiable vote.", e);
+		}
+	}
+
+	private static int byteLength(final BigInteger value) {
+		return (value.bitLength() + Byte.SIZE - 1) / Byte.SIZE;
+	}
+}
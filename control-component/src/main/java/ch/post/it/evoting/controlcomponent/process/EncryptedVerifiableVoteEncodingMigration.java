@@ -0,0 +1,76 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.Tenant;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.TenantService;
+
+/**
+ * Converts, in the background and window by window, the encrypted verifiable votes stored JSON serialized to the binary encoding of the
+ * {@link EncryptedVerifiableVoteCodec}.
+ * <p>
+ * The V4 migration only adds the binary column, the conversion needs the encryption group of each election event. Until converted, the votes are
+ * still read from their JSON serialized columns, so the conversion runs alongside the processing of the messages: each scheduled run converts one
+ * window of votes per tenant, in its own transaction, until the tenant has no JSON serialized vote left.
+ * </p>
+ */
+@Component
+public class EncryptedVerifiableVoteEncodingMigration {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EncryptedVerifiableVoteEncodingMigration.class);
+
+	private final Set<String> convertedTenantIds = ConcurrentHashMap.newKeySet();
+	private final EncryptedVerifiableVoteService encryptedVerifiableVoteService;
+	private final TenantService tenantService;
+	private final ContextHolder contextHolder;
+	private final int windowSize;
+
+	public EncryptedVerifiableVoteEncodingMigration(
+			final EncryptedVerifiableVoteService encryptedVerifiableVoteService,
+			final TenantService tenantService,
+			final ContextHolder contextHolder,
+			@Value("${encrypted-verifiable-vote.conversion.window-size}")
+			final int windowSize) {
+		checkArgument(windowSize > 0, "The window size must be strictly positive.");
+
+		this.encryptedVerifiableVoteService = encryptedVerifiableVoteService;
+		this.tenantService = tenantService;
+		this.contextHolder = contextHolder;
+		this.windowSize = windowSize;
+	}
+
+	@Scheduled(initialDelayString = "${encrypted-verifiable-vote.conversion.fixed-delay}",
+			fixedDelayString = "${encrypted-verifiable-vote.conversion.fixed-delay}")
+	public void convertJsonEncodedVotes() {
+		for (final Tenant tenant : tenantService.getTenants()) {
+			if (convertedTenantIds.contains(tenant.id())) {
+				continue;
+			}
+			try {
+				contextHolder.setTenantId(tenant.id());
+				if (encryptedVerifiableVoteService.convertJsonEncodedVotes(windowSize) == 0) {
+					convertedTenantIds.add(tenant.id());
+					LOGGER.info("All the encrypted verifiable votes are binary encoded. [tenantId: {}]", tenant.id());
+				}
+			} catch (final RuntimeException e) {
+				// The other tenants are still converted, the window of this tenant is retried on the next run.
+				LOGGER.error("Failed to convert the encrypted verifiable votes to the binary encoding. [tenantId: {}]", tenant.id(), e);
+			} finally {
+				contextHolder.clear();
+			}
+		}
+	}
+}
@@ -4,6 +4,7 @@
 package ch.post.it.evoting.controlcomponent.process;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
@@ -30,6 +31,11 @@ public class EncryptedVerifiableVoteEntity {
 	@JoinColumn(name = "VERIFICATION_CARD_ID", referencedColumnName = "VERIFICATION_CARD_ID")
 	private VerificationCardEntity verificationCardEntity;
 
+	// Encoded by the EncryptedVerifiableVoteCodec.
+	@Convert(converter = ImmutableByteArrayConverter.class)
+	private ImmutableByteArray vote;
+
+	// The JSON serialized columns of the votes stored before the binary encoding, null once converted.
 	@Convert(converter = ImmutableByteArrayConverter.class)
 	private ImmutableByteArray contextIds;
 
@@ -54,19 +60,19 @@ public class EncryptedVerifiableVoteEntity {
 	public EncryptedVerifiableVoteEntity() {
 	}
 
-	private EncryptedVerifiableVoteEntity(final ImmutableByteArray contextIds, final ImmutableByteArray encryptedVote,
-			final ImmutableByteArray exponentiatedEncryptedVote, final ImmutableByteArray encryptedPartialChoiceReturnCodes,
-			final ImmutableByteArray exponentiationProof, final ImmutableByteArray plaintextEqualityProof,
-			final VerificationCardEntity verificationCardEntity) {
-		this.contextIds = contextIds;
-		this.encryptedVote = encryptedVote;
-		this.exponentiatedEncryptedVote = exponentiatedEncryptedVote;
-		this.encryptedPartialChoiceReturnCodes = encryptedPartialChoiceReturnCodes;
-		this.exponentiationProof = exponentiationProof;
-		this.plaintextEqualityProof = plaintextEqualityProof;
+	private EncryptedVerifiableVoteEntity(final ImmutableByteArray vote, final VerificationCardEntity verificationCardEntity) {
+		this.vote = vote;
 		this.verificationCardEntity = verificationCardEntity;
 	}
 
+	public String getVerificationCardId() {
+		return verificationCardId;
+	}
+
+	public ImmutableByteArray getVote() {
+		return vote;
+	}
+
 	public ImmutableByteArray getEncryptedVote() {
 		return encryptedVote;
 	}
@@ -99,43 +105,33 @@ public class EncryptedVerifiableVoteEntity {
 		return verificationCardEntity;
 	}
 
+	/**
+	 * Replaces the JSON serialized columns of a vote stored before the binary encoding by its binary encoding. This is the only change allowed
+	 * to a vote, it increments its change control id.
+	 *
+	 * @param vote the vote encoded by the {@link EncryptedVerifiableVoteCodec}. Must be non-null.
+	 * @throws IllegalStateException if the vote is already binary encoded.
+	 */
+	void convertToBinaryEncoding(final ImmutableByteArray vote) {
+		checkNotNull(vote);
+		checkState(this.vote == null, "The vote is already binary encoded. [verificationCardId: %s]", verificationCardId);
+
+		this.vote = vote;
+		this.contextIds = null;
+		this.encryptedVote = null;
+		this.exponentiatedEncryptedVote = null;
+		this.encryptedPartialChoiceReturnCodes = null;
+		this.exponentiationProof = null;
+		this.plaintextEqualityProof = null;
+	}
+
 	public static class Builder {
 
-		private ImmutableByteArray contextIds;
-		private ImmutableByteArray encryptedVote;
-		private ImmutableByteArray exponentiatedEncryptedVote;
-		private ImmutableByteArray encryptedPartialChoiceReturnCodes;
-		private ImmutableByteArray exponentiationProof;
-		private ImmutableByteArray plaintextEqualityProof;
+		private ImmutableByteArray vote;
 		private VerificationCardEntity verificationCardEntity;
 
-		public Builder setContextIds(final ImmutableByteArray contextIds) {
-			this.contextIds = checkNotNull(contextIds);
-			return this;
-		}
-
-		public Builder setEncryptedVote(final ImmutableByteArray encryptedVote) {
-			this.encryptedVote = checkNotNull(encryptedVote);
-			return this;
-		}
-
-		public Builder setExponentiatedEncryptedVote(final ImmutableByteArray exponentiatedEncryptedVote) {
-			this.exponentiatedEncryptedVote = checkNotNull(exponentiatedEncryptedVote);
-			return this;
-		}
-
-		public Builder setEncryptedPartialChoiceReturnCodes(final ImmutableByteArray encryptedPartialChoiceReturnCodes) {
-			this.encryptedPartialChoiceReturnCodes = checkNotNull(encryptedPartialChoiceReturnCodes);
-			return this;
-		}
-
-		public Builder setExponentiationProof(final ImmutableByteArray exponentiationProof) {
-			this.exponentiationProof = checkNotNull(exponentiationProof);
-			return this;
-		}
-
-		public Builder setPlaintextEqualityProof(final ImmutableByteArray plaintextEqualityProof) {
-			this.plaintextEqualityProof = checkNotNull(plaintextEqualityProof);
+		public Builder setVote(final ImmutableByteArray vote) {
+			this.vote = checkNotNull(vote);
 			return this;
 		}
 
@@ -145,16 +141,10 @@ public class EncryptedVerifiableVoteEntity {
 		}
 
 		public EncryptedVerifiableVoteEntity build() {
-			checkNotNull(contextIds);
-			checkNotNull(encryptedVote);
-			checkNotNull(exponentiatedEncryptedVote);
-			checkNotNull(encryptedPartialChoiceReturnCodes);
-			checkNotNull(exponentiationProof);
-			checkNotNull(plaintextEqualityProof);
+			checkNotNull(vote);
 			checkNotNull(verificationCardEntity);
 
-			return new EncryptedVerifiableVoteEntity(contextIds, encryptedVote, exponentiatedEncryptedVote, encryptedPartialChoiceReturnCodes,
-					exponentiationProof, plaintextEqualityProof, verificationCardEntity);
+			return new EncryptedVerifiableVoteEntity(vote, verificationCardEntity);
 		}
 	}
 }
@@ -4,8 +4,14 @@
 package ch.post.it.evoting.controlcomponent.process;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,14 +20,36 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public interface EncryptedVerifiableVoteRepository extends CrudRepository<EncryptedVerifiableVoteEntity, String> {
 
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
 	@Query("select e from EncryptedVerifiableVoteEntity e "
 			+ "where e.verificationCardEntity.verificationCardSetEntity.verificationCardSetId = ?1 "
-			+ "and e.verificationCardEntity.verificationCardStateEntity.confirmed = true")
-	List<EncryptedVerifiableVoteEntity> findAllConfirmedByVerificationCardSetId(final String verificationCardSetId);
+			+ "and e.verificationCardEntity.verificationCardStateEntity.confirmed = true "
+			+ "order by e.verificationCardId")
+	Stream<EncryptedVerifiableVoteEntity> streamAllConfirmedByVerificationCardSetId(final String verificationCardSetId);
 
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
 	@Query("select e from EncryptedVerifiableVoteEntity e "
 			+ "where e.verificationCardEntity.verificationCardSetEntity.electionEventEntity.electionEventId = ?1 "
-			+ "and e.verificationCardEntity.verificationCardStateEntity.lccShareCreated = true")
-	List<EncryptedVerifiableVoteEntity> findAllSentByElectionEventId(final String electionEventId);
+			+ "and e.verificationCardEntity.verificationCardStateEntity.lccShareCreated = true "
+			+ "order by e.verificationCardId")
+	Stream<EncryptedVerifiableVoteEntity> streamAllSentByElectionEventId(final String electionEventId);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("select new ch.post.it.evoting.controlcomponent.process.SentVoteDto(e, s.confirmed, h.hashedLongVoteCastReturnCodeShares) "
+			+ "from EncryptedVerifiableVoteEntity e "
+			+ "join e.verificationCardEntity v "
+			+ "join v.verificationCardStateEntity s "
+			+ "left join HashedLVCCSharesEntity h on h.verificationCardEntity = v "
+			+ "where v.verificationCardSetEntity.electionEventEntity.electionEventId = ?1 "
+			+ "and s.lccShareCreated = true "
+			+ "order by e.verificationCardId")
+	Stream<SentVoteDto> streamAllSentWithHashedLVCCSharesByElectionEventId(final String electionEventId);
 
+	// The case expression matches the function-based index of Oracle and the null vote the partial index of PostgreSQL.
+	@Query("select e from EncryptedVerifiableVoteEntity e "
+			+ "join fetch e.verificationCardEntity v "
+			+ "join fetch v.verificationCardSetEntity s "
+			+ "join fetch s.electionEventEntity "
+			+ "where e.vote is null and (case when e.vote is null then e.verificationCardId end) is not null")
+	List<EncryptedVerifiableVoteEntity> findAllJsonEncoded(final Pageable pageable);
 }
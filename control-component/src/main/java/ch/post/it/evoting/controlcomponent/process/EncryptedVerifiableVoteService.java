@@ -3,17 +3,27 @@
  */
 package ch.post.it.evoting.controlcomponent.process;
 
-import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 
@@ -25,6 +35,7 @@ import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ExponentiationPro
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.PlaintextEqualityProof;
 import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
 import ch.post.it.evoting.evotinglibraries.domain.common.EncryptedVerifiableVote;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
 
 @Service
 public class EncryptedVerifiableVoteService {
@@ -34,16 +45,22 @@ public class EncryptedVerifiableVoteService {
 	private final ObjectMapper objectMapper;
 	private final ElectionEventService electionEventService;
 	private final VerificationCardService verificationCardService;
+	private final HashedLVCCSharesService hashedLVCCSharesService;
 	private final EncryptedVerifiableVoteRepository encryptedVerifiableVoteRepository;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	public EncryptedVerifiableVoteService(
 			final ObjectMapper objectMapper,
 			final ElectionEventService electionEventService,
 			final VerificationCardService verificationCardService,
+			final HashedLVCCSharesService hashedLVCCSharesService,
 			final EncryptedVerifiableVoteRepository encryptedVerifiableVoteRepository) {
 		this.objectMapper = objectMapper;
 		this.electionEventService = electionEventService;
 		this.verificationCardService = verificationCardService;
+		this.hashedLVCCSharesService = hashedLVCCSharesService;
 		this.encryptedVerifiableVoteRepository = encryptedVerifiableVoteRepository;
 	}
 
@@ -52,37 +69,13 @@ public class EncryptedVerifiableVoteService {
 		checkNotNull(encryptedVerifiableVote);
 
 		final ContextIds contextIds = encryptedVerifiableVote.contextIds();
-
-		final ImmutableByteArray serializedEncodeEncryptedVote;
-		final ImmutableByteArray serializedExponentiatedEncryptedVote;
-		final ImmutableByteArray serializedEncryptedPartialChoiceReturnCodes;
-		final ImmutableByteArray serializedExponentiationProof;
-		final ImmutableByteArray serializedPlaintextEqualityProof;
-		final ImmutableByteArray serializedContextIds;
-		try {
-			serializedContextIds = new ImmutableByteArray(objectMapper.writeValueAsBytes(contextIds));
-			serializedEncodeEncryptedVote = new ImmutableByteArray(objectMapper.writeValueAsBytes(encryptedVerifiableVote.encryptedVote()));
-			serializedExponentiatedEncryptedVote = new ImmutableByteArray(
-					objectMapper.writeValueAsBytes(encryptedVerifiableVote.exponentiatedEncryptedVote()));
-			serializedEncryptedPartialChoiceReturnCodes = new ImmutableByteArray(objectMapper.writeValueAsBytes(
-					encryptedVerifiableVote.encryptedPartialChoiceReturnCodes()));
-			serializedExponentiationProof = new ImmutableByteArray(objectMapper.writeValueAsBytes(encryptedVerifiableVote.exponentiationProof()));
-			serializedPlaintextEqualityProof = new ImmutableByteArray(
-					objectMapper.writeValueAsBytes(encryptedVerifiableVote.plaintextEqualityProof()));
-
-		} catch (final JsonProcessingException e) {
-			throw new UncheckedIOException("Failed to serialize encrypted verifiable vote.", e);
-		}
+		final GqGroup encryptionGroup = electionEventService.getEncryptionGroup(contextIds.electionEventId());
+		final ImmutableByteArray encodedVote = new EncryptedVerifiableVoteCodec(encryptionGroup).encode(encryptedVerifiableVote);
 
 		final VerificationCardEntity verificationCardEntity = verificationCardService.getVerificationCardEntity(contextIds.verificationCardId());
 
 		final EncryptedVerifiableVoteEntity encryptedVerifiableVoteEntity = new EncryptedVerifiableVoteEntity.Builder()
-				.setContextIds(serializedContextIds)
-				.setEncryptedVote(serializedEncodeEncryptedVote)
-				.setExponentiatedEncryptedVote(serializedExponentiatedEncryptedVote)
-				.setEncryptedPartialChoiceReturnCodes(serializedEncryptedPartialChoiceReturnCodes)
-				.setExponentiationProof(serializedExponentiationProof)
-				.setPlaintextEqualityProof(serializedPlaintextEqualityProof)
+				.setVote(encodedVote)
 				.setVerificationCardEntity(verificationCardEntity)
 				.build();
 		encryptedVerifiableVoteRepository.save(encryptedVerifiableVoteEntity);
@@ -96,48 +89,159 @@ public class EncryptedVerifiableVoteService {
 				.orElseThrow(() -> new IllegalStateException(
 						String.format("Encrypted verifiable vote not found. [verificationCardId: %s]", verificationCardId)));
 
-		final VerificationCardSetEntity verificationCardSetEntity = encryptedVerifiableVoteEntity.getVerificationCardEntity()
-				.getVerificationCardSetEntity();
-		final String electionEventId = verificationCardSetEntity.getElectionEventEntity().getElectionEventId();
-
-		final GqGroup encryptionGroup = electionEventService.getEncryptionGroup(electionEventId);
-
-		return deserializeEncryptedVerifiableVote(encryptedVerifiableVoteEntity, encryptionGroup);
+		return decode(encryptedVerifiableVoteEntity, new EncryptedVerifiableVoteCodec(getEncryptionGroup(encryptedVerifiableVoteEntity)));
 	}
 
-	@Transactional // Required due to the lazy loading of entities.
+	@Transactional(readOnly = true) // Required to stream the entities.
 	public ImmutableList<EncryptedVerifiableVote> getConfirmedVotes(final String verificationCardSetId) {
 		validateUUID(verificationCardSetId);
 
-		final ImmutableList<EncryptedVerifiableVoteEntity> confirmedVoteEntities = ImmutableList.from(
-				encryptedVerifiableVoteRepository.findAllConfirmedByVerificationCardSetId(verificationCardSetId));
+		final List<EncryptedVerifiableVote> confirmedVotes = new ArrayList<>();
+		forEachConfirmedVote(verificationCardSetId, confirmedVotes::add);
+		return ImmutableList.from(confirmedVotes);
+	}
+
+	/**
+	 * Decodes the confirmed votes of the given verification card set one by one, in the order of their verification card id, and hands them to
+	 * the given consumer. The votes are read through a database cursor and neither the entities nor the votes are retained by this service.
+	 *
+	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
+	 * @param consumer              the consumer of the votes. Must be non-null.
+	 * @throws NullPointerException      if any parameter is null.
+	 * @throws FailedValidationException if {@code verificationCardSetId} is not a valid UUID.
+	 */
+	@Transactional(readOnly = true) // Required to stream the entities.
+	public void forEachConfirmedVote(final String verificationCardSetId, final Consumer<EncryptedVerifiableVote> consumer) {
+		validateUUID(verificationCardSetId);
+		checkNotNull(consumer);
 
-		if (confirmedVoteEntities.isEmpty()) {
-			return ImmutableList.emptyList();
+		try (final Stream<EncryptedVerifiableVoteEntity> entities = encryptedVerifiableVoteRepository.streamAllConfirmedByVerificationCardSetId(
+				verificationCardSetId)) {
+			forEach(entities, consumer);
 		}
+	}
 
-		final VerificationCardSetEntity verificationCardSetEntity = confirmedVoteEntities.get(0).getVerificationCardEntity()
-				.getVerificationCardSetEntity();
-		final String electionEventId = verificationCardSetEntity.getElectionEventEntity().getElectionEventId();
+	@Transactional(readOnly = true) // Required to stream the entities.
+	public ImmutableList<EncryptedVerifiableVote> getSentVotes(final String electionEventId) {
+		validateUUID(electionEventId);
 
-		final GqGroup encryptionGroup = electionEventService.getEncryptionGroup(electionEventId);
+		final List<EncryptedVerifiableVote> sentVotes = new ArrayList<>();
+		forEachSentVote(electionEventId, sentVotes::add);
+		return ImmutableList.from(sentVotes);
+	}
 
-		return confirmedVoteEntities.stream()
-				.map(encryptedVerifiableVoteEntity -> deserializeEncryptedVerifiableVote(encryptedVerifiableVoteEntity, encryptionGroup))
-				.collect(toImmutableList());
+	/**
+	 * Decodes the sent votes of the given election event one by one, in the order of their verification card id, and hands them to the given
+	 * consumer. The votes are read through a database cursor and neither the entities nor the votes are retained by this service.
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @param consumer        the consumer of the votes. Must be non-null.
+	 * @throws NullPointerException      if any parameter is null.
+	 * @throws FailedValidationException if {@code electionEventId} is not a valid UUID.
+	 */
+	@Transactional(readOnly = true) // Required to stream the entities.
+	public void forEachSentVote(final String electionEventId, final Consumer<EncryptedVerifiableVote> consumer) {
+		validateUUID(electionEventId);
+		checkNotNull(consumer);
+
+		final EncryptedVerifiableVoteCodec codec = new EncryptedVerifiableVoteCodec(electionEventService.getEncryptionGroup(electionEventId));
+		try (final Stream<EncryptedVerifiableVoteEntity> entities = encryptedVerifiableVoteRepository.streamAllSentByElectionEventId(electionEventId)) {
+			entities.forEach(entity -> {
+				consumer.accept(decode(entity, codec));
+				entityManager.detach(entity);
+			});
+		}
 	}
 
-	public ImmutableList<EncryptedVerifiableVote> getSentVotes(final String electionEventId) {
+	/**
+	 * Decodes the sent votes of the given election event one by one, in the order of their verification card id, along with the confirmation state
+	 * and the hashed Long Vote Cast Return Code shares of their verification card, and hands them to the given consumer. The votes, their state and
+	 * their shares are read with a single query through a database cursor.
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @param consumer        the consumer of the sent votes. Must be non-null.
+	 * @throws NullPointerException      if any parameter is null.
+	 * @throws FailedValidationException if {@code electionEventId} is not a valid UUID.
+	 * @throws IllegalStateException     if a confirmed vote has no hashed Long Vote Cast Return Code shares.
+	 */
+	@Transactional(readOnly = true) // Required to stream the entities.
+	public void forEachSentVoteWithHashedLVCCShares(final String electionEventId, final Consumer<SentVote> consumer) {
 		validateUUID(electionEventId);
+		checkNotNull(consumer);
 
 		final GqGroup encryptionGroup = electionEventService.getEncryptionGroup(electionEventId);
+		final EncryptedVerifiableVoteCodec codec = new EncryptedVerifiableVoteCodec(encryptionGroup);
+		try (final Stream<SentVoteDto> sentVotes = encryptedVerifiableVoteRepository.streamAllSentWithHashedLVCCSharesByElectionEventId(
+				electionEventId)) {
+			sentVotes.forEach(sentVote -> {
+				final EncryptedVerifiableVoteEntity entity = sentVote.encryptedVerifiableVoteEntity();
+				final ImmutableList<String> hashedLVCCShares;
+				if (sentVote.confirmed()) {
+					checkState(sentVote.hashedLongVoteCastReturnCodeShares() != null,
+							"Hashed Long Vote Cast Return Code shares not found. [verificationCardId: %s]", entity.getVerificationCardId());
+					hashedLVCCShares = hashedLVCCSharesService.deserializeHashedLVCCShares(encryptionGroup,
+							sentVote.hashedLongVoteCastReturnCodeShares());
+				} else {
+					hashedLVCCShares = ImmutableList.emptyList();
+				}
+				consumer.accept(new SentVote(decode(entity, codec), sentVote.confirmed(), hashedLVCCShares));
+				entityManager.detach(entity);
+			});
+		}
+	}
+
+	/**
+	 * Converts a window of the votes stored JSON serialized, before the binary encoding was introduced, to the binary encoding.
+	 *
+	 * @param windowSize the maximum number of votes to convert. Must be strictly positive.
+	 * @return the number of converted votes, 0 once all the votes are binary encoded.
+	 */
+	@Transactional
+	public int convertJsonEncodedVotes(final int windowSize) {
+		checkArgument(windowSize > 0, "The window size must be strictly positive.");
+
+		final List<EncryptedVerifiableVoteEntity> entities = encryptedVerifiableVoteRepository.findAllJsonEncoded(PageRequest.of(0, windowSize));
+		final Map<GqGroup, EncryptedVerifiableVoteCodec> codecs = new HashMap<>();
+		for (final EncryptedVerifiableVoteEntity entity : entities) {
+			final GqGroup encryptionGroup = getEncryptionGroup(entity);
+			final EncryptedVerifiableVote encryptedVerifiableVote = deserializeJsonEncodedVote(entity, encryptionGroup);
+			entity.convertToBinaryEncoding(codecs.computeIfAbsent(encryptionGroup, EncryptedVerifiableVoteCodec::new).encode(encryptedVerifiableVote));
+		}
+		// The converted votes are updated through their version, a concurrent conversion of the same votes fails and is retried with the next window.
+		entityManager.flush();
+		entityManager.clear();
+		return entities.size();
+	}
 
-		return encryptedVerifiableVoteRepository.findAllSentByElectionEventId(electionEventId).stream()
-				.map(encryptedVerifiableVoteEntity -> deserializeEncryptedVerifiableVote(encryptedVerifiableVoteEntity, encryptionGroup))
-				.collect(toImmutableList());
+	private void forEach(final Stream<EncryptedVerifiableVoteEntity> entities, final Consumer<EncryptedVerifiableVote> consumer) {
+		EncryptedVerifiableVoteCodec codec = null;
+		for (final EncryptedVerifiableVoteEntity entity : (Iterable<EncryptedVerifiableVoteEntity>) entities::iterator) {
+			if (codec == null) {
+				// All the votes of a verification card set belong to the same election event.
+				codec = new EncryptedVerifiableVoteCodec(getEncryptionGroup(entity));
+			}
+			consumer.accept(decode(entity, codec));
+			entityManager.detach(entity);
+		}
+	}
+
+	private GqGroup getEncryptionGroup(final EncryptedVerifiableVoteEntity encryptedVerifiableVoteEntity) {
+		final VerificationCardSetEntity verificationCardSetEntity = encryptedVerifiableVoteEntity.getVerificationCardEntity()
+				.getVerificationCardSetEntity();
+		final String electionEventId = verificationCardSetEntity.getElectionEventEntity().getElectionEventId();
+
+		return electionEventService.getEncryptionGroup(electionEventId);
+	}
+
+	private EncryptedVerifiableVote decode(final EncryptedVerifiableVoteEntity encryptedVerifiableVoteEntity,
+			final EncryptedVerifiableVoteCodec codec) {
+		if (encryptedVerifiableVoteEntity.getVote() != null) {
+			return codec.decode(encryptedVerifiableVoteEntity.getVote());
+		}
+		return deserializeJsonEncodedVote(encryptedVerifiableVoteEntity, codec.getEncryptionGroup());
 	}
 
-	private EncryptedVerifiableVote deserializeEncryptedVerifiableVote(final EncryptedVerifiableVoteEntity encryptedVerifiableVoteEntity,
+	private EncryptedVerifiableVote deserializeJsonEncodedVote(final EncryptedVerifiableVoteEntity encryptedVerifiableVoteEntity,
 			final GqGroup encryptionGroup) {
 		final ObjectReader reader = objectMapper.reader().withAttribute(GROUP, encryptionGroup);
 
@@ -0,0 +1,138 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
+import ch.post.it.evoting.cryptoprimitives.math.BigIntegersOptimizations;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+
+/**
+ * Prepares the fixed-base exponentiation optimizations of the voting phase, once per election event.
+ * <p>
+ * The send-vote and confirm-vote algorithms exponentiate, for every vote, the generator of the encryption group and the public keys of the
+ * election event. The GMP fixed-base precomputations of these bases are prepared when the election event is {@link ElectionEventState#CONFIGURED}
+ * and, after a restart, on the first vote of the election event. The exponentiations of crypto-primitives use the prepared precomputations, if
+ * supported. The precomputations cannot be released, hence both the number of bases prepared per election event and the number of prepared
+ * election events are bounded. Once the maximum number of election events is prepared, the bases of the other election events are not prepared
+ * and their exponentiations fall back to the plain modular exponentiation.
+ * </p>
+ */
+@Service
+public class FixedBaseOptimizationsService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FixedBaseOptimizationsService.class);
+
+	private final ElectionEventService electionEventService;
+	private final SetupComponentPublicKeysService setupComponentPublicKeysService;
+	private final Map<String, Integer> numberOfPreparedBasesByElectionEventId = new ConcurrentHashMap<>();
+	private final AtomicInteger numberOfReservedElectionEvents = new AtomicInteger();
+	private final int maxCacheSize;
+	private final int maxElectionEvents;
+
+	public FixedBaseOptimizationsService(
+			final ElectionEventService electionEventService,
+			final SetupComponentPublicKeysService setupComponentPublicKeysService,
+			@Value("${fixed-base-optimizations.max-cache-size}")
+			final int maxCacheSize,
+			@Value("${fixed-base-optimizations.max-election-events}")
+			final int maxElectionEvents) {
+		checkArgument(maxCacheSize >= 0, "The maximum number of fixed bases per election event must be positive.");
+		checkArgument(maxElectionEvents >= 0, "The maximum number of election events must be positive.");
+
+		this.electionEventService = electionEventService;
+		this.setupComponentPublicKeysService = setupComponentPublicKeysService;
+		this.maxCacheSize = maxCacheSize;
+		this.maxElectionEvents = maxElectionEvents;
+	}
+
+	/**
+	 * Prepares the fixed-base exponentiation optimizations of the given election event, unless they are already prepared.
+	 * <p>
+	 * The bases are the generator g, the elements of the election public key EL<sub>pk</sub> and the elements of the Choice Return Codes encryption
+	 * public key pk<sub>CCR</sub>, in this order, limited to the first {@code max-cache-size} distinct ones. Nothing is prepared if
+	 * {@code max-election-events} other election events are already prepared.
+	 * </p>
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @throws NullPointerException      if {@code electionEventId} is null.
+	 * @throws FailedValidationException if {@code electionEventId} is not a valid UUID.
+	 */
+	public void prepareFixedBaseOptimizations(final String electionEventId) {
+		validateUUID(electionEventId);
+
+		// Lock-free checks for the votes of the prepared election events and of the election events beyond the bound.
+		if (numberOfPreparedBasesByElectionEventId.containsKey(electionEventId)) {
+			return;
+		}
+		if (numberOfReservedElectionEvents.get() >= maxElectionEvents) {
+			logSkipped(electionEventId);
+			return;
+		}
+
+		numberOfPreparedBasesByElectionEventId.computeIfAbsent(electionEventId, id -> {
+			if (numberOfReservedElectionEvents.getAndIncrement() >= maxElectionEvents) {
+				numberOfReservedElectionEvents.decrementAndGet();
+				logSkipped(id);
+				// Not mapped, the election event is not remembered.
+				return null;
+			}
+			try {
+				return prepare(id);
+			} catch (final RuntimeException e) {
+				numberOfReservedElectionEvents.decrementAndGet();
+				throw e;
+			}
+		});
+	}
+
+	private void logSkipped(final String electionEventId) {
+		LOGGER.debug("Maximum number of prepared election events reached, fixed-base optimizations skipped. [electionEventId: {}, "
+				+ "maxElectionEvents: {}]", electionEventId, maxElectionEvents);
+	}
+
+	private Integer prepare(final String electionEventId) {
+		final GqGroup encryptionGroup = electionEventService.getEncryptionGroup(electionEventId);
+		final ElGamalMultiRecipientPublicKey electionPublicKey = setupComponentPublicKeysService.getElectionPublicKey(electionEventId);
+		final ElGamalMultiRecipientPublicKey choiceReturnCodesEncryptionPublicKey =
+				setupComponentPublicKeysService.getChoiceReturnCodesEncryptionPublicKey(electionEventId);
+		checkState(encryptionGroup.equals(electionPublicKey.getGroup()), "The election public key's group must be equal to the encryption group.");
+		checkState(encryptionGroup.equals(choiceReturnCodesEncryptionPublicKey.getGroup()),
+				"The choice return codes encryption public key's group must be equal to the encryption group.");
+
+		final ImmutableList<BigInteger> bases = Stream.of(Stream.of(encryptionGroup.getGenerator()), electionPublicKey.stream(),
+						choiceReturnCodesEncryptionPublicKey.stream())
+				.flatMap(elements -> elements)
+				.map(GqElement::getValue)
+				.distinct()
+				.limit(maxCacheSize)
+				.collect(ImmutableList.toImmutableList());
+
+		bases.stream()
+				.parallel()
+				.forEach(base -> BigIntegersOptimizations.prepareFixedBaseOptimizations(base, encryptionGroup.getP()));
+
+		LOGGER.info("Prepared fixed-base optimizations if supported. [electionEventId: {}, cacheSize: {}, numberOfBasesSaved: {}]", electionEventId,
+				maxCacheSize, bases.size());
+
+		return bases.size();
+	}
+}
@@ -106,7 +106,7 @@ public class HashedLVCCSharesService {
 						String.format("Hashed Long Vote Cast Return Code shares not found. [verificationCardId: %s]", verificationCardId)));
 	}
 
-	private ImmutableList<String> deserializeHashedLVCCShares(final GqGroup encryptionGroup, final ImmutableByteArray serializedHashedLVCCShares) {
+	ImmutableList<String> deserializeHashedLVCCShares(final GqGroup encryptionGroup, final ImmutableByteArray serializedHashedLVCCShares) {
 		final ObjectReader reader = objectMapper.reader().withAttribute("group", encryptionGroup);
 
 		final ImmutableList<String> hashedLVCCShares;
@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static ch.post.it.evoting.domain.DigestRecords.DIGEST_LENGTH;
+import static ch.post.it.evoting.domain.DigestRecords.RECORD_LENGTH;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Collection;
+
+import ch.post.it.evoting.domain.DigestRecords;
+
+/**
+ * In-memory partial Choice Return Codes allow list of a verification card set.
+ * <p>
+ * The allow list entries are the base64 encodings of 32-byte digests. They are kept as sorted {@link DigestRecords}, allowing a membership test by
+ * binary search without any database access. The records are held either on the heap or, if requested, in a direct buffer outside of it.
+ * </p>
+ */
+public final class HashedPartialChoiceReturnCodeAllowList implements PartialChoiceReturnCodeAllowList {
+
+	private final LongBuffer records;
+	private final int size;
+
+	private HashedPartialChoiceReturnCodeAllowList(final LongBuffer records, final int size) {
+		this.records = records;
+		this.size = size;
+	}
+
+	/**
+	 * Builds the in-memory allow list from the given partial Choice Return Codes.
+	 *
+	 * @param partialChoiceReturnCodes the base64 encoded partial Choice Return Codes. Must be non-null and each element must be the base64 encoding
+	 *                                 of a 32-byte digest.
+	 * @param offHeap                  whether the records must be stored in a direct buffer outside the heap.
+	 * @return the in-memory allow list.
+	 * @throws NullPointerException     if {@code partialChoiceReturnCodes} is null or contains null elements.
+	 * @throws IllegalArgumentException if any element is not the base64 encoding of a 32-byte digest or if there are too many elements.
+	 */
+	public static HashedPartialChoiceReturnCodeAllowList from(final Collection<String> partialChoiceReturnCodes, final boolean offHeap) {
+		checkNotNull(partialChoiceReturnCodes);
+
+		final int size = partialChoiceReturnCodes.size();
+		checkArgument((long) size * DIGEST_LENGTH <= Integer.MAX_VALUE, "Too many partial Choice Return Codes. [size: %s]", size);
+
+		final long[] sortedRecords = new long[size * RECORD_LENGTH];
+		int offset = 0;
+		for (final String partialChoiceReturnCode : partialChoiceReturnCodes) {
+			checkNotNull(partialChoiceReturnCode);
+			final long[] record = DigestRecords.decode(partialChoiceReturnCode);
+			checkArgument(record != null, "The partial Choice Return Code is not the base64 encoding of a %s-byte digest.", DIGEST_LENGTH);
+
+			System.arraycopy(record, 0, sortedRecords, offset, RECORD_LENGTH);
+			offset += RECORD_LENGTH;
+		}
+		DigestRecords.sort(sortedRecords, null, size);
+
+		final LongBuffer records;
+		if (offHeap) {
+			records = ByteBuffer.allocateDirect(size * DIGEST_LENGTH).asLongBuffer();
+			records.put(sortedRecords);
+		} else {
+			records = LongBuffer.wrap(sortedRecords);
+		}
+
+		return new HashedPartialChoiceReturnCodeAllowList(records, size);
+	}
+
+	@Override
+	public boolean exists(final String partialChoiceReturnCode) {
+		checkNotNull(partialChoiceReturnCode);
+
+		final long[] record = DigestRecords.decode(partialChoiceReturnCode);
+		return record != null && DigestRecords.binarySearch(records, size, record) >= 0;
+	}
+
+	/**
+	 * @return the number of partial Choice Return Codes in this allow list.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of bytes used to store the records of this allow list.
+	 */
+	public int sizeInBytes() {
+		return size * DIGEST_LENGTH;
+	}
+}
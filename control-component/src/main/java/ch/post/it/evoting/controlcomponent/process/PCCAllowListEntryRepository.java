@@ -17,6 +17,9 @@ public interface PCCAllowListEntryRepository extends CrudRepository<PCCAllowList
 	@Query("select e from PCCAllowListEntryEntity e where e.verificationCardSetEntity.verificationCardSetId = ?1")
 	List<PCCAllowListEntryEntity> findAllByVerificationCardSetId(final String verificationCardSetId);
 
+	@Query("select e.partialChoiceReturnCode from PCCAllowListEntryEntity e where e.verificationCardSetEntity.verificationCardSetId = ?1")
+	List<String> findAllPartialChoiceReturnCodesByVerificationCardSetId(final String verificationCardSetId);
+
 	@Query("select case when count(e.partialChoiceReturnCode) = 1 then true else false end from PCCAllowListEntryEntity e where e.verificationCardSetEntity.verificationCardSetId = ?1 and e.partialChoiceReturnCode = ?2")
 	boolean existsByPartialChoiceReturnCode(final String verificationCardSetId, final String partialChoiceReturnCode);
 }
@@ -81,6 +81,18 @@ public class PCCAllowListEntryService {
 				.collect(toImmutableList());
 	}
 
+	/**
+	 * Gets the partial Choice Return Codes allow list for the given verification card set id without loading the corresponding entities.
+	 *
+	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
+	 * @return the pCC allow list, empty if none is found.
+	 */
+	public List<String> getPartialChoiceReturnCodesList(final String verificationCardSetId) {
+		validateUUID(verificationCardSetId);
+
+		return pccAllowListEntryRepository.findAllPartialChoiceReturnCodesByVerificationCardSetId(verificationCardSetId);
+	}
+
 	/**
 	 * Gets the list of {@link PCCAllowListEntryEntity} for the given verification card set id.
 	 *
@@ -0,0 +1,110 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+
+/**
+ * Bounded cache of the in-memory partial Choice Return Codes allow lists, one per verification card set and tenant.
+ * <p>
+ * The allow list of a verification card set is only complete once all the chunks of the configuration phase have been processed, which is
+ * guaranteed once the election event is {@link ElectionEventState#CONFIGURED}. Before that, no allow list is cached and callers must fall back to
+ * the database.
+ * </p>
+ */
+@Service
+public class PartialChoiceReturnCodeAllowListCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PartialChoiceReturnCodeAllowListCache.class);
+
+	private final PCCAllowListEntryService pccAllowListEntryService;
+	private final ElectionEventStateService electionEventStateService;
+	private final ContextHolder contextHolder;
+	private final LoadingCache<CacheKey, HashedPartialChoiceReturnCodeAllowList> allowLists;
+
+	public PartialChoiceReturnCodeAllowListCache(
+			final PCCAllowListEntryService pccAllowListEntryService,
+			final ElectionEventStateService electionEventStateService,
+			final ContextHolder contextHolder,
+			@Value("${pcc-allow-list.cache.maximum-size-bytes}")
+			final long maximumSizeBytes,
+			@Value("${pcc-allow-list.cache.off-heap}")
+			final boolean offHeap) {
+		checkArgument(maximumSizeBytes > 0, "The maximum size of the pCC allow list cache must be strictly positive.");
+
+		this.pccAllowListEntryService = pccAllowListEntryService;
+		this.electionEventStateService = electionEventStateService;
+		this.contextHolder = contextHolder;
+		this.allowLists = CacheBuilder.newBuilder()
+				.maximumWeight(maximumSizeBytes)
+				.<CacheKey, HashedPartialChoiceReturnCodeAllowList>weigher((cacheKey, allowList) -> allowList.sizeInBytes())
+				.build(CacheLoader.from(cacheKey -> load(cacheKey.verificationCardSetId(), offHeap)));
+	}
+
+	/**
+	 * Gets the in-memory partial Choice Return Codes allow list of the given verification card set of the current tenant, loading it from the
+	 * database on first access.
+	 *
+	 * @param electionEventId       the election event id. Must be non-null and a valid UUID.
+	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
+	 * @return the in-memory allow list, or an empty optional if the election event is not yet {@link ElectionEventState#CONFIGURED}.
+	 * @throws NullPointerException      if any parameter is null.
+	 * @throws FailedValidationException if any parameter is not a valid UUID.
+	 */
+	public Optional<PartialChoiceReturnCodeAllowList> get(final String electionEventId, final String verificationCardSetId) {
+		validateUUID(electionEventId);
+		validateUUID(verificationCardSetId);
+
+		// Tenants loaded from the same export share their ids, hence the tenant is part of the key.
+		final CacheKey cacheKey = new CacheKey(contextHolder.getTenantId(), verificationCardSetId);
+		final HashedPartialChoiceReturnCodeAllowList cachedAllowList = allowLists.getIfPresent(cacheKey);
+		if (cachedAllowList != null) {
+			return Optional.of(cachedAllowList);
+		}
+
+		if (!ElectionEventState.CONFIGURED.equals(electionEventStateService.getElectionEventState(electionEventId))) {
+			return Optional.empty();
+		}
+
+		// Loaded on the calling thread, hence within the tenant context of the key.
+		return Optional.of(allowLists.getUnchecked(cacheKey));
+	}
+
+	private HashedPartialChoiceReturnCodeAllowList load(final String verificationCardSetId, final boolean offHeap) {
+		final List<String> partialChoiceReturnCodes = pccAllowListEntryService.getPartialChoiceReturnCodesList(verificationCardSetId);
+		checkState(!partialChoiceReturnCodes.isEmpty(), "No pCC allow list found. [verificationCardSetId: %s]", verificationCardSetId);
+
+		final HashedPartialChoiceReturnCodeAllowList allowList = HashedPartialChoiceReturnCodeAllowList.from(partialChoiceReturnCodes, offHeap);
+		LOGGER.info("Loaded pCC allow list in memory. [verificationCardSetId: {}, size: {}, bytes: {}, offHeap: {}]", verificationCardSetId,
+				allowList.size(), allowList.sizeInBytes(), offHeap);
+
+		return allowList;
+	}
+
+	private record CacheKey(String tenantId, String verificationCardSetId) {
+
+		private CacheKey {
+			checkNotNull(tenantId);
+			checkNotNull(verificationCardSetId);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.evotinglibraries.domain.common.EncryptedVerifiableVote;
+
+/**
+ * A sent vote along with whether it was confirmed and, if so, its hashed Long Vote Cast Return Code shares.
+ *
+ * @param encryptedVerifiableVote the sent vote. Must be non-null.
+ * @param confirmed               whether the vote was confirmed.
+ * @param hashedLVCCShares        the hashed Long Vote Cast Return Code shares of the confirmed vote, empty if the vote was not confirmed. Must be
+ *                                non-null.
+ */
+public record SentVote(EncryptedVerifiableVote encryptedVerifiableVote,
+					   boolean confirmed,
+					   ImmutableList<String> hashedLVCCShares) {
+
+	public SentVote {
+		checkNotNull(encryptedVerifiableVote);
+		checkNotNull(hashedLVCCShares);
+		checkArgument(confirmed != hashedLVCCShares.isEmpty(), "Only the confirmed votes have hashed Long Vote Cast Return Code shares.");
+	}
+
+}
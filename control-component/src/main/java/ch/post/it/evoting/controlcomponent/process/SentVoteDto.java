@@ -0,0 +1,22 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+
+/**
+ * A sent vote joined with the confirmation state of its verification card and its serialized hashed Long Vote Cast Return Code shares, null if
+ * the vote was not confirmed.
+ */
+public record SentVoteDto(EncryptedVerifiableVoteEntity encryptedVerifiableVoteEntity,
+						  boolean confirmed,
+						  ImmutableByteArray hashedLongVoteCastReturnCodeShares) {
+
+	public SentVoteDto {
+		checkNotNull(encryptedVerifiableVoteEntity);
+	}
+
+}
@@ -3,14 +3,21 @@
  */
 package ch.post.it.evoting.controlcomponent.process;
 
-import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
 import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableSet.toImmutableSet;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,16 +39,23 @@ public class VerificationCardService {
 	private final ElectionEventService electionEventService;
 	private final VerificationCardSetService verificationCardSetService;
 	private final VerificationCardRepository verificationCardRepository;
+	private final int batchSize;
+
+	@PersistenceContext
+	private EntityManager entityManager;
 
 	public VerificationCardService(
 			final ObjectMapper objectMapper,
 			final ElectionEventService electionEventService,
 			final VerificationCardSetService verificationCardSetService,
-			final VerificationCardRepository verificationCardRepository) {
+			final VerificationCardRepository verificationCardRepository,
+			@Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+			final int batchSize) {
 		this.objectMapper = objectMapper;
 		this.electionEventService = electionEventService;
 		this.verificationCardSetService = verificationCardSetService;
 		this.verificationCardRepository = verificationCardRepository;
+		this.batchSize = batchSize;
 	}
 
 	@VisibleForTesting
@@ -49,20 +63,42 @@ public class VerificationCardService {
 	public VerificationCardEntity save(final VerificationCard verificationCard) {
 		checkNotNull(verificationCard);
 
-		final VerificationCardEntity verificationCardEntity = verificationCardToEntity(verificationCard);
+		final VerificationCardSetEntity verificationCardSetEntity = verificationCardSetService.getVerificationCardSet(
+				verificationCard.verificationCardSetId());
+		final VerificationCardEntity verificationCardEntity = verificationCardToEntity(verificationCard, verificationCardSetEntity);
 
 		return verificationCardRepository.save(verificationCardEntity);
 	}
 
+	/**
+	 * Saves the given verification cards in JDBC batches, flushing the persistence context and detaching the saved verification cards after each
+	 * batch to bound its size.
+	 *
+	 * @param verificationCards the verification cards to save. Must be non-null.
+	 * @throws NullPointerException if {@code verificationCards} is null.
+	 */
 	@Transactional // Required otherwise foreign entity is detached during the save operation.
 	public void saveAll(final ImmutableList<VerificationCard> verificationCards) {
 		checkNotNull(verificationCards);
 
-		final ImmutableList<VerificationCardEntity> verificationCardEntities = verificationCards.stream()
-				.map(this::verificationCardToEntity)
-				.collect(toImmutableList());
+		// Retrieve each verification card set only once, the verification cards to save usually all belong to the same one.
+		final Map<String, VerificationCardSetEntity> verificationCardSetEntities = new HashMap<>();
+
+		List<VerificationCardEntity> verificationCardEntities = new ArrayList<>(batchSize);
+		for (final VerificationCard verificationCard : verificationCards) {
+			final VerificationCardSetEntity verificationCardSetEntity = verificationCardSetEntities.computeIfAbsent(
+					verificationCard.verificationCardSetId(), verificationCardSetService::getVerificationCardSet);
+			verificationCardEntities.add(verificationCardToEntity(verificationCard, verificationCardSetEntity));
+
+			if (verificationCardEntities.size() == batchSize) {
+				saveBatch(verificationCardEntities);
+				verificationCardEntities = new ArrayList<>(batchSize);
+			}
+		}
 
-		verificationCardRepository.saveAll(verificationCardEntities);
+		if (!verificationCardEntities.isEmpty()) {
+			saveBatch(verificationCardEntities);
+		}
 	}
 
 	public boolean existsNone(final ImmutableList<String> verificationCardIds) {
@@ -112,9 +148,16 @@ public class VerificationCardService {
 				.orElseThrow(() -> new IllegalStateException("No corresponding verificationCard found. [verificationCardId: %s]"));
 	}
 
-	private VerificationCardEntity verificationCardToEntity(final VerificationCard verificationCard) {
+	private void saveBatch(final List<VerificationCardEntity> verificationCardEntities) {
+		final List<VerificationCardEntity> savedVerificationCardEntities = verificationCardRepository.saveAll(verificationCardEntities);
+		entityManager.flush();
+		// Only the saved entities are detached, together with their cascaded states, the other entities of the caller's transaction stay managed.
+		savedVerificationCardEntities.forEach(entityManager::detach);
+	}
+
+	private VerificationCardEntity verificationCardToEntity(final VerificationCard verificationCard,
+			final VerificationCardSetEntity verificationCardSetEntity) {
 		final String verificationCardId = verificationCard.verificationCardId();
-		final String verificationCardSetId = verificationCard.verificationCardSetId();
 
 		final ImmutableByteArray publicKeyBytes;
 		try {
@@ -124,9 +167,6 @@ public class VerificationCardService {
 					String.format("Failed to serialize verification card public key. [verificationCardId: %s]", verificationCardId), e);
 		}
 
-		// Retrieve verification card set associated to this verification card.
-		final VerificationCardSetEntity verificationCardSetEntity = verificationCardSetService.getVerificationCardSet(verificationCardSetId);
-
 		final VerificationCardEntity verificationCardEntity = new VerificationCardEntity(verificationCardId, verificationCardSetEntity,
 				publicKeyBytes);
 		final VerificationCardStateEntity verificationCardStateEntity = new VerificationCardStateEntity();
@@ -27,16 +27,19 @@ public class VerificationCardSetService {
 	private final PCCAllowListEntryService pccAllowListEntryService;
 	private final VerificationCardSetRepository verificationCardSetRepository;
 	private final LVCCAllowListEntryService lvccAllowListEntryService;
+	private final PartialChoiceReturnCodeAllowListCache partialChoiceReturnCodeAllowListCache;
 
 	public VerificationCardSetService(
 			final ElectionEventService electionEventService,
 			final PCCAllowListEntryService pccAllowListEntryService,
 			final VerificationCardSetRepository verificationCardSetRepository,
-			final LVCCAllowListEntryService lvccAllowListEntryService) {
+			final LVCCAllowListEntryService lvccAllowListEntryService,
+			final PartialChoiceReturnCodeAllowListCache partialChoiceReturnCodeAllowListCache) {
 		this.electionEventService = electionEventService;
 		this.pccAllowListEntryService = pccAllowListEntryService;
 		this.verificationCardSetRepository = verificationCardSetRepository;
 		this.lvccAllowListEntryService = lvccAllowListEntryService;
+		this.partialChoiceReturnCodeAllowListCache = partialChoiceReturnCodeAllowListCache;
 	}
 
 	@VisibleForTesting
@@ -76,15 +79,20 @@ public class VerificationCardSetService {
 	/**
 	 * Gets the partial Choice Return Codes allow list for the given verification card set id.
 	 * <p>
+	 * Once the election event is configured, the allow list is served from memory. Before that, each lookup queries the database.
+	 * <p>
 	 * WARNING: This will not return the complete allow list if called before all chunks have been processed and saved.
 	 *
+	 * @param electionEventId       the election event id. Must be a valid UUID.
 	 * @param verificationCardSetId the verification card set id. Must be a valid UUID.
 	 * @return the partial Choice Return Codes allow list.
 	 */
-	public PartialChoiceReturnCodeAllowList getPartialChoiceReturnCodesAllowList(final String verificationCardSetId) {
+	public PartialChoiceReturnCodeAllowList getPartialChoiceReturnCodesAllowList(final String electionEventId, final String verificationCardSetId) {
+		validateUUID(electionEventId);
 		validateUUID(verificationCardSetId);
 
-		return partialChoiceReturnCode -> pccAllowListEntryService.exists(verificationCardSetId, partialChoiceReturnCode);
+		return partialChoiceReturnCodeAllowListCache.get(electionEventId, verificationCardSetId)
+				.orElseGet(() -> partialChoiceReturnCode -> pccAllowListEntryService.exists(verificationCardSetId, partialChoiceReturnCode));
 	}
 
 	/**
@@ -25,6 +25,7 @@ import ch.post.it.evoting.controlcomponent.process.BallotBoxService;
 import ch.post.it.evoting.controlcomponent.process.ElectionEventState;
 import ch.post.it.evoting.controlcomponent.process.ElectionEventStateService;
 import ch.post.it.evoting.controlcomponent.process.ExtractedElectionEventHashService;
+import ch.post.it.evoting.controlcomponent.process.FixedBaseOptimizationsService;
 import ch.post.it.evoting.controlcomponent.process.SetupComponentPublicKeysService;
 import ch.post.it.evoting.controlcomponent.process.VerificationCardService;
 import ch.post.it.evoting.controlcomponent.process.VerificationCardSetService;
@@ -57,6 +58,7 @@ public class UploadSetupComponentPublicKeysProcessor {
 	private final ExtractedElectionEventHashService extractedElectionEventHashService;
 	private final SetupComponentPublicKeysService setupComponentPublicKeysService;
 	private final VerifySetupComponentPublicKeysService verifySetupComponentPublicKeysService;
+	private final FixedBaseOptimizationsService fixedBaseOptimizationsService;
 	private final ObjectMapper objectMapper;
 
 	@Value("${nodeID}")
@@ -71,6 +73,7 @@ public class UploadSetupComponentPublicKeysProcessor {
 			final ExtractedElectionEventHashService extractedElectionEventHashService,
 			final SetupComponentPublicKeysService setupComponentPublicKeysService,
 			final VerifySetupComponentPublicKeysService verifySetupComponentPublicKeysService,
+			final FixedBaseOptimizationsService fixedBaseOptimizationsService,
 			final ObjectMapper objectMapper) {
 		this.ballotBoxService = ballotBoxService;
 		this.verificationCardService = verificationCardService;
@@ -80,6 +83,7 @@ public class UploadSetupComponentPublicKeysProcessor {
 		this.extractedElectionEventHashService = extractedElectionEventHashService;
 		this.setupComponentPublicKeysService = setupComponentPublicKeysService;
 		this.verifySetupComponentPublicKeysService = verifySetupComponentPublicKeysService;
+		this.fixedBaseOptimizationsService = fixedBaseOptimizationsService;
 		this.objectMapper = objectMapper;
 	}
 
@@ -168,6 +172,9 @@ public class UploadSetupComponentPublicKeysProcessor {
 		electionEventStateService.updateElectionEventState(electionEventId, configuredState);
 		LOGGER.info("Updated election event state. [electionEventId: {}, nodeId: {}, state: {}]", electionEventId, nodeId, configuredState);
 
+		// For performance reasons, the control-component prepares the fixed-base exponentiations of the voting phase.
+		fixedBaseOptimizationsService.prepareFixedBaseOptimizations(electionEventId);
+
 		return new SetupComponentPublicKeysResponsePayload(nodeId, electionEventId);
 	}
 
@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import ch.post.it.evoting.controlcomponent.process.ElectionEventService;
 import ch.post.it.evoting.controlcomponent.process.ElectionEventState;
 import ch.post.it.evoting.controlcomponent.process.ElectionEventStateService;
+import ch.post.it.evoting.controlcomponent.process.FixedBaseOptimizationsService;
 import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.CreateLVCCShareOutput;
 import ch.post.it.evoting.controlcomponent.protocol.voting.confirmvote.CreateLVCCShareService;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -30,6 +31,7 @@ public class LongVoteCastReturnCodesShareHashService {
 	private final CreateLVCCShareService createLVCCShareService;
 	private final ElectionEventStateService electionEventStateService;
 	private final LVCCShareService lvccShareService;
+	private final FixedBaseOptimizationsService fixedBaseOptimizationsService;
 
 	@Value("${nodeID}")
 	private int nodeId;
@@ -38,11 +40,13 @@ public class LongVoteCastReturnCodesShareHashService {
 			final ElectionEventService electionEventService,
 			final CreateLVCCShareService createLVCCShareService,
 			final ElectionEventStateService electionEventStateService,
-			final LVCCShareService lvccShareService) {
+			final LVCCShareService lvccShareService,
+			final FixedBaseOptimizationsService fixedBaseOptimizationsService) {
 		this.electionEventService = electionEventService;
 		this.createLVCCShareService = createLVCCShareService;
 		this.electionEventStateService = electionEventStateService;
 		this.lvccShareService = lvccShareService;
+		this.fixedBaseOptimizationsService = fixedBaseOptimizationsService;
 	}
 
 	@Transactional
@@ -61,6 +65,8 @@ public class LongVoteCastReturnCodesShareHashService {
 				"The election event is not in the expected state. [electionEventId: %s, nodeId: %s, expected: %s, actual: %s]", electionEventId,
 				nodeId, expectedState, electionEventState);
 
+		fixedBaseOptimizationsService.prepareFixedBaseOptimizations(electionEventId);
+
 		final CreateLVCCShareOutput createLVCCShareOutput = createLVCCShareService.createLVCCShare(encryptionGroup, confirmationKey);
 		LOGGER.info(
 				"CreateLVCCShare algorithm successfully performed. Successfully generated the Long Vote Cast Return Codes Share. [contextIds: {}]",
@@ -3,12 +3,20 @@
  */
 package ch.post.it.evoting.controlcomponent.process.voting.sendvote;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.security.SignatureException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +29,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import ch.post.it.evoting.controlcomponent.process.ElectionEventState;
 import ch.post.it.evoting.controlcomponent.process.ElectionEventStateService;
+import ch.post.it.evoting.controlcomponent.protocol.voting.sendvote.CreateLCCShareOutput;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
@@ -51,6 +60,7 @@ public class LongChoiceReturnCodeShareProcessor {
 	private final ElectionEventStateService electionEventStateService;
 	private final PartiallyDecryptedPCCService partiallyDecryptedPCCService;
 	private final LCCShareService lccShareService;
+	private final ExecutorService verificationExecutor;
 
 	@Value("${nodeID}")
 	private int nodeId;
@@ -61,13 +71,19 @@ public class LongChoiceReturnCodeShareProcessor {
 			final SignatureKeystore<Alias> signatureKeystoreService,
 			final ElectionEventStateService electionEventStateService,
 			final PartiallyDecryptedPCCService partiallyDecryptedPCCService,
-			final LCCShareService lccShareService) {
+			final LCCShareService lccShareService,
+			@Value("${control-component-signature-verification.parallelism}")
+			final int parallelism) {
+		checkArgument(parallelism >= 0, "The parallelism must be positive. [parallelism: %s]", parallelism);
+
 		this.objectMapper = objectMapper;
 		this.longChoiceReturnCodeShareService = longChoiceReturnCodeShareService;
 		this.electionEventStateService = electionEventStateService;
 		this.signatureKeystoreService = signatureKeystoreService;
 		this.partiallyDecryptedPCCService = partiallyDecryptedPCCService;
 		this.lccShareService = lccShareService;
+		this.verificationExecutor = Executors.newFixedThreadPool(parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism,
+				Thread.ofPlatform().name("cc-signature-verifier-", 0).daemon().factory());
 	}
 
 	@Transactional
@@ -78,28 +94,46 @@ public class LongChoiceReturnCodeShareProcessor {
 		final ImmutableList<ControlComponentPartialDecryptPayload> controlComponentPartialDecryptPayloads = combinedControlComponentPartialDecryptPayload.controlComponentPartialDecryptPayloads();
 		final ContextIds contextIds = controlComponentPartialDecryptPayloads.get(0).getPartiallyDecryptedEncryptedPCC().contextIds();
 
-		// Validate election event state.
-		final ElectionEventState expectedState = ElectionEventState.CONFIGURED;
-		final String electionEventId = contextIds.electionEventId();
-		final ElectionEventState electionEventState = electionEventStateService.getElectionEventState(electionEventId);
-		checkState(expectedState.equals(electionEventState),
-				"The election event is not in the expected state. [electionEventId: %s, nodeId: %s, expected: %s, actual: %s]", electionEventId,
-				nodeId, expectedState, electionEventState);
+		validateElectionEventState(contextIds.electionEventId());
 
 		// Perform LCC share computation.
 		final LongChoiceReturnCodeShare longChoiceReturnCodeShare = longChoiceReturnCodeShareService.performCreateLCCShare(
 				controlComponentPartialDecryptPayloads);
 		LOGGER.info("Successfully generated the long Choice Return Code shares. [contextIds: {}]", contextIds);
 
-		// Create and sign response payload.
-		final GqGroup encryptionGroup = controlComponentPartialDecryptPayloads.get(0).getEncryptionGroup();
-		final ControlComponentlCCSharePayload controlComponentLCCSharePayload = new ControlComponentlCCSharePayload(encryptionGroup,
-				longChoiceReturnCodeShare);
+		return createResponse(controlComponentPartialDecryptPayloads, longChoiceReturnCodeShare);
+	}
 
-		controlComponentLCCSharePayload.setSignature(generatePayloadSignature(controlComponentLCCSharePayload));
-		LOGGER.info("Successfully signed Long Return Codes Share payload. [contextIds: {}]", contextIds);
+	/**
+	 * Processes the request as {@link #onRequest(CombinedControlComponentPartialDecryptPayload)} when it is processed in a batch: the long Choice
+	 * Return Code share computation and the signature of the response are performed outside any transaction and the share and the combined
+	 * partially decrypted encrypted PCCs are only saved by the returned task, run in the transaction of the batch.
+	 *
+	 * @param combinedControlComponentPartialDecryptPayload the request payload.
+	 * @return the task saving the results of the request and returning its response payload.
+	 */
+	public Callable<ControlComponentlCCSharePayload> onConcurrentRequest(
+			final CombinedControlComponentPartialDecryptPayload combinedControlComponentPartialDecryptPayload) {
+		checkNotNull(combinedControlComponentPartialDecryptPayload);
 
-		return controlComponentLCCSharePayload;
+		final ImmutableList<ControlComponentPartialDecryptPayload> controlComponentPartialDecryptPayloads = combinedControlComponentPartialDecryptPayload.controlComponentPartialDecryptPayloads();
+		final ContextIds contextIds = controlComponentPartialDecryptPayloads.get(0).getPartiallyDecryptedEncryptedPCC().contextIds();
+
+		validateElectionEventState(contextIds.electionEventId());
+
+		// Perform LCC share computation.
+		final CreateLCCShareOutput createLCCShareOutput = longChoiceReturnCodeShareService.createLCCShare(controlComponentPartialDecryptPayloads);
+		final LongChoiceReturnCodeShare longChoiceReturnCodeShare = longChoiceReturnCodeShareService.getLongChoiceReturnCodeShare(
+				controlComponentPartialDecryptPayloads, createLCCShareOutput);
+		LOGGER.info("Successfully generated the long Choice Return Code shares. [contextIds: {}]", contextIds);
+
+		final ControlComponentlCCSharePayload controlComponentLCCSharePayload = createResponse(controlComponentPartialDecryptPayloads,
+				longChoiceReturnCodeShare);
+
+		return () -> {
+			longChoiceReturnCodeShareService.saveLCCShare(controlComponentPartialDecryptPayloads, createLCCShareOutput);
+			return controlComponentLCCSharePayload;
+		};
 	}
 
 	public ControlComponentlCCSharePayload onReplay(
@@ -131,8 +165,22 @@ public class LongChoiceReturnCodeShareProcessor {
 				.getPartiallyDecryptedEncryptedPCC().contextIds();
 		final String verificationCardId = contextIds.verificationCardId();
 
-		// Verify signature of the received ControlComponentPartialDecryptPayloads.
-		combinedControlComponentPartialDecryptPayload.controlComponentPartialDecryptPayloads().forEach(this::verifySignature);
+		// Verify signature of the received ControlComponentPartialDecryptPayloads, in parallel. Joined in order, so that the reported failure does not
+		// depend on the scheduling of the verifications.
+		final ImmutableList<CompletableFuture<Void>> verifications = combinedControlComponentPartialDecryptPayload.controlComponentPartialDecryptPayloads()
+				.stream()
+				.map(payload -> CompletableFuture.runAsync(() -> verifySignature(payload), verificationExecutor))
+				.collect(ImmutableList.toImmutableList());
+		for (final CompletableFuture<Void> verification : verifications) {
+			try {
+				verification.join();
+			} catch (final CompletionException e) {
+				if (e.getCause() instanceof final RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw e;
+			}
+		}
 
 		// Retrieve the partially decrypted encrypted PCC previously computed.
 		final PartiallyDecryptedEncryptedPCC previouslyComputedPCCPayload = partiallyDecryptedPCCService.get(verificationCardId);
@@ -151,6 +199,33 @@ public class LongChoiceReturnCodeShareProcessor {
 		return true;
 	}
 
+	@PreDestroy
+	void shutdown() {
+		verificationExecutor.shutdown();
+	}
+
+	private void validateElectionEventState(final String electionEventId) {
+		final ElectionEventState expectedState = ElectionEventState.CONFIGURED;
+		final ElectionEventState electionEventState = electionEventStateService.getElectionEventState(electionEventId);
+		checkState(expectedState.equals(electionEventState),
+				"The election event is not in the expected state. [electionEventId: %s, nodeId: %s, expected: %s, actual: %s]", electionEventId,
+				nodeId, expectedState, electionEventState);
+	}
+
+	private ControlComponentlCCSharePayload createResponse(final ImmutableList<ControlComponentPartialDecryptPayload> controlComponentPartialDecryptPayloads,
+			final LongChoiceReturnCodeShare longChoiceReturnCodeShare) {
+		// Create and sign response payload.
+		final GqGroup encryptionGroup = controlComponentPartialDecryptPayloads.get(0).getEncryptionGroup();
+		final ControlComponentlCCSharePayload controlComponentLCCSharePayload = new ControlComponentlCCSharePayload(encryptionGroup,
+				longChoiceReturnCodeShare);
+
+		controlComponentLCCSharePayload.setSignature(generatePayloadSignature(controlComponentLCCSharePayload));
+		LOGGER.info("Successfully signed Long Return Codes Share payload. [contextIds: {}]",
+				controlComponentPartialDecryptPayloads.get(0).getPartiallyDecryptedEncryptedPCC().contextIds());
+
+		return controlComponentLCCSharePayload;
+	}
+
 	private void verifySignature(final ControlComponentPartialDecryptPayload payload) {
 		final PartiallyDecryptedEncryptedPCC partiallyDecryptedEncryptedPCC = payload.getPartiallyDecryptedEncryptedPCC();
 		final ContextIds contextIds = partiallyDecryptedEncryptedPCC.contextIds();
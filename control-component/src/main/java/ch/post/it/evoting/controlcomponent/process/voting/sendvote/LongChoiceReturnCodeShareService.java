@@ -74,6 +74,22 @@ public class LongChoiceReturnCodeShareService {
 	@Transactional
 	public LongChoiceReturnCodeShare performCreateLCCShare(
 			final ImmutableList<ControlComponentPartialDecryptPayload> controlComponentPartialDecryptPayloads) {
+		final CreateLCCShareOutput createLCCShareOutput = createLCCShare(controlComponentPartialDecryptPayloads);
+
+		saveLCCShare(controlComponentPartialDecryptPayloads, createLCCShareOutput);
+
+		return getLongChoiceReturnCodeShare(controlComponentPartialDecryptPayloads, createLCCShareOutput);
+	}
+
+	/**
+	 * Computes the CCR_j long Choice Return Code shares as {@link #performCreateLCCShare(ImmutableList)}, without saving them. The caller is
+	 * responsible for saving them with {@link #saveLCCShare(ImmutableList, CreateLCCShareOutput)}.
+	 *
+	 * @param controlComponentPartialDecryptPayloads the partially decrypted encrypted node contributions.
+	 * @return the output of the CreateLCCShare algorithm.
+	 */
+	@Transactional
+	public CreateLCCShareOutput createLCCShare(final ImmutableList<ControlComponentPartialDecryptPayload> controlComponentPartialDecryptPayloads) {
 
 		checkNotNull(controlComponentPartialDecryptPayloads);
 		final ContextIds contextIds = controlComponentPartialDecryptPayloads.get(0).getPartiallyDecryptedEncryptedPCC().contextIds();
@@ -81,7 +97,6 @@ public class LongChoiceReturnCodeShareService {
 		identifierValidationService.validateContextIds(contextIds);
 		final String electionEventId = contextIds.electionEventId();
 		final String verificationCardSetId = contextIds.verificationCardSetId();
-		final String verificationCardId = contextIds.verificationCardId();
 
 		final GqGroup encryptionGroup = electionEventService.getEncryptionGroup(electionEventId);
 
@@ -100,13 +115,45 @@ public class LongChoiceReturnCodeShareService {
 				decryptedPartialChoiceReturnCodes);
 		LOGGER.info("CreateLCCShare algorithm successfully performed. [electionEventId: {}]", electionEventId);
 
+		return createLCCShareOutput;
+	}
+
+	/**
+	 * Saves the CCR_j long Choice Return Code shares computed by {@link #createLCCShare(ImmutableList)} and the partially decrypted encrypted node
+	 * contributions they were computed from.
+	 *
+	 * @param controlComponentPartialDecryptPayloads the partially decrypted encrypted node contributions.
+	 * @param createLCCShareOutput                   the output of the CreateLCCShare algorithm.
+	 */
+	@Transactional
+	public void saveLCCShare(final ImmutableList<ControlComponentPartialDecryptPayload> controlComponentPartialDecryptPayloads,
+			final CreateLCCShareOutput createLCCShareOutput) {
+		checkNotNull(controlComponentPartialDecryptPayloads);
+		checkNotNull(createLCCShareOutput);
+		final ContextIds contextIds = controlComponentPartialDecryptPayloads.get(0).getPartiallyDecryptedEncryptedPCC().contextIds();
+
 		lccShareService.save(contextIds, createLCCShareOutput);
 		LOGGER.debug("Long Choice Return Code share saved. [contextIds: {}]", contextIds);
 
-		combinedPartiallyDecryptedPCCService.save(verificationCardId, controlComponentPartialDecryptPayloads);
+		combinedPartiallyDecryptedPCCService.save(contextIds.verificationCardId(), controlComponentPartialDecryptPayloads);
 		LOGGER.debug("Combined partially decrypted PCCs saved. [contextIds: {}]", contextIds);
+	}
+
+	/**
+	 * Gets the CCR_j long Choice Return Code shares of the given output of the CreateLCCShare algorithm.
+	 *
+	 * @param controlComponentPartialDecryptPayloads the partially decrypted encrypted node contributions.
+	 * @param createLCCShareOutput                   the output of the CreateLCCShare algorithm.
+	 * @return the Long Choice Return Code shares.
+	 */
+	public LongChoiceReturnCodeShare getLongChoiceReturnCodeShare(
+			final ImmutableList<ControlComponentPartialDecryptPayload> controlComponentPartialDecryptPayloads,
+			final CreateLCCShareOutput createLCCShareOutput) {
+		checkNotNull(controlComponentPartialDecryptPayloads);
+		checkNotNull(createLCCShareOutput);
+		final ContextIds contextIds = controlComponentPartialDecryptPayloads.get(0).getPartiallyDecryptedEncryptedPCC().contextIds();
 
-		return new LongChoiceReturnCodeShare(electionEventId, verificationCardSetId, verificationCardId, nodeId,
-				createLCCShareOutput.longChoiceReturnCodeShare());
+		return new LongChoiceReturnCodeShare(contextIds.electionEventId(), contextIds.verificationCardSetId(), contextIds.verificationCardId(),
+				nodeId, createLCCShareOutput.longChoiceReturnCodeShare());
 	}
 }
@@ -9,6 +9,7 @@ import static com.google.common.base.Preconditions.checkState;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.security.SignatureException;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import ch.post.it.evoting.controlcomponent.process.ElectionEventService;
 import ch.post.it.evoting.controlcomponent.process.ElectionEventState;
 import ch.post.it.evoting.controlcomponent.process.ElectionEventStateService;
+import ch.post.it.evoting.controlcomponent.process.FixedBaseOptimizationsService;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -50,6 +52,7 @@ public class PartialDecryptProcessor {
 	private final SignatureKeystore<Alias> signatureKeystoreService;
 	private final ElectionEventStateService electionEventStateService;
 	private final PartiallyDecryptedPCCService partiallyDecryptedPCCService;
+	private final FixedBaseOptimizationsService fixedBaseOptimizationsService;
 
 	@Value("${nodeID}")
 	private int nodeId;
@@ -60,13 +63,15 @@ public class PartialDecryptProcessor {
 			final PartialDecryptService partialDecryptService,
 			final SignatureKeystore<Alias> signatureKeystoreService,
 			final ElectionEventStateService electionEventStateService,
-			final PartiallyDecryptedPCCService partiallyDecryptedPCCService) {
+			final PartiallyDecryptedPCCService partiallyDecryptedPCCService,
+			final FixedBaseOptimizationsService fixedBaseOptimizationsService) {
 		this.objectMapper = objectMapper;
 		this.electionEventService = electionEventService;
 		this.partialDecryptService = partialDecryptService;
 		this.signatureKeystoreService = signatureKeystoreService;
 		this.electionEventStateService = electionEventStateService;
 		this.partiallyDecryptedPCCService = partiallyDecryptedPCCService;
+		this.fixedBaseOptimizationsService = fixedBaseOptimizationsService;
 	}
 
 	/**
@@ -123,34 +128,51 @@ public class PartialDecryptProcessor {
 		checkNotNull(votingServerEncryptedVotePayload);
 
 		final EncryptedVerifiableVote encryptedVerifiableVote = votingServerEncryptedVotePayload.getEncryptedVerifiableVote();
-		final ContextIds contextIds = encryptedVerifiableVote.contextIds();
 
 		final String contextId = ContextIdExtractor.extract(votingServerEncryptedVotePayload);
 
 		LOGGER.info("Received partial decrypt request. [contextId: {}]", contextId);
 
-		// Validate election event state.
-		final ElectionEventState expectedState = ElectionEventState.CONFIGURED;
-		final String electionEventId = contextIds.electionEventId();
-		final ElectionEventState electionEventState = electionEventStateService.getElectionEventState(electionEventId);
-		checkState(expectedState.equals(electionEventState),
-				"The election event is not in the expected state. [electionEventId: %s, nodeId: %s, expected: %s, actual: %s]", electionEventId,
-				nodeId, expectedState, electionEventState);
+		prepareRequest(encryptedVerifiableVote.contextIds().electionEventId());
 
 		// Perform partial decryption.
 		final PartiallyDecryptedEncryptedPCC partiallyDecryptedEncryptedPCC = partialDecryptService.performPartialDecrypt(encryptedVerifiableVote);
 		partiallyDecryptedPCCService.save(partiallyDecryptedEncryptedPCC);
 
-		// Create and sign response payload.
-		final GqGroup encryptionGroup = encryptedVerifiableVote.encryptedVote().getGroup();
-		final ControlComponentPartialDecryptPayload controlComponentPartialDecryptPayload =
-				new ControlComponentPartialDecryptPayload(encryptionGroup, partiallyDecryptedEncryptedPCC);
+		return createResponse(encryptedVerifiableVote, partiallyDecryptedEncryptedPCC);
+	}
 
-		controlComponentPartialDecryptPayload.setSignature(generatePayloadSignature(controlComponentPartialDecryptPayload));
+	/**
+	 * Processes the request as {@link #onRequest(VotingServerEncryptedVotePayload)} when it is processed in a batch: the partial decryption and the
+	 * signature of the response are performed outside any transaction and the encrypted verifiable vote and the partially decrypted encrypted PCC
+	 * are only saved by the returned task, run in the transaction of the batch.
+	 *
+	 * @param votingServerEncryptedVotePayload the request payload.
+	 * @return the task saving the results of the request and returning its response payload.
+	 */
+	public Callable<ControlComponentPartialDecryptPayload> onConcurrentRequest(
+			final VotingServerEncryptedVotePayload votingServerEncryptedVotePayload) {
+		checkNotNull(votingServerEncryptedVotePayload);
+
+		final EncryptedVerifiableVote encryptedVerifiableVote = votingServerEncryptedVotePayload.getEncryptedVerifiableVote();
 
-		LOGGER.info("Successfully signed control component partial decrypt payload. [contextIds: {}, nodeId: {}]", contextIds, nodeId);
+		final String contextId = ContextIdExtractor.extract(votingServerEncryptedVotePayload);
 
-		return controlComponentPartialDecryptPayload;
+		LOGGER.info("Received partial decrypt request. [contextId: {}]", contextId);
+
+		prepareRequest(encryptedVerifiableVote.contextIds().electionEventId());
+
+		// Perform partial decryption.
+		final PartiallyDecryptedEncryptedPCC partiallyDecryptedEncryptedPCC = partialDecryptService.partialDecrypt(encryptedVerifiableVote);
+
+		final ControlComponentPartialDecryptPayload controlComponentPartialDecryptPayload = createResponse(encryptedVerifiableVote,
+				partiallyDecryptedEncryptedPCC);
+
+		return () -> {
+			partialDecryptService.saveEncryptedVerifiableVote(encryptedVerifiableVote);
+			partiallyDecryptedPCCService.save(partiallyDecryptedEncryptedPCC);
+			return controlComponentPartialDecryptPayload;
+		};
 	}
 
 	public ControlComponentPartialDecryptPayload onReplay(final VotingServerEncryptedVotePayload votingServerEncryptedVotePayload) {
@@ -170,6 +192,32 @@ public class PartialDecryptProcessor {
 		return controlComponentPartialDecryptPayload;
 	}
 
+	private void prepareRequest(final String electionEventId) {
+		// Validate election event state.
+		final ElectionEventState expectedState = ElectionEventState.CONFIGURED;
+		final ElectionEventState electionEventState = electionEventStateService.getElectionEventState(electionEventId);
+		checkState(expectedState.equals(electionEventState),
+				"The election event is not in the expected state. [electionEventId: %s, nodeId: %s, expected: %s, actual: %s]", electionEventId,
+				nodeId, expectedState, electionEventState);
+
+		fixedBaseOptimizationsService.prepareFixedBaseOptimizations(electionEventId);
+	}
+
+	private ControlComponentPartialDecryptPayload createResponse(final EncryptedVerifiableVote encryptedVerifiableVote,
+			final PartiallyDecryptedEncryptedPCC partiallyDecryptedEncryptedPCC) {
+		// Create and sign response payload.
+		final GqGroup encryptionGroup = encryptedVerifiableVote.encryptedVote().getGroup();
+		final ControlComponentPartialDecryptPayload controlComponentPartialDecryptPayload =
+				new ControlComponentPartialDecryptPayload(encryptionGroup, partiallyDecryptedEncryptedPCC);
+
+		controlComponentPartialDecryptPayload.setSignature(generatePayloadSignature(controlComponentPartialDecryptPayload));
+
+		LOGGER.info("Successfully signed control component partial decrypt payload. [contextIds: {}, nodeId: {}]",
+				encryptedVerifiableVote.contextIds(), nodeId);
+
+		return controlComponentPartialDecryptPayload;
+	}
+
 	private CryptoPrimitivesSignature generatePayloadSignature(final ControlComponentPartialDecryptPayload payload) {
 		final ContextIds contextIds = payload.getPartiallyDecryptedEncryptedPCC().contextIds();
 		final String electionEventId = contextIds.electionEventId();
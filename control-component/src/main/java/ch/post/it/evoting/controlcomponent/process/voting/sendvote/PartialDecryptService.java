@@ -91,6 +91,23 @@ public class PartialDecryptService {
 	 */
 	@Transactional
 	public PartiallyDecryptedEncryptedPCC performPartialDecrypt(final EncryptedVerifiableVote encryptedVerifiableVote) {
+		final PartiallyDecryptedEncryptedPCC partiallyDecryptedEncryptedPCC = partialDecrypt(encryptedVerifiableVote);
+
+		// We store the encrypted verifiable vote payload only after all the relevant checks and verifications of the encrypted vote have passed.
+		saveEncryptedVerifiableVote(encryptedVerifiableVote);
+
+		return partiallyDecryptedEncryptedPCC;
+	}
+
+	/**
+	 * Verifies and partially decrypts the {@link EncryptedVerifiableVote} as {@link #performPartialDecrypt(EncryptedVerifiableVote)}, without
+	 * saving it. The caller is responsible for saving it with {@link #saveEncryptedVerifiableVote(EncryptedVerifiableVote)}.
+	 *
+	 * @param encryptedVerifiableVote the object containing the encrypted vote and the corresponding zero-knowledge proofs.
+	 * @return the partially decrypted encrypted Partial Choice Return Codes as a {@link PartiallyDecryptedEncryptedPCC}.
+	 */
+	@Transactional
+	public PartiallyDecryptedEncryptedPCC partialDecrypt(final EncryptedVerifiableVote encryptedVerifiableVote) {
 
 		checkNotNull(encryptedVerifiableVote);
 
@@ -122,10 +139,6 @@ public class PartialDecryptService {
 		}
 		LOGGER.debug("The client's encrypted vote zero-knowledge proofs are valid. [contextIds: {}]", contextIds);
 
-		// We store the encrypted verifiable vote payload only after all the relevant checks and verifications of the encrypted vote have passed.
-		encryptedVerifiableVoteService.save(encryptedVerifiableVote);
-		LOGGER.info("Saved encrypted verifiable vote. [contextIds: {}]", contextIds);
-
 		final PartialDecryptPCCOutput partialDecryptPCCOutput = partialDecryptPCCService.partialDecryptPCC(encryptionGroup, electionEventId,
 				primesMappingTable, encryptedVerifiableVote);
 
@@ -139,6 +152,19 @@ public class PartialDecryptService {
 		return new PartiallyDecryptedEncryptedPCC(contextIds, nodeId, exponentiatedGammas, exponentiationProofs);
 	}
 
+	/**
+	 * Saves the {@link EncryptedVerifiableVote} verified by {@link #partialDecrypt(EncryptedVerifiableVote)}.
+	 *
+	 * @param encryptedVerifiableVote the verified encrypted vote.
+	 */
+	@Transactional
+	public void saveEncryptedVerifiableVote(final EncryptedVerifiableVote encryptedVerifiableVote) {
+		checkNotNull(encryptedVerifiableVote);
+
+		encryptedVerifiableVoteService.save(encryptedVerifiableVote);
+		LOGGER.info("Saved encrypted verifiable vote. [contextIds: {}]", encryptedVerifiableVote.contextIds());
+	}
+
 	@VisibleForTesting
 	void validateVoteIsAllowed(final String electionEventId, final String verificationCardId, final Supplier<LocalDateTime> now,
 			final BallotBoxEntity ballotBox) {
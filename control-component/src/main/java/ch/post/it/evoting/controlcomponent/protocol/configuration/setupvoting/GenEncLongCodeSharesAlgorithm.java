@@ -11,9 +11,15 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntFunction;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,20 +40,34 @@ import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivation;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ExponentiationProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProof;
 
+/**
+ * The voters are processed in windows of {@code windowSize} verification cards. Each window is computed on a dedicated {@link ForkJoinPool} while
+ * the verification cards of the previous window are persisted, so that the persistence does not stall the computation. The verification cards are
+ * released once persisted, but the exponentiated ciphertexts, the keys and the proofs of the whole chunk are accumulated for the output.
+ */
 @Service
 public class GenEncLongCodeSharesAlgorithm {
 
 	private final KeyDerivation keyDerivation;
 	private final ZeroKnowledgeProof zeroKnowledgeProof;
 	private final VerificationCardService verificationCardService;
+	private final ForkJoinPool forkJoinPool;
+	private final int windowSize;
 
 	public GenEncLongCodeSharesAlgorithm(
 			final KeyDerivation keyDerivation,
 			final ZeroKnowledgeProof zeroKnowledgeProof,
-			final VerificationCardService verificationCardService) {
+			final VerificationCardService verificationCardService,
+			final ForkJoinPool genEncLongCodeSharesForkJoinPool,
+			@Value("${gen-enc-long-code-shares.window-size}")
+			final int windowSize) {
+		checkArgument(windowSize > 0, "The window size must be strictly positive.");
+
 		this.keyDerivation = keyDerivation;
 		this.zeroKnowledgeProof = zeroKnowledgeProof;
 		this.verificationCardService = verificationCardService;
+		this.forkJoinPool = genEncLongCodeSharesForkJoinPool;
+		this.windowSize = windowSize;
 	}
 
 	/**
@@ -106,76 +126,99 @@ public class GenEncLongCodeSharesAlgorithm {
 		// Operation.
 		final ImmutableByteArray PRK = integerToByteArray(k_j_prime.getValue());
 
-		final ImmutableList<EncLongCodeShare> encLongCodeShares = IntStream.range(0, N_E)
-				.parallel()
-				.mapToObj(id -> {
-					final String vc_id = vc.get(id);
+		final IntFunction<EncLongCodeShare> genEncLongCodeShare = id -> {
+			final String vc_id = vc.get(id);
 
-					final ImmutableList<String> info = ImmutableList.of("VoterChoiceReturnCodeGeneration", ee, vcs, vc_id);
+			final ImmutableList<String> info = ImmutableList.of("VoterChoiceReturnCodeGeneration", ee, vcs, vc_id);
 
-					final ZqElement k_j_id = keyDerivation.KDFToZq(PRK, info, q);
+			final ZqElement k_j_id = keyDerivation.KDFToZq(PRK, info, q);
 
-					final GqElement K_j_id = g.exponentiate(k_j_id);
+			final GqElement K_j_id = g.exponentiate(k_j_id);
 
-					final ImmutableList<String> info_CK = ImmutableList.of("VoterVoteCastReturnCodeGeneration", ee, vcs, vc_id);
+			final ImmutableList<String> info_CK = ImmutableList.of("VoterVoteCastReturnCodeGeneration", ee, vcs, vc_id);
 
-					final ZqElement kc_j_id = keyDerivation.KDFToZq(PRK, info_CK, q);
+			final ZqElement kc_j_id = keyDerivation.KDFToZq(PRK, info_CK, q);
 
-					final GqElement Kc_j_id = g.exponentiate(kc_j_id);
+			final GqElement Kc_j_id = g.exponentiate(kc_j_id);
 
-					final ElGamalMultiRecipientCiphertext c_pCC_id = c_pCC.get(id);
-					final ElGamalMultiRecipientCiphertext c_expPCC_j_id = c_pCC_id.getCiphertextExponentiation(k_j_id);
+			final ElGamalMultiRecipientCiphertext c_pCC_id = c_pCC.get(id);
+			final ElGamalMultiRecipientCiphertext c_expPCC_j_id = c_pCC_id.getCiphertextExponentiation(k_j_id);
 
-					final AuxiliaryInformation i_aux = AuxiliaryInformation.of(ee, vc_id, "GenEncLongCodeShares", integerToString(j));
+			final AuxiliaryInformation i_aux = AuxiliaryInformation.of(ee, vc_id, "GenEncLongCodeShares", integerToString(j));
 
-					final GroupVector<GqElement, GqGroup> g_c_pCC_id = Streams.concat(Stream.of(g), c_pCC_id.stream()).collect(toGroupVector());
-					final GroupVector<GqElement, GqGroup> k_j_id_c_expPCC_j_id = Streams.concat(Stream.of(K_j_id), c_expPCC_j_id.stream())
-							.collect(toGroupVector());
-					final ExponentiationProof pi_expPCC_j_id = zeroKnowledgeProof.genExponentiationProof(g_c_pCC_id, k_j_id, k_j_id_c_expPCC_j_id,
-							i_aux);
+			final GroupVector<GqElement, GqGroup> g_c_pCC_id = Streams.concat(Stream.of(g), c_pCC_id.stream()).collect(toGroupVector());
+			final GroupVector<GqElement, GqGroup> k_j_id_c_expPCC_j_id = Streams.concat(Stream.of(K_j_id), c_expPCC_j_id.stream())
+					.collect(toGroupVector());
+			final ExponentiationProof pi_expPCC_j_id = zeroKnowledgeProof.genExponentiationProof(g_c_pCC_id, k_j_id, k_j_id_c_expPCC_j_id,
+					i_aux);
 
-					final ElGamalMultiRecipientCiphertext c_ck_id = c_ck.get(id);
-					final ElGamalMultiRecipientCiphertext c_expCK_j_id = c_ck_id.getCiphertextExponentiation(kc_j_id);
+			final ElGamalMultiRecipientCiphertext c_ck_id = c_ck.get(id);
+			final ElGamalMultiRecipientCiphertext c_expCK_j_id = c_ck_id.getCiphertextExponentiation(kc_j_id);
 
-					final GroupVector<GqElement, GqGroup> g_c_ck_id = Streams.concat(Stream.of(g), c_ck_id.stream()).collect(toGroupVector());
-					final GroupVector<GqElement, GqGroup> Kc_j_id_c_expCK_j_id = Streams.concat(Stream.of(Kc_j_id), c_expCK_j_id.stream())
-							.collect(toGroupVector());
-					final ExponentiationProof pi_expCK_j_id = zeroKnowledgeProof.genExponentiationProof(g_c_ck_id, kc_j_id, Kc_j_id_c_expCK_j_id,
-							i_aux);
+			final GroupVector<GqElement, GqGroup> g_c_ck_id = Streams.concat(Stream.of(g), c_ck_id.stream()).collect(toGroupVector());
+			final GroupVector<GqElement, GqGroup> Kc_j_id_c_expCK_j_id = Streams.concat(Stream.of(Kc_j_id), c_expCK_j_id.stream())
+					.collect(toGroupVector());
+			final ExponentiationProof pi_expCK_j_id = zeroKnowledgeProof.genExponentiationProof(g_c_ck_id, kc_j_id, Kc_j_id_c_expCK_j_id,
+					i_aux);
 
-					// Create verification card for vc_id.
-					final ElGamalMultiRecipientPublicKey verificationCardPublicKey = input.getVerificationCardPublicKeys().get(id);
-					final VerificationCard verificationCard = new VerificationCard(vc_id, vcs, verificationCardPublicKey);
+			// Create verification card for vc_id.
+			final ElGamalMultiRecipientPublicKey verificationCardPublicKey = input.getVerificationCardPublicKeys().get(id);
+			final VerificationCard verificationCard = new VerificationCard(vc_id, vcs, verificationCardPublicKey);
 
-					return new EncLongCodeShare(K_j_id, Kc_j_id, c_expPCC_j_id, pi_expPCC_j_id, c_expCK_j_id, pi_expCK_j_id, verificationCard);
-				})
-				.collect(toImmutableList());
+			return new EncLongCodeShare(K_j_id, Kc_j_id, c_expPCC_j_id, pi_expPCC_j_id, c_expCK_j_id, pi_expCK_j_id, verificationCard);
+		};
 
-		// Save all verification cards. Equivalent to performing L_genVC,j ← L_genVC,j || vc_id for all id.
-		verificationCardService.saveAll(encLongCodeShares.stream()
-				.map(EncLongCodeShare::l_genVC_j_id)
-				.collect(toImmutableList()));
+		final List<GqElement> K_j = new ArrayList<>(N_E);
+		final List<GqElement> Kc_j = new ArrayList<>(N_E);
+		final List<ElGamalMultiRecipientCiphertext> c_expPCC_j = new ArrayList<>(N_E);
+		final List<ExponentiationProof> pi_expPCC_j = new ArrayList<>(N_E);
+		final List<ElGamalMultiRecipientCiphertext> c_expCK_j = new ArrayList<>(N_E);
+		final List<ExponentiationProof> pi_expCK_j = new ArrayList<>(N_E);
+
+		ForkJoinTask<ImmutableList<EncLongCodeShare>> nextWindow = submitWindow(0, Math.min(windowSize, N_E), genEncLongCodeShare);
+		try {
+			for (int from = 0; from < N_E; from += windowSize) {
+				final ImmutableList<EncLongCodeShare> window = nextWindow.join();
+
+				// Compute the next window while the current one is persisted.
+				final int nextFrom = from + windowSize;
+				if (nextFrom < N_E) {
+					nextWindow = submitWindow(nextFrom, Math.min(nextFrom + windowSize, N_E), genEncLongCodeShare);
+				}
+
+				// Save the verification cards of the window. Equivalent to performing L_genVC,j ← L_genVC,j || vc_id for all id.
+				verificationCardService.saveAll(window.stream()
+						.map(EncLongCodeShare::l_genVC_j_id)
+						.collect(toImmutableList()));
+
+				window.forEach(encLongCodeShare -> {
+					K_j.add(encLongCodeShare.K_j_id());
+					Kc_j.add(encLongCodeShare.Kc_j_id());
+					c_expPCC_j.add(encLongCodeShare.c_expPCC_j_id());
+					pi_expPCC_j.add(encLongCodeShare.pi_expPCC_j_id());
+					c_expCK_j.add(encLongCodeShare.c_expCK_j_id());
+					pi_expCK_j.add(encLongCodeShare.pi_expCK_j_id());
+				});
+			}
+		} catch (final RuntimeException e) {
+			nextWindow.cancel(true);
+			throw e;
+		}
 
 		return new GenEncLongCodeSharesOutput.Builder()
-				.setVoterChoiceReturnCodeGenerationPublicKeys(encLongCodeShares.stream()
-						.map(EncLongCodeShare::K_j_id)
-						.collect(toGroupVector()))
-				.setVoterVoteCastReturnCodeGenerationPublicKeys(encLongCodeShares.stream()
-						.map(EncLongCodeShare::Kc_j_id)
-						.collect(toGroupVector()))
-				.setExponentiatedEncryptedHashedPartialChoiceReturnCodes(encLongCodeShares.stream()
-						.map(EncLongCodeShare::c_expPCC_j_id)
-						.collect(toGroupVector()))
-				.setProofsCorrectExponentiationPartialChoiceReturnCodes(encLongCodeShares.stream()
-						.map(EncLongCodeShare::pi_expPCC_j_id)
-						.collect(toGroupVector()))
-				.setExponentiatedEncryptedHashedConfirmationKeys(encLongCodeShares.stream()
-						.map(EncLongCodeShare::c_expCK_j_id)
-						.collect(toGroupVector()))
-				.setProofsCorrectExponentiationConfirmationKeys(encLongCodeShares.stream()
-						.map(EncLongCodeShare::pi_expCK_j_id)
-						.collect(toGroupVector()))
+				.setVoterChoiceReturnCodeGenerationPublicKeys(K_j.stream().collect(toGroupVector()))
+				.setVoterVoteCastReturnCodeGenerationPublicKeys(Kc_j.stream().collect(toGroupVector()))
+				.setExponentiatedEncryptedHashedPartialChoiceReturnCodes(c_expPCC_j.stream().collect(toGroupVector()))
+				.setProofsCorrectExponentiationPartialChoiceReturnCodes(pi_expPCC_j.stream().collect(toGroupVector()))
+				.setExponentiatedEncryptedHashedConfirmationKeys(c_expCK_j.stream().collect(toGroupVector()))
+				.setProofsCorrectExponentiationConfirmationKeys(pi_expCK_j.stream().collect(toGroupVector()))
 				.build();
 	}
 
+	private <T> ForkJoinTask<ImmutableList<T>> submitWindow(final int from, final int to, final IntFunction<T> task) {
+		return forkJoinPool.submit(() -> IntStream.range(from, to)
+				.parallel()
+				.mapToObj(task)
+				.collect(toImmutableList()));
+	}
 }
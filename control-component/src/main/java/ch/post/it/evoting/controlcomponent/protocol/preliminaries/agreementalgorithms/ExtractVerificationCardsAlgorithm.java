@@ -3,36 +3,33 @@
  */
 package ch.post.it.evoting.controlcomponent.protocol.preliminaries.agreementalgorithms;
 
-import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkState;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
 
 import ch.post.it.evoting.controlcomponent.process.EncryptedVerifiableVoteService;
-import ch.post.it.evoting.controlcomponent.process.HashedLVCCSharesService;
-import ch.post.it.evoting.controlcomponent.process.VerificationCardStateService;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
 import ch.post.it.evoting.evotinglibraries.domain.extractedelectionevent.ExtractedVerificationCard;
 
 /**
  * Implements the ExtractVerificationCards algorithm used in case of dispute before the mixing phase.
+ * <p>
+ * The sent votes of the election event are read with a single query joining their confirmation state and their hashed Long Vote Cast Return Code
+ * shares, instead of querying the state and the shares of every verification card. The query orders the votes by verification card id, so that
+ * the cards are extracted in their final order as the cursor streams them, without being sorted afterwards.
+ * </p>
  */
 @Service
 public class ExtractVerificationCardsAlgorithm {
 
-	private final VerificationCardStateService verificationCardStateService;
-	private final HashedLVCCSharesService hashedLVCCSharesService;
 	private final EncryptedVerifiableVoteService encryptedVerifiableVoteService;
 
-	public ExtractVerificationCardsAlgorithm(
-			final VerificationCardStateService verificationCardStateService,
-			final HashedLVCCSharesService hashedLVCCSharesService,
-			final EncryptedVerifiableVoteService encryptedVerifiableVoteService) {
-		this.verificationCardStateService = verificationCardStateService;
-		this.hashedLVCCSharesService = hashedLVCCSharesService;
+	public ExtractVerificationCardsAlgorithm(final EncryptedVerifiableVoteService encryptedVerifiableVoteService) {
 		this.encryptedVerifiableVoteService = encryptedVerifiableVoteService;
 	}
 
@@ -43,6 +40,7 @@ public class ExtractVerificationCardsAlgorithm {
 	 * @return the list of {@link ExtractedVerificationCard}.
 	 * @throws IllegalArgumentException if {@code electionEventId} is not a valid UUID.
 	 * @throws NullPointerException     if {@code electionEventId} is null.
+	 * @throws IllegalStateException    if the sent votes are not read in the order of their verification card id.
 	 */
 	@SuppressWarnings("java:S117")
 	public ImmutableList<ExtractedVerificationCard> extractVerificationCards(final String electionEventId) {
@@ -51,26 +49,26 @@ public class ExtractVerificationCardsAlgorithm {
 		final String ee = validateUUID(electionEventId);
 
 		// Operation.
-		return encryptedVerifiableVoteService.getSentVotes(ee).stream()
+		final List<ExtractedVerificationCard> extractedVerificationCards = new ArrayList<>();
+		encryptedVerifiableVoteService.forEachSentVoteWithHashedLVCCShares(ee,
 				// for vc_id ∈ L_sentVotes,j
-				.map(sentVote -> {
-					final String vc_id = sentVote.contextIds().verificationCardId();
+				sentVote -> {
+					final String vc_id = sentVote.encryptedVerifiableVote().contextIds().verificationCardId();
 
-					final String vcs = sentVote.contextIds().verificationCardSetId();
+					final String vcs = sentVote.encryptedVerifiableVote().contextIds().verificationCardSetId();
 
-					final ElGamalMultiRecipientCiphertext E1 = sentVote.encryptedVote();
+					final ElGamalMultiRecipientCiphertext E1 = sentVote.encryptedVerifiableVote().encryptedVote();
 
-					// if vc_id ∈ L_confirmedVotes,j
-					if (verificationCardStateService.isConfirmedVote(vc_id)) {
+					// if vc_id ∈ L_confirmedVotes,j, hlVCC_id_vector, empty otherwise.
+					final ImmutableList<String> hlVCC_id_vector = sentVote.hashedLVCCShares();
 
-						final ImmutableList<String> hlVCC_id_vector = hashedLVCCSharesService.getHashedLVCCShares(vc_id);
+					// evc <- Order(evc), guaranteed by the order of the cursor.
+					checkState(extractedVerificationCards.isEmpty() || extractedVerificationCards.getLast().verificationCardId().compareTo(vc_id) < 0,
+							"The sent votes are not ordered by verification card id. [verificationCardId: %s]", vc_id);
 
-						return new ExtractedVerificationCard(vc_id, vcs, E1, hlVCC_id_vector);
-					} else {
-						return new ExtractedVerificationCard(vc_id, vcs, E1, ImmutableList.emptyList());
-					}
-				})
-				.sorted(Comparator.comparing(ExtractedVerificationCard::verificationCardId)) // evc <- Order(evc)
-				.collect(toImmutableList());
+					extractedVerificationCards.add(new ExtractedVerificationCard(vc_id, vcs, E1, hlVCC_id_vector));
+				});
+
+		return ImmutableList.from(extractedVerificationCards);
 	}
 }
@@ -71,7 +71,8 @@ public class CreateLCCShareService {
 		final String verificationCardSetId = contextIds.verificationCardSetId();
 		final String verificationCardId = contextIds.verificationCardId();
 
-		final PartialChoiceReturnCodeAllowList allowList = verificationCardSetService.getPartialChoiceReturnCodesAllowList(verificationCardSetId);
+		final PartialChoiceReturnCodeAllowList allowList = verificationCardSetService.getPartialChoiceReturnCodesAllowList(electionEventId,
+				verificationCardSetId);
 		final ImmutableList<String> blankCorrectnessInformation = primesMappingTableAlgorithms.getBlankCorrectnessInformation(primesMappingTable);
 
 		final ZqElement ccrjReturnCodesGenerationSecretKey = ccrjReturnCodesKeysService.getCcrjReturnCodesGenerationSecretKey(electionEventId);
@@ -0,0 +1,42 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+
+-- TECHNICAL
+
+-- The commands are keyed by the SHA-256 digest of CONTEXT_ID|CONTEXT|NODE_ID, see CommandKey, and carry the election event they belong to.
+ALTER TABLE COMMAND ADD COLUMN COMMAND_KEY CHAR(64);
+ALTER TABLE COMMAND ADD COLUMN ELECTION_EVENT_ID VARCHAR(255);
+
+UPDATE COMMAND
+SET COMMAND_KEY       = ENCODE(SHA256(CONVERT_TO(CONTEXT_ID || '|' || CONTEXT || '|' || NODE_ID::TEXT, 'UTF8')), 'hex'),
+    ELECTION_EVENT_ID = SPLIT_PART(CONTEXT_ID, '-', 1);
+
+ALTER TABLE COMMAND ALTER COLUMN COMMAND_KEY SET NOT NULL;
+ALTER TABLE COMMAND ALTER COLUMN ELECTION_EVENT_ID SET NOT NULL;
+
+-- The response payloads move to their own table, the rows copied from COMMAND stay uncompressed.
+CREATE TABLE COMMAND_RESPONSE
+(
+    COMMAND_KEY       CHAR(64)     NOT NULL,
+    ELECTION_EVENT_ID VARCHAR(255) NOT NULL,
+    RESPONSE_PAYLOAD  BYTEA        NOT NULL,
+    CHANGE_CONTROL_ID NUMERIC(1)   NOT NULL,
+    CONSTRAINT COMMAND_RESPONSE_IMMUTABILITY_CK CHECK (CHANGE_CONTROL_ID = 0)
+);
+
+INSERT INTO COMMAND_RESPONSE (COMMAND_KEY, ELECTION_EVENT_ID, RESPONSE_PAYLOAD, CHANGE_CONTROL_ID)
+SELECT COMMAND_KEY, ELECTION_EVENT_ID, RESPONSE_PAYLOAD, 0
+FROM COMMAND;
+
+ALTER TABLE COMMAND DROP COLUMN RESPONSE_PAYLOAD;
+ALTER TABLE COMMAND DROP CONSTRAINT COMMAND_UK;
+ALTER TABLE COMMAND DROP CONSTRAINT COMMAND_PKEY;
+ALTER TABLE COMMAND ADD CONSTRAINT COMMAND_PK PRIMARY KEY (COMMAND_KEY);
+
+ALTER TABLE COMMAND_RESPONSE ADD CONSTRAINT COMMAND_RESPONSE_PK PRIMARY KEY (COMMAND_KEY);
+ALTER TABLE COMMAND_RESPONSE ADD FOREIGN KEY (COMMAND_KEY) REFERENCES COMMAND (COMMAND_KEY);
+
+CREATE INDEX COMMAND_CORRELATION_ID_IDX ON COMMAND (CORRELATION_ID);
+CREATE INDEX COMMAND_ELECTION_EVENT_ID_IDX ON COMMAND (ELECTION_EVENT_ID);
+CREATE INDEX COMMAND_RESPONSE_ELECTION_EVENT_ID_IDX ON COMMAND_RESPONSE (ELECTION_EVENT_ID);
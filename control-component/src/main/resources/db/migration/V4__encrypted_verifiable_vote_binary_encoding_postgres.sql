@@ -0,0 +1,28 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+
+-- VERIFICATION CARD
+
+-- The votes are stored binary encoded in a single column, see EncryptedVerifiableVoteCodec. The JSON serialized columns are kept, nullable, for
+-- the votes stored before, they are converted in the background by the EncryptedVerifiableVoteEncodingMigration.
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE ADD COLUMN VOTE BYTEA;
+
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE ALTER COLUMN CONTEXT_IDS DROP NOT NULL;
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE ALTER COLUMN ENCRYPTED_VOTE DROP NOT NULL;
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE ALTER COLUMN EXPONENTIATED_ENCRYPTED_VOTE DROP NOT NULL;
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE ALTER COLUMN ENCRYPTED_PARTIAL_CHOICE_RETURN_CODES DROP NOT NULL;
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE ALTER COLUMN EXPONENTIATION_PROOF DROP NOT NULL;
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE ALTER COLUMN PLAINTEXT_EQUALITY_PROOF DROP NOT NULL;
+
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE ADD CONSTRAINT ENCRYPTED_VERIFIABLE_VOTE_ENCODING_CK CHECK (VOTE IS NOT NULL OR (CONTEXT_IDS IS NOT NULL
+    AND ENCRYPTED_VOTE IS NOT NULL AND EXPONENTIATED_ENCRYPTED_VOTE IS NOT NULL AND ENCRYPTED_PARTIAL_CHOICE_RETURN_CODES IS NOT NULL
+    AND EXPONENTIATION_PROOF IS NOT NULL AND PLAINTEXT_EQUALITY_PROOF IS NOT NULL));
+
+-- The conversion to the binary encoding is the only update of a vote, it increments the change control id once.
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE DROP CONSTRAINT ENCRYPTED_VERIFIABLE_VOTE_IMMUTABILITY_CK;
+ALTER TABLE ENCRYPTED_VERIFIABLE_VOTE ADD CONSTRAINT ENCRYPTED_VERIFIABLE_VOTE_IMMUTABILITY_CK CHECK (CHANGE_CONTROL_ID = 0 OR (CHANGE_CONTROL_ID = 1
+    AND VOTE IS NOT NULL AND CONTEXT_IDS IS NULL AND ENCRYPTED_VOTE IS NULL AND EXPONENTIATED_ENCRYPTED_VOTE IS NULL
+    AND ENCRYPTED_PARTIAL_CHOICE_RETURN_CODES IS NULL AND EXPONENTIATION_PROOF IS NULL AND PLAINTEXT_EQUALITY_PROOF IS NULL));
+
+CREATE INDEX ENCRYPTED_VERIFIABLE_VOTE_JSON_ENCODED_IDX ON ENCRYPTED_VERIFIABLE_VOTE (VERIFICATION_CARD_ID) WHERE VOTE IS NULL;
@@ -0,0 +1,254 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.jms.JmsException;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+
+@DisplayName("ExactlyOnceCommandBatcher calling process")
+class ExactlyOnceCommandBatcherTest {
+
+	private static final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+	private static final String TENANT_ID = "tenant";
+
+	private ExactlyOnceCommandExecutor exactlyOnceCommandExecutor;
+	private ConnectionFactory connectionFactory;
+	private ExactlyOnceCommandBatcher exactlyOnceCommandBatcher;
+
+	@BeforeEach
+	void setUp() {
+		exactlyOnceCommandExecutor = mock(ExactlyOnceCommandExecutor.class);
+		final ContextHolder contextHolder = mock(ContextHolder.class);
+		when(contextHolder.getTenantId()).thenReturn(TENANT_ID);
+
+		connectionFactory = mock(ConnectionFactory.class);
+
+		exactlyOnceCommandBatcher = new ExactlyOnceCommandBatcher(exactlyOnceCommandExecutor, contextHolder, connectionFactory, 8, 2);
+	}
+
+	@Test
+	@DisplayName("with null command throws NullPointerException")
+	void nullCommandThrows() {
+		assertThrows(NullPointerException.class, () -> exactlyOnceCommandBatcher.process(null));
+	}
+
+	@Test
+	@DisplayName("with a single command returns the batch response")
+	void singleCommandReturnsBatchResponse() {
+		final ExactlyOnceCommand<ImmutableByteArray> exactlyOnceCommand = createCommand(uuidGenerator.generate());
+		when(exactlyOnceCommandExecutor.processBatch(any())).thenAnswer(invocation -> respondToAll(invocation.getArgument(0)));
+
+		assertEquals(responseOf(exactlyOnceCommand), exactlyOnceCommandBatcher.process(exactlyOnceCommand));
+		verify(exactlyOnceCommandExecutor, never()).process(any());
+	}
+
+	@Test
+	@DisplayName("with failing batch falls back to individual processing")
+	void failingBatchFallsBackToIndividualProcessing() {
+		final ExactlyOnceCommand<ImmutableByteArray> exactlyOnceCommand = createCommand(uuidGenerator.generate());
+		final ImmutableByteArray response = responseOf(exactlyOnceCommand);
+		when(exactlyOnceCommandExecutor.processBatch(any())).thenThrow(new IllegalStateException("Batch failure."));
+		when(exactlyOnceCommandExecutor.process(withCorrelationIdOf(exactlyOnceCommand))).thenReturn(response);
+
+		assertEquals(response, exactlyOnceCommandBatcher.process(exactlyOnceCommand));
+		verify(exactlyOnceCommandExecutor, times(1)).process(withCorrelationIdOf(exactlyOnceCommand));
+	}
+
+	@Test
+	@DisplayName("with failing command rethrows its own failure")
+	void failingCommandRethrowsItsOwnFailure() {
+		final ExactlyOnceCommand<ImmutableByteArray> exactlyOnceCommand = createCommand(uuidGenerator.generate());
+		final IllegalStateException failure = new IllegalStateException("Command failure.");
+		when(exactlyOnceCommandExecutor.processBatch(any())).thenThrow(new IllegalStateException("Batch failure."));
+		when(exactlyOnceCommandExecutor.process(withCorrelationIdOf(exactlyOnceCommand))).thenThrow(failure);
+
+		final IllegalStateException exception = assertThrows(IllegalStateException.class,
+				() -> exactlyOnceCommandBatcher.process(exactlyOnceCommand));
+		assertSame(failure, exception);
+	}
+
+	@Test
+	@DisplayName("with failing batch does not run again a succeeded pre-validation task")
+	void failingBatchDoesNotRunPreTaskAgain() {
+		final AtomicInteger preTaskRuns = new AtomicInteger();
+		final ExactlyOnceCommand<ImmutableByteArray> exactlyOnceCommand = createCommand(uuidGenerator.generate(), preTaskRuns::incrementAndGet);
+		final ImmutableByteArray response = responseOf(exactlyOnceCommand);
+		when(exactlyOnceCommandExecutor.processBatch(any())).thenAnswer(invocation -> {
+			final ImmutableList<ExactlyOnceCommand<? extends Hashable>> exactlyOnceCommands = invocation.getArgument(0);
+			exactlyOnceCommands.forEach(command -> command.getPreTask().run());
+			throw new IllegalStateException("Batch failure.");
+		});
+		when(exactlyOnceCommandExecutor.process(withCorrelationIdOf(exactlyOnceCommand))).thenAnswer(invocation -> {
+			final ExactlyOnceCommand<? extends Hashable> command = invocation.getArgument(0);
+			command.getPreTask().run();
+			return response;
+		});
+
+		assertEquals(response, exactlyOnceCommandBatcher.process(exactlyOnceCommand));
+		assertEquals(1, preTaskRuns.get());
+	}
+
+	@Test
+	@DisplayName("concurrently returns to each caller the response of its own command")
+	void concurrentCallersReceiveTheirOwnResponse() {
+		when(exactlyOnceCommandExecutor.processBatch(any())).thenAnswer(invocation -> respondToAll(invocation.getArgument(0)));
+
+		final List<ExactlyOnceCommand<ImmutableByteArray>> exactlyOnceCommands = IntStream.range(0, 64)
+				.mapToObj(i -> createCommand(uuidGenerator.generate()))
+				.toList();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(16);
+		try {
+			final List<CompletableFuture<ImmutableByteArray>> responses = exactlyOnceCommands.stream()
+					.map(command -> CompletableFuture.supplyAsync(() -> exactlyOnceCommandBatcher.process(command), executorService))
+					.toList();
+
+			assertAll(IntStream.range(0, exactlyOnceCommands.size())
+					.mapToObj(i -> (Executable) () -> assertEquals(responseOf(exactlyOnceCommands.get(i)), responses.get(i).join())));
+		} finally {
+			executorService.shutdown();
+		}
+		verify(exactlyOnceCommandExecutor, never()).process(any());
+	}
+
+	@Test
+	@DisplayName("concurrently processes the commands of several tenants with a single batch permit")
+	void concurrentTenantsAreAllProcessed() {
+		final ThreadLocal<String> tenantId = new ThreadLocal<>();
+		final ContextHolder contextHolder = mock(ContextHolder.class);
+		when(contextHolder.getTenantId()).thenAnswer(invocation -> tenantId.get());
+		final ExactlyOnceCommandBatcher singlePermitBatcher = new ExactlyOnceCommandBatcher(exactlyOnceCommandExecutor, contextHolder,
+				connectionFactory, 4, 1);
+		when(exactlyOnceCommandExecutor.processBatch(any())).thenAnswer(invocation -> respondToAll(invocation.getArgument(0)));
+
+		final List<ExactlyOnceCommand<ImmutableByteArray>> exactlyOnceCommands = IntStream.range(0, 64)
+				.mapToObj(i -> createCommand(uuidGenerator.generate()))
+				.toList();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(16);
+		try {
+			final List<CompletableFuture<ImmutableByteArray>> responses = IntStream.range(0, exactlyOnceCommands.size())
+					.mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+						tenantId.set("tenant" + i % 3);
+						return singlePermitBatcher.process(exactlyOnceCommands.get(i));
+					}, executorService))
+					.toList();
+
+			assertAll(IntStream.range(0, exactlyOnceCommands.size())
+					.mapToObj(i -> (Executable) () -> assertEquals(responseOf(exactlyOnceCommands.get(i)), responses.get(i).join())));
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("and send sends the responses of the batch in a single transacted session committed once")
+	void processAndSendSendsResponsesInSingleSession() throws JMSException {
+		final Connection connection = mock(Connection.class);
+		final Session session = mock(Session.class);
+		final MessageProducer producer = mock(MessageProducer.class);
+		when(connectionFactory.createConnection()).thenReturn(connection);
+		when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+		when(session.createProducer(any())).thenReturn(producer);
+		when(exactlyOnceCommandExecutor.processBatch(any())).thenAnswer(invocation -> respondToAll(invocation.getArgument(0)));
+
+		final ExactlyOnceCommand<ImmutableByteArray> exactlyOnceCommand = createCommand(uuidGenerator.generate());
+		final Message message = mock(Message.class);
+		final List<ImmutableByteArray> sentResponses = new ArrayList<>();
+		exactlyOnceCommandBatcher.processAndSend(exactlyOnceCommand, response -> messageSession -> {
+			sentResponses.add(response);
+			return message;
+		});
+
+		assertEquals(List.of(responseOf(exactlyOnceCommand)), sentResponses);
+		verify(producer, times(1)).send(message);
+		verify(session, times(1)).commit();
+		verify(connection, times(1)).close();
+	}
+
+	@Test
+	@DisplayName("and send with failing send throws a JmsException")
+	void processAndSendWithFailingSendThrows() throws JMSException {
+		when(connectionFactory.createConnection()).thenThrow(new JMSException("Send failure."));
+		when(exactlyOnceCommandExecutor.processBatch(any())).thenAnswer(invocation -> respondToAll(invocation.getArgument(0)));
+
+		final ExactlyOnceCommand<ImmutableByteArray> exactlyOnceCommand = createCommand(uuidGenerator.generate());
+
+		assertThrows(JmsException.class, () -> exactlyOnceCommandBatcher.processAndSend(exactlyOnceCommand, response -> messageSession -> null));
+	}
+
+	private static ImmutableList<ImmutableByteArray> respondToAll(final ImmutableList<ExactlyOnceCommand<? extends Hashable>> exactlyOnceCommands) {
+		return exactlyOnceCommands.stream()
+				.map(ExactlyOnceCommandBatcherTest::responseOf)
+				.collect(toImmutableList());
+	}
+
+	private static ImmutableByteArray responseOf(final ExactlyOnceCommand<? extends Hashable> exactlyOnceCommand) {
+		return new ImmutableByteArray(exactlyOnceCommand.getCorrelationId().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * The batcher processes a copy of the given command, hence the matching on the correlation id.
+	 */
+	private static ExactlyOnceCommand<ImmutableByteArray> withCorrelationIdOf(final ExactlyOnceCommand<ImmutableByteArray> exactlyOnceCommand) {
+		return argThat(command -> command != null && command.getCorrelationId().equals(exactlyOnceCommand.getCorrelationId()));
+	}
+
+	private static ExactlyOnceCommand<ImmutableByteArray> createCommand(final String correlationId) {
+		return createCommand(correlationId, () -> {
+		});
+	}
+
+	private static ExactlyOnceCommand<ImmutableByteArray> createCommand(final String correlationId, final Runnable preTask) {
+		return new ExactlyOnceCommand.Builder<ImmutableByteArray>()
+				.setCorrelationId(correlationId)
+				.setContextId(uuidGenerator.generate())
+				.setContext("context")
+				.setPreValidationTask(preTask)
+				.setTask(() -> ImmutableByteArray.of((byte) 0b0000001))
+				.setReplayTask(() -> ImmutableByteArray.of((byte) 0b0000001))
+				.setSerializer(immutableByteArray -> immutableByteArray)
+				.setRequestPayloadHash(ImmutableByteArray.of((byte) 0b0110111))
+				.setTransactionTimeout(60)
+				.build();
+	}
+}
@@ -5,6 +5,7 @@ package ch.post.it.evoting.controlcomponent;
 
 import static ch.post.it.evoting.domain.multitenancy.TenantConstants.TEST_TENANT_ID;
 import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.ID_LENGTH;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -17,9 +18,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -35,6 +38,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -382,6 +386,85 @@ class ExactlyOnceCommandExecutorIT {
 
 	}
 
+	@Test
+	@DisplayName("processBatch with concurrent tasks computes them outside the transaction and saves all the commands")
+	void testProcessBatchWithConcurrentTasksSavesAllCommands() {
+		final TestPayload firstPayload = new TestPayload("BatchPayloadToBeSaved1");
+		final TestPayload secondPayload = new TestPayload("BatchPayloadToBeSaved2");
+		final List<Boolean> concurrentTasksInTransaction = new CopyOnWriteArrayList<>();
+		final List<Boolean> persistingTasksInTransaction = new CopyOnWriteArrayList<>();
+		final Function<TestPayload, Callable<Callable<ImmutableByteArray>>> concurrentTask = testPayload -> () -> {
+			concurrentTasksInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+			final ImmutableByteArray testPayloadBytes = getTestPayloadBytes(testPayload);
+			return () -> {
+				persistingTasksInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+				return testPayloadBytes;
+			};
+		};
+		final String secondCorrelationId = random.genRandomString(ID_LENGTH, base64Alphabet);
+		final ExactlyOnceCommand<ImmutableByteArray> firstCommand = createBatchedCommand(correlationId, firstPayload,
+				concurrentTask.apply(firstPayload));
+		final ExactlyOnceCommand<ImmutableByteArray> secondCommand = createBatchedCommand(secondCorrelationId, secondPayload,
+				concurrentTask.apply(secondPayload));
+
+		final ImmutableList<ExactlyOnceCommand<? extends Hashable>> batch = ImmutableList.of(firstCommand, secondCommand);
+		final ImmutableList<ImmutableByteArray> responses = processor.processBatch(batch);
+
+		assertAll(
+				() -> assertEquals(ImmutableList.of(getTestPayloadBytes(firstPayload), getTestPayloadBytes(secondPayload)), responses),
+				() -> assertEquals(List.of(false, false), concurrentTasksInTransaction),
+				() -> assertEquals(List.of(true, true), persistingTasksInTransaction),
+				() -> assertTrue(commandService.findIdenticalCommand(commandIdOf(correlationId)).isPresent()),
+				() -> assertTrue(commandService.findIdenticalCommand(commandIdOf(secondCorrelationId)).isPresent())
+		);
+	}
+
+	@Test
+	@DisplayName("processBatch with a failing persisting task saves none of the commands")
+	void testProcessBatchWithFailingPersistingTaskSavesNoCommand() {
+		final TestPayload firstPayload = new TestPayload("BatchPayloadNotToBeSaved1");
+		final TestPayload secondPayload = new TestPayload("BatchPayloadNotToBeSaved2");
+		final String secondCorrelationId = random.genRandomString(ID_LENGTH, base64Alphabet);
+		final ExactlyOnceCommand<ImmutableByteArray> firstCommand = createBatchedCommand(correlationId, firstPayload,
+				() -> () -> getTestPayloadBytes(firstPayload));
+		final ExactlyOnceCommand<ImmutableByteArray> secondCommand = createBatchedCommand(secondCorrelationId, secondPayload,
+				() -> () -> getTestPayloadBytes(new TestPayload(BAD_INPUT_ID)));
+
+		final ImmutableList<ExactlyOnceCommand<? extends Hashable>> batch = ImmutableList.of(firstCommand, secondCommand);
+		final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> processor.processBatch(batch));
+
+		assertAll(
+				() -> assertEquals(BAD_INPUT_ID, Throwables.getRootCause(exception).getMessage()),
+				() -> assertFalse(commandService.findIdenticalCommand(commandIdOf(correlationId)).isPresent()),
+				() -> assertFalse(commandService.findIdenticalCommand(commandIdOf(secondCorrelationId)).isPresent())
+		);
+	}
+
+	private ExactlyOnceCommand<ImmutableByteArray> createBatchedCommand(final String correlationId, final TestPayload testPayload,
+			final Callable<Callable<ImmutableByteArray>> concurrentTask) {
+		return new ExactlyOnceCommand.Builder<ImmutableByteArray>()
+				.setCorrelationId(correlationId)
+				.setContextId(contextId)
+				.setContext(context)
+				.setPreValidationTask(PRE_VALIDATION_NO_OP_TASK)
+				.setTask(THROW_IF_CALLED_TASK)
+				.setConcurrentTask(concurrentTask)
+				.setReplayTask(THROW_IF_CALLED_TASK)
+				.setRequestPayloadHash(hash.recursiveHash(testPayload))
+				.setSerializer(Function.identity())
+				.setTransactionTimeout(TRANSACTION_TIMEOUT)
+				.build();
+	}
+
+	private CommandId commandIdOf(final String correlationId) {
+		return CommandId.builder()
+				.contextId(contextId)
+				.context(context)
+				.correlationId(correlationId)
+				.nodeId(nodeId)
+				.build();
+	}
+
 	private ImmutableByteArray getTestPayloadBytes(final TestPayload testPayload) throws JsonProcessingException {
 		if (testPayload.id().equals(BAD_INPUT_ID)) {
 			throw new IllegalStateException(BAD_INPUT_ID);
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import ch.post.it.evoting.controlcomponent.commandmessaging.CommandRepository;
+import ch.post.it.evoting.controlcomponent.commandmessaging.CommandResponseRepository;
 import ch.post.it.evoting.controlcomponent.process.BallotBoxRepository;
 import ch.post.it.evoting.controlcomponent.process.CcmjElectionKeysRepository;
 import ch.post.it.evoting.controlcomponent.process.CcrjReturnCodesKeysRepository;
@@ -95,6 +96,9 @@ public class TestDatabaseCleanUpService {
 	@Autowired
 	private LCCShareRepository lccShareRepository;
 
+	@Autowired
+	private CommandResponseRepository commandResponseRepository;
+
 	@Autowired
 	private CommandRepository commandRepository;
 
@@ -125,6 +129,7 @@ public class TestDatabaseCleanUpService {
 		electionEventStateRepository.deleteAll();
 		electionEventRepository.deleteAll();
 		// TECHNICAL.
+		commandResponseRepository.deleteAll();
 		commandRepository.deleteAll();
 	}
 
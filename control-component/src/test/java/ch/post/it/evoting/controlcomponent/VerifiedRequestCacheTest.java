@@ -0,0 +1,67 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.controlcomponent.VerifiedRequestCache.VerifiedRequestKey;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+
+@DisplayName("VerifiedRequestCache")
+class VerifiedRequestCacheTest {
+
+	private static final String TENANT_ID = "tenant";
+	private static final String REQUEST_TYPE = "requestType";
+	private static final ImmutableByteArray REQUEST_PAYLOAD_HASH = ImmutableByteArray.of((byte) 1, (byte) 2, (byte) 3);
+	private static final ImmutableByteArray SIGNATURE = ImmutableByteArray.of((byte) 4, (byte) 5);
+
+	private VerifiedRequestCache verifiedRequestCache;
+
+	@BeforeEach
+	void setUp() {
+		verifiedRequestCache = new VerifiedRequestCache(10);
+	}
+
+	@Test
+	@DisplayName("recognizes a verified request payload with the same hash and signature")
+	void isVerified() {
+		verifiedRequestCache.putVerified(new VerifiedRequestKey(TENANT_ID, REQUEST_TYPE, REQUEST_PAYLOAD_HASH, SIGNATURE));
+
+		assertTrue(verifiedRequestCache.isVerified(new VerifiedRequestKey(TENANT_ID, REQUEST_TYPE, ImmutableByteArray.of((byte) 1, (byte) 2, (byte) 3),
+				ImmutableByteArray.of((byte) 4, (byte) 5))));
+	}
+
+	@Test
+	@DisplayName("does not recognize a request payload differing by its tenant, request type, hash or signature")
+	void isNotVerified() {
+		verifiedRequestCache.putVerified(new VerifiedRequestKey(TENANT_ID, REQUEST_TYPE, REQUEST_PAYLOAD_HASH, SIGNATURE));
+
+		assertAll(
+				() -> assertFalse(verifiedRequestCache.isVerified(new VerifiedRequestKey("otherTenant", REQUEST_TYPE, REQUEST_PAYLOAD_HASH, SIGNATURE))),
+				() -> assertFalse(
+						verifiedRequestCache.isVerified(new VerifiedRequestKey(TENANT_ID, "otherRequestType", REQUEST_PAYLOAD_HASH, SIGNATURE))),
+				() -> assertFalse(verifiedRequestCache.isVerified(
+						new VerifiedRequestKey(TENANT_ID, REQUEST_TYPE, ImmutableByteArray.of((byte) 1, (byte) 2), SIGNATURE))),
+				() -> assertFalse(verifiedRequestCache.isVerified(
+						new VerifiedRequestKey(TENANT_ID, REQUEST_TYPE, REQUEST_PAYLOAD_HASH, ImmutableByteArray.EMPTY)))
+		);
+	}
+
+	@Test
+	@DisplayName("with invalid arguments throws")
+	void invalidArgumentsThrow() {
+		assertAll(
+				() -> assertThrows(IllegalArgumentException.class, () -> new VerifiedRequestCache(-1)),
+				() -> assertThrows(NullPointerException.class, () -> verifiedRequestCache.isVerified(null)),
+				() -> assertThrows(NullPointerException.class, () -> new VerifiedRequestKey(TENANT_ID, REQUEST_TYPE, null, SIGNATURE))
+		);
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.commandmessaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CommandKey")
+class CommandKeyTest {
+
+	private static final String ELECTION_EVENT_ID = "0B7D2F2E59C84E2A8C6B7B1F4B0E7A31";
+	private static final String CONTEXT_ID = ELECTION_EVENT_ID + "-8F1E3D1C9A0B4C2D8E7F6A5B4C3D2E1F";
+	private static final String CONTEXT = Context.VOTING_RETURN_CODES_PARTIAL_DECRYPT_PCC.toString();
+
+	@Test
+	@DisplayName("matches the digest computed by the database migration")
+	void ofMatchesMigrationDigest() {
+		// SHA-256 of "<contextId>|<context>|1", as computed by the V3 migration.
+		assertEquals("ee9f76887013c6f6c565ab56cd648a1f68c3a294800ac9f0eaca0122022ae881", CommandKey.of(CONTEXT_ID, CONTEXT, 1));
+	}
+
+	@Test
+	@DisplayName("is fixed-width and does not depend on the correlation id")
+	void ofIsFixedWidthAndSemantic() {
+		final CommandId commandId = CommandId.builder().contextId(CONTEXT_ID).context(CONTEXT).correlationId("1").nodeId(1).build();
+		final CommandId replayedCommandId = CommandId.builder().contextId(CONTEXT_ID).context(CONTEXT).correlationId("2").nodeId(1).build();
+
+		final CommandEntity commandEntity = CommandEntity.builder().commandId(commandId).build();
+		final CommandEntity replayedCommandEntity = CommandEntity.builder().commandId(replayedCommandId).build();
+
+		assertEquals(CommandKey.LENGTH, commandEntity.getCommandKey().length());
+		assertEquals(commandEntity.getCommandKey(), replayedCommandEntity.getCommandKey());
+		assertNotEquals(commandEntity.getCommandKey(), CommandKey.of(CONTEXT_ID, CONTEXT, 2));
+		assertEquals(ELECTION_EVENT_ID, commandEntity.getElectionEventId());
+	}
+
+	@Test
+	@DisplayName("extracts the election event id of the context id")
+	void electionEventIdOf() {
+		assertEquals(ELECTION_EVENT_ID, CommandKey.electionEventIdOf(CONTEXT_ID));
+		assertEquals(ELECTION_EVENT_ID, CommandKey.electionEventIdOf(ELECTION_EVENT_ID));
+	}
+
+	@Test
+	@DisplayName("with null parameters throws a NullPointerException")
+	void nullParametersThrow() {
+		assertThrows(NullPointerException.class, () -> CommandKey.of(null, CONTEXT, 1));
+		assertThrows(NullPointerException.class, () -> CommandKey.of(CONTEXT_ID, null, 1));
+		assertThrows(NullPointerException.class, () -> CommandKey.of(CONTEXT_ID, CONTEXT, null));
+		assertThrows(NullPointerException.class, () -> CommandKey.electionEventIdOf(null));
+	}
+}
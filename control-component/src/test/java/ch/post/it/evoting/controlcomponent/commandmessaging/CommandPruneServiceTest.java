@@ -0,0 +1,132 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.commandmessaging;
+
+import static ch.post.it.evoting.domain.multitenancy.TenantConstants.TEST_TENANT_ID;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import ch.post.it.evoting.controlcomponent.process.ElectionEventContextService;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.KeystoreRepository;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.Tenant;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.TenantService;
+
+@DisplayName("CommandPruneService")
+class CommandPruneServiceTest {
+
+	private static final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+	private static final Duration RETENTION = Duration.ofDays(30);
+	private static final String OTHER_TENANT_ID = "other";
+
+	private CommandService commandService;
+	private ElectionEventContextService electionEventContextService;
+	private TenantService tenantService;
+	private ContextHolder contextHolder;
+	private CommandPruneService commandPruneService;
+
+	@BeforeEach
+	void setUp() {
+		commandService = mock(CommandService.class);
+		electionEventContextService = mock(ElectionEventContextService.class);
+		tenantService = mock(TenantService.class);
+		contextHolder = mock(ContextHolder.class);
+
+		when(tenantService.getTenants()).thenReturn(List.of(createTenant(TEST_TENANT_ID), createTenant(OTHER_TENANT_ID)));
+
+		commandPruneService = new CommandPruneService(commandService, electionEventContextService, tenantService, contextHolder, RETENTION);
+	}
+
+	@Test
+	@DisplayName("deletes the commands of the election events finished before the retention, for every tenant")
+	void prunesClosedElectionEventsOfEveryTenant() {
+		final String closedElectionEventId = uuidGenerator.generate();
+		final String otherClosedElectionEventId = uuidGenerator.generate();
+		when(electionEventContextService.getElectionEventIdsFinishedBefore(any()))
+				.thenReturn(ImmutableList.of(closedElectionEventId))
+				.thenReturn(ImmutableList.of(otherClosedElectionEventId));
+
+		final LocalDateTime before = LocalDateTime.now().minus(RETENTION);
+		commandPruneService.pruneClosedElectionEvents();
+		final LocalDateTime after = LocalDateTime.now().minus(RETENTION);
+
+		final InOrder inOrder = inOrder(contextHolder, commandService);
+		inOrder.verify(contextHolder).setTenantId(TEST_TENANT_ID);
+		inOrder.verify(commandService).deleteAllCommandsOfElectionEvent(closedElectionEventId);
+		inOrder.verify(contextHolder).clear();
+		inOrder.verify(contextHolder).setTenantId(OTHER_TENANT_ID);
+		inOrder.verify(commandService).deleteAllCommandsOfElectionEvent(otherClosedElectionEventId);
+		inOrder.verify(contextHolder).clear();
+
+		final ArgumentCaptor<LocalDateTime> closedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(electionEventContextService, times(2)).getElectionEventIdsFinishedBefore(closedBefore.capture());
+		assertAll(
+				() -> assertFalse(closedBefore.getValue().isBefore(before)),
+				() -> assertFalse(closedBefore.getValue().isAfter(after))
+		);
+	}
+
+	@Test
+	@DisplayName("keeps pruning the other tenants when a tenant fails")
+	void continuesAfterFailingTenant() {
+		final String otherClosedElectionEventId = uuidGenerator.generate();
+		when(electionEventContextService.getElectionEventIdsFinishedBefore(any()))
+				.thenThrow(new IllegalStateException("Database unavailable."))
+				.thenReturn(ImmutableList.of(otherClosedElectionEventId));
+
+		commandPruneService.pruneClosedElectionEvents();
+
+		verify(commandService).deleteAllCommandsOfElectionEvent(otherClosedElectionEventId);
+		verify(contextHolder, times(2)).clear();
+	}
+
+	@Test
+	@DisplayName("does not delete any command when no election event is closed")
+	void noClosedElectionEvent() {
+		when(electionEventContextService.getElectionEventIdsFinishedBefore(any())).thenReturn(ImmutableList.emptyList());
+
+		commandPruneService.pruneClosedElectionEvents();
+
+		verify(commandService, never()).deleteAllCommandsOfElectionEvent(any());
+	}
+
+	@Test
+	@DisplayName("with an invalid retention throws")
+	void invalidRetentionThrows() {
+		final Duration negativeRetention = Duration.ofDays(-1);
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class,
+						() -> new CommandPruneService(commandService, electionEventContextService, tenantService, contextHolder, null)),
+				() -> assertThrows(IllegalArgumentException.class,
+						() -> new CommandPruneService(commandService, electionEventContextService, tenantService, contextHolder, negativeRetention))
+		);
+	}
+
+	private static Tenant createTenant(final String tenantId) {
+		return new Tenant(tenantId, mock(DataSource.class), mock(KeystoreRepository.class));
+	}
+}
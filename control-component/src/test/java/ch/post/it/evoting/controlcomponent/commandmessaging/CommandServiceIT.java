@@ -36,6 +36,9 @@ class CommandServiceIT {
 	@Autowired
 	private CommandService commandService;
 
+	@Autowired
+	private CommandResponseRepository commandResponseRepository;
+
 	@BeforeAll
 	static void bootstrap(
 			@Autowired
@@ -115,9 +118,40 @@ class CommandServiceIT {
 		assertEquals(0, semanticallyIdenticalCommandEntity.size());
 	}
 
+	@Test
+	void deleteAllCommandsOfElectionEvent() {
+		final String electionEventId = "0B7D2F2E59C84E2A8C6B7B1F4B0E7A31";
+		final String otherElectionEventId = "8F1E3D1C9A0B4C2D8E7F6A5B4C3D2E1F";
+		final CommandId commandIdOne = createCommandId(electionEventId + "-1");
+		final CommandId commandIdTwo = createCommandId(electionEventId + "-2");
+		final CommandId otherCommandId = createCommandId(otherElectionEventId + "-1");
+		final ImmutableByteArray bytes = new ImmutableByteArray(new byte[] { 1, 2, 3 });
+		final CommandEntity commandEntityOne = commandService.save(commandIdOne, bytes, Instant.now(), bytes, bytes, Instant.now());
+		commandService.save(commandIdTwo, bytes, Instant.now(), bytes, bytes, Instant.now());
+		final CommandEntity otherCommandEntity = commandService.save(otherCommandId, bytes, Instant.now(), bytes, bytes, Instant.now());
+
+		assertEquals(2, commandService.deleteAllCommandsOfElectionEvent(electionEventId));
+
+		assertFalse(commandService.findIdenticalCommand(commandIdOne).isPresent());
+		assertFalse(commandService.findIdenticalCommand(commandIdTwo).isPresent());
+		assertFalse(commandResponseRepository.existsById(commandEntityOne.getCommandKey()));
+		assertTrue(commandService.findIdenticalCommand(otherCommandId).isPresent());
+		assertTrue(commandResponseRepository.existsById(otherCommandEntity.getCommandKey()));
+		assertEquals(0, commandService.deleteAllCommandsOfElectionEvent(electionEventId));
+	}
+
 	@Test
 	void findAllMessagesWithCorrelationId() {
 		final ImmutableList<CommandEntity> allMessagesWithCorrelationId = commandService.findAllCommandsWithCorrelationId(CORRELATION_ID_ONE);
 		assertEquals(NODE_ID_2, allMessagesWithCorrelationId.size());
 	}
+
+	private static CommandId createCommandId(final String contextId) {
+		return CommandId.builder()
+				.contextId(contextId)
+				.context(CONTEXT_KEY_GENERATION)
+				.correlationId("delete-" + contextId)
+				.nodeId(NODE_ID_ONE)
+				.build();
+	}
 }
@@ -0,0 +1,69 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.commandmessaging;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+
+@DisplayName("CompressedByteArrayConverter")
+class CompressedByteArrayConverterTest {
+
+	private static final ImmutableByteArray PAYLOAD = new ImmutableByteArray(
+			("{\"payload\":\"" + "a".repeat(1000) + "\"}").getBytes(StandardCharsets.UTF_8));
+
+	private final CompressedByteArrayConverter converter = new CompressedByteArrayConverter();
+
+	@Test
+	@DisplayName("compresses the byte array and reads it back")
+	void roundTrip() {
+		final byte[] column = converter.convertToDatabaseColumn(PAYLOAD);
+
+		assertAll(
+				() -> assertTrue(column.length < PAYLOAD.elements().length),
+				() -> assertEquals(PAYLOAD, converter.convertToEntityAttribute(column))
+		);
+	}
+
+	@Test
+	@DisplayName("reads the byte arrays stored uncompressed as is")
+	void readsUncompressed() {
+		final ImmutableByteArray oneByte = new ImmutableByteArray(new byte[] { 0x1f });
+
+		assertAll(
+				() -> assertEquals(PAYLOAD, converter.convertToEntityAttribute(PAYLOAD.elements())),
+				() -> assertEquals(oneByte, converter.convertToEntityAttribute(oneByte.elements())),
+				() -> assertEquals(new ImmutableByteArray(new byte[0]), converter.convertToEntityAttribute(new byte[0]))
+		);
+	}
+
+	@Test
+	@DisplayName("converts null to null")
+	void convertsNull() {
+		assertAll(
+				() -> assertNull(converter.convertToDatabaseColumn(null)),
+				() -> assertNull(converter.convertToEntityAttribute(null))
+		);
+	}
+
+	@Test
+	@DisplayName("with a corrupted compressed byte array throws an UncheckedIOException")
+	void corruptedThrows() {
+		final byte[] column = converter.convertToDatabaseColumn(PAYLOAD);
+		final byte[] truncated = Arrays.copyOf(column, column.length / 2);
+
+		assertThrows(UncheckedIOException.class, () -> converter.convertToEntityAttribute(truncated));
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.domain.generators.ControlComponentBallotBoxPayloadGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.EncryptedVerifiableVote;
+import ch.post.it.evoting.evotinglibraries.domain.election.ElectionEventContext;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.generators.ElectionEventContextPayloadGenerator;
+
+@DisplayName("An EncryptedVerifiableVoteCodec")
+class EncryptedVerifiableVoteCodecTest {
+
+	private static EncryptedVerifiableVoteCodec codec;
+	private static ImmutableList<EncryptedVerifiableVote> encryptedVerifiableVotes;
+
+	@BeforeAll
+	static void setUpAll() {
+		final ElectionEventContext electionEventContext = new ElectionEventContextPayloadGenerator().generate().getElectionEventContext();
+		final GqGroup encryptionGroup = electionEventContext.encryptionGroup();
+		final String electionEventId = UUIDGenerator.getInstance().generate();
+		final String verificationCardSetId = UUIDGenerator.getInstance().generate();
+
+		codec = new EncryptedVerifiableVoteCodec(encryptionGroup);
+		encryptedVerifiableVotes = new ControlComponentBallotBoxPayloadGenerator(encryptionGroup)
+				.generate(electionEventId, verificationCardSetId, electionEventContext.maximumNumberOfSelections(),
+						electionEventContext.maximumNumberOfWriteInsPlusOne())
+				.getFirst()
+				.getConfirmedEncryptedVotes();
+	}
+
+	@Test
+	@DisplayName("decodes the votes it encoded")
+	void roundTrip() {
+		encryptedVerifiableVotes.forEach(encryptedVerifiableVote ->
+				assertEquals(encryptedVerifiableVote, codec.decode(codec.encode(encryptedVerifiableVote))));
+	}
+
+	@Test
+	@DisplayName("encodes the votes of a same shape with a fixed length")
+	void fixedLength() {
+		final long distinctLengths = encryptedVerifiableVotes.stream()
+				.map(codec::encode)
+				.map(encodedVote -> encodedVote.elements().length)
+				.distinct()
+				.count();
+
+		assertEquals(1, distinctLengths);
+	}
+
+	@Test
+	@DisplayName("with an unsupported version throws an IllegalStateException")
+	void unsupportedVersionThrows() {
+		final byte[] encodedVote = codec.encode(encryptedVerifiableVotes.getFirst()).elements();
+		encodedVote[0] = EncryptedVerifiableVoteCodec.VERSION + 1;
+
+		final ImmutableByteArray unsupportedEncodedVote = new ImmutableByteArray(encodedVote);
+		assertThrows(IllegalStateException.class, () -> codec.decode(unsupportedEncodedVote));
+	}
+
+	@Test
+	@DisplayName("with null parameters throws a NullPointerException")
+	void nullParametersThrow() {
+		assertThrows(NullPointerException.class, () -> new EncryptedVerifiableVoteCodec(null));
+		assertThrows(NullPointerException.class, () -> codec.encode(null));
+		assertThrows(NullPointerException.class, () -> codec.decode(null));
+	}
+}
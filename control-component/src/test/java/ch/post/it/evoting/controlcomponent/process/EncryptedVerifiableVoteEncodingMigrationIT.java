@@ -0,0 +1,168 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static ch.post.it.evoting.domain.multitenancy.TenantConstants.TEST_TENANT_ID;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.post.it.evoting.controlcomponent.TestKeyStoreInitializer;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ElGamalGenerator;
+import ch.post.it.evoting.domain.generators.ControlComponentBallotBoxPayloadGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
+import ch.post.it.evoting.evotinglibraries.domain.common.EncryptedVerifiableVote;
+import ch.post.it.evoting.evotinglibraries.domain.election.ElectionEventContext;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.generators.ElectionEventContextPayloadGenerator;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.TenantService;
+
+// The scheduled conversion is delayed beyond the test, the conversion is driven by the test.
+@SpringBootTest(properties = "encrypted-verifiable-vote.conversion.fixed-delay=3600000")
+@ContextConfiguration(initializers = TestKeyStoreInitializer.class)
+@ActiveProfiles("test")
+@DisplayName("An EncryptedVerifiableVoteEncodingMigration")
+class EncryptedVerifiableVoteEncodingMigrationIT {
+
+	private static final int NUMBER_OF_VOTES = 10;
+	private static final int WINDOW_SIZE = 3;
+
+	private static ImmutableList<EncryptedVerifiableVote> binaryEncodedVotes;
+	private static ImmutableList<EncryptedVerifiableVote> jsonEncodedVotes;
+	private static JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EncryptedVerifiableVoteService encryptedVerifiableVoteService;
+
+	@Autowired
+	private EncryptedVerifiableVoteEncodingMigration encryptedVerifiableVoteEncodingMigration;
+
+	@Autowired
+	private ContextHolder contextHolder;
+
+	@BeforeAll
+	static void setUpAll(
+			@Autowired
+			final ElectionEventService electionEventService,
+			@Autowired
+			final ElectionEventContextService electionEventContextService,
+			@Autowired
+			final VerificationCardService verificationCardService,
+			@Autowired
+			final EncryptedVerifiableVoteService encryptedVerifiableVoteService,
+			@Autowired
+			final TenantService tenantService,
+			@Autowired
+			final ContextHolder contextHolder,
+			@Autowired
+			final ObjectMapper objectMapper) throws JsonProcessingException {
+
+		contextHolder.setTenantId(TEST_TENANT_ID);
+		jdbcTemplate = new JdbcTemplate(tenantService.getTenant(TEST_TENANT_ID).dataSource());
+
+		final ElectionEventContext electionEventContext = new ElectionEventContextPayloadGenerator().generate().getElectionEventContext();
+		final GqGroup encryptionGroup = electionEventContext.encryptionGroup();
+		final String electionEventId = electionEventContext.electionEventId();
+		final String verificationCardSetId = electionEventContext.verificationCardSetContexts().get(0).getVerificationCardSetId();
+		electionEventService.save(electionEventId, encryptionGroup);
+		electionEventContextService.save(electionEventContext);
+
+		final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+		final ElGamalGenerator elGamalGenerator = new ElGamalGenerator(encryptionGroup);
+		final ControlComponentBallotBoxPayloadGenerator ballotBoxPayloadGenerator = new ControlComponentBallotBoxPayloadGenerator(encryptionGroup);
+		final ImmutableList<EncryptedVerifiableVote> votes = IntStream.range(0, 2 * NUMBER_OF_VOTES)
+				.mapToObj(i -> new ContextIds(electionEventId, verificationCardSetId, uuidGenerator.generate()))
+				.map(contextIds -> ballotBoxPayloadGenerator.generateEncryptedVerifiableVote(contextIds,
+						electionEventContext.maximumNumberOfSelections(), electionEventContext.maximumNumberOfWriteInsPlusOne()))
+				.collect(toImmutableList());
+		verificationCardService.saveAll(votes.stream()
+				.map(vote -> new VerificationCard(vote.contextIds().verificationCardId(), verificationCardSetId, elGamalGenerator.genRandomPublicKey(1)))
+				.collect(toImmutableList()));
+
+		binaryEncodedVotes = votes.stream().limit(NUMBER_OF_VOTES).collect(toImmutableList());
+		binaryEncodedVotes.forEach(encryptedVerifiableVoteService::save);
+
+		// The votes stored before the binary encoding, each component JSON serialized in its own column.
+		jsonEncodedVotes = votes.stream().skip(NUMBER_OF_VOTES).collect(toImmutableList());
+		for (final EncryptedVerifiableVote vote : jsonEncodedVotes) {
+			jdbcTemplate.update("insert into ENCRYPTED_VERIFIABLE_VOTE (VERIFICATION_CARD_ID, CONTEXT_IDS, ENCRYPTED_VOTE, EXPONENTIATED_ENCRYPTED_VOTE, "
+							+ "ENCRYPTED_PARTIAL_CHOICE_RETURN_CODES, EXPONENTIATION_PROOF, PLAINTEXT_EQUALITY_PROOF, CHANGE_CONTROL_ID) "
+							+ "values (?, ?, ?, ?, ?, ?, ?, 0)",
+					vote.contextIds().verificationCardId(),
+					objectMapper.writeValueAsBytes(vote.contextIds()),
+					objectMapper.writeValueAsBytes(vote.encryptedVote()),
+					objectMapper.writeValueAsBytes(vote.exponentiatedEncryptedVote()),
+					objectMapper.writeValueAsBytes(vote.encryptedPartialChoiceReturnCodes()),
+					objectMapper.writeValueAsBytes(vote.exponentiationProof()),
+					objectMapper.writeValueAsBytes(vote.plaintextEqualityProof()));
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		contextHolder.setTenantId(TEST_TENANT_ID);
+	}
+
+	@Test
+	@DisplayName("converts the JSON serialized votes to the binary encoding and reads both encodings")
+	void convertsJsonEncodedVotes() {
+		assertReadVotes();
+
+		int converted;
+		int total = 0;
+		do {
+			converted = encryptedVerifiableVoteService.convertJsonEncodedVotes(WINDOW_SIZE);
+			total += converted;
+		} while (converted > 0);
+
+		assertEquals(NUMBER_OF_VOTES, total);
+		jsonEncodedVotes.forEach(vote -> {
+			final Map<String, Object> row = jdbcTemplate.queryForMap("select * from ENCRYPTED_VERIFIABLE_VOTE where VERIFICATION_CARD_ID = ?",
+					vote.contextIds().verificationCardId());
+			assertAll(
+					() -> assertNotNull(row.get("VOTE")),
+					() -> assertNull(row.get("CONTEXT_IDS")),
+					() -> assertNull(row.get("ENCRYPTED_VOTE")),
+					() -> assertNull(row.get("EXPONENTIATED_ENCRYPTED_VOTE")),
+					() -> assertNull(row.get("ENCRYPTED_PARTIAL_CHOICE_RETURN_CODES")),
+					() -> assertNull(row.get("EXPONENTIATION_PROOF")),
+					() -> assertNull(row.get("PLAINTEXT_EQUALITY_PROOF")),
+					() -> assertEquals(1, ((Number) row.get("CHANGE_CONTROL_ID")).intValue()));
+		});
+		assertReadVotes();
+
+		// Once all votes are converted, the scheduled run has nothing left to convert.
+		encryptedVerifiableVoteEncodingMigration.convertJsonEncodedVotes();
+		contextHolder.setTenantId(TEST_TENANT_ID);
+		assertEquals(0, encryptedVerifiableVoteService.convertJsonEncodedVotes(WINDOW_SIZE));
+	}
+
+	private void assertReadVotes() {
+		binaryEncodedVotes.forEach(vote ->
+				assertEquals(vote, encryptedVerifiableVoteService.getEncryptedVerifiableVote(vote.contextIds().verificationCardId())));
+		jsonEncodedVotes.forEach(vote ->
+				assertEquals(vote, encryptedVerifiableVoteService.getEncryptedVerifiableVote(vote.contextIds().verificationCardId())));
+	}
+}
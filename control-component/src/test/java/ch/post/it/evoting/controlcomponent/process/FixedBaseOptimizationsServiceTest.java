@@ -0,0 +1,101 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientKeyPair;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.Random;
+import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+
+@DisplayName("FixedBaseOptimizationsService")
+class FixedBaseOptimizationsServiceTest {
+
+	private static final Random random = RandomFactory.createRandom();
+	private static final GqGroup encryptionGroup = GroupTestData.getGqGroup();
+	private static final String ELECTION_EVENT_ID = UUIDGenerator.getInstance().generate();
+
+	private ElectionEventService electionEventService;
+	private SetupComponentPublicKeysService setupComponentPublicKeysService;
+	private FixedBaseOptimizationsService fixedBaseOptimizationsService;
+
+	@BeforeEach
+	void setUp() {
+		electionEventService = mock(ElectionEventService.class);
+		setupComponentPublicKeysService = mock(SetupComponentPublicKeysService.class);
+
+		when(electionEventService.getEncryptionGroup(ELECTION_EVENT_ID)).thenReturn(encryptionGroup);
+		when(setupComponentPublicKeysService.getElectionPublicKey(ELECTION_EVENT_ID)).thenReturn(
+				ElGamalMultiRecipientKeyPair.genKeyPair(encryptionGroup, 2, random).getPublicKey());
+		when(setupComponentPublicKeysService.getChoiceReturnCodesEncryptionPublicKey(ELECTION_EVENT_ID)).thenReturn(
+				ElGamalMultiRecipientKeyPair.genKeyPair(encryptionGroup, 3, random).getPublicKey());
+
+		fixedBaseOptimizationsService = new FixedBaseOptimizationsService(electionEventService, setupComponentPublicKeysService, 200, 1);
+	}
+
+	@Test
+	@DisplayName("prepares the fixed bases of an election event only once")
+	void preparesOnlyOnce() {
+		assertDoesNotThrow(() -> fixedBaseOptimizationsService.prepareFixedBaseOptimizations(ELECTION_EVENT_ID));
+		assertDoesNotThrow(() -> fixedBaseOptimizationsService.prepareFixedBaseOptimizations(ELECTION_EVENT_ID));
+
+		verify(electionEventService, times(1)).getEncryptionGroup(ELECTION_EVENT_ID);
+		verify(setupComponentPublicKeysService, times(1)).getElectionPublicKey(ELECTION_EVENT_ID);
+		verify(setupComponentPublicKeysService, times(1)).getChoiceReturnCodesEncryptionPublicKey(ELECTION_EVENT_ID);
+	}
+
+	@Test
+	@DisplayName("does not prepare the fixed bases of the election events beyond the maximum")
+	void skipsElectionEventsBeyondMaximum() {
+		final String otherElectionEventId = UUIDGenerator.getInstance().generate();
+
+		fixedBaseOptimizationsService.prepareFixedBaseOptimizations(ELECTION_EVENT_ID);
+		assertDoesNotThrow(() -> fixedBaseOptimizationsService.prepareFixedBaseOptimizations(otherElectionEventId));
+
+		verify(electionEventService, times(1)).getEncryptionGroup(ELECTION_EVENT_ID);
+		verify(electionEventService, never()).getEncryptionGroup(otherElectionEventId);
+	}
+
+	@Test
+	@DisplayName("releases the reservation of an election event whose preparation fails")
+	void failedPreparationReleasesReservation() {
+		final String failingElectionEventId = UUIDGenerator.getInstance().generate();
+		when(electionEventService.getEncryptionGroup(failingElectionEventId)).thenThrow(new IllegalStateException("Not found."));
+
+		assertThrows(IllegalStateException.class, () -> fixedBaseOptimizationsService.prepareFixedBaseOptimizations(failingElectionEventId));
+		fixedBaseOptimizationsService.prepareFixedBaseOptimizations(ELECTION_EVENT_ID);
+
+		verify(electionEventService, times(1)).getEncryptionGroup(ELECTION_EVENT_ID);
+	}
+
+	@Test
+	@DisplayName("with invalid election event id throws FailedValidationException")
+	void invalidElectionEventIdThrows() {
+		assertThrows(NullPointerException.class, () -> fixedBaseOptimizationsService.prepareFixedBaseOptimizations(null));
+		assertThrows(FailedValidationException.class, () -> fixedBaseOptimizationsService.prepareFixedBaseOptimizations("invalid"));
+	}
+
+	@Test
+	@DisplayName("with negative bounds throws IllegalArgumentException")
+	void negativeBoundsThrow() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new FixedBaseOptimizationsService(electionEventService, setupComponentPublicKeysService, -1, 1));
+		assertThrows(IllegalArgumentException.class,
+				() -> new FixedBaseOptimizationsService(electionEventService, setupComponentPublicKeysService, 200, -1));
+	}
+}
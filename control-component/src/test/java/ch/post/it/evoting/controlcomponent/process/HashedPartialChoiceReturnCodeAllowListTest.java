@@ -0,0 +1,102 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import ch.post.it.evoting.domain.DigestRecords;
+
+@DisplayName("HashedPartialChoiceReturnCodeAllowList")
+class HashedPartialChoiceReturnCodeAllowListTest {
+
+	private static final int SIZE = 1000;
+	private static final SecureRandom random = new SecureRandom();
+
+	private static List<String> partialChoiceReturnCodes;
+
+	@BeforeAll
+	static void setUpAll() {
+		partialChoiceReturnCodes = IntStream.range(0, SIZE)
+				.mapToObj(i -> genPartialChoiceReturnCode())
+				.toList();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	@DisplayName("contains all the given partial Choice Return Codes")
+	void containsAll(final boolean offHeap) {
+		final List<String> shuffled = new ArrayList<>(partialChoiceReturnCodes);
+		Collections.shuffle(shuffled);
+
+		final HashedPartialChoiceReturnCodeAllowList allowList = HashedPartialChoiceReturnCodeAllowList.from(shuffled, offHeap);
+
+		assertEquals(SIZE, allowList.size());
+		assertEquals(SIZE * DigestRecords.DIGEST_LENGTH, allowList.sizeInBytes());
+		assertTrue(partialChoiceReturnCodes.stream().allMatch(allowList::exists));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	@DisplayName("does not contain other partial Choice Return Codes")
+	void doesNotContainOthers(final boolean offHeap) {
+		final HashedPartialChoiceReturnCodeAllowList allowList = HashedPartialChoiceReturnCodeAllowList.from(partialChoiceReturnCodes, offHeap);
+
+		final byte[] digest = Base64.getDecoder().decode(partialChoiceReturnCodes.get(0));
+		digest[DigestRecords.DIGEST_LENGTH - 1] ^= 1;
+		final String modifiedPartialChoiceReturnCode = Base64.getEncoder().encodeToString(digest);
+
+		assertAll(
+				() -> assertFalse(allowList.exists(genPartialChoiceReturnCode())),
+				() -> assertFalse(allowList.exists(modifiedPartialChoiceReturnCode)),
+				() -> assertFalse(allowList.exists("not base64")),
+				() -> assertFalse(allowList.exists(Base64.getEncoder().encodeToString(new byte[16])))
+		);
+	}
+
+	@Test
+	@DisplayName("with an empty list contains nothing")
+	void emptyContainsNothing() {
+		final HashedPartialChoiceReturnCodeAllowList allowList = HashedPartialChoiceReturnCodeAllowList.from(List.of(), false);
+
+		assertEquals(0, allowList.size());
+		assertFalse(allowList.exists(partialChoiceReturnCodes.get(0)));
+	}
+
+	@Test
+	@DisplayName("with invalid parameters throws")
+	void invalidParametersThrows() {
+		final List<String> withNull = Arrays.asList(partialChoiceReturnCodes.get(0), null);
+		final List<String> withInvalidLength = List.of(Base64.getEncoder().encodeToString(new byte[16]));
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> HashedPartialChoiceReturnCodeAllowList.from(null, false)),
+				() -> assertThrows(NullPointerException.class, () -> HashedPartialChoiceReturnCodeAllowList.from(withNull, false)),
+				() -> assertThrows(IllegalArgumentException.class, () -> HashedPartialChoiceReturnCodeAllowList.from(withInvalidLength, false))
+		);
+	}
+
+	private static String genPartialChoiceReturnCode() {
+		final byte[] digest = new byte[DigestRecords.DIGEST_LENGTH];
+		random.nextBytes(digest);
+		return Base64.getEncoder().encodeToString(digest);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.controlcomponent.process;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.domain.DigestRecords;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+
+@DisplayName("PartialChoiceReturnCodeAllowListCache")
+class PartialChoiceReturnCodeAllowListCacheTest {
+
+	private static final SecureRandom random = new SecureRandom();
+	private static final String ELECTION_EVENT_ID = UUIDGenerator.getInstance().generate();
+	private static final String VERIFICATION_CARD_SET_ID = UUIDGenerator.getInstance().generate();
+
+	private PCCAllowListEntryService pccAllowListEntryService;
+	private ElectionEventStateService electionEventStateService;
+	private ContextHolder contextHolder;
+	private PartialChoiceReturnCodeAllowListCache partialChoiceReturnCodeAllowListCache;
+
+	@BeforeEach
+	void setUp() {
+		pccAllowListEntryService = mock(PCCAllowListEntryService.class);
+		electionEventStateService = mock(ElectionEventStateService.class);
+		contextHolder = mock(ContextHolder.class);
+
+		partialChoiceReturnCodeAllowListCache = new PartialChoiceReturnCodeAllowListCache(pccAllowListEntryService, electionEventStateService,
+				contextHolder, 1024 * 1024, false);
+	}
+
+	@Test
+	@DisplayName("serves each tenant its own allow list of a shared verification card set id")
+	void keyedByTenant() {
+		final String testTenantCode = genPartialChoiceReturnCode();
+		final String productionTenantCode = genPartialChoiceReturnCode();
+		when(electionEventStateService.getElectionEventState(ELECTION_EVENT_ID)).thenReturn(ElectionEventState.CONFIGURED);
+		when(pccAllowListEntryService.getPartialChoiceReturnCodesList(VERIFICATION_CARD_SET_ID))
+				.thenReturn(List.of(testTenantCode))
+				.thenReturn(List.of(productionTenantCode));
+
+		when(contextHolder.getTenantId()).thenReturn("test");
+		final PartialChoiceReturnCodeAllowList testTenantAllowList = get();
+		when(contextHolder.getTenantId()).thenReturn("production");
+		final PartialChoiceReturnCodeAllowList productionTenantAllowList = get();
+		when(contextHolder.getTenantId()).thenReturn("test");
+		final PartialChoiceReturnCodeAllowList cachedTestTenantAllowList = get();
+
+		assertAll(
+				() -> assertTrue(testTenantAllowList.exists(testTenantCode)),
+				() -> assertFalse(testTenantAllowList.exists(productionTenantCode)),
+				() -> assertTrue(productionTenantAllowList.exists(productionTenantCode)),
+				() -> assertFalse(productionTenantAllowList.exists(testTenantCode)),
+				() -> assertTrue(cachedTestTenantAllowList.exists(testTenantCode))
+		);
+		verify(pccAllowListEntryService, times(2)).getPartialChoiceReturnCodesList(VERIFICATION_CARD_SET_ID);
+	}
+
+	@Test
+	@DisplayName("does not serve an allow list before the election event is configured")
+	void notConfiguredIsEmpty() {
+		when(contextHolder.getTenantId()).thenReturn("test");
+		when(electionEventStateService.getElectionEventState(ELECTION_EVENT_ID)).thenReturn(ElectionEventState.INITIAL);
+
+		assertEquals(Optional.empty(), partialChoiceReturnCodeAllowListCache.get(ELECTION_EVENT_ID, VERIFICATION_CARD_SET_ID));
+	}
+
+	private PartialChoiceReturnCodeAllowList get() {
+		return partialChoiceReturnCodeAllowListCache.get(ELECTION_EVENT_ID, VERIFICATION_CARD_SET_ID).orElseThrow();
+	}
+
+	private static String genPartialChoiceReturnCode() {
+		final byte[] digest = new byte[DigestRecords.DIGEST_LENGTH];
+		random.nextBytes(digest);
+		return Base64.getEncoder().encodeToString(digest);
+	}
+}
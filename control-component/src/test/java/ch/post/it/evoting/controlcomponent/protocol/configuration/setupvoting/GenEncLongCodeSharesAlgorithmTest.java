@@ -14,6 +14,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.security.SecureRandom;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -59,6 +60,7 @@ class GenEncLongCodeSharesAlgorithmTest extends TestGroupSetup {
 			uuidGenerator.generate());
 
 	private static final int NODE_ID = 1;
+	private static final int WINDOW_SIZE = 1000;
 
 	private static int ciphertextSize;
 	private static ZqElement returnCodesGenerationSecretKey;
@@ -82,7 +84,8 @@ class GenEncLongCodeSharesAlgorithmTest extends TestGroupSetup {
 
 	@BeforeEach
 	void setup() {
-		genEncLongCodeSharesAlgorithm = new GenEncLongCodeSharesAlgorithm(keyDerivation, zeroKnowledgeProof, verificationCardService);
+		genEncLongCodeSharesAlgorithm = new GenEncLongCodeSharesAlgorithm(keyDerivation, zeroKnowledgeProof, verificationCardService,
+				ForkJoinPool.commonPool(), WINDOW_SIZE);
 
 		returnCodesGenerationSecretKey = zqGroupGenerator.genRandomZqElementMember();
 		verificationCardPublicKeys = GroupVector.of(ccmKeyPair.getPublicKey(), ccmKeyPair.getPublicKey(), ccmKeyPair.getPublicKey());
@@ -120,6 +123,26 @@ class GenEncLongCodeSharesAlgorithmTest extends TestGroupSetup {
 		verify(verificationCardService, times(1)).saveAll(any());
 	}
 
+	@Test
+	@DisplayName("window smaller than the number of voters saves the verification cards window by window")
+	void smallWindowSavesVerificationCardsByWindow() {
+		final GenEncLongCodeSharesAlgorithm windowedGenEncLongCodeSharesAlgorithm = new GenEncLongCodeSharesAlgorithm(keyDerivation,
+				zeroKnowledgeProof, verificationCardService, ForkJoinPool.commonPool(), 2);
+
+		final GenEncLongCodeSharesOutput output = windowedGenEncLongCodeSharesAlgorithm.genEncLongCodeShares(context, input);
+
+		final int numberOfVoters = VERIFICATION_CARD_IDS.size();
+		assertAll(
+				() -> assertEquals(numberOfVoters, output.getVoterChoiceReturnCodeGenerationPublicKeys().size()),
+				() -> assertEquals(numberOfVoters, output.getVoterVoteCastReturnCodeGenerationPublicKeys().size()),
+				() -> assertEquals(numberOfVoters, output.getExponentiatedEncryptedHashedPartialChoiceReturnCodes().size()),
+				() -> assertEquals(numberOfVoters, output.getProofsCorrectExponentiationPartialChoiceReturnCodes().size()),
+				() -> assertEquals(numberOfVoters, output.getExponentiatedEncryptedHashedConfirmationKeys().size()),
+				() -> assertEquals(numberOfVoters, output.getProofsCorrectExponentiationConfirmationKeys().size())
+		);
+		verify(verificationCardService, times(2)).saveAll(any());
+	}
+
 	@Test
 	@DisplayName("null parameter throws NullPointerException")
 	void nullParamThrows() {
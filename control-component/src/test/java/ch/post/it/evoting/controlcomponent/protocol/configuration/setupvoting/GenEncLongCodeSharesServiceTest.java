@@ -13,6 +13,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -44,7 +45,7 @@ class GenEncLongCodeSharesServiceTest {
 	static void setUpAll() {
 		final VerificationCardService verificationCardService = mock(VerificationCardService.class);
 		final GenEncLongCodeSharesAlgorithm genEncLongCodeSharesAlgorithm = new GenEncLongCodeSharesAlgorithm(createKeyDerivation(),
-				createZeroKnowledgeProof(), verificationCardService);
+				createZeroKnowledgeProof(), verificationCardService, ForkJoinPool.commonPool(), 1000);
 		genEncLongCodeSharesService = new GenEncLongCodeSharesService(genEncLongCodeSharesAlgorithm);
 
 		final SetupComponentVerificationDataPayloadGenerator setupComponentVerificationDataPayloadGenerator = new SetupComponentVerificationDataPayloadGenerator();
@@ -5,17 +5,24 @@ package ch.post.it.evoting.controlcomponent.protocol.preliminaries.agreementalgo
 
 import static ch.post.it.evoting.evotinglibraries.domain.common.Constants.BASE64_ENCODED_HASH_OUTPUT_LENGTH;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import ch.post.it.evoting.controlcomponent.process.EncryptedVerifiableVoteService;
-import ch.post.it.evoting.controlcomponent.process.HashedLVCCSharesService;
-import ch.post.it.evoting.controlcomponent.process.VerificationCardStateService;
+import ch.post.it.evoting.controlcomponent.process.SentVote;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 import ch.post.it.evoting.cryptoprimitives.math.Base64Alphabet;
 import ch.post.it.evoting.cryptoprimitives.math.Random;
@@ -23,10 +30,10 @@ import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
 import ch.post.it.evoting.domain.generators.ControlComponentBallotBoxPayloadGenerator;
 import ch.post.it.evoting.evotinglibraries.domain.ControlComponentNode;
 import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
-import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
 import ch.post.it.evoting.evotinglibraries.domain.common.EncryptedVerifiableVote;
 import ch.post.it.evoting.evotinglibraries.domain.election.ElectionEventContext;
 import ch.post.it.evoting.evotinglibraries.domain.election.VerificationCardSetContext;
+import ch.post.it.evoting.evotinglibraries.domain.extractedelectionevent.ExtractedVerificationCard;
 import ch.post.it.evoting.evotinglibraries.domain.mixnet.generators.ElectionEventContextPayloadGenerator;
 import ch.post.it.evoting.evotinglibraries.domain.tally.ControlComponentBallotBoxPayload;
 import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
@@ -34,17 +41,16 @@ import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationEx
 @DisplayName("An ExtractVerificationCardsAlgorithm with")
 class ExtractVerificationCardsAlgorithmTest {
 
-	private static final VerificationCardStateService verificationCardStateService = mock(VerificationCardStateService.class);
-	private static final HashedLVCCSharesService hashedLVCCSharesService = mock(HashedLVCCSharesService.class);
 	private static final EncryptedVerifiableVoteService encryptedVerifiableVoteService = mock(EncryptedVerifiableVoteService.class);
 
 	private static String electionEventId;
+	private static int numberOfSentVotes;
+	private static List<SentVote> sentVotes;
 	private static ExtractVerificationCardsAlgorithm extractVerificationCardsAlgorithm;
 
 	@BeforeAll
 	static void setUpAll() {
-		extractVerificationCardsAlgorithm = new ExtractVerificationCardsAlgorithm(verificationCardStateService, hashedLVCCSharesService,
-				encryptedVerifiableVoteService);
+		extractVerificationCardsAlgorithm = new ExtractVerificationCardsAlgorithm(encryptedVerifiableVoteService);
 
 		electionEventId = UUIDGenerator.getInstance().generate();
 
@@ -57,6 +63,34 @@ class ExtractVerificationCardsAlgorithmTest {
 		assertDoesNotThrow(() -> extractVerificationCardsAlgorithm.extractVerificationCards(electionEventId));
 	}
 
+	@Test
+	@DisplayName("valid parameter extracts the sent votes of all verification card sets in verification card id order")
+	void validParamExtractsAllSentVotesInOrder() {
+		final ImmutableList<ExtractedVerificationCard> extractedVerificationCards = extractVerificationCardsAlgorithm.extractVerificationCards(
+				electionEventId);
+
+		assertEquals(numberOfSentVotes, extractedVerificationCards.size());
+		for (int i = 1; i < extractedVerificationCards.size(); i++) {
+			assertEquals(-1, Integer.signum(extractedVerificationCards.get(i - 1).verificationCardId()
+					.compareTo(extractedVerificationCards.get(i).verificationCardId())));
+		}
+	}
+
+	@Test
+	@DisplayName("sent votes not ordered by verification card id throws IllegalStateException")
+	void unorderedSentVotesThrow() {
+		final EncryptedVerifiableVoteService unorderedEncryptedVerifiableVoteService = mock(EncryptedVerifiableVoteService.class);
+		doAnswer(invocation -> {
+			final Consumer<SentVote> consumer = invocation.getArgument(1);
+			sentVotes.reversed().forEach(consumer);
+			return null;
+		}).when(unorderedEncryptedVerifiableVoteService).forEachSentVoteWithHashedLVCCShares(any(), any());
+		final ExtractVerificationCardsAlgorithm unorderedExtractVerificationCardsAlgorithm = new ExtractVerificationCardsAlgorithm(
+				unorderedEncryptedVerifiableVoteService);
+
+		assertThrows(IllegalStateException.class, () -> unorderedExtractVerificationCardsAlgorithm.extractVerificationCards(electionEventId));
+	}
+
 	@Test
 	@DisplayName("null election event id throws NullPointerException")
 	void nullElectionEventIdThrows() {
@@ -78,6 +112,7 @@ class ExtractVerificationCardsAlgorithmTest {
 		final ControlComponentBallotBoxPayloadGenerator controlComponentBallotBoxPayloadGenerator = new ControlComponentBallotBoxPayloadGenerator(
 				electionEventContext.encryptionGroup());
 
+		final List<SentVote> allSentVotes = new ArrayList<>();
 		electionEventContext.verificationCardSetContexts().stream()
 				.map(VerificationCardSetContext::getVerificationCardSetId)
 				.forEach(verificationCardSetId -> {
@@ -87,24 +122,35 @@ class ExtractVerificationCardsAlgorithmTest {
 									electionEventId, verificationCardSetId, electionEventContext.maximumNumberOfSelections(),
 									electionEventContext.maximumNumberOfWriteInsPlusOne())
 							.getFirst();
-					when(encryptedVerifiableVoteService.getSentVotes(electionEventId))
-							.thenReturn(controlComponentBallotBoxPayload.getConfirmedEncryptedVotes());
-					when(verificationCardStateService.isConfirmedVote(verificationCardSetId))
-							.thenReturn(random.genRandomInteger(2) == 0);
-
-					// Create hashed LVCC Shares.
-					controlComponentBallotBoxPayload.getConfirmedEncryptedVotes()
-							.stream()
-							.map(EncryptedVerifiableVote::contextIds)
-							.map(ContextIds::verificationCardId)
-							.forEach(verificationCardId -> {
-										final ImmutableList<String> hashedLongVoteCastReturnCodeShares = ControlComponentNode.ids().stream()
-												.map(j -> random.genRandomString(BASE64_ENCODED_HASH_OUTPUT_LENGTH, base64Alphabet))
-												.collect(ImmutableList.toImmutableList());
-										when(hashedLVCCSharesService.getHashedLVCCShares(verificationCardId))
-												.thenReturn(hashedLongVoteCastReturnCodeShares);
-									}
-							);
+
+					// Create the sent votes, confirmed ones with their hashed LVCC Shares.
+					controlComponentBallotBoxPayload.getConfirmedEncryptedVotes().stream()
+							.map(encryptedVerifiableVote -> createSentVote(encryptedVerifiableVote, random.genRandomInteger(2) == 0, random,
+									base64Alphabet))
+							.forEach(allSentVotes::add);
 				});
+		numberOfSentVotes = allSentVotes.size();
+
+		// The cursor streams the sent votes of all the verification card sets in the order of their verification card id.
+		sentVotes = allSentVotes.stream()
+				.sorted(Comparator.comparing(sentVote -> sentVote.encryptedVerifiableVote().contextIds().verificationCardId()))
+				.toList();
+		doAnswer(invocation -> {
+			final Consumer<SentVote> consumer = invocation.getArgument(1);
+			sentVotes.forEach(consumer);
+			return null;
+		}).when(encryptedVerifiableVoteService).forEachSentVoteWithHashedLVCCShares(eq(electionEventId), any());
+	}
+
+	private static SentVote createSentVote(final EncryptedVerifiableVote encryptedVerifiableVote, final boolean confirmed, final Random random,
+			final Base64Alphabet base64Alphabet) {
+		if (!confirmed) {
+			return new SentVote(encryptedVerifiableVote, false, ImmutableList.emptyList());
+		}
+
+		final ImmutableList<String> hashedLongVoteCastReturnCodeShares = ControlComponentNode.ids().stream()
+				.map(j -> random.genRandomString(BASE64_ENCODED_HASH_OUTPUT_LENGTH, base64Alphabet))
+				.collect(ImmutableList.toImmutableList());
+		return new SentVote(encryptedVerifiableVote, true, hashedLongVoteCastReturnCodeShares);
 	}
-}
\ No newline at end of file
+}
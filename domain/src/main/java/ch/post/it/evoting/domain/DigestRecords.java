@@ -0,0 +1,184 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.domain;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Base64;
+
+/**
+ * Utility class for in-memory indexes of 32-byte digests.
+ * <p>
+ * A digest is kept as a fixed-width record of four big-endian longs. The records are stored contiguously in a primitive array, sorted by unsigned
+ * lexicographic order, and looked up by binary search, so that an index holds a single array instead of one object per digest.
+ * </p>
+ */
+public final class DigestRecords {
+
+	public static final int DIGEST_LENGTH = 32;
+	public static final int RECORD_LENGTH = DIGEST_LENGTH / Long.BYTES;
+
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	private DigestRecords() {
+		// static usage only.
+	}
+
+	/**
+	 * Decodes the given base64 encoding of a 32-byte digest into a record.
+	 *
+	 * @param encodedDigest the base64 encoded digest. Must be non-null.
+	 * @return the record, or null if the given string is not the base64 encoding of a 32-byte digest.
+	 * @throws NullPointerException if the encoded digest is null.
+	 */
+	public static long[] decode(final String encodedDigest) {
+		checkNotNull(encodedDigest);
+
+		final byte[] digest;
+		try {
+			digest = Base64.getDecoder().decode(encodedDigest);
+		} catch (final IllegalArgumentException e) {
+			return null;
+		}
+		if (digest.length != DIGEST_LENGTH) {
+			return null;
+		}
+
+		final long[] record = new long[RECORD_LENGTH];
+		ByteBuffer.wrap(digest).asLongBuffer().get(record);
+		return record;
+	}
+
+	/**
+	 * Sorts the given records by unsigned lexicographic order, permuting the given companion values along with their records.
+	 *
+	 * @param records    the records. Must be non-null and hold {@code size} records.
+	 * @param companions the values to permute along with the records, one per record, or null if there are none.
+	 * @param size       the number of records. Must be positive.
+	 * @throws NullPointerException     if the records are null.
+	 * @throws IllegalArgumentException if the records or the companions do not hold {@code size} elements.
+	 */
+	public static void sort(final long[] records, final int[] companions, final int size) {
+		checkNotNull(records);
+		checkArgument(size >= 0 && (long) size * RECORD_LENGTH <= records.length, "The records do not hold %s records.", size);
+		checkArgument(companions == null || companions.length >= size, "The companions do not hold %s values.", size);
+
+		sort(records, companions, 0, size - 1);
+	}
+
+	/**
+	 * Searches the given record in the given sorted records.
+	 *
+	 * @param records the records, sorted by unsigned lexicographic order. Must be non-null and hold {@code size} records.
+	 * @param size    the number of records.
+	 * @param record  the searched record. Must be non-null.
+	 * @return the index of the record, or -1 if it is not found.
+	 */
+	public static int binarySearch(final LongBuffer records, final int size, final long[] record) {
+		checkNotNull(records);
+		checkNotNull(record);
+
+		int low = 0;
+		int high = size - 1;
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			final int comparison = compareTo(records, middle, record);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+
+		return -1;
+	}
+
+	private static int compareTo(final LongBuffer records, final int index, final long[] record) {
+		final int offset = index * RECORD_LENGTH;
+		for (int i = 0; i < RECORD_LENGTH; i++) {
+			final int comparison = Long.compareUnsigned(records.get(offset + i), record[i]);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Sorts the records in the inclusive range [{@code from}, {@code to}]. The records are partitioned in three around the middle record, so that
+	 * the records equal to the pivot are left out of both recursions and repeated records do not degrade the sort to a quadratic time. Recurses on
+	 * the smaller partition only, bounding the stack depth to log<sub>2</sub>(size).
+	 */
+	private static void sort(final long[] records, final int[] companions, final int from, final int to) {
+		int low = from;
+		int high = to;
+		while (high - low >= INSERTION_SORT_THRESHOLD) {
+			// The records in [low, lessThan) are smaller than the pivot, in [lessThan, i) equal and in (greaterThan, high] greater. The record at
+			// lessThan is always equal to the pivot.
+			swap(records, companions, (low + high) >>> 1, low);
+			int lessThan = low;
+			int greaterThan = high;
+			int i = low + 1;
+			while (i <= greaterThan) {
+				final int comparison = compare(records, i, lessThan);
+				if (comparison < 0) {
+					swap(records, companions, i++, lessThan++);
+				} else if (comparison > 0) {
+					swap(records, companions, i, greaterThan--);
+				} else {
+					i++;
+				}
+			}
+
+			if (lessThan - low < high - greaterThan) {
+				sort(records, companions, low, lessThan - 1);
+				low = greaterThan + 1;
+			} else {
+				sort(records, companions, greaterThan + 1, high);
+				high = lessThan - 1;
+			}
+		}
+		insertionSort(records, companions, low, high);
+	}
+
+	private static void insertionSort(final long[] records, final int[] companions, final int low, final int high) {
+		for (int i = low + 1; i <= high; i++) {
+			for (int j = i; j > low && compare(records, j - 1, j) > 0; j--) {
+				swap(records, companions, j - 1, j);
+			}
+		}
+	}
+
+	private static int compare(final long[] records, final int first, final int second) {
+		final int firstOffset = first * RECORD_LENGTH;
+		final int secondOffset = second * RECORD_LENGTH;
+		for (int i = 0; i < RECORD_LENGTH; i++) {
+			final int comparison = Long.compareUnsigned(records[firstOffset + i], records[secondOffset + i]);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+	private static void swap(final long[] records, final int[] companions, final int first, final int second) {
+		final int firstOffset = first * RECORD_LENGTH;
+		final int secondOffset = second * RECORD_LENGTH;
+		for (int i = 0; i < RECORD_LENGTH; i++) {
+			final long temp = records[firstOffset + i];
+			records[firstOffset + i] = records[secondOffset + i];
+			records[secondOffset + i] = temp;
+		}
+		if (companions != null) {
+			final int temp = companions[first];
+			companions[first] = companions[second];
+			companions[second] = temp;
+		}
+	}
+}
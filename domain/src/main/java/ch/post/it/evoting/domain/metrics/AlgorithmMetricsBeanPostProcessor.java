@@ -0,0 +1,98 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.domain.metrics;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times the calls to the protocol algorithms. Each public method of a bean of the given protocol package whose name ends with "Algorithm" is
+ * recorded in the {@value #METRIC_NAME} timer, tagged with the algorithm, the method and the outcome.
+ * <p>
+ * The timers of a method are registered on its first call and reused by the following calls.
+ * </p>
+ */
+public class AlgorithmMetricsBeanPostProcessor implements BeanPostProcessor {
+
+	public static final String METRIC_NAME = "evoting.protocol.algorithm";
+
+	// Resolved lazily, a bean post processor must not trigger the early creation of the meter registry.
+	private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+	private final String protocolPackage;
+
+	/**
+	 * @param meterRegistryProvider the provider of the meter registry. Must be non-null.
+	 * @param protocolPackage       the package of the protocol algorithms, sub-packages included. Must be non-null and non-blank.
+	 */
+	public AlgorithmMetricsBeanPostProcessor(final ObjectProvider<MeterRegistry> meterRegistryProvider, final String protocolPackage) {
+		checkNotNull(meterRegistryProvider);
+		checkNotNull(protocolPackage);
+		checkArgument(!protocolPackage.isBlank(), "The protocol package must not be blank.");
+
+		this.meterRegistryProvider = meterRegistryProvider;
+		this.protocolPackage = protocolPackage;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+		final Class<?> beanClass = AopUtils.getTargetClass(bean);
+		if (!beanClass.getPackageName().startsWith(protocolPackage) || !beanClass.getSimpleName().endsWith("Algorithm")) {
+			return bean;
+		}
+
+		final String algorithm = beanClass.getSimpleName();
+		final Map<Method, MethodTimers> timersByMethod = new ConcurrentHashMap<>();
+		final ProxyFactory proxyFactory = new ProxyFactory(bean);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+			if (invocation.getMethod().getDeclaringClass() == Object.class) {
+				return invocation.proceed();
+			}
+
+			final MethodTimers methodTimers = timersByMethod.computeIfAbsent(invocation.getMethod(),
+					method -> MethodTimers.register(meterRegistryProvider.getObject(), algorithm, method.getName()));
+			final Timer.Sample sample = Timer.start(methodTimers.clock());
+			Timer outcome = methodTimers.failure();
+			try {
+				final Object result = invocation.proceed();
+				outcome = methodTimers.success();
+				return result;
+			} finally {
+				sample.stop(outcome);
+			}
+		});
+		return proxyFactory.getProxy(beanClass.getClassLoader());
+	}
+
+	private record MethodTimers(Clock clock, Timer success, Timer failure) {
+
+		private static MethodTimers register(final MeterRegistry meterRegistry, final String algorithm, final String method) {
+			return new MethodTimers(meterRegistry.config().clock(), timer(meterRegistry, algorithm, method, "success"),
+					timer(meterRegistry, algorithm, method, "failure"));
+		}
+
+		private static Timer timer(final MeterRegistry meterRegistry, final String algorithm, final String method, final String outcome) {
+			return Timer.builder(METRIC_NAME)
+					.tag("algorithm", algorithm)
+					.tag("method", method)
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry);
+		}
+	}
+}
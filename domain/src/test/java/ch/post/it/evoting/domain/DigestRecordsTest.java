@@ -0,0 +1,121 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.domain;
+
+import static ch.post.it.evoting.domain.DigestRecords.DIGEST_LENGTH;
+import static ch.post.it.evoting.domain.DigestRecords.RECORD_LENGTH;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.LongBuffer;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("DigestRecords")
+class DigestRecordsTest {
+
+	private static final SecureRandom random = new SecureRandom();
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 15, 16, 17, 1000 })
+	@DisplayName("sorts the records with their companions by unsigned lexicographic order")
+	void sortsWithCompanions(final int size) {
+		final long[][] digests = IntStream.range(0, size)
+				.mapToObj(i -> random.longs(RECORD_LENGTH).toArray())
+				.toArray(long[][]::new);
+		final long[] records = new long[size * RECORD_LENGTH];
+		final int[] companions = new int[size];
+		for (int i = 0; i < size; i++) {
+			System.arraycopy(digests[i], 0, records, i * RECORD_LENGTH, RECORD_LENGTH);
+			companions[i] = i;
+		}
+
+		DigestRecords.sort(records, companions, size);
+
+		final Integer[] expectedOrder = IntStream.range(0, size).boxed()
+				.sorted(Comparator.comparing((Integer i) -> digests[i], Arrays::compareUnsigned))
+				.toArray(Integer[]::new);
+		for (int i = 0; i < size; i++) {
+			final int expected = expectedOrder[i];
+			assertEquals(expected, companions[i]);
+			assertArrayEquals(digests[expected], Arrays.copyOfRange(records, i * RECORD_LENGTH, (i + 1) * RECORD_LENGTH));
+			assertEquals(i, DigestRecords.binarySearch(LongBuffer.wrap(records), size, digests[expected]));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 3 })
+	@DisplayName("sorts many repeated records in a linearithmic time")
+	void sortsRepeatedRecords(final int numberOfDistinctRecords) {
+		final int size = 200_000;
+		final long[][] distinctDigests = IntStream.range(0, numberOfDistinctRecords)
+				.mapToObj(i -> random.longs(RECORD_LENGTH).toArray())
+				.toArray(long[][]::new);
+		final long[] records = new long[size * RECORD_LENGTH];
+		final int[] companions = new int[size];
+		for (int i = 0; i < size; i++) {
+			System.arraycopy(distinctDigests[i % numberOfDistinctRecords], 0, records, i * RECORD_LENGTH, RECORD_LENGTH);
+			companions[i] = i;
+		}
+
+		// A quadratic sort of 200'000 records would take far longer.
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> DigestRecords.sort(records, companions, size));
+
+		for (int i = 1; i < size; i++) {
+			assertTrue(Arrays.compareUnsigned(records, (i - 1) * RECORD_LENGTH, i * RECORD_LENGTH, records, i * RECORD_LENGTH,
+					(i + 1) * RECORD_LENGTH) <= 0);
+		}
+		for (int i = 0; i < size; i++) {
+			assertArrayEquals(distinctDigests[companions[i] % numberOfDistinctRecords],
+					Arrays.copyOfRange(records, i * RECORD_LENGTH, (i + 1) * RECORD_LENGTH));
+		}
+		assertEquals(size, Arrays.stream(companions).distinct().count());
+	}
+
+	@Test
+	@DisplayName("does not find a missing record")
+	void missingRecordNotFound() {
+		final long[] records = random.longs(10L * RECORD_LENGTH).toArray();
+		DigestRecords.sort(records, null, 10);
+
+		assertEquals(-1, DigestRecords.binarySearch(LongBuffer.wrap(records), 10, random.longs(RECORD_LENGTH).toArray()));
+	}
+
+	@Test
+	@DisplayName("decodes only the base64 encoding of a 32-byte digest")
+	void decode() {
+		final byte[] digest = new byte[DIGEST_LENGTH];
+		random.nextBytes(digest);
+
+		assertAll(
+				() -> assertEquals(RECORD_LENGTH, DigestRecords.decode(Base64.getEncoder().encodeToString(digest)).length),
+				() -> assertNull(DigestRecords.decode(Base64.getEncoder().encodeToString(new byte[DIGEST_LENGTH - 1]))),
+				() -> assertNull(DigestRecords.decode("not base64!")),
+				() -> assertThrows(NullPointerException.class, () -> DigestRecords.decode(null))
+		);
+	}
+
+	@Test
+	@DisplayName("with too few records or companions throws IllegalArgumentException")
+	void tooFewElementsThrows() {
+		assertAll(
+				() -> assertThrows(IllegalArgumentException.class, () -> DigestRecords.sort(new long[RECORD_LENGTH], null, 2)),
+				() -> assertThrows(IllegalArgumentException.class, () -> DigestRecords.sort(new long[2 * RECORD_LENGTH], new int[1], 2))
+		);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.domain.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AlgorithmMetricsBeanPostProcessor")
+class AlgorithmMetricsBeanPostProcessorTest {
+
+	private static final String PROTOCOL_PACKAGE = "ch.post.it.evoting.domain.metrics";
+
+	private MeterRegistry meterRegistry;
+	private ObjectProvider<MeterRegistry> meterRegistryProvider;
+	private AlgorithmMetricsBeanPostProcessor algorithmMetricsBeanPostProcessor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+		meterRegistryProvider = beanFactory.getBeanProvider(MeterRegistry.class);
+		algorithmMetricsBeanPostProcessor = new AlgorithmMetricsBeanPostProcessor(meterRegistryProvider, PROTOCOL_PACKAGE);
+	}
+
+	@Test
+	@DisplayName("times the calls to a protocol algorithm")
+	void timesAlgorithm() {
+		final Object bean = algorithmMetricsBeanPostProcessor.postProcessAfterInitialization(new SampleAlgorithm(), "sampleAlgorithm");
+		final SampleAlgorithm sampleAlgorithm = assertInstanceOf(SampleAlgorithm.class, bean);
+
+		assertEquals(4, sampleAlgorithm.square(2));
+		assertEquals(9, sampleAlgorithm.square(3));
+		assertThrows(IllegalArgumentException.class, () -> sampleAlgorithm.square(-1));
+
+		final Timer success = meterRegistry.find(AlgorithmMetricsBeanPostProcessor.METRIC_NAME)
+				.tags("algorithm", "SampleAlgorithm", "method", "square", "outcome", "success")
+				.timer();
+		final Timer failure = meterRegistry.find(AlgorithmMetricsBeanPostProcessor.METRIC_NAME)
+				.tags("algorithm", "SampleAlgorithm", "method", "square", "outcome", "failure")
+				.timer();
+		assertNotNull(success);
+		assertNotNull(failure);
+		assertEquals(2, success.count());
+		assertEquals(1, failure.count());
+	}
+
+	@Test
+	@DisplayName("leaves the algorithms outside of the protocol package untouched")
+	void leavesAlgorithmsOutsideProtocolPackage() {
+		final AlgorithmMetricsBeanPostProcessor otherPackageBeanPostProcessor = new AlgorithmMetricsBeanPostProcessor(meterRegistryProvider,
+				"ch.post.it.evoting.other");
+		final SampleAlgorithm sampleAlgorithm = new SampleAlgorithm();
+
+		assertSame(sampleAlgorithm, otherPackageBeanPostProcessor.postProcessAfterInitialization(sampleAlgorithm, "sampleAlgorithm"));
+	}
+
+	@Test
+	@DisplayName("with invalid arguments throws")
+	void invalidArgumentsThrow() {
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> new AlgorithmMetricsBeanPostProcessor(null, PROTOCOL_PACKAGE)),
+				() -> assertThrows(NullPointerException.class, () -> new AlgorithmMetricsBeanPostProcessor(meterRegistryProvider, null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new AlgorithmMetricsBeanPostProcessor(meterRegistryProvider, " "))
+		);
+	}
+
+	@Test
+	@DisplayName("leaves the other beans untouched")
+	void leavesOtherBeans() {
+		final SampleService sampleService = new SampleService();
+
+		assertSame(sampleService, algorithmMetricsBeanPostProcessor.postProcessAfterInitialization(sampleService, "sampleService"));
+	}
+
+	public static class SampleAlgorithm {
+
+		public int square(final int value) {
+			if (value < 0) {
+				throw new IllegalArgumentException("The value must be positive.");
+			}
+			return value * value;
+		}
+	}
+
+	public static class SampleService {
+	}
+}
@@ -3,21 +3,14 @@
  */
 package ch.post.it.evoting.securedatamanager.setup.process;
 
-import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap.toImmutableMap;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.base.Preconditions.checkState;
-
-import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
-import ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap;
-import ch.post.it.evoting.domain.configuration.setupvoting.VoterInitialCodes;
 import ch.post.it.evoting.domain.configuration.setupvoting.VoterInitialCodesPayload;
 import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
 
@@ -78,34 +71,4 @@ public class VoterInitialCodesPayloadService {
 
 		return voterInitialCodesPayload;
 	}
-
-	/**
-	 * Loads all the voter initial codes payloads for the given {@code electionEventId} and collects them as a map by voter identification.
-	 *
-	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
-	 * @return the voter initial codes map for this {@code electionEventId}.
-	 * @throws NullPointerException      if the election event id is null.
-	 * @throws FailedValidationException if the event id is not a valid UUID.
-	 */
-	public ImmutableMap<String, VoterInitialCodesByVcs> loadVoterInitialCodesMap(final String electionEventId) {
-		validateUUID(electionEventId);
-
-		final ImmutableList<VoterInitialCodesPayload> voterInitialCodesPayloads = voterInitialCodesPayloadFileRepository.findAllByElectionEventId(
-				electionEventId);
-		checkState(!voterInitialCodesPayloads.isEmpty(), "Requested voter initial codes payloads are not present. [electionEventId: %s]",
-				electionEventId);
-
-		final ImmutableMap<String, VoterInitialCodesByVcs> voterInitialCodesMap = voterInitialCodesPayloads.stream()
-				.flatMap(voterInitialCodesPayload -> voterInitialCodesPayload.voterInitialCodes().stream()
-						.map(voterInitialCodes -> new VoterInitialCodesByVcs(voterInitialCodesPayload.verificationCardSetId(), voterInitialCodes)))
-				.collect(toImmutableMap(voterInitialCodesByVcs -> voterInitialCodesByVcs.voterInitialCodes.voterIdentification(),
-						Function.identity()));
-
-		LOGGER.info("Loaded all voter initial codes payloads. [electionEventId: {}]", electionEventId);
-
-		return voterInitialCodesMap;
-	}
-
-	public record VoterInitialCodesByVcs(String verificationCardSetId, VoterInitialCodes voterInitialCodes) {
-	}
 }
@@ -3,21 +3,14 @@
  */
 package ch.post.it.evoting.securedatamanager.setup.process;
 
-import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap.toImmutableMap;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.base.Preconditions.checkState;
-
-import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
-import ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap;
-import ch.post.it.evoting.domain.configuration.VoterReturnCodes;
 import ch.post.it.evoting.domain.configuration.VoterReturnCodesPayload;
 import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
 
@@ -72,31 +65,4 @@ public class VoterReturnCodesPayloadService {
 						String.format("Requested voter return codes payload is not present. [electionEventId: %s, verificationCardSetId: %s]",
 								electionEventId, verificationCardSetId)));
 	}
-
-	/**
-	 * Loads all the voter return codes payloads for the given {@code electionEventId} and collects them as a map by verification card id.
-	 *
-	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
-	 * @return the voter return codes map for this {@code electionEventId}.
-	 * @throws NullPointerException      if the election event id is null.
-	 * @throws FailedValidationException if the event id is not a valid UUID.
-	 */
-	public ImmutableMap<String, VoterReturnCodes> loadVoterReturnCodesMap(final String electionEventId) {
-		validateUUID(electionEventId);
-
-		final ImmutableList<VoterReturnCodesPayload> voterReturnCodesPayloads = voterReturnCodesPayloadFileRepository.findAllByElectionEventId(
-				electionEventId);
-		checkState(!voterReturnCodesPayloads.isEmpty(), "Requested voter return codes payload is not present. [electionEventId: %s]",
-				electionEventId);
-
-		final ImmutableMap<String, VoterReturnCodes> voterReturnCodesMap = voterReturnCodesPayloads.stream()
-				.map(VoterReturnCodesPayload::voterReturnCodes)
-				.flatMap(ImmutableList::stream)
-				.collect(toImmutableMap(VoterReturnCodes::verificationCardId, Function.identity()));
-
-		LOGGER.info("Loaded all voter return codes payloads. [electionEventId: {}]", electionEventId);
-
-		return voterReturnCodesMap;
-	}
-
 }
@@ -7,7 +7,6 @@ import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
-import ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap;
 import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
 
 /**
@@ -21,7 +20,7 @@ public class ReturnCodesGenerationOutput {
 	private final ImmutableList<String> verificationCardIds;
 	private final ImmutableList<String> shortVoteCastReturnCodes;
 	private final ImmutableList<String> longVoteCastReturnCodesAllowList;
-	private final ImmutableMap<String, String> returnCodesMappingTable;
+	private final ReturnCodesMappingTableRuns returnCodesMappingTableRuns;
 	private final ImmutableList<ImmutableList<String>> shortChoiceReturnCodes;
 
 	/**
@@ -30,7 +29,7 @@ public class ReturnCodesGenerationOutput {
 	 */
 	private ReturnCodesGenerationOutput(final String electionEventId, final String verificationCardSetId,
 			final ImmutableList<String> verificationCardIds, final ImmutableList<String> shortVoteCastReturnCodes,
-			final ImmutableList<String> longVoteCastReturnCodesAllowList, final ImmutableMap<String, String> returnCodesMappingTable,
+			final ImmutableList<String> longVoteCastReturnCodesAllowList, final ReturnCodesMappingTableRuns returnCodesMappingTableRuns,
 			final ImmutableList<ImmutableList<String>> shortChoiceReturnCodes) {
 
 		validateUUID(electionEventId);
@@ -38,7 +37,7 @@ public class ReturnCodesGenerationOutput {
 		checkNotNull(verificationCardIds);
 		checkNotNull(shortVoteCastReturnCodes);
 		checkNotNull(longVoteCastReturnCodesAllowList);
-		checkNotNull(returnCodesMappingTable);
+		checkNotNull(returnCodesMappingTableRuns);
 		checkNotNull(shortChoiceReturnCodes);
 
 		this.electionEventId = electionEventId;
@@ -46,7 +45,7 @@ public class ReturnCodesGenerationOutput {
 		this.verificationCardIds = verificationCardIds;
 		this.shortVoteCastReturnCodes = shortVoteCastReturnCodes;
 		this.longVoteCastReturnCodesAllowList = longVoteCastReturnCodesAllowList;
-		this.returnCodesMappingTable = returnCodesMappingTable;
+		this.returnCodesMappingTableRuns = returnCodesMappingTableRuns;
 		this.shortChoiceReturnCodes = shortChoiceReturnCodes;
 	}
 
@@ -70,8 +69,11 @@ public class ReturnCodesGenerationOutput {
 		return longVoteCastReturnCodesAllowList;
 	}
 
-	public ImmutableMap<String, String> getReturnCodesMappingTable() {
-		return returnCodesMappingTable;
+	/**
+	 * @return the Return Codes Mapping table, as sorted runs on disk. The caller is responsible for closing the runs.
+	 */
+	public ReturnCodesMappingTableRuns getReturnCodesMappingTableRuns() {
+		return returnCodesMappingTableRuns;
 	}
 
 	public ImmutableList<ImmutableList<String>> getShortChoiceReturnCodes() {
@@ -84,7 +86,7 @@ public class ReturnCodesGenerationOutput {
 		private ImmutableList<String> verificationCardIds;
 		private ImmutableList<String> shortVoteCastReturnCodes;
 		private ImmutableList<String> longVoteCastReturnCodesAllowList;
-		private ImmutableMap<String, String> returnCodesMappingTable;
+		private ReturnCodesMappingTableRuns returnCodesMappingTableRuns;
 		private ImmutableList<ImmutableList<String>> shortChoiceReturnCodes;
 
 		public Builder setElectionEventId(final String electionEventId) {
@@ -112,8 +114,8 @@ public class ReturnCodesGenerationOutput {
 			return this;
 		}
 
-		public Builder setReturnCodesMappingTable(final ImmutableMap<String, String> returnCodesMappingTable) {
-			this.returnCodesMappingTable = returnCodesMappingTable;
+		public Builder setReturnCodesMappingTableRuns(final ReturnCodesMappingTableRuns returnCodesMappingTableRuns) {
+			this.returnCodesMappingTableRuns = returnCodesMappingTableRuns;
 			return this;
 		}
 
@@ -124,7 +126,7 @@ public class ReturnCodesGenerationOutput {
 
 		public ReturnCodesGenerationOutput build() {
 			return new ReturnCodesGenerationOutput(electionEventId, verificationCardSetId, verificationCardIds, shortVoteCastReturnCodes,
-					longVoteCastReturnCodesAllowList, returnCodesMappingTable, shortChoiceReturnCodes);
+					longVoteCastReturnCodesAllowList, returnCodesMappingTableRuns, shortChoiceReturnCodes);
 		}
 	}
 }
@@ -0,0 +1,197 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.setup.process.generate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.FileSystemUtils;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap;
+
+/**
+ * The Return Codes Mapping table of a verification card set, kept on disk as sorted runs.
+ * <p>
+ * The GenCMTable algorithm outputs, per chunk of verification cards, a table ordered by key. Each of these sorted runs is written to its own
+ * temporary file as soon as it is generated, and the runs are k-way merged when the table is read. The table of a verification card set therefore
+ * never has to fit in memory. The temporary files are deleted when the runs are closed.
+ * </p>
+ */
+public final class ReturnCodesMappingTableRuns implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReturnCodesMappingTableRuns.class);
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Path directory;
+	private final Map<Integer, Path> runs = new ConcurrentHashMap<>();
+	private final AtomicLong size = new AtomicLong();
+
+	private ReturnCodesMappingTableRuns(final Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * @return new runs stored in a new temporary directory.
+	 * @throws UncheckedIOException if the temporary directory cannot be created.
+	 */
+	// The temporary directory is created with a random UUID, used immediately, and deleted when the runs are closed.
+	@SuppressWarnings("java:S5443")
+	static ReturnCodesMappingTableRuns create() {
+		try {
+			return new ReturnCodesMappingTableRuns(Files.createTempDirectory(UUID.randomUUID().toString()).toAbsolutePath());
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Unable to create temporary directory for the return codes mapping table.", e);
+		}
+	}
+
+	/**
+	 * Writes a sorted run. Runs can be written concurrently.
+	 *
+	 * @param runId                   the id of the run. Must be unique among the runs.
+	 * @param returnCodesMappingTable the entries of the run, ordered by key. Must be non-null.
+	 * @throws IllegalArgumentException if a run with the same id was already written or if the entries are not strictly ordered by key.
+	 * @throws UncheckedIOException     if the run cannot be written.
+	 */
+	void write(final int runId, final ImmutableMap<String, String> returnCodesMappingTable) {
+		checkNotNull(returnCodesMappingTable);
+
+		final Path run = directory.resolve("run-" + runId);
+		checkArgument(runs.putIfAbsent(runId, run) == null, "The run has already been written. [runId: %s]", runId);
+
+		try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), BUFFER_SIZE))) {
+			output.writeInt(returnCodesMappingTable.size());
+			String previousKey = null;
+			for (final ImmutableMap.Entry<String, String> entry : returnCodesMappingTable.entrySet()) {
+				checkArgument(previousKey == null || previousKey.compareTo(entry.key()) < 0, "The run must be strictly ordered by key. [runId: %s]",
+						runId);
+				output.writeUTF(entry.key());
+				output.writeUTF(entry.value());
+				previousKey = entry.key();
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(String.format("Unable to write the return codes mapping table run. [runId: %s]", runId), e);
+		}
+		size.addAndGet(returnCodesMappingTable.size());
+	}
+
+	/**
+	 * @return the number of entries of all the written runs.
+	 */
+	long size() {
+		return size.get();
+	}
+
+	/**
+	 * Merges the runs and hands their entries to the given consumer, in the order of their key.
+	 *
+	 * @param consumer the consumer of the entries. Must be non-null.
+	 * @throws IllegalStateException if two runs contain the same key.
+	 * @throws UncheckedIOException  if a run cannot be read.
+	 */
+	void forEachOrdered(final BiConsumer<String, String> consumer) {
+		checkNotNull(consumer);
+
+		final List<RunReader> readers = new ArrayList<>(runs.size());
+		try {
+			final PriorityQueue<RunReader> queue = new PriorityQueue<>(Math.max(1, runs.size()), Comparator.comparing(RunReader::key));
+			for (final Path run : runs.values()) {
+				final RunReader reader = new RunReader(run);
+				readers.add(reader);
+				if (reader.next()) {
+					queue.add(reader);
+				}
+			}
+
+			String previousKey = null;
+			while (!queue.isEmpty()) {
+				final RunReader reader = queue.poll();
+				checkState(previousKey == null || previousKey.compareTo(reader.key()) < 0,
+						"The return codes mapping table contains a duplicate key.");
+				previousKey = reader.key();
+				consumer.accept(reader.key(), reader.value());
+				if (reader.next()) {
+					queue.add(reader);
+				}
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Unable to read the return codes mapping table runs.", e);
+		} finally {
+			readers.forEach(RunReader::close);
+		}
+	}
+
+	/**
+	 * Deletes the temporary files of the runs.
+	 */
+	@Override
+	public void close() {
+		try {
+			FileSystemUtils.deleteRecursively(directory);
+		} catch (final IOException e) {
+			LOGGER.warn("Fail to remove temporary directory for the return codes mapping table. [directory: {}]", directory);
+		}
+	}
+
+	private static final class RunReader {
+
+		private final Path run;
+		private final DataInputStream input;
+		private int remaining;
+		private String key;
+		private String value;
+
+		private RunReader(final Path run) throws IOException {
+			this.run = run;
+			this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), BUFFER_SIZE));
+			this.remaining = input.readInt();
+		}
+
+		private boolean next() throws IOException {
+			if (remaining == 0) {
+				return false;
+			}
+			key = input.readUTF();
+			value = input.readUTF();
+			remaining--;
+			return true;
+		}
+
+		private String key() {
+			return key;
+		}
+
+		private String value() {
+			return value;
+		}
+
+		private void close() {
+			try {
+				input.close();
+			} catch (final IOException e) {
+				LOGGER.warn("Fail to close the return codes mapping table run. [run: {}]", run);
+			}
+		}
+	}
+}
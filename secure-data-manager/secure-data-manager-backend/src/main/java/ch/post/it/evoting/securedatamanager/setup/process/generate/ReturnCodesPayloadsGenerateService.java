@@ -6,13 +6,12 @@ package ch.post.it.evoting.securedatamanager.setup.process.generate;
 import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
 import static ch.post.it.evoting.securedatamanager.shared.process.Status.GENERATED;
+import static com.google.common.base.Preconditions.checkState;
 
 import java.security.SignatureException;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
@@ -31,7 +30,6 @@ import ch.post.it.evoting.cryptoprimitives.math.PrimeGqElement;
 import ch.post.it.evoting.cryptoprimitives.signing.SignatureKeystore;
 import ch.post.it.evoting.domain.configuration.ChoiceReturnCodeToEncodedVotingOptionEntry;
 import ch.post.it.evoting.domain.configuration.SetupComponentCMTablePayload;
-import ch.post.it.evoting.domain.configuration.SetupComponentCMTablePayloadChunks;
 import ch.post.it.evoting.domain.configuration.VoterReturnCodes;
 import ch.post.it.evoting.domain.configuration.VoterReturnCodesPayload;
 import ch.post.it.evoting.domain.configuration.setupvoting.SetupComponentLVCCAllowListPayload;
@@ -97,22 +95,24 @@ public class ReturnCodesPayloadsGenerateService {
 		final ReturnCodesGenerationOutput returnCodesGenerationOutput = verificationCardSetDataGenerationService.generate(electionEventId,
 				verificationCardSetId);
 
-		// Setup Component CMTable Payloads
-		final SetupComponentCMTablePayloadChunks setupComponentCMTablePayloadChunks = getSetupComponentCMTablePayloads(electionEventId,
-				returnCodesGenerationOutput);
-		LOGGER.debug("Successfully created the setup component CMTable payloads. [electionEventId: {}, verificationCardSetId: {}, chunkCount: {}]",
-				electionEventId, returnCodesGenerationOutput.getVerificationCardSetId(), setupComponentCMTablePayloadChunks.getChunkCount());
+		try (final ReturnCodesMappingTableRuns returnCodesMappingTableRuns = returnCodesGenerationOutput.getReturnCodesMappingTableRuns()) {
+			// Voter Return Codes payload
+			final VoterReturnCodesPayload voterReturnCodesPayload = generateVoterReturnCodesPayload(returnCodesGenerationOutput);
 
-		// Voter Return Codes payload
-		final VoterReturnCodesPayload voterReturnCodesPayload = generateVoterReturnCodesPayload(returnCodesGenerationOutput);
+			// Setup component LVCC allow list payload
+			final SetupComponentLVCCAllowListPayload setupComponentLVCCAllowListPayload =
+					generateLongVoteCastReturnCodesAllowListPayload(returnCodesGenerationOutput);
 
-		// Setup component LVCC allow list payload
-		final SetupComponentLVCCAllowListPayload setupComponentLVCCAllowListPayload =
-				generateLongVoteCastReturnCodesAllowListPayload(returnCodesGenerationOutput);
+			// Persist the payloads
+			returnCodesPayloadsPersistenceService.save(returnCodesGenerationOutput.getElectionEventId(), verificationCardSetId,
+					voterReturnCodesPayload, setupComponentLVCCAllowListPayload);
 
-		// Persist the payloads
-		returnCodesPayloadsPersistenceService.save(returnCodesGenerationOutput.getElectionEventId(), verificationCardSetId,
-				setupComponentCMTablePayloadChunks, voterReturnCodesPayload, setupComponentLVCCAllowListPayload);
+			// Setup Component CMTable Payloads, persisted last and chunk by chunk while merging the sorted runs of the Return Codes Mapping table.
+			final int chunkCount = generateAndSaveSetupComponentCMTablePayloads(electionEventId, verificationCardSetId, returnCodesMappingTableRuns);
+			LOGGER.info(
+					"Setup component CMTable payloads successfully generated and persisted. [electionEventId: {}, verificationCardSetId: {}, chunkCount: {}]",
+					electionEventId, verificationCardSetId, chunkCount);
+		}
 
 		LOGGER.info("Return codes payloads are successfully generated and persisted. [electionEventId: {}, verificationCardSetId: {}]",
 				returnCodesGenerationOutput.getElectionEventId(), verificationCardSetId);
@@ -121,41 +121,55 @@ public class ReturnCodesPayloadsGenerateService {
 		LOGGER.info("Verification card set is generated. [electionEventId: {}, verificationCardSetId: {}]", electionEventId, verificationCardSetId);
 	}
 
-	private SetupComponentCMTablePayloadChunks getSetupComponentCMTablePayloads(final String electionEventId,
-			final ReturnCodesGenerationOutput returnCodesGenerationOutput) {
+	private int generateAndSaveSetupComponentCMTablePayloads(final String electionEventId, final String verificationCardSetId,
+			final ReturnCodesMappingTableRuns returnCodesMappingTableRuns) {
+		checkState(returnCodesMappingTableRuns.size() > 0, "The return codes mapping table is empty. [electionEventId: %s, verificationCardSetId: %s]",
+				electionEventId, verificationCardSetId);
 
-		final String verificationCardSetId = returnCodesGenerationOutput.getVerificationCardSetId();
-		final ImmutableMap<String, String> returnCodesMappingTable = returnCodesGenerationOutput.getReturnCodesMappingTable();
-		final Iterator<ImmutableMap.Entry<String, String>> iterator = returnCodesMappingTable.entrySet().iterator();
-
-		final List<SetupComponentCMTablePayload> payloadChunks = new ArrayList<>();
-		Map<String, String> returnCodesMappingTableChunk = new TreeMap<>();
-		for (int i = 0; i < returnCodesMappingTable.size(); i++) {
-
-			final ImmutableMap.Entry<String, String> entry = iterator.next();
-			returnCodesMappingTableChunk.put(entry.key(), entry.value());
-
-			// If the chunked CMTable is full then we create the payload, sign it and add it to the list of payloads.
-			if (returnCodesMappingTableChunk.size() == chunkSize || !iterator.hasNext()) {
-				final SetupComponentCMTablePayload setupComponentCMTablePayload = new SetupComponentCMTablePayload.Builder()
-						.setElectionEventId(electionEventId)
-						.setVerificationCardSetId(verificationCardSetId)
-						.setChunkId(i / chunkSize)
-						.setReturnCodesMappingTable(ImmutableMap.from(returnCodesMappingTableChunk, TreeMap::new))
-						.build();
-
-				final Hashable additionalContextData = ChannelSecurityContextData.setupComponentCMTable(electionEventId, verificationCardSetId);
-				final CryptoPrimitivesSignature setupComponentCMTablePayloadSignature = getPayloadSignature(setupComponentCMTablePayload,
-						additionalContextData);
-				setupComponentCMTablePayload.setSignature(setupComponentCMTablePayloadSignature);
-
-				payloadChunks.add(setupComponentCMTablePayload);
-
-				// Prepare for the next chunk
-				returnCodesMappingTableChunk = new TreeMap<>();
+		final Hashable additionalContextData = ChannelSecurityContextData.setupComponentCMTable(electionEventId, verificationCardSetId);
+		final AtomicInteger chunkId = new AtomicInteger();
+		final Map<String, String> returnCodesMappingTableChunk = new TreeMap<>();
+		final Runnable saveChunk = () -> {
+			final SetupComponentCMTablePayload setupComponentCMTablePayload = new SetupComponentCMTablePayload.Builder()
+					.setElectionEventId(electionEventId)
+					.setVerificationCardSetId(verificationCardSetId)
+					.setChunkId(chunkId.getAndIncrement())
+					.setReturnCodesMappingTable(ImmutableMap.from(returnCodesMappingTableChunk, TreeMap::new))
+					.build();
+
+			final CryptoPrimitivesSignature setupComponentCMTablePayloadSignature = getPayloadSignature(setupComponentCMTablePayload,
+					additionalContextData);
+			setupComponentCMTablePayload.setSignature(setupComponentCMTablePayloadSignature);
+
+			returnCodesPayloadsPersistenceService.saveSetupComponentCMTablePayload(setupComponentCMTablePayload);
+
+			// Prepare for the next chunk
+			returnCodesMappingTableChunk.clear();
+		};
+
+		try {
+			returnCodesMappingTableRuns.forEachOrdered((key, value) -> {
+				returnCodesMappingTableChunk.put(key, value);
+
+				// If the chunked CMTable is full then we create the payload, sign it and persist it.
+				if (returnCodesMappingTableChunk.size() == chunkSize) {
+					saveChunk.run();
+				}
+			});
+			if (!returnCodesMappingTableChunk.isEmpty()) {
+				saveChunk.run();
+			}
+		} catch (final RuntimeException e) {
+			// Do not leave a partial table behind.
+			try {
+				returnCodesPayloadsPersistenceService.deleteSetupComponentCMTablePayloads(electionEventId, verificationCardSetId);
+			} catch (final RuntimeException deletionException) {
+				e.addSuppressed(deletionException);
 			}
+			throw e;
 		}
-		return new SetupComponentCMTablePayloadChunks(ImmutableList.from(payloadChunks));
+
+		return chunkId.get();
 	}
 
 	private VoterReturnCodesPayload generateVoterReturnCodesPayload(final ReturnCodesGenerationOutput returnCodesGenerationOutput) {
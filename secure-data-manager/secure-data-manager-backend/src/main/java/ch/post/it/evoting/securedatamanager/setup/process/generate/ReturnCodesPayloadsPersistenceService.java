@@ -12,7 +12,6 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import ch.post.it.evoting.domain.configuration.SetupComponentCMTablePayload;
-import ch.post.it.evoting.domain.configuration.SetupComponentCMTablePayloadChunks;
 import ch.post.it.evoting.domain.configuration.VoterReturnCodesPayload;
 import ch.post.it.evoting.domain.configuration.setupvoting.SetupComponentLVCCAllowListPayload;
 import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
@@ -39,36 +38,59 @@ public class ReturnCodesPayloadsPersistenceService {
 		this.setupComponentLVCCAllowListPayloadService = setupComponentLVCCAllowListPayloadService;
 	}
 
+	/**
+	 * Persists on the file system a chunk of the setup component CMTable payloads.
+	 *
+	 * @param setupComponentCMTablePayload the {@link SetupComponentCMTablePayload}. Must be non-null.
+	 * @throws NullPointerException if {@code setupComponentCMTablePayload} is null.
+	 */
+	public void saveSetupComponentCMTablePayload(final SetupComponentCMTablePayload setupComponentCMTablePayload) {
+		checkNotNull(setupComponentCMTablePayload);
+
+		setupComponentCMTablePayloadService.save(setupComponentCMTablePayload);
+		LOGGER.debug("Setup component CMTable payload successfully persisted. [electionEventId: {}, verificationCardSetId: {}, chunkId: {}]",
+				setupComponentCMTablePayload.getElectionEventId(), setupComponentCMTablePayload.getVerificationCardSetId(),
+				setupComponentCMTablePayload.getChunkId());
+	}
+
+	/**
+	 * Deletes from the file system the chunks of the setup component CMTable payloads already persisted for the given verification card set.
+	 *
+	 * @param electionEventId       the election event id. Must be non-null and a valid UUID.
+	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
+	 * @throws FailedValidationException if {@code electionEventId} or {@code verificationCardSetId} is invalid.
+	 */
+	public void deleteSetupComponentCMTablePayloads(final String electionEventId, final String verificationCardSetId) {
+		validateUUID(electionEventId);
+		validateUUID(verificationCardSetId);
+
+		setupComponentCMTablePayloadService.delete(electionEventId, verificationCardSetId);
+		LOGGER.info("Setup component CMTable payloads deleted. [electionEventId: {}, verificationCardSetId: {}]", electionEventId,
+				verificationCardSetId);
+	}
+
 	/**
 	 * Persists on the file system the following payloads:
 	 * <ul>
-	 *     <li>Setup component CMTable payloads</li>
 	 *     <li>Voter Return Codes payload</li>
 	 *     <li>Setup component LVCC allow list payload</li>
 	 * </ul>
 	 *
 	 * @param electionEventId                    the election event id. Must be non-null and a valid UUID.
 	 * @param verificationCardSetId              the verification card set id. Must be non-null and a valid UUID.
-	 * @param setupComponentCMTablePayloadChunks the list of {@link SetupComponentCMTablePayload}. Must be non-null.
 	 * @param voterReturnCodesPayload            the {@link VoterReturnCodesPayload}. Must be non-null.
 	 * @param setupComponentLVCCAllowListPayload the {@link SetupComponentLVCCAllowListPayload}. Must be non-null.
 	 * @throws NullPointerException      if any of the input is null.
 	 * @throws FailedValidationException if {@code electionEventId} or {@code verificationCardSetId} is invalid.
 	 */
 	public void save(final String electionEventId, final String verificationCardSetId,
-			final SetupComponentCMTablePayloadChunks setupComponentCMTablePayloadChunks, final VoterReturnCodesPayload voterReturnCodesPayload,
-			final SetupComponentLVCCAllowListPayload setupComponentLVCCAllowListPayload) {
+			final VoterReturnCodesPayload voterReturnCodesPayload, final SetupComponentLVCCAllowListPayload setupComponentLVCCAllowListPayload) {
 
 		validateUUID(electionEventId);
 		validateUUID(verificationCardSetId);
-		checkNotNull(setupComponentCMTablePayloadChunks);
 		checkNotNull(voterReturnCodesPayload);
 		checkNotNull(setupComponentLVCCAllowListPayload);
 
-		setupComponentCMTablePayloadService.save(setupComponentCMTablePayloadChunks);
-		LOGGER.info("Setup component CMTable payloads successfully persisted. [electionEventId: {}, verificationCardSetId: {}, chunkCount: {}]",
-				electionEventId, verificationCardSetId, setupComponentCMTablePayloadChunks.getChunkCount());
-
 		voterReturnCodesPayloadService.save(voterReturnCodesPayload, verificationCardSetId);
 		LOGGER.info("Voter return codes payload successfully persisted. [electionEventId: {}, verificationCardSetId: {}]", electionEventId,
 				verificationCardSetId);
@@ -13,8 +13,6 @@ import static com.google.common.base.Preconditions.checkState;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
@@ -25,7 +23,6 @@ import org.springframework.stereotype.Service;
 import com.google.common.collect.MoreCollectors;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
-import ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableSet;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrivateKey;
 import ch.post.it.evoting.evotinglibraries.domain.election.PrimesMappingTable;
@@ -89,7 +86,8 @@ public class VerificationCardSetDataGenerationService {
 	 *
 	 * @param electionEventId       the election event id. Must be non-null and a valid UUID.
 	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
-	 * @return a {@link ReturnCodesGenerationOutput} containing outputs of the CombineEncLongCodeShares and GenCMTable algorithms.
+	 * @return a {@link ReturnCodesGenerationOutput} containing outputs of the CombineEncLongCodeShares and GenCMTable algorithms. The caller is
+	 * responsible for closing its Return Codes Mapping table runs.
 	 * @throws NullPointerException      if {@code electionEventId} or {@code verificationCardSetId} is null.
 	 * @throws FailedValidationException if {@code electionEventId} or {@code verificationCardSetId} is invalid.
 	 */
@@ -119,69 +117,76 @@ public class VerificationCardSetDataGenerationService {
 				ImmutableList.emptyList());
 		final ElGamalMultiRecipientPrivateKey setupSecretKey = setupKeyPairService.load(electionEventId).getPrivateKey();
 
-		final ImmutableList<ReturnCodesGenerationOutputChunk> returnCodesGenerationOutputChunks = controlComponentCodeSharesPayloadsChunkPaths.stream()
-				.parallel()
-				.map(controlComponentCodeSharesPayloadsPath -> {
-					// Load control component code shares payloads chunk and convert it
-					final ControlComponentCodeSharesPayloadsChunk controlComponentCodeSharesPayloadsChunk = controlComponentCodeSharesPayloadService.load(
-							controlComponentCodeSharesPayloadsPath);
-					final EncryptedNodeLongReturnCodeSharesChunk encryptedNodeLongReturnCodeSharesChunk = encryptedNodeLongReturnCodeSharesService.convertControlComponentCodeSharesPayloadsChunk(
-							electionEventId, verificationCardSetId, controlComponentCodeSharesPayloadsChunk);
-
-					final int chunkId = encryptedNodeLongReturnCodeSharesChunk.getChunkId();
-
-					final CombineEncLongCodeSharesOutput combineEncLongCodeSharesOutput = combineEncLongCodeSharesService.combineEncLongCodeShares(
-							electionEventContextPayload, primesMappingTable, verificationCardSetId, encryptedNodeLongReturnCodeSharesChunk,
-							setupSecretKey);
-					LOGGER.info(
-							"Encrypted long return code shares successfully combined. [electionEventId: {}, verificationCardSetId: {}, chunkId: {}]",
-							electionEventId, verificationCardSetId, chunkId);
-
-					final ImmutableList<String> verificationCardIds = encryptedNodeLongReturnCodeSharesChunk.getVerificationCardIds();
-					final GenCMTableOutput genCMTableOutput = genCMTableService.genCMTable(electionEventContextPayload, correctnessInformation,
-							verificationCardSetId, verificationCardIds, chunkId, setupSecretKey, combineEncLongCodeSharesOutput);
-					LOGGER.info(
-							"Return codes mapping table successfully generated. [electionEventId: {}, verificationCardSetId: {}, chunkId: {}]",
-							electionEventId, verificationCardSetId, chunkId);
-
-					return new ReturnCodesGenerationOutputChunk(verificationCardIds,
-							combineEncLongCodeSharesOutput.getLongVoteCastReturnCodesAllowList(), genCMTableOutput);
-				}).collect(toImmutableList());
-
-		final int numberOfEligibleVoters = electionEventContextPayload.getElectionEventContext().verificationCardSetContexts().stream().parallel()
-				.filter(verificationCardSetContext -> verificationCardSetContext.getVerificationCardSetId().equals(verificationCardSetId))
-				.map(VerificationCardSetContext::getNumberOfEligibleVoters)
-				.collect(MoreCollectors.onlyElement());
-		final ImmutableSet<String> treatedVerificationCardIds = returnCodesGenerationOutputChunks.stream()
-				.flatMap(chunk -> chunk.verificationCardIds().stream())
-				.collect(toImmutableSet());
-		checkState(numberOfEligibleVoters == treatedVerificationCardIds.size());
-
-		LOGGER.info("Return codes generation finished. [electionEventId: {}, verificationCardSetId: {}, verificationCardSetId: {}]", electionEventId,
-				verificationCardSetId, verificationCardSetId);
-
-		final List<String> verificationCardIds = new ArrayList<>();
-		final List<String> longVoteCastReturnCodesAllowList = new ArrayList<>();
-		final List<String> shortVoteCastReturnCodes = new ArrayList<>();
-		final List<ImmutableList<String>> shortChoiceReturnCodes = new ArrayList<>();
-		final Map<String, String> returnCodesMappingTable = new TreeMap<>();
-		returnCodesGenerationOutputChunks.forEach(returnCodesGenerationOutputChunk -> {
-			verificationCardIds.addAll(returnCodesGenerationOutputChunk.verificationCardIds().asList());
-			longVoteCastReturnCodesAllowList.addAll(returnCodesGenerationOutputChunk.longVoteCastReturnCodesAllowList().asList());
-			shortChoiceReturnCodes.addAll(returnCodesGenerationOutputChunk.genCMTableOutput().shortChoiceReturnCodes().asList());
-			shortVoteCastReturnCodes.addAll(returnCodesGenerationOutputChunk.genCMTableOutput().shortVoteCastReturnCodes().asList());
-			returnCodesMappingTable.putAll(returnCodesGenerationOutputChunk.genCMTableOutput().returnCodesMappingTable().asMap());
-		});
-
-		return new ReturnCodesGenerationOutput.Builder()
-				.setElectionEventId(electionEventId)
-				.setVerificationCardSetId(verificationCardSetId)
-				.setVerificationCardIds(ImmutableList.from(verificationCardIds))
-				.setShortVoteCastReturnCodes(ImmutableList.from(shortVoteCastReturnCodes))
-				.setLongVoteCastReturnCodesAllowList(ImmutableList.from(longVoteCastReturnCodesAllowList))
-				.setReturnCodesMappingTable(ImmutableMap.from(returnCodesMappingTable, TreeMap::new))
-				.setShortChoiceReturnCodes(ImmutableList.from(shortChoiceReturnCodes))
-				.build();
+		// The Return Codes Mapping table of each chunk is spilled to disk as a sorted run as soon as it is generated.
+		final ReturnCodesMappingTableRuns returnCodesMappingTableRuns = ReturnCodesMappingTableRuns.create();
+		try {
+			final ImmutableList<ReturnCodesGenerationOutputChunk> returnCodesGenerationOutputChunks = controlComponentCodeSharesPayloadsChunkPaths.stream()
+					.parallel()
+					.map(controlComponentCodeSharesPayloadsPath -> {
+						// Load control component code shares payloads chunk and convert it
+						final ControlComponentCodeSharesPayloadsChunk controlComponentCodeSharesPayloadsChunk = controlComponentCodeSharesPayloadService.load(
+								controlComponentCodeSharesPayloadsPath);
+						final EncryptedNodeLongReturnCodeSharesChunk encryptedNodeLongReturnCodeSharesChunk = encryptedNodeLongReturnCodeSharesService.convertControlComponentCodeSharesPayloadsChunk(
+								electionEventId, verificationCardSetId, controlComponentCodeSharesPayloadsChunk);
+
+						final int chunkId = encryptedNodeLongReturnCodeSharesChunk.getChunkId();
+
+						final CombineEncLongCodeSharesOutput combineEncLongCodeSharesOutput = combineEncLongCodeSharesService.combineEncLongCodeShares(
+								electionEventContextPayload, primesMappingTable, verificationCardSetId, encryptedNodeLongReturnCodeSharesChunk,
+								setupSecretKey);
+						LOGGER.info(
+								"Encrypted long return code shares successfully combined. [electionEventId: {}, verificationCardSetId: {}, chunkId: {}]",
+								electionEventId, verificationCardSetId, chunkId);
+
+						final ImmutableList<String> verificationCardIds = encryptedNodeLongReturnCodeSharesChunk.getVerificationCardIds();
+						final GenCMTableOutput genCMTableOutput = genCMTableService.genCMTable(electionEventContextPayload, correctnessInformation,
+								verificationCardSetId, verificationCardIds, chunkId, setupSecretKey, combineEncLongCodeSharesOutput);
+						returnCodesMappingTableRuns.write(chunkId, genCMTableOutput.returnCodesMappingTable());
+						LOGGER.info(
+								"Return codes mapping table successfully generated. [electionEventId: {}, verificationCardSetId: {}, chunkId: {}]",
+								electionEventId, verificationCardSetId, chunkId);
+
+						return new ReturnCodesGenerationOutputChunk(verificationCardIds,
+								combineEncLongCodeSharesOutput.getLongVoteCastReturnCodesAllowList(), genCMTableOutput.shortChoiceReturnCodes(),
+								genCMTableOutput.shortVoteCastReturnCodes());
+					}).collect(toImmutableList());
+
+			final int numberOfEligibleVoters = electionEventContextPayload.getElectionEventContext().verificationCardSetContexts().stream().parallel()
+					.filter(verificationCardSetContext -> verificationCardSetContext.getVerificationCardSetId().equals(verificationCardSetId))
+					.map(VerificationCardSetContext::getNumberOfEligibleVoters)
+					.collect(MoreCollectors.onlyElement());
+			final ImmutableSet<String> treatedVerificationCardIds = returnCodesGenerationOutputChunks.stream()
+					.flatMap(chunk -> chunk.verificationCardIds().stream())
+					.collect(toImmutableSet());
+			checkState(numberOfEligibleVoters == treatedVerificationCardIds.size());
+
+			LOGGER.info("Return codes generation finished. [electionEventId: {}, verificationCardSetId: {}, verificationCardSetId: {}]",
+					electionEventId, verificationCardSetId, verificationCardSetId);
+
+			final List<String> verificationCardIds = new ArrayList<>();
+			final List<String> longVoteCastReturnCodesAllowList = new ArrayList<>();
+			final List<String> shortVoteCastReturnCodes = new ArrayList<>();
+			final List<ImmutableList<String>> shortChoiceReturnCodes = new ArrayList<>();
+			returnCodesGenerationOutputChunks.forEach(returnCodesGenerationOutputChunk -> {
+				verificationCardIds.addAll(returnCodesGenerationOutputChunk.verificationCardIds().asList());
+				longVoteCastReturnCodesAllowList.addAll(returnCodesGenerationOutputChunk.longVoteCastReturnCodesAllowList().asList());
+				shortChoiceReturnCodes.addAll(returnCodesGenerationOutputChunk.shortChoiceReturnCodes().asList());
+				shortVoteCastReturnCodes.addAll(returnCodesGenerationOutputChunk.shortVoteCastReturnCodes().asList());
+			});
+
+			return new ReturnCodesGenerationOutput.Builder()
+					.setElectionEventId(electionEventId)
+					.setVerificationCardSetId(verificationCardSetId)
+					.setVerificationCardIds(ImmutableList.from(verificationCardIds))
+					.setShortVoteCastReturnCodes(ImmutableList.from(shortVoteCastReturnCodes))
+					.setLongVoteCastReturnCodesAllowList(ImmutableList.from(longVoteCastReturnCodesAllowList))
+					.setReturnCodesMappingTableRuns(returnCodesMappingTableRuns)
+					.setShortChoiceReturnCodes(ImmutableList.from(shortChoiceReturnCodes))
+					.build();
+		} catch (final RuntimeException e) {
+			returnCodesMappingTableRuns.close();
+			throw e;
+		}
 	}
 
 	/**
@@ -214,7 +219,7 @@ public class VerificationCardSetDataGenerationService {
 	}
 
 	record ReturnCodesGenerationOutputChunk(ImmutableList<String> verificationCardIds, ImmutableList<String> longVoteCastReturnCodesAllowList,
-											GenCMTableOutput genCMTableOutput) {
+											ImmutableList<ImmutableList<String>> shortChoiceReturnCodes, ImmutableList<String> shortVoteCastReturnCodes) {
 	}
 
 }
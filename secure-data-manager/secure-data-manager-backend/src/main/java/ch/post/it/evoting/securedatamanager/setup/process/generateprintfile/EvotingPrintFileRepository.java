@@ -20,6 +20,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.util.Iterator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +35,7 @@ import ch.post.it.evoting.evotinglibraries.toolbox.OutputToInputStreamConverter;
 import ch.post.it.evoting.evotinglibraries.xml.XmlFileRepository;
 import ch.post.it.evoting.evotinglibraries.xml.XsdConstants;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardList;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardType;
 import ch.post.it.evoting.securedatamanager.shared.KeystoreRepository;
 import ch.post.it.evoting.securedatamanager.shared.process.PathResolver;
 
@@ -61,22 +63,29 @@ public class EvotingPrintFileRepository extends XmlFileRepository<VotingCardList
 	}
 
 	/**
-	 * Saves the given voting card list in the {@value ch.post.it.evoting.securedatamanager.shared.Constants#SETUP_COMPONENT_EVOTING_PRINT_XML} file
-	 * while validating it against the related {@value XsdConstants#SETUP_COMPONENT_EVOTING_PRINT_XSD}.
+	 * Saves the given voting card list, with the given voting cards, in the
+	 * {@value ch.post.it.evoting.securedatamanager.shared.Constants#SETUP_COMPONENT_EVOTING_PRINT_XML} file while validating it against the related
+	 * {@value XsdConstants#SETUP_COMPONENT_EVOTING_PRINT_XSD}.
+	 * <p>
+	 * The voting cards are consumed one at a time: the document is validated and streamed to the signature while they are marshalled.
+	 * </p>
 	 *
 	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
-	 * @param votingCardList  the voting card list. Must be non-null.
+	 * @param votingCardList  the voting card list, without voting cards. Must be non-null.
+	 * @param votingCards     the voting cards of the voting card list. Must be non-null.
 	 * @throws NullPointerException      if any input is null.
 	 * @throws FailedValidationException if the election event id is not a valid UUID.
 	 */
-	public void save(final String electionEventId, final VotingCardList votingCardList) {
+	public void save(final String electionEventId, final VotingCardList votingCardList, final Iterator<VotingCardType> votingCards) {
 		validateUUID(electionEventId);
 		checkNotNull(votingCardList);
+		checkNotNull(votingCards);
 
 		final Path xmlFilePath = pathResolver.resolvePrintingOutputPath().resolve(filename);
 
 		try (final OutputToInputStreamConverter converter = new OutputToInputStreamConverter();
-				final InputStream printInput = converter.convert(os -> write(os, votingCardList, XsdConstants.SETUP_COMPONENT_EVOTING_PRINT_XSD));
+				final InputStream printInput = converter.convert(
+						os -> VotingCardListStreamWriter.write(os, votingCardList, votingCards, XsdConstants.SETUP_COMPONENT_EVOTING_PRINT_XSD));
 				final OutputStream signedPrintOutput = Files.newOutputStream(xmlFilePath)) {
 
 			LOGGER.debug("Signing setup component evoting print... [electionEventId: {}]", electionEventId);
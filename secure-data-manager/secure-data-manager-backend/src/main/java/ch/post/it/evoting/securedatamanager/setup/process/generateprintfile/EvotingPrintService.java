@@ -4,23 +4,40 @@
 package ch.post.it.evoting.securedatamanager.setup.process.generateprintfile;
 
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap.toImmutableMap;
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap;
 import ch.post.it.evoting.domain.configuration.VoterReturnCodes;
+import ch.post.it.evoting.domain.configuration.setupvoting.VoterInitialCodes;
 import ch.post.it.evoting.evotinglibraries.domain.election.PrimesMappingTable;
 import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.Configuration;
-import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardList;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.VoterType;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardType;
 import ch.post.it.evoting.securedatamanager.setup.process.VoterInitialCodesPayloadService;
 import ch.post.it.evoting.securedatamanager.setup.process.VoterReturnCodesPayloadService;
+import ch.post.it.evoting.securedatamanager.setup.process.generateprintfile.VotingCardListMapper.VotingCardContext;
 import ch.post.it.evoting.securedatamanager.shared.process.ElectionEventContextPayloadService;
 import ch.post.it.evoting.securedatamanager.shared.process.EvotingConfigService;
 import ch.post.it.evoting.securedatamanager.shared.process.PathResolver;
@@ -30,6 +47,8 @@ import ch.post.it.evoting.securedatamanager.shared.process.PathResolver;
 public class EvotingPrintService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(EvotingPrintService.class);
+	private static final int VOTING_CARDS_WINDOW_SIZE = 1000;
+	private static final int NO_NEXT_POSITION = Integer.MAX_VALUE;
 
 	private final PathResolver pathResolver;
 	private final EvotingConfigService evotingConfigService;
@@ -37,6 +56,7 @@ public class EvotingPrintService {
 	private final VoterReturnCodesPayloadService voterReturnCodesPayloadService;
 	private final VoterInitialCodesPayloadService voterInitialCodesPayloadService;
 	private final ElectionEventContextPayloadService electionEventContextPayloadService;
+	private final int maxOpenVerificationCardSets;
 
 	public EvotingPrintService(
 			final PathResolver pathResolver,
@@ -44,13 +64,19 @@ public class EvotingPrintService {
 			final EvotingPrintFileRepository evotingPrintFileRepository,
 			final VoterReturnCodesPayloadService voterReturnCodesPayloadService,
 			final VoterInitialCodesPayloadService voterInitialCodesPayloadService,
-			final ElectionEventContextPayloadService electionEventContextPayloadService) {
+			final ElectionEventContextPayloadService electionEventContextPayloadService,
+			@Value("${sdm.process.generate.print-file.max-open-verification-card-sets}")
+			final int maxOpenVerificationCardSets) {
+		checkArgument(maxOpenVerificationCardSets > 0, "The maximum number of open verification card sets must be strictly positive. [value: %s]",
+				maxOpenVerificationCardSets);
+
 		this.pathResolver = pathResolver;
 		this.evotingConfigService = evotingConfigService;
 		this.evotingPrintFileRepository = evotingPrintFileRepository;
 		this.voterReturnCodesPayloadService = voterReturnCodesPayloadService;
 		this.voterInitialCodesPayloadService = voterInitialCodesPayloadService;
 		this.electionEventContextPayloadService = electionEventContextPayloadService;
+		this.maxOpenVerificationCardSets = maxOpenVerificationCardSets;
 	}
 
 	/**
@@ -65,28 +91,146 @@ public class EvotingPrintService {
 
 		LOGGER.debug("Generating setup component evoting print... [electionEventId: {}]", electionEventId);
 
-		// Gathering all data to generate evoting print file.
+		// Gathering the data shared by all the voting cards.
 		final Configuration configuration = evotingConfigService.load();
-
-		final ImmutableMap<String, VoterInitialCodesPayloadService.VoterInitialCodesByVcs> voterInitialCodesMap = voterInitialCodesPayloadService.loadVoterInitialCodesMap(
-				electionEventId);
-		final ImmutableMap<String, VoterReturnCodes> voterReturnCodesMap = voterReturnCodesPayloadService.loadVoterReturnCodesMap(electionEventId);
-		checkState(voterInitialCodesMap.size() == voterReturnCodesMap.size(),
-				"The voter initial codes and return codes map must have the same size. [voterInitialCodesMap: %s, voterReturnCodesMap: %s]",
-				voterInitialCodesMap.size(), voterReturnCodesMap.size());
+		final VotingCardContext votingCardContext = VotingCardListMapper.toVotingCardContext(configuration);
+		final int numberOfVoters = VotingCardListMapper.numberOfVoters(votingCardContext);
 
 		final ImmutableMap<String, PrimesMappingTable> primesMappingTableMap = electionEventContextPayloadService.loadAllPrimesMappingTables(
 				electionEventId);
 
-		// Map data to the voting card list.
-		final VotingCardList votingCardList = VotingCardListMapper.toVotingCardList(configuration, voterInitialCodesMap, voterReturnCodesMap,
-				primesMappingTableMap);
-
-		evotingPrintFileRepository.save(electionEventId, votingCardList);
+		// Index the verification card set and the voter initial codes of each voter, loading the voter initial codes payload of each set once.
+		final Map<String, RegisteredVoter> registeredVoterByVoterIdentification = new HashMap<>();
+		final Map<String, Integer> numberOfVotersByVerificationCardSetId = new HashMap<>();
+		for (final ImmutableMap.Entry<String, PrimesMappingTable> primesMappingTableEntry : primesMappingTableMap.entrySet()) {
+			final String verificationCardSetId = primesMappingTableEntry.key();
+			final ImmutableList<VoterInitialCodes> voterInitialCodesList = voterInitialCodesPayloadService.load(electionEventId, verificationCardSetId)
+					.voterInitialCodes();
+			voterInitialCodesList.forEach(voterInitialCodes -> checkState(
+					registeredVoterByVoterIdentification.put(voterInitialCodes.voterIdentification(),
+							new RegisteredVoter(verificationCardSetId, voterInitialCodes)) == null,
+					"The voter has several voter initial codes. [voterIdentification: %s]", voterInitialCodes.voterIdentification()));
+			numberOfVotersByVerificationCardSetId.put(verificationCardSetId, voterInitialCodesList.size());
+		}
+		checkState(registeredVoterByVoterIdentification.size() == numberOfVoters,
+				"The number of voting cards must be equal to the number of voters. [numberOfVotingCards: %s, numberOfVoters: %s]",
+				registeredVoterByVoterIdentification.size(), numberOfVoters);
+
+		final Iterator<VotingCardType> votingCards = toVotingCards(electionEventId, configuration.getRegister().getVoter(),
+				registeredVoterByVoterIdentification, numberOfVotersByVerificationCardSetId, primesMappingTableMap, votingCardContext);
+
+		evotingPrintFileRepository.save(electionEventId, VotingCardListMapper.toVotingCardList(configuration), votingCards);
 		LOGGER.info("Setup component evoting print file successfully generated. [electionEventId: {}]", electionEventId);
 
 	}
 
+	/**
+	 * Maps lazily the voting cards of the voters, in the order of the register. The voter return codes payload of a verification card set is loaded
+	 * when the first of its voters is reached and released once its last voter is mapped. At most {@code maxOpenVerificationCardSets} sets are held
+	 * at once: when the register interleaves more sets, the set whose next voter comes last in the register is released, and its voter return codes
+	 * payload is loaded again when its next voter is reached. The voting cards are mapped in parallel by windows of
+	 * {@value VOTING_CARDS_WINDOW_SIZE} voters.
+	 */
+	private Iterator<VotingCardType> toVotingCards(final String electionEventId, final List<VoterType> voters,
+			final Map<String, RegisteredVoter> registeredVoterByVoterIdentification, final Map<String, Integer> numberOfVotersByVerificationCardSetId,
+			final ImmutableMap<String, PrimesMappingTable> primesMappingTableMap, final VotingCardContext votingCardContext) {
+		final int[] nextPositions = nextPositions(voters, registeredVoterByVoterIdentification);
+		final Map<String, OpenVerificationCardSet> openVerificationCardSets = new HashMap<>();
+
+		return Iterators.concat(new AbstractIterator<Iterator<VotingCardType>>() {
+			private int windowStart;
+
+			@Override
+			protected Iterator<VotingCardType> computeNext() {
+				if (windowStart == voters.size()) {
+					return endOfData();
+				}
+
+				final int windowEnd = Math.min(windowStart + VOTING_CARDS_WINDOW_SIZE, voters.size());
+				final List<Supplier<VotingCardType>> window = IntStream.range(windowStart, windowEnd)
+						.<Supplier<VotingCardType>>mapToObj(position -> {
+							final RegisteredVoter registeredVoter = registeredVoterByVoterIdentification.get(
+									voters.get(position).getVoterIdentification());
+							final String verificationCardSetId = registeredVoter.verificationCardSetId();
+							final VoterInitialCodes voterInitialCodes = registeredVoter.voterInitialCodes();
+
+							final OpenVerificationCardSet openVerificationCardSet = openVerificationCardSets.containsKey(verificationCardSetId)
+									? openVerificationCardSets.get(verificationCardSetId)
+									: open(verificationCardSetId);
+							if (nextPositions[position] == NO_NEXT_POSITION) {
+								openVerificationCardSets.remove(verificationCardSetId);
+							} else {
+								openVerificationCardSets.put(verificationCardSetId,
+										new OpenVerificationCardSet(openVerificationCardSet.voterReturnCodesByVerificationCardId(),
+												nextPositions[position]));
+							}
+
+							final VoterReturnCodes voterReturnCodes = openVerificationCardSet.voterReturnCodesByVerificationCardId()
+									.get(voterInitialCodes.verificationCardId());
+							checkState(voterReturnCodes != null,
+									"The voter return codes are missing. [verificationCardSetId: %s, verificationCardId: %s]", verificationCardSetId,
+									voterInitialCodes.verificationCardId());
+							final PrimesMappingTable primesMappingTable = primesMappingTableMap.get(verificationCardSetId);
+							return () -> VotingCardListMapper.toVotingCard(votingCardContext, voterInitialCodes,
+									voterReturnCodes, primesMappingTable);
+						})
+						.toList();
+				windowStart = windowEnd;
+
+				// The parallel stream keeps the encounter order of the window.
+				return window.parallelStream()
+						.map(Supplier::get)
+						.toList()
+						.iterator();
+			}
+
+			private OpenVerificationCardSet open(final String verificationCardSetId) {
+				if (openVerificationCardSets.size() == maxOpenVerificationCardSets) {
+					final String farthestVerificationCardSetId = openVerificationCardSets.entrySet().stream()
+							.max(Map.Entry.comparingByValue((first, second) -> Integer.compare(first.nextPosition(), second.nextPosition())))
+							.orElseThrow()
+							.getKey();
+					openVerificationCardSets.remove(farthestVerificationCardSetId);
+					LOGGER.debug("Released the voter return codes of an interleaved verification card set. [verificationCardSetId: {}]",
+							farthestVerificationCardSetId);
+				}
+
+				return new OpenVerificationCardSet(loadVoterReturnCodes(electionEventId, verificationCardSetId,
+						numberOfVotersByVerificationCardSetId.get(verificationCardSetId)), NO_NEXT_POSITION);
+			}
+		});
+	}
+
+	/**
+	 * For each position of the register, gives the position of the next voter of the same verification card set, or {@value NO_NEXT_POSITION} if
+	 * the voter is the last one of its set.
+	 */
+	private static int[] nextPositions(final List<VoterType> voters, final Map<String, RegisteredVoter> registeredVoterByVoterIdentification) {
+		final int[] nextPositions = new int[voters.size()];
+		final Map<String, Integer> nextPositionByVerificationCardSetId = new HashMap<>();
+		for (int position = voters.size() - 1; position >= 0; position--) {
+			final String voterIdentification = voters.get(position).getVoterIdentification();
+			final RegisteredVoter registeredVoter = registeredVoterByVoterIdentification.get(voterIdentification);
+			checkState(registeredVoter != null, "The voter initial codes are missing. [voterIdentification: %s]", voterIdentification);
+
+			final Integer nextPosition = nextPositionByVerificationCardSetId.put(registeredVoter.verificationCardSetId(), position);
+			nextPositions[position] = nextPosition == null ? NO_NEXT_POSITION : nextPosition;
+		}
+		return nextPositions;
+	}
+
+	private ImmutableMap<String, VoterReturnCodes> loadVoterReturnCodes(final String electionEventId, final String verificationCardSetId,
+			final int numberOfVoters) {
+		final ImmutableMap<String, VoterReturnCodes> voterReturnCodesByVerificationCardId = voterReturnCodesPayloadService.load(electionEventId,
+						verificationCardSetId).voterReturnCodes().stream()
+				.collect(toImmutableMap(VoterReturnCodes::verificationCardId, Function.identity()));
+		checkState(numberOfVoters == voterReturnCodesByVerificationCardId.size(),
+				"The voter initial codes and return codes must have the same size. [verificationCardSetId: %s, voterInitialCodes: %s, voterReturnCodes: %s]",
+				verificationCardSetId, numberOfVoters, voterReturnCodesByVerificationCardId.size());
+
+		return voterReturnCodesByVerificationCardId;
+	}
+
 	/**
 	 * Gets the print information corresponding to the evoting print file.
 	 *
@@ -98,4 +242,10 @@ public class EvotingPrintService {
 
 		return new PrintInfo(filepath, filename);
 	}
+
+	private record RegisteredVoter(String verificationCardSetId, VoterInitialCodes voterInitialCodes) {
+	}
+
+	private record OpenVerificationCardSet(ImmutableMap<String, VoterReturnCodes> voterReturnCodesByVerificationCardId, int nextPosition) {
+	}
 }
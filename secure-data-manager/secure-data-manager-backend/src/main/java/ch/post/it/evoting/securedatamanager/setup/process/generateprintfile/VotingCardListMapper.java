@@ -39,6 +39,7 @@ import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.ElectionInfor
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.EmptyPositionType;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.VariantBallotType;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.VoteInformationType;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.VoterType;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.AnswerType;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.CandidateListType;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.CandidateType;
@@ -51,7 +52,6 @@ import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VoteType;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardList;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardType;
 import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.WriteInPositionType;
-import ch.post.it.evoting.securedatamanager.setup.process.VoterInitialCodesPayloadService.VoterInitialCodesByVcs;
 
 /**
  * Maps to {@link VotingCardList}.
@@ -63,24 +63,46 @@ public class VotingCardListMapper {
 	}
 
 	/**
-	 * Returns the voting card list to be output in evoting-print.
+	 * Returns the voting card list to be output in evoting-print, without its voting cards. The voting cards are mapped one at a time with
+	 * {@link #toVotingCard(VotingCardContext, VoterInitialCodes, VoterReturnCodes, PrimesMappingTable)}.
 	 *
-	 * @param configuration               the configuration of the event.
-	 * @param voterInitialCodesPayloadMap the map of voter identification and voter initial codes payload.
-	 * @param primesMappingTableMap       the map of verificationCardSetId and primes map table.
-	 * @return the root object VotingCardList of the evoting-print file.
-	 * @throws NullPointerException if any input is null.
+	 * @param configuration the configuration of the event. Must be non-null.
+	 * @return the root object VotingCardList of the evoting-print file, without voting cards.
+	 * @throws NullPointerException if the configuration is null.
 	 */
-	public static VotingCardList toVotingCardList(final Configuration configuration,
-			final ImmutableMap<String, VoterInitialCodesByVcs> voterInitialCodesPayloadMap,
-			final ImmutableMap<String, VoterReturnCodes> voterReturnCodesMap, final ImmutableMap<String, PrimesMappingTable> primesMappingTableMap) {
+	public static VotingCardList toVotingCardList(final Configuration configuration) {
+		checkNotNull(configuration);
+
+		final ContestType contest = new ContestType();
+		contest.setContestIdentification(configuration.getContest().getContestIdentification());
+
+		final VotingCardList votingCardList = new VotingCardList();
+		votingCardList.setContest(contest);
+
+		return votingCardList;
+	}
 
+	/**
+	 * Returns the context of the voting cards of the given configuration, shared by the mapping of all the voting cards.
+	 *
+	 * @param configuration the configuration of the event. Must be non-null.
+	 * @return the voting card context.
+	 * @throws NullPointerException if the configuration is null.
+	 */
+	public static VotingCardContext toVotingCardContext(final Configuration configuration) {
 		checkNotNull(configuration);
-		checkNotNull(voterInitialCodesPayloadMap);
-		checkNotNull(primesMappingTableMap);
 
 		// Prepare reused list
-		final List<AuthorizationType> authorizationTypeList = configuration.getAuthorizations().getAuthorization();
+		final ImmutableMap<String, List<String>> domainOfInfluencesByAuthorization = configuration.getAuthorizations().getAuthorization().stream()
+				.collect(toImmutableMap(AuthorizationType::getAuthorizationIdentification,
+						authorizationType -> authorizationType.getAuthorizationObject().stream()
+								.map(AuthorizationObjectType::getDomainOfInfluence)
+								.map(DomainOfInfluenceType::getDomainOfInfluenceIdentification)
+								.toList()));
+		final ImmutableMap<String, List<String>> domainOfInfluencesByVoterIdentification = configuration.getRegister().getVoter().stream()
+				.collect(toImmutableMap(VoterType::getVoterIdentification,
+						voterType -> domainOfInfluencesByAuthorization.get(voterType.getAuthorization())));
+
 		final List<ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.VoteType> voteTypeList = configuration.getContest()
 				.getVoteInformation().stream().parallel()
 				.map(VoteInformationType::getVote)
@@ -93,57 +115,69 @@ public class VotingCardListMapper {
 								electionGroupBallotType.getDomainOfInfluence())))
 				.toList();
 
-		final List<VotingCardType> votingCardTypesList = configuration.getRegister().getVoter().stream().parallel()
-				.map(voterType -> {
-					final List<String> domainOfInfluenceList = authorizationTypeList.stream().parallel()
-							.filter(authorizationType -> authorizationType.getAuthorizationIdentification().equals(voterType.getAuthorization()))
-							.map(AuthorizationType::getAuthorizationObject)
-							.flatMap(Collection::stream)
-							.map(AuthorizationObjectType::getDomainOfInfluence)
-							.map(DomainOfInfluenceType::getDomainOfInfluenceIdentification)
-							.toList();
-
-					final String voterIdentification = voterType.getVoterIdentification();
-					final VoterInitialCodesByVcs voterInitialCodesByVcs = voterInitialCodesPayloadMap.get(voterIdentification);
-					final VoterInitialCodes voterInitialCodes = voterInitialCodesByVcs.voterInitialCodes();
-					final VoterReturnCodes voterReturnCodes = voterReturnCodesMap.get(voterInitialCodes.verificationCardId());
-					final ImmutableMap<PrimeGqElement, String> encodedVotingOptionToChoiceCodeMap = voterReturnCodes.choiceReturnCodesToEncodedVotingOptions()
-							.stream()
-							.collect(toImmutableMap(
-									ChoiceReturnCodeToEncodedVotingOptionEntry::encodedVotingOption,
-									ChoiceReturnCodeToEncodedVotingOptionEntry::choiceReturnCode));
-					final PrimesMappingTable primesMappingTable = primesMappingTableMap.get(voterInitialCodesByVcs.verificationCardSetId());
-
-					final VotingCardType votingCard = new VotingCardType();
-					votingCard.setVoterIdentification(voterIdentification);
-					votingCard.setVotingCardId(voterInitialCodes.votingCardId());
-					votingCard.setStartVotingKey(voterInitialCodes.startVotingKey());
-					votingCard.setBallotCastingKey(voterInitialCodes.ballotCastingKey());
-					votingCard.setVoteCastReturnCode(voterReturnCodes.voteCastReturnCode());
-
-					// Votes
-					if (!voteTypeList.isEmpty()) {
-						votingCard.setVote(toVotes(voteTypeList, domainOfInfluenceList, primesMappingTable, encodedVotingOptionToChoiceCodeMap));
-					}
+		return new VotingCardContext(domainOfInfluencesByVoterIdentification, voteTypeList, electionInformationTypeExtendedList);
+	}
 
-					// Elections
-					if (!electionInformationTypeExtendedList.isEmpty()) {
-						votingCard.setElection(toElections(electionInformationTypeExtendedList, domainOfInfluenceList, primesMappingTable,
-								encodedVotingOptionToChoiceCodeMap));
-					}
+	/**
+	 * Returns the voting card of a voter to be output in evoting-print.
+	 *
+	 * @param votingCardContext  the voting card context of the configuration of the event. Must be non-null.
+	 * @param voterInitialCodes  the voter initial codes of the voter. Must be non-null.
+	 * @param voterReturnCodes   the voter return codes of the voter. Must be non-null.
+	 * @param primesMappingTable the primes mapping table of the verification card set of the voter. Must be non-null.
+	 * @return the voting card of the voter.
+	 * @throws NullPointerException  if any input is null.
+	 * @throws IllegalStateException if the voter is not in the register of the configuration or if the return codes are not the voter's ones.
+	 */
+	public static VotingCardType toVotingCard(final VotingCardContext votingCardContext, final VoterInitialCodes voterInitialCodes,
+			final VoterReturnCodes voterReturnCodes, final PrimesMappingTable primesMappingTable) {
+		checkNotNull(votingCardContext);
+		checkNotNull(voterInitialCodes);
+		checkNotNull(voterReturnCodes);
+		checkNotNull(primesMappingTable);
+
+		final String voterIdentification = voterInitialCodes.voterIdentification();
+		final List<String> domainOfInfluenceList = votingCardContext.domainOfInfluencesByVoterIdentification.get(voterIdentification);
+		checkState(domainOfInfluenceList != null, "The voter is not in the register. [voterIdentification: %s]", voterIdentification);
+		checkState(voterInitialCodes.verificationCardId().equals(voterReturnCodes.verificationCardId()),
+				"The voter return codes do not belong to the voter. [voterIdentification: %s]", voterIdentification);
+
+		final ImmutableMap<PrimeGqElement, String> encodedVotingOptionToChoiceCodeMap = voterReturnCodes.choiceReturnCodesToEncodedVotingOptions()
+				.stream()
+				.collect(toImmutableMap(
+						ChoiceReturnCodeToEncodedVotingOptionEntry::encodedVotingOption,
+						ChoiceReturnCodeToEncodedVotingOptionEntry::choiceReturnCode));
+
+		final VotingCardType votingCard = new VotingCardType();
+		votingCard.setVoterIdentification(voterIdentification);
+		votingCard.setVotingCardId(voterInitialCodes.votingCardId());
+		votingCard.setStartVotingKey(voterInitialCodes.startVotingKey());
+		votingCard.setBallotCastingKey(voterInitialCodes.ballotCastingKey());
+		votingCard.setVoteCastReturnCode(voterReturnCodes.voteCastReturnCode());
+
+		// Votes
+		if (!votingCardContext.voteTypeList.isEmpty()) {
+			votingCard.setVote(toVotes(votingCardContext.voteTypeList, domainOfInfluenceList, primesMappingTable, encodedVotingOptionToChoiceCodeMap));
+		}
 
-					return votingCard;
-				})
-				.toList();
+		// Elections
+		if (!votingCardContext.electionInformationTypeExtendedList.isEmpty()) {
+			votingCard.setElection(toElections(votingCardContext.electionInformationTypeExtendedList, domainOfInfluenceList, primesMappingTable,
+					encodedVotingOptionToChoiceCodeMap));
+		}
 
-		final ContestType contest = new ContestType();
-		contest.setContestIdentification(configuration.getContest().getContestIdentification());
-		contest.setVotingCard(votingCardTypesList);
+		return votingCard;
+	}
 
-		final VotingCardList votingCardList = new VotingCardList();
-		votingCardList.setContest(contest);
+	/**
+	 * @param votingCardContext the voting card context of the configuration of the event. Must be non-null.
+	 * @return the number of voters in the register of the configuration.
+	 * @throws NullPointerException if the voting card context is null.
+	 */
+	public static int numberOfVoters(final VotingCardContext votingCardContext) {
+		checkNotNull(votingCardContext);
 
-		return votingCardList;
+		return votingCardContext.domainOfInfluencesByVoterIdentification.size();
 	}
 
 	private static List<VoteType> toVotes(final List<ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.VoteType> voteTypeList,
@@ -481,4 +515,22 @@ public class VotingCardListMapper {
 
 	private record ElectionInformationTypeExtended(ElectionInformationType electionInformationType, String domainOfInfluence) {
 	}
+
+	/**
+	 * The configuration data shared by the mapping of all the voting cards.
+	 */
+	public static final class VotingCardContext {
+
+		private final ImmutableMap<String, List<String>> domainOfInfluencesByVoterIdentification;
+		private final List<ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.VoteType> voteTypeList;
+		private final List<ElectionInformationTypeExtended> electionInformationTypeExtendedList;
+
+		private VotingCardContext(final ImmutableMap<String, List<String>> domainOfInfluencesByVoterIdentification,
+				final List<ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingconfig.VoteType> voteTypeList,
+				final List<ElectionInformationTypeExtended> electionInformationTypeExtendedList) {
+			this.domainOfInfluencesByVoterIdentification = domainOfInfluencesByVoterIdentification;
+			this.voteTypeList = voteTypeList;
+			this.electionInformationTypeExtendedList = electionInformationTypeExtendedList;
+		}
+	}
 }
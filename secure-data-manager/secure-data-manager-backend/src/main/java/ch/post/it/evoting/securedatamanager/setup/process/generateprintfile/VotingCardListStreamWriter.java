@@ -0,0 +1,202 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.setup.process.generateprintfile;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardList;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardType;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+
+/**
+ * Writes a voting card list while streaming its voting cards.
+ * <p>
+ * The voting card list, without voting cards, is marshalled through a SAX pipeline. When the contest element closes, the voting cards are
+ * marshalled one at a time as JAXB fragments into the same pipeline. The pipeline validates the document against the schema and serializes it
+ * to the output stream as it goes, so that neither the voting cards nor the document are held in memory.
+ * </p>
+ */
+final class VotingCardListStreamWriter {
+
+	private static final String VOTING_CARD = "votingCard";
+	private static final int CONTEST_DEPTH = 2;
+
+	private VotingCardListStreamWriter() {
+		// static usage only.
+	}
+
+	/**
+	 * Writes the given voting card list, followed by the given voting cards in its contest, to the output stream while validating it against the
+	 * given schema.
+	 *
+	 * @param outputStream   the output stream. Must be non-null.
+	 * @param votingCardList the voting card list, without voting cards. Must be non-null.
+	 * @param votingCards    the voting cards, consumed once. Must be non-null.
+	 * @param xsd            the classpath location of the schema. Must be non-null.
+	 * @throws NullPointerException  if any parameter is null.
+	 * @throws IllegalStateException if the document cannot be written or is not valid against the schema.
+	 */
+	static void write(final OutputStream outputStream, final VotingCardList votingCardList, final Iterator<VotingCardType> votingCards,
+			final String xsd) {
+		checkNotNull(outputStream);
+		checkNotNull(votingCardList);
+		checkNotNull(votingCards);
+		checkNotNull(xsd);
+		checkState(votingCardList.getContest().getVotingCard().isEmpty(), "The voting card list must not contain voting cards.");
+
+		try {
+			final JAXBContext jaxbContext = JAXBContext.newInstance(VotingCardList.class);
+
+			final ValidatorHandler validatorHandler = loadSchema(xsd).newValidatorHandler();
+			validatorHandler.setContentHandler(newSerializer(outputStream));
+
+			final Marshaller votingCardMarshaller = jaxbContext.createMarshaller();
+			votingCardMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+			final VotingCardsInserter votingCardsInserter = new VotingCardsInserter(votingCards, votingCardMarshaller);
+			votingCardsInserter.setContentHandler(validatorHandler);
+
+			jaxbContext.createMarshaller().marshal(votingCardList, votingCardsInserter);
+		} catch (final JAXBException | SAXException | TransformerConfigurationException e) {
+			throw new IllegalStateException("Could not write the voting card list.", e);
+		}
+	}
+
+	private static Schema loadSchema(final String xsd) throws SAXException {
+		final URL schemaLocation = VotingCardListStreamWriter.class.getResource(xsd);
+		checkState(schemaLocation != null, "The schema does not exist. [xsd: %s]", xsd);
+
+		return SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(schemaLocation);
+	}
+
+	private static TransformerHandler newSerializer(final OutputStream outputStream) throws TransformerConfigurationException {
+		final TransformerHandler serializer = ((SAXTransformerFactory) TransformerFactory.newInstance()).newTransformerHandler();
+		serializer.getTransformer().setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+		serializer.getTransformer().setOutputProperty(OutputKeys.STANDALONE, "yes");
+		serializer.setResult(new StreamResult(outputStream));
+		return serializer;
+	}
+
+	/**
+	 * Forwards the events of the voting card list and inserts the marshalled voting cards before the end of its contest element.
+	 */
+	private static final class VotingCardsInserter extends XMLFilterImpl {
+
+		private final Iterator<VotingCardType> votingCards;
+		private final Marshaller votingCardMarshaller;
+		private final Map<String, String> rootNamespaces = new HashMap<>();
+		private int depth;
+
+		private VotingCardsInserter(final Iterator<VotingCardType> votingCards, final Marshaller votingCardMarshaller) {
+			this.votingCards = votingCards;
+			this.votingCardMarshaller = votingCardMarshaller;
+		}
+
+		@Override
+		public void startPrefixMapping(final String prefix, final String uri) throws SAXException {
+			if (depth == 0) {
+				rootNamespaces.put(prefix, uri);
+			}
+			super.startPrefixMapping(prefix, uri);
+		}
+
+		@Override
+		public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) throws SAXException {
+			depth++;
+			super.startElement(uri, localName, qName, attributes);
+		}
+
+		@Override
+		public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+			if (depth == CONTEST_DEPTH) {
+				insertVotingCards(new QName(uri, VOTING_CARD));
+			}
+			depth--;
+			super.endElement(uri, localName, qName);
+		}
+
+		private void insertVotingCards(final QName votingCardName) throws SAXException {
+			final ContentHandler votingCardHandler = new VotingCardFragmentHandler(getContentHandler(), rootNamespaces);
+			while (votingCards.hasNext()) {
+				final JAXBElement<VotingCardType> votingCard = new JAXBElement<>(votingCardName, VotingCardType.class, votingCards.next());
+				try {
+					votingCardMarshaller.marshal(votingCard, votingCardHandler);
+				} catch (final JAXBException e) {
+					throw new SAXException("Could not marshal the voting card.", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Forwards the events of a voting card fragment, without the document events and the namespace declarations already made by the root element.
+	 */
+	private static final class VotingCardFragmentHandler extends XMLFilterImpl {
+
+		private final Map<String, String> rootNamespaces;
+		private final Set<String> forwardedPrefixes = new HashSet<>();
+
+		private VotingCardFragmentHandler(final ContentHandler contentHandler, final Map<String, String> rootNamespaces) {
+			this.rootNamespaces = rootNamespaces;
+			setContentHandler(contentHandler);
+		}
+
+		@Override
+		public void startDocument() {
+			// The voting card is a fragment of the voting card list document.
+		}
+
+		@Override
+		public void endDocument() {
+			// The voting card is a fragment of the voting card list document.
+		}
+
+		@Override
+		public void startPrefixMapping(final String prefix, final String uri) throws SAXException {
+			if (!Objects.equals(rootNamespaces.get(prefix), uri)) {
+				forwardedPrefixes.add(prefix);
+				super.startPrefixMapping(prefix, uri);
+			}
+		}
+
+		@Override
+		public void endPrefixMapping(final String prefix) throws SAXException {
+			if (forwardedPrefixes.remove(prefix)) {
+				super.endPrefixMapping(prefix);
+			}
+		}
+	}
+}
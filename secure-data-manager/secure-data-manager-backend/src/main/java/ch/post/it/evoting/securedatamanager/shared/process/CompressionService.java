@@ -24,7 +24,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.UncheckedIOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
@@ -38,25 +37,40 @@ import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.FileSystemUtils;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableSet;
 
 import net.lingala.zip4j.io.inputstream.ZipInputStream;
-import net.lingala.zip4j.io.outputstream.ZipOutputStream;
 import net.lingala.zip4j.model.LocalFileHeader;
-import net.lingala.zip4j.model.ZipParameters;
-import net.lingala.zip4j.model.enums.CompressionLevel;
 
 /**
  * Zip and unzip files.
+ * <p>
+ * The archives are written by a {@link ParallelZipWriter}: the entries are deflated in parallel at the configured level, and each entry carries
+ * its CRC-32, verified when unzipping.
+ * </p>
  */
 @Service
 public class CompressionService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CompressionService.class);
 
+	private final ParallelZipWriter parallelZipWriter;
+
+	public CompressionService(
+			@Value("${sdm.process.compression.level}")
+			final int compressionLevel,
+			@Value("${sdm.process.compression.parallelism}")
+			final int parallelism) {
+		checkArgument(parallelism >= 0, "The parallelism must be positive. [parallelism: %s]", parallelism);
+
+		this.parallelZipWriter = new ParallelZipWriter(compressionLevel,
+				parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism);
+	}
+
 	/**
 	 * Zip the content of a given directory in a given ByteArrayOutputStream.
 	 *
@@ -71,30 +85,19 @@ public class CompressionService {
 
 		secureDirectory(directoryToZip);
 
-		final ZipParameters zipParameters = new ZipParameters();
-		zipParameters.setCompressionLevel(CompressionLevel.NO_COMPRESSION);
-
-		try (final Stream<Path> paths = Files.walk(directoryToZip);
-				final ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
-
-			paths.forEach(path -> {
-				if (!Files.isDirectory(path)) {
-					final String zipEntryName = directoryToZip.relativize(path).toString();
-					LOGGER.debug("Zipping entry... [path: {}]", path);
-					try (final InputStream inputStream = Files.newInputStream(path)) {
-						zipParameters.setFileNameInZip(zipEntryName);
-						zipOutputStream.putNextEntry(zipParameters);
-						inputStream.transferTo(zipOutputStream);
-						zipOutputStream.closeEntry();
-					} catch (final IOException e) {
-						throw new UncheckedIOException(String.format("Failed to zip directory. [directoryToZip: %s]", directoryToZip), e);
-					}
-				}
-			});
-			LOGGER.info("Successfully zipped directory. [directoryToZip: {}]", directoryToZip);
+		final List<Path> files;
+		try (final Stream<Path> paths = Files.walk(directoryToZip)) {
+			files = paths.filter(path -> !Files.isDirectory(path)).sorted().toList();
+		}
 
-			deleteDirectory(directoryToZip);
+		LOGGER.debug("Zipping entries... [directoryToZip: {}, entries: {}]", directoryToZip, files.size());
+		// The output stream is closed once the archive is written, which ends the stream of the archive for the consumer.
+		try (outputStream) {
+			parallelZipWriter.write(outputStream, directoryToZip, files);
 		}
+		LOGGER.info("Successfully zipped directory. [directoryToZip: {}]", directoryToZip);
+
+		deleteDirectory(directoryToZip);
 		LOGGER.debug("Streaming response...");
 	}
 
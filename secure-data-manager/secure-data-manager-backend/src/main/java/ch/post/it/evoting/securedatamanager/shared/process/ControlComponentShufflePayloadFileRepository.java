@@ -18,6 +18,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import ch.post.it.evoting.evotinglibraries.domain.ControlComponentNode;
 import ch.post.it.evoting.evotinglibraries.domain.mixnet.ControlComponentShufflePayload;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
 import ch.post.it.evoting.securedatamanager.shared.Constants;
 
 @Repository
@@ -57,6 +58,36 @@ public class ControlComponentShufflePayloadFileRepository {
 		}
 	}
 
+	/**
+	 * Returns the size of the control component shuffle payload file of the given election event, ballot box and control component.
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @param ballotBoxId     the ballot box id. Must be non-null and a valid UUID.
+	 * @param nodeId          the node id. Must be part of the known node ids.
+	 * @return the size of the payload file in bytes, or 0 if the payload file does not exist.
+	 * @throws NullPointerException      if any id is null.
+	 * @throws FailedValidationException if any id is not a valid UUID.
+	 * @throws IllegalArgumentException  if the node id is not part of the known node ids.
+	 */
+	public long getPayloadSize(final String electionEventId, final String ballotBoxId, final int nodeId) {
+		validateUUID(electionEventId);
+		validateUUID(ballotBoxId);
+		checkArgument(ControlComponentNode.ids().contains(nodeId), "The node id must be part of the known node ids. [nodeId: %s]", nodeId);
+
+		final Path payloadPath = payloadPath(electionEventId, ballotBoxId, nodeId);
+		if (!Files.isRegularFile(payloadPath)) {
+			return 0;
+		}
+
+		try {
+			return Files.size(payloadPath);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(String.format(
+					"Unable to read the size of the control component shuffle payload file. [electionEventId: %s, ballotBoxId: %s, nodeId: %d]",
+					electionEventId, ballotBoxId, nodeId), e);
+		}
+	}
+
 	/**
 	 * Saves the control component shuffle payload to the filesystem for the given election event, ballot box, control component combination.
 	 *
@@ -0,0 +1,369 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.shared.process;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a zip archive whose entries are compressed in parallel.
+ * <p>
+ * The entries are deflated concurrently, a bounded number of entries ahead of the writing, and are appended to the archive in the order of the
+ * given files. Each entry records the CRC-32 of its content in its local header and in the central directory, so that the extraction can verify it.
+ * An entry which does not shrink when deflated is stored instead. Entries larger than {@value #IN_MEMORY_THRESHOLD} bytes are deflated into a
+ * temporary file rather than in memory. The Zip64 extensions are used only when a size, an offset or the number of entries requires them.
+ * </p>
+ */
+final class ParallelZipWriter {
+
+	static final int IN_MEMORY_THRESHOLD = 8 * 1024 * 1024;
+
+	private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+	private static final int VERSION = 20;
+	private static final int VERSION_ZIP64 = 45;
+	private static final int UTF8_FLAG = 0x0800;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+	private static final long MAX_32 = 0xFFFFFFFFL;
+	private static final int MAX_16 = 0xFFFF;
+
+	private final int compressionLevel;
+	private final int parallelism;
+
+	/**
+	 * @param compressionLevel the deflate level, from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}.
+	 * @param parallelism      the number of entries compressed in parallel. Must be strictly positive.
+	 */
+	ParallelZipWriter(final int compressionLevel, final int parallelism) {
+		checkArgument(compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION,
+				"The compression level must be between %s and %s. [compressionLevel: %s]", Deflater.NO_COMPRESSION, Deflater.BEST_COMPRESSION,
+				compressionLevel);
+		checkArgument(parallelism > 0, "The parallelism must be strictly positive. [parallelism: %s]", parallelism);
+
+		this.compressionLevel = compressionLevel;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Writes the given files as a zip archive to the output stream. The output stream is not closed.
+	 *
+	 * @param outputStream  the output stream of the archive. Must be non-null.
+	 * @param baseDirectory the directory the entry names are relative to. Must be non-null.
+	 * @param files         the regular files to archive, in the order of the entries. Must be non-null and within the base directory.
+	 * @throws IOException if a file cannot be read or the archive cannot be written.
+	 */
+	void write(final OutputStream outputStream, final Path baseDirectory, final List<Path> files) throws IOException {
+		checkNotNull(outputStream);
+		checkNotNull(baseDirectory);
+		checkNotNull(files);
+
+		final CountingOutputStream output = new CountingOutputStream(outputStream);
+		final List<CentralDirectoryEntry> centralDirectory = new ArrayList<>(files.size());
+
+		final ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+				Thread.ofPlatform().name("zip-compressor-", 0).daemon().factory());
+		final Deque<Future<CompressedEntry>> window = new ArrayDeque<>();
+		try {
+			final Iterator<Path> remainingFiles = files.iterator();
+			final int windowSize = 2 * parallelism;
+			while (remainingFiles.hasNext() || !window.isEmpty()) {
+				while (remainingFiles.hasNext() && window.size() < windowSize) {
+					final Path file = remainingFiles.next();
+					final String name = baseDirectory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+					window.add(executor.submit(() -> compress(file, name)));
+				}
+
+				final CompressedEntry compressedEntry = await(window.poll());
+				try {
+					centralDirectory.add(writeEntry(output, compressedEntry));
+				} finally {
+					compressedEntry.discard();
+				}
+			}
+			writeCentralDirectory(output, centralDirectory);
+			output.flush();
+		} finally {
+			window.forEach(future -> future.cancel(true));
+			executor.shutdownNow();
+			window.forEach(ParallelZipWriter::discardQuietly);
+		}
+	}
+
+	private CompressedEntry compress(final Path file, final String name) throws IOException {
+		final long size = Files.size(file);
+		final long lastModified = Files.getLastModifiedTime(file).toMillis();
+		final CRC32 crc = new CRC32();
+		final Deflater deflater = new Deflater(compressionLevel, true);
+
+		final Path spool = size > IN_MEMORY_THRESHOLD ? Files.createTempFile("zip-entry-", ".deflate") : null;
+		final ByteArrayOutputStream memory = spool == null ? new ByteArrayOutputStream((int) size / 2 + 64) : null;
+		try (final InputStream inputStream = Files.newInputStream(file);
+				final OutputStream sink = spool == null ? memory : Files.newOutputStream(spool);
+				final DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(sink, deflater, 64 * 1024)) {
+			final byte[] buffer = new byte[64 * 1024];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				crc.update(buffer, 0, read);
+				deflaterOutputStream.write(buffer, 0, read);
+			}
+			deflaterOutputStream.finish();
+		} catch (final IOException | RuntimeException e) {
+			if (spool != null) {
+				Files.deleteIfExists(spool);
+			}
+			throw e;
+		} finally {
+			deflater.end();
+		}
+
+		final long compressedSize = spool == null ? memory.size() : Files.size(spool);
+		if (compressedSize >= size) {
+			// Incompressible content, stored as is.
+			if (spool != null) {
+				Files.deleteIfExists(spool);
+			}
+			return new CompressedEntry(name, file, STORED, crc.getValue(), size, size, lastModified, null, null);
+		}
+		return new CompressedEntry(name, file, DEFLATED, crc.getValue(), size, compressedSize, lastModified,
+				spool == null ? memory.toByteArray() : null, spool);
+	}
+
+	private static CentralDirectoryEntry writeEntry(final CountingOutputStream output, final CompressedEntry entry) throws IOException {
+		final long offset = output.count();
+		final byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+		final boolean zip64 = entry.size() >= MAX_32 || entry.compressedSize() >= MAX_32;
+		final long dosTime = dosTime(entry.lastModified());
+
+		writeInt(output, LOCAL_FILE_HEADER_SIGNATURE);
+		writeShort(output, zip64 ? VERSION_ZIP64 : VERSION);
+		writeShort(output, UTF8_FLAG);
+		writeShort(output, entry.method());
+		writeInt(output, dosTime);
+		writeInt(output, entry.crc());
+		writeInt(output, zip64 ? MAX_32 : entry.compressedSize());
+		writeInt(output, zip64 ? MAX_32 : entry.size());
+		writeShort(output, name.length);
+		writeShort(output, zip64 ? 20 : 0);
+		output.write(name);
+		if (zip64) {
+			writeShort(output, ZIP64_EXTRA_FIELD_ID);
+			writeShort(output, 16);
+			writeLong(output, entry.size());
+			writeLong(output, entry.compressedSize());
+		}
+
+		if (entry.method() == STORED) {
+			Files.copy(entry.file(), output);
+		} else if (entry.data() != null) {
+			output.write(entry.data());
+		} else {
+			Files.copy(entry.spool(), output);
+		}
+
+		return new CentralDirectoryEntry(name, entry.method(), dosTime, entry.crc(), entry.size(), entry.compressedSize(), offset);
+	}
+
+	private static void writeCentralDirectory(final CountingOutputStream output, final List<CentralDirectoryEntry> centralDirectory)
+			throws IOException {
+		final long centralDirectoryOffset = output.count();
+		for (final CentralDirectoryEntry entry : centralDirectory) {
+			final List<Long> zip64Values = new ArrayList<>(3);
+			if (entry.size() >= MAX_32) {
+				zip64Values.add(entry.size());
+			}
+			if (entry.compressedSize() >= MAX_32) {
+				zip64Values.add(entry.compressedSize());
+			}
+			if (entry.offset() >= MAX_32) {
+				zip64Values.add(entry.offset());
+			}
+			final boolean zip64 = !zip64Values.isEmpty();
+
+			writeInt(output, CENTRAL_DIRECTORY_HEADER_SIGNATURE);
+			writeShort(output, VERSION_ZIP64);
+			writeShort(output, zip64 ? VERSION_ZIP64 : VERSION);
+			writeShort(output, UTF8_FLAG);
+			writeShort(output, entry.method());
+			writeInt(output, entry.dosTime());
+			writeInt(output, entry.crc());
+			writeInt(output, Math.min(entry.compressedSize(), MAX_32));
+			writeInt(output, Math.min(entry.size(), MAX_32));
+			writeShort(output, entry.name().length);
+			writeShort(output, zip64 ? 4 + 8 * zip64Values.size() : 0);
+			writeShort(output, 0); // comment length
+			writeShort(output, 0); // disk number start
+			writeShort(output, 0); // internal file attributes
+			writeInt(output, 0); // external file attributes
+			writeInt(output, Math.min(entry.offset(), MAX_32));
+			output.write(entry.name());
+			if (zip64) {
+				writeShort(output, ZIP64_EXTRA_FIELD_ID);
+				writeShort(output, 8 * zip64Values.size());
+				for (final long value : zip64Values) {
+					writeLong(output, value);
+				}
+			}
+		}
+		final long centralDirectorySize = output.count() - centralDirectoryOffset;
+		final long numberOfEntries = centralDirectory.size();
+
+		if (numberOfEntries >= MAX_16 || centralDirectorySize >= MAX_32 || centralDirectoryOffset >= MAX_32) {
+			final long zip64EndOfCentralDirectoryOffset = output.count();
+			writeInt(output, ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+			writeLong(output, 44); // size of the remaining record
+			writeShort(output, VERSION_ZIP64);
+			writeShort(output, VERSION_ZIP64);
+			writeInt(output, 0); // number of this disk
+			writeInt(output, 0); // disk of the central directory
+			writeLong(output, numberOfEntries);
+			writeLong(output, numberOfEntries);
+			writeLong(output, centralDirectorySize);
+			writeLong(output, centralDirectoryOffset);
+
+			writeInt(output, ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE);
+			writeInt(output, 0); // disk of the zip64 end of central directory
+			writeLong(output, zip64EndOfCentralDirectoryOffset);
+			writeInt(output, 1); // total number of disks
+		}
+
+		writeInt(output, END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+		writeShort(output, 0); // number of this disk
+		writeShort(output, 0); // disk of the central directory
+		writeShort(output, (int) Math.min(numberOfEntries, MAX_16));
+		writeShort(output, (int) Math.min(numberOfEntries, MAX_16));
+		writeInt(output, Math.min(centralDirectorySize, MAX_32));
+		writeInt(output, Math.min(centralDirectoryOffset, MAX_32));
+		writeShort(output, 0); // comment length
+	}
+
+	private static CompressedEntry await(final Future<CompressedEntry> future) throws IOException {
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while compressing a zip entry.");
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof final IOException ioException) {
+				throw ioException;
+			}
+			if (e.getCause() instanceof final RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Failed to compress a zip entry.", e.getCause());
+		}
+	}
+
+	private static void discardQuietly(final Future<CompressedEntry> future) {
+		if (!future.isCancelled() && future.isDone()) {
+			try {
+				future.get().discard();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (final ExecutionException | UncheckedIOException e) {
+				// Nothing to discard.
+			}
+		}
+	}
+
+	private static long dosTime(final long epochMillis) {
+		final LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+		if (dateTime.getYear() < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return (long) (dateTime.getYear() - 1980) << 25
+				| (long) dateTime.getMonthValue() << 21
+				| (long) dateTime.getDayOfMonth() << 16
+				| (long) dateTime.getHour() << 11
+				| (long) dateTime.getMinute() << 5
+				| (long) dateTime.getSecond() >> 1;
+	}
+
+	private static void writeShort(final OutputStream output, final int value) throws IOException {
+		output.write(value & 0xFF);
+		output.write((value >>> 8) & 0xFF);
+	}
+
+	private static void writeInt(final OutputStream output, final long value) throws IOException {
+		writeShort(output, (int) (value & 0xFFFF));
+		writeShort(output, (int) ((value >>> 16) & 0xFFFF));
+	}
+
+	private static void writeLong(final OutputStream output, final long value) throws IOException {
+		writeInt(output, value & MAX_32);
+		writeInt(output, value >>> 32);
+	}
+
+	private record CompressedEntry(String name, Path file, int method, long crc, long size, long compressedSize, long lastModified, byte[] data,
+								   Path spool) {
+
+		private void discard() {
+			if (spool != null) {
+				try {
+					Files.deleteIfExists(spool);
+				} catch (final IOException e) {
+					throw new UncheckedIOException(String.format("Failed to delete the temporary zip entry. [spool: %s]", spool), e);
+				}
+			}
+		}
+	}
+
+	private record CentralDirectoryEntry(byte[] name, int method, long dosTime, long crc, long size, long compressedSize, long offset) {
+	}
+
+	private static final class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		private CountingOutputStream(final OutputStream outputStream) {
+			super(outputStream);
+		}
+
+		@Override
+		public void write(final int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+
+		private long count() {
+			return count;
+		}
+	}
+}
@@ -121,6 +121,35 @@ public class SetupComponentCMTablePayloadFileRepository {
 		}
 	}
 
+	/**
+	 * Deletes from the file system all the setup component CMTable payloads of the given election event and verification card set.
+	 *
+	 * @param electionEventId       the payloads' election event id.
+	 * @param verificationCardSetId the payloads' verification card set id.
+	 * @throws FailedValidationException if {@code electionEventId} or {@code verificationCardSetId} is invalid.
+	 * @throws UncheckedIOException      if a payload file cannot be deleted.
+	 */
+	public void deleteByElectionEventIdAndVerificationCardSetId(final String electionEventId, final String verificationCardSetId) {
+		validateUUID(electionEventId);
+		validateUUID(verificationCardSetId);
+
+		final Path verificationCardSetPath = pathResolver.resolveVerificationCardSetPath(electionEventId, verificationCardSetId);
+		final DirectoryStream.Filter<? super Path> filter = SetupComponentCMTablePayloadFileRepository::isPayloadFile;
+
+		try (final DirectoryStream<Path> payloadPaths = newDirectoryStream(verificationCardSetPath, filter)) {
+			for (final Path payloadPath : payloadPaths) {
+				Files.delete(payloadPath);
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(
+					String.format("Unable to delete the setup component CMTable payload files. [electionEventId: %s, verificationCardSetId: %s]",
+							electionEventId, verificationCardSetId), e);
+		}
+
+		LOGGER.debug("Successfully deleted the setup component CMTable payloads. [electionEventId: {}, verificationCardSetId: {}]", electionEventId,
+				verificationCardSetId);
+	}
+
 	private Path payloadPath(final String electionEventId, final String verificationCardSetId, final int chunkId) {
 		final Path verificationCardSetPath = pathResolver.resolveVerificationCardSetPath(electionEventId, verificationCardSetId);
 		return verificationCardSetPath.resolve(Constants.CONFIG_FILE_NAME_PREFIX_SETUP_COMPONENT_CM_TABLE_PAYLOAD + chunkId + Constants.JSON);
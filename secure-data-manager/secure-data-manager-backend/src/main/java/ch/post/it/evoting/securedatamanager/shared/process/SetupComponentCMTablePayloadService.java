@@ -6,8 +6,6 @@ package ch.post.it.evoting.securedatamanager.shared.process;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import ch.post.it.evoting.domain.configuration.SetupComponentCMTablePayload;
@@ -20,8 +18,6 @@ import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationEx
 @Service
 public class SetupComponentCMTablePayloadService {
 
-	private static final Logger LOGGER = LoggerFactory.getLogger(SetupComponentCMTablePayloadService.class);
-
 	private final SetupComponentCMTablePayloadFileRepository setupComponentCMTablePayloadFileRepository;
 
 	public SetupComponentCMTablePayloadService(final SetupComponentCMTablePayloadFileRepository setupComponentCMTablePayloadFileRepository) {
@@ -29,18 +25,29 @@ public class SetupComponentCMTablePayloadService {
 	}
 
 	/**
-	 * Persists a list of {@link SetupComponentCMTablePayload}.
+	 * Persists a single {@link SetupComponentCMTablePayload}.
+	 *
+	 * @param setupComponentCMTablePayload the payload to be saved. Must be non-null.
+	 * @throws NullPointerException if the payload is null.
+	 */
+	public void save(final SetupComponentCMTablePayload setupComponentCMTablePayload) {
+		checkNotNull(setupComponentCMTablePayload);
+
+		setupComponentCMTablePayloadFileRepository.save(setupComponentCMTablePayload);
+	}
+
+	/**
+	 * Deletes all the {@link SetupComponentCMTablePayload} of the given election event and verification card set.
 	 *
-	 * @param setupComponentCMTablePayloadChunks, the payloads to be saved. Must be non-null.
-	 * @throws NullPointerException any payload is null.
+	 * @param electionEventId       the election event id. Must be non-null and a valid UUID.
+	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
+	 * @throws FailedValidationException if {@code electionEventId} or {@code verificationCardSetId} is invalid.
 	 */
-	public void save(final SetupComponentCMTablePayloadChunks setupComponentCMTablePayloadChunks) {
-		checkNotNull(setupComponentCMTablePayloadChunks);
+	public void delete(final String electionEventId, final String verificationCardSetId) {
+		validateUUID(electionEventId);
+		validateUUID(verificationCardSetId);
 
-		setupComponentCMTablePayloadChunks.payloads().stream().parallel().forEach(setupComponentCMTablePayloadFileRepository::save);
-		LOGGER.info("Return codes mapping table successfully saved. [electionEventId: {}, verificationCardSetId: {}, chunkCount: {}]",
-				setupComponentCMTablePayloadChunks.getElectionEventId(), setupComponentCMTablePayloadChunks.getVerificationCardSetId(),
-				setupComponentCMTablePayloadChunks.getChunkCount());
+		setupComponentCMTablePayloadFileRepository.deleteByElectionEventIdAndVerificationCardSetId(electionEventId, verificationCardSetId);
 	}
 
 	/**
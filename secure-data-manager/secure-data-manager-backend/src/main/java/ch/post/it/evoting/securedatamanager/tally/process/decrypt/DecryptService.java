@@ -17,18 +17,23 @@ import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.evotinglibraries.domain.ControlComponentNode;
 import ch.post.it.evoting.evotinglibraries.domain.common.SafePasswordHolder;
 import ch.post.it.evoting.evotinglibraries.domain.validations.Validations;
 import ch.post.it.evoting.securedatamanager.shared.process.BallotBox;
 import ch.post.it.evoting.securedatamanager.shared.process.BallotBoxService;
+import ch.post.it.evoting.securedatamanager.shared.process.ControlComponentBallotBoxPayloadFileRepository;
+import ch.post.it.evoting.securedatamanager.shared.process.ControlComponentShufflePayloadFileRepository;
 import ch.post.it.evoting.securedatamanager.shared.workflow.WorkflowExceptionCode;
 import ch.post.it.evoting.securedatamanager.shared.workflow.WorkflowExceptionHandler;
 import ch.post.it.evoting.securedatamanager.shared.workflow.WorkflowService;
 import ch.post.it.evoting.securedatamanager.tally.process.VerifyElectoralBoardPasswordService;
+import ch.post.it.evoting.securedatamanager.tally.process.decrypt.HeapBudgetDispatcher.BudgetedTask;
 
 @Service
 @ConditionalOnProperty("role.isTally")
@@ -36,12 +41,18 @@ public class DecryptService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(DecryptService.class);
 
+	private static final int BYTES_PER_PERMIT = 1024 * 1024;
+
+	private final double heapUsageRate;
+	private final double heapUsagePerPayloadByte;
 	private final ExecutorService executorService;
 	private final WorkflowService workflowService;
 	private final BallotBoxService ballotBoxService;
 	private final MixOfflineFacade mixOfflineFacade;
 	private final WorkflowExceptionHandler workflowExceptionHandler;
 	private final VerifyElectoralBoardPasswordService verifyElectoralBoardPasswordService;
+	private final ControlComponentBallotBoxPayloadFileRepository controlComponentBallotBoxPayloadFileRepository;
+	private final ControlComponentShufflePayloadFileRepository controlComponentShufflePayloadFileRepository;
 
 	public DecryptService(
 			final ExecutorService fixedThreadExecutorService,
@@ -49,13 +60,28 @@ public class DecryptService {
 			final BallotBoxService ballotBoxService,
 			final MixOfflineFacade mixOfflineFacade,
 			final WorkflowExceptionHandler workflowExceptionHandler,
-			final VerifyElectoralBoardPasswordService verifyElectoralBoardPasswordService) {
+			final VerifyElectoralBoardPasswordService verifyElectoralBoardPasswordService,
+			final ControlComponentBallotBoxPayloadFileRepository controlComponentBallotBoxPayloadFileRepository,
+			final ControlComponentShufflePayloadFileRepository controlComponentShufflePayloadFileRepository,
+			@Value("${decrypt.heap-usage-rate}")
+			final double heapUsageRate,
+			@Value("${decrypt.heap-usage-per-payload-byte}")
+			final double heapUsagePerPayloadByte) {
+		checkArgument(0 < heapUsageRate && heapUsageRate <= 1, "Property 'decrypt.heap-usage-rate' must be in the range (0, 1]. [Current: %s]",
+				heapUsageRate);
+		checkArgument(heapUsagePerPayloadByte > 0, "Property 'decrypt.heap-usage-per-payload-byte' must be strictly positive. [Current: %s]",
+				heapUsagePerPayloadByte);
+
+		this.heapUsageRate = heapUsageRate;
+		this.heapUsagePerPayloadByte = heapUsagePerPayloadByte;
 		this.executorService = fixedThreadExecutorService;
 		this.workflowService = workflowService;
 		this.ballotBoxService = ballotBoxService;
 		this.mixOfflineFacade = mixOfflineFacade;
 		this.workflowExceptionHandler = workflowExceptionHandler;
 		this.verifyElectoralBoardPasswordService = verifyElectoralBoardPasswordService;
+		this.controlComponentBallotBoxPayloadFileRepository = controlComponentBallotBoxPayloadFileRepository;
+		this.controlComponentShufflePayloadFileRepository = controlComponentShufflePayloadFileRepository;
 	}
 
 	public void decrypt(final String electionEventId, final ImmutableList<String> ballotBoxIds,
@@ -65,6 +91,9 @@ public class DecryptService {
 		checkNotNull(electoralBoardPasswords);
 		checkArgument(electoralBoardPasswords.size() >= 2, "There must be at least two passwords.");
 
+		// The payloads of the election event may have been imported again since a previous decryption.
+		mixOfflineFacade.invalidateVerifiedPayloads();
+
 		// Create a safe copy of the passwords for validations.
 		final ImmutableList<SafePasswordHolder> electoralBoardPasswordsCopyForValidation = electoralBoardPasswords.stream()
 				.map(SafePasswordHolder::copy)
@@ -133,22 +162,40 @@ public class DecryptService {
 
 	/**
 	 * Decrypts the ballot boxes asynchronously.
+	 * <p>
+	 * The ballot boxes decrypted concurrently share a heap budget, each ballot box reserving its estimated heap usage before being submitted to
+	 * the executor service, see {@link HeapBudgetDispatcher}.
+	 * </p>
 	 */
 	private void performDecrypt(final String electionEventId, final ImmutableList<String> ballotBoxIds,
 			final ImmutableList<SafePasswordHolder> electoralBoardPasswords) {
 		LOGGER.debug("Decrypting ballot boxes... [electionEventId: {}]", electionEventId);
 
-		final ImmutableList<CompletableFuture<Void>> futures = ballotBoxIds.stream()
-				.map(ballotBoxId -> {
+		final int heapBudgetPermits = Math.clamp((long) (Runtime.getRuntime().maxMemory() * heapUsageRate) / BYTES_PER_PERMIT, 1,
+				Integer.MAX_VALUE);
+		final ImmutableList<Integer> heapPermits = estimateHeapPermits(electionEventId, ballotBoxIds);
+
+		final ImmutableList<BudgetedTask> decryptTasks = IntStream.range(0, ballotBoxIds.size())
+				.mapToObj(i -> {
+					final String ballotBoxId = ballotBoxIds.get(i);
 					final Runnable decryptTask = () -> {
-						final ImmutableList<SafePasswordHolder> electoralBoardPasswordsCopyForBallotBoxDecryption = electoralBoardPasswords.stream()
+						final ImmutableList<SafePasswordHolder> electoralBoardPasswordsCopyForBallotBoxDecryption = electoralBoardPasswords
+								.stream()
 								.map(SafePasswordHolder::copy)
 								.collect(toImmutableList());
 						workflowService.notifyInProgress(DECRYPT_BALLOT_BOX, ballotBoxId);
 						mixOfflineFacade.mixOffline(electionEventId, ballotBoxId, electoralBoardPasswordsCopyForBallotBoxDecryption);
 					};
+					return new BudgetedTask(decryptTask, heapPermits.get(i));
+				})
+				.collect(toImmutableList());
 
-					return CompletableFuture.runAsync(decryptTask, executorService)
+		final ImmutableList<CompletableFuture<Void>> dispatchedFutures = new HeapBudgetDispatcher(executorService, heapBudgetPermits)
+				.dispatch(decryptTasks);
+		final ImmutableList<CompletableFuture<Void>> futures = IntStream.range(0, ballotBoxIds.size())
+				.mapToObj(i -> {
+					final String ballotBoxId = ballotBoxIds.get(i);
+					return dispatchedFutures.get(i)
 							.whenComplete((unused, throwable) -> {
 								if (throwable != null) {
 									workflowService.notifyError(DECRYPT_BALLOT_BOX, ballotBoxId, WorkflowExceptionCode.DEFAULT);
@@ -189,4 +236,27 @@ public class DecryptService {
 				});
 	}
 
+	/**
+	 * Estimates the heap usage of the decryption of each ballot box, in permits of {@value BYTES_PER_PERMIT} bytes, from the size of the control
+	 * component ballot box and shuffle payload files of the ballot box. The decryption holds these payloads of all the control components,
+	 * together with the offline mixing and decryption.
+	 *
+	 * @return the estimated heap permits of the ballot boxes, in the order of the given ballot box ids. Each estimate is at least 1.
+	 */
+	ImmutableList<Integer> estimateHeapPermits(final String electionEventId, final ImmutableList<String> ballotBoxIds) {
+		validateUUID(electionEventId);
+		checkNotNull(ballotBoxIds).forEach(Validations::validateUUID);
+
+		return ballotBoxIds.stream()
+				.map(ballotBoxId -> {
+					final long payloadsSize = ControlComponentNode.ids().stream()
+							.mapToLong(nodeId -> controlComponentBallotBoxPayloadFileRepository.getPayloadSize(electionEventId, ballotBoxId, nodeId)
+									+ controlComponentShufflePayloadFileRepository.getPayloadSize(electionEventId, ballotBoxId, nodeId))
+							.sum();
+					final long heapUsage = (long) (heapUsagePerPayloadByte * payloadsSize);
+					return Math.clamp(heapUsage / BYTES_PER_PERMIT, 1, Integer.MAX_VALUE);
+				})
+				.collect(toImmutableList());
+	}
+
 }
@@ -0,0 +1,152 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.tally.process.decrypt;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+
+/**
+ * Dispatches tasks to an executor service within a heap budget.
+ * <p>
+ * Each task reserves its estimated heap usage, in permits, before being submitted and releases it once completed. The reservation is made by a
+ * dedicated dispatcher thread, the threads of the executor service therefore never wait for the budget. The largest pending task is dispatched
+ * first; while it does not fit in the remaining budget, the smaller pending tasks which fit are dispatched instead.
+ * </p>
+ * <p>
+ * Overtaking the largest pending task keeps the budget used, but an unbounded stream of smaller tasks could delay it indefinitely. Hence, the
+ * smaller tasks may overtake it only up to the whole budget in total; the dispatcher then waits until the largest pending task fits. The largest
+ * task therefore waits at most for the completion of the tasks already running and of one budget of smaller tasks.
+ * </p>
+ */
+class HeapBudgetDispatcher {
+
+	private final ExecutorService executorService;
+	private final int budgetPermits;
+	private final Object lock = new Object();
+	private int availablePermits;
+	private int overtakingPermits;
+
+	/**
+	 * @param executorService the executor service running the tasks. Must be non-null.
+	 * @param budgetPermits   the heap budget, in permits. Must be strictly positive.
+	 */
+	HeapBudgetDispatcher(final ExecutorService executorService, final int budgetPermits) {
+		checkNotNull(executorService);
+		checkArgument(budgetPermits > 0, "The heap budget must be strictly positive. [budgetPermits: %s]", budgetPermits);
+
+		this.executorService = executorService;
+		this.budgetPermits = budgetPermits;
+		this.availablePermits = budgetPermits;
+	}
+
+	/**
+	 * Dispatches the given tasks in the background. A task whose estimated heap usage exceeds the budget reserves the whole budget.
+	 *
+	 * @param tasks the tasks to dispatch. Must be non-null.
+	 * @return the futures of the tasks, in the order of the given tasks.
+	 */
+	ImmutableList<CompletableFuture<Void>> dispatch(final ImmutableList<BudgetedTask> tasks) {
+		checkNotNull(tasks);
+
+		final ImmutableList<CompletableFuture<Void>> futures = tasks.stream()
+				.map(task -> new CompletableFuture<Void>())
+				.collect(toImmutableList());
+		final List<Integer> pendingTasks = IntStream.range(0, tasks.size())
+				.boxed()
+				.sorted(Comparator.comparingInt((Integer index) -> tasks.get(index).heapPermits()).reversed())
+				.collect(Collectors.toCollection(ArrayList::new));
+
+		Thread.ofPlatform().name("heap-budget-dispatcher").daemon().start(() -> {
+			while (!pendingTasks.isEmpty()) {
+				final int index;
+				try {
+					index = reserveNextFitting(pendingTasks, tasks);
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					pendingTasks.forEach(pendingIndex -> futures.get(pendingIndex).completeExceptionally(e));
+					return;
+				}
+				submit(tasks.get(index), futures.get(index));
+			}
+		});
+
+		return futures;
+	}
+
+	private int reserveNextFitting(final List<Integer> pendingTasks, final ImmutableList<BudgetedTask> tasks) throws InterruptedException {
+		synchronized (lock) {
+			while (true) {
+				final Iterator<Integer> iterator = pendingTasks.iterator();
+				boolean largest = true;
+				while (iterator.hasNext() && (largest || overtakingPermits < budgetPermits)) {
+					final int index = iterator.next();
+					final int heapPermits = permits(tasks.get(index));
+					if (heapPermits <= availablePermits) {
+						iterator.remove();
+						availablePermits -= heapPermits;
+						// The permits of the tasks overtaking the largest pending task are counted until the latter is dispatched.
+						overtakingPermits = largest ? 0 : overtakingPermits + heapPermits;
+						return index;
+					}
+					largest = false;
+				}
+				lock.wait();
+			}
+		}
+	}
+
+	private void submit(final BudgetedTask task, final CompletableFuture<Void> future) {
+		try {
+			CompletableFuture.runAsync(task.runnable(), executorService)
+					.whenComplete((unused, throwable) -> {
+						release(permits(task));
+						if (throwable != null) {
+							future.completeExceptionally(throwable);
+						} else {
+							future.complete(null);
+						}
+					});
+		} catch (final RuntimeException e) {
+			release(permits(task));
+			future.completeExceptionally(e);
+		}
+	}
+
+	private void release(final int heapPermits) {
+		synchronized (lock) {
+			availablePermits += heapPermits;
+			lock.notifyAll();
+		}
+	}
+
+	private int permits(final BudgetedTask task) {
+		return Math.min(task.heapPermits(), budgetPermits);
+	}
+
+	/**
+	 * A task and its estimated heap usage.
+	 *
+	 * @param runnable    the task. Must be non-null.
+	 * @param heapPermits the estimated heap usage of the task, in permits. Must be strictly positive.
+	 */
+	record BudgetedTask(Runnable runnable, int heapPermits) {
+
+		BudgetedTask {
+			checkNotNull(runnable);
+			checkArgument(heapPermits > 0, "The heap permits must be strictly positive. [heapPermits: %s]", heapPermits);
+		}
+	}
+}
@@ -73,6 +73,7 @@ public class MixOfflineFacade {
 	private final SignatureKeystore<Alias> signatureKeystoreService;
 	private final ElectionEventContextPayloadService electionEventContextPayloadService;
 	private final TallyComponentShufflePayloadFileRepository tallyComponentShufflePayloadFileRepository;
+	private final VerifiedElectionEventPayloadCache<ElectionEventContextPayload> verifiedElectionEventContextPayloads;
 
 	@Autowired
 	MixOfflineFacade(final BallotBoxService ballotBoxService,
@@ -91,6 +92,15 @@ public class MixOfflineFacade {
 		this.signatureKeystoreService = signatureKeystoreService;
 		this.electionEventContextPayloadService = electionEventContextPayloadService;
 		this.tallyComponentShufflePayloadFileRepository = tallyComponentShufflePayloadFileRepository;
+		this.verifiedElectionEventContextPayloads = new VerifiedElectionEventPayloadCache<>(this::loadElectionEventContextPayload);
+	}
+
+	/**
+	 * Discards the election-wide payloads verified by a previous decryption, so that the next decryption loads and verifies them again.
+	 */
+	void invalidateVerifiedPayloads() {
+		verifiedElectionEventContextPayloads.invalidateAll();
+		verifyMixOfflineService.invalidateVerifiedPayloads();
 	}
 
 	/**
@@ -107,7 +117,8 @@ public class MixOfflineFacade {
 		checkNotNull(electoralBoardMembersPasswords);
 		checkArgument(electoralBoardMembersPasswords.size() >= 2);
 
-		final ElectionEventContextPayload electionEventContextPayload = loadElectionEventContextPayload(electionEventId);
+		// The election event context payload is verified once and shared by the ballot boxes of the election event.
+		final ElectionEventContextPayload electionEventContextPayload = verifiedElectionEventContextPayloads.get(electionEventId);
 		final GqGroup encryptionGroup = electionEventContextPayload.getEncryptionGroup();
 
 		validateConsistency(electionEventId, ballotBoxId);
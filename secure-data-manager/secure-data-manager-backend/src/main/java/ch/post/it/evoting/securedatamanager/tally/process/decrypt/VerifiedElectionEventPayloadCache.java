@@ -0,0 +1,70 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.tally.process.decrypt;
+
+import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+
+/**
+ * Bounded cache of an election-wide payload whose signature was verified, shared by the ballot boxes of the election event.
+ * <p>
+ * The ballot boxes of an election event are decrypted concurrently and all need the same election-wide payloads. Concurrent requests for the same
+ * election event wait for a single load and signature verification. A failed load or verification is not cached, and its exception is rethrown
+ * as is. The cache is invalidated at the start of each decryption, since the payloads of an election event may have been imported again since the
+ * previous one.
+ * </p>
+ *
+ * @param <T> the type of the payload.
+ */
+final class VerifiedElectionEventPayloadCache<T> {
+
+	private static final int MAXIMUM_NUMBER_OF_ELECTION_EVENTS = 4;
+
+	private final Function<String, T> loadAndVerify;
+	private final Cache<String, T> verifiedPayloads = CacheBuilder.newBuilder()
+			.maximumSize(MAXIMUM_NUMBER_OF_ELECTION_EVENTS)
+			.build();
+
+	/**
+	 * @param loadAndVerify the function loading the payload of an election event and verifying its signature. Must be non-null.
+	 */
+	VerifiedElectionEventPayloadCache(final Function<String, T> loadAndVerify) {
+		this.loadAndVerify = checkNotNull(loadAndVerify);
+	}
+
+	/**
+	 * Returns the verified payload of the given election event, loading and verifying it if not already done.
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @return the verified payload.
+	 * @throws FailedValidationException if the election event id is not a valid UUID.
+	 */
+	T get(final String electionEventId) {
+		validateUUID(electionEventId);
+
+		try {
+			return verifiedPayloads.get(electionEventId, () -> loadAndVerify.apply(electionEventId));
+		} catch (final ExecutionException | UncheckedExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Discards all the verified payloads.
+	 */
+	void invalidateAll() {
+		verifiedPayloads.invalidateAll();
+	}
+}
@@ -64,6 +64,7 @@ public class VerifyMixOfflineService {
 	private final SetupComponentPublicKeysPayloadService setupComponentPublicKeysPayloadService;
 	private final ControlComponentShufflePayloadFileRepository controlComponentShufflePayloadFileRepository;
 	private final ControlComponentBallotBoxPayloadFileRepository controlComponentBallotBoxPayloadFileRepository;
+	private final VerifiedElectionEventPayloadCache<SetupComponentPublicKeysPayload> verifiedSetupComponentPublicKeysPayloads;
 
 	VerifyMixOfflineService(
 			final SignatureKeystore<Alias> signatureKeystore,
@@ -84,6 +85,7 @@ public class VerifyMixOfflineService {
 		this.setupComponentPublicKeysPayloadService = setupComponentPublicKeysPayloadService;
 		this.controlComponentShufflePayloadFileRepository = controlComponentShufflePayloadFileRepository;
 		this.controlComponentBallotBoxPayloadFileRepository = controlComponentBallotBoxPayloadFileRepository;
+		this.verifiedSetupComponentPublicKeysPayloads = new VerifiedElectionEventPayloadCache<>(this::loadSetupComponentPublicKeysPayload);
 	}
 
 	/**
@@ -105,8 +107,8 @@ public class VerifyMixOfflineService {
 		checkArgument(verificationCardSetContext.getBallotBoxId().equals(ballotBoxId),
 				"The verification card set context does not belong to the ballot box id.");
 
-		// Read setup component public keys.
-		final SetupComponentPublicKeysPayload setupComponentPublicKeysPayload = loadSetupComponentPublicKeysPayload(electionEventId);
+		// Read setup component public keys, verified once and shared by the ballot boxes of the election event.
+		final SetupComponentPublicKeysPayload setupComponentPublicKeysPayload = verifiedSetupComponentPublicKeysPayloads.get(electionEventId);
 		final SetupComponentPublicKeys setupComponentPublicKeys = setupComponentPublicKeysPayload.getSetupComponentPublicKeys();
 
 		// Read mix net payloads and verify mix net payloads signatures.
@@ -199,6 +201,13 @@ public class VerifyMixOfflineService {
 
 	}
 
+	/**
+	 * Discards the election-wide payloads verified by a previous decryption.
+	 */
+	void invalidateVerifiedPayloads() {
+		verifiedSetupComponentPublicKeysPayloads.invalidateAll();
+	}
+
 	private SetupComponentPublicKeysPayload loadSetupComponentPublicKeysPayload(final String electionEventId) {
 		final SetupComponentPublicKeysPayload setupComponentPublicKeysPayload = setupComponentPublicKeysPayloadService.load(electionEventId);
 
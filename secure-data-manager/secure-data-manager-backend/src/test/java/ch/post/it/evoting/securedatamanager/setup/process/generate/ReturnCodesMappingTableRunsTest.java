@@ -0,0 +1,81 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.setup.process.generate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableMap;
+import ch.post.it.evoting.cryptoprimitives.math.Base64Alphabet;
+import ch.post.it.evoting.cryptoprimitives.math.Random;
+import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+
+@DisplayName("ReturnCodesMappingTableRuns")
+class ReturnCodesMappingTableRunsTest {
+
+	private static final Random random = RandomFactory.createRandom();
+	private static final Base64Alphabet base64Alphabet = Base64Alphabet.getInstance();
+
+	private ReturnCodesMappingTableRuns returnCodesMappingTableRuns;
+
+	@BeforeEach
+	void setUp() {
+		returnCodesMappingTableRuns = ReturnCodesMappingTableRuns.create();
+	}
+
+	@AfterEach
+	void tearDown() {
+		returnCodesMappingTableRuns.close();
+	}
+
+	@Test
+	@DisplayName("merges the runs in the order of their key")
+	void mergesRunsInOrder() {
+		final Map<String, String> expected = new TreeMap<>();
+		IntStream.range(0, 5).parallel().forEach(runId -> {
+			final Map<String, String> run = new TreeMap<>();
+			IntStream.range(0, 100).forEach(i -> run.put(random.genRandomString(44, base64Alphabet), random.genRandomString(60, base64Alphabet)));
+			synchronized (expected) {
+				expected.putAll(run);
+			}
+			returnCodesMappingTableRuns.write(runId, ImmutableMap.from(run, TreeMap::new));
+		});
+
+		final List<Map.Entry<String, String>> merged = new ArrayList<>();
+		returnCodesMappingTableRuns.forEachOrdered((key, value) -> merged.add(Map.entry(key, value)));
+
+		assertEquals(expected.size(), returnCodesMappingTableRuns.size());
+		assertEquals(new ArrayList<>(expected.entrySet()), merged);
+	}
+
+	@Test
+	@DisplayName("writing a run twice throws IllegalArgumentException")
+	void writeTwiceThrows() {
+		final ImmutableMap<String, String> run = ImmutableMap.from(Map.of("key", "value"), TreeMap::new);
+		returnCodesMappingTableRuns.write(0, run);
+
+		assertThrows(IllegalArgumentException.class, () -> returnCodesMappingTableRuns.write(0, run));
+	}
+
+	@Test
+	@DisplayName("merging runs with a duplicate key throws IllegalStateException")
+	void duplicateKeyThrows() {
+		returnCodesMappingTableRuns.write(0, ImmutableMap.from(Map.of("key", "value"), TreeMap::new));
+		returnCodesMappingTableRuns.write(1, ImmutableMap.from(Map.of("key", "other value"), TreeMap::new));
+
+		assertThrows(IllegalStateException.class, () -> returnCodesMappingTableRuns.forEachOrdered((key, value) -> {
+		}));
+	}
+}
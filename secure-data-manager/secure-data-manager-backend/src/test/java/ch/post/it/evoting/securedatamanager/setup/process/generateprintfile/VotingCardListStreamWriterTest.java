@@ -0,0 +1,121 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.setup.process.generateprintfile;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.xml.XMLConstants;
+import javax.xml.validation.SchemaFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.xmlunit.builder.DiffBuilder;
+import org.xmlunit.builder.Input;
+import org.xmlunit.diff.Diff;
+
+import ch.post.it.evoting.evotinglibraries.xml.XsdConstants;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.AnswerType;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.ContestType;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.QuestionType;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VoteType;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardList;
+import ch.post.it.evoting.evotinglibraries.xml.xmlns.evotingprint.VotingCardType;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+
+@DisplayName("VotingCardListStreamWriter")
+class VotingCardListStreamWriterTest {
+
+	private static final String XSD = XsdConstants.SETUP_COMPONENT_EVOTING_PRINT_XSD;
+	private static final int NUMBER_OF_VOTING_CARDS = 25;
+
+	private List<VotingCardType> votingCards;
+
+	@BeforeEach
+	void setUp() {
+		votingCards = IntStream.range(0, NUMBER_OF_VOTING_CARDS)
+				.mapToObj(VotingCardListStreamWriterTest::votingCard)
+				.toList();
+	}
+
+	@Test
+	@DisplayName("writes the same document as the marshalling of the whole voting card list")
+	void writesSameDocumentAsMarshaller() throws Exception {
+		final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		final Marshaller marshaller = JAXBContext.newInstance(VotingCardList.class).createMarshaller();
+		marshaller.setSchema(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+				.newSchema(VotingCardListStreamWriterTest.class.getResource(XSD)));
+		marshaller.marshal(votingCardList(votingCards), expected);
+
+		final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		VotingCardListStreamWriter.write(actual, votingCardList(List.of()), votingCards.iterator(), XSD);
+
+		final Diff diff = DiffBuilder.compare(Input.fromByteArray(expected.toByteArray()))
+				.withTest(Input.fromByteArray(actual.toByteArray()))
+				.ignoreWhitespace()
+				.checkForSimilar()
+				.build();
+		assertFalse(diff.hasDifferences(), diff::toString);
+	}
+
+	@Test
+	@DisplayName("with a voting card not valid against the schema throws an IllegalStateException")
+	void invalidVotingCardThrows() {
+		final VotingCardType invalidVotingCard = votingCard(NUMBER_OF_VOTING_CARDS);
+		invalidVotingCard.setVoteCastReturnCode(null);
+		final Iterator<VotingCardType> iterator = List.of(votingCards.getFirst(), invalidVotingCard).iterator();
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		final VotingCardList votingCardList = votingCardList(List.of());
+
+		assertThrows(IllegalStateException.class, () -> VotingCardListStreamWriter.write(outputStream, votingCardList, iterator, XSD));
+	}
+
+	@Test
+	@DisplayName("with a voting card list already containing voting cards throws an IllegalStateException")
+	void votingCardListWithVotingCardsThrows() {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		final VotingCardList votingCardList = votingCardList(votingCards);
+		final Iterator<VotingCardType> iterator = votingCards.iterator();
+
+		assertThrows(IllegalStateException.class, () -> VotingCardListStreamWriter.write(outputStream, votingCardList, iterator, XSD));
+	}
+
+	private static VotingCardList votingCardList(final List<VotingCardType> votingCards) {
+		final ContestType contest = new ContestType();
+		contest.setContestIdentification("Post_E2E_DEV");
+		contest.getVotingCard().addAll(votingCards);
+
+		final VotingCardList votingCardList = new VotingCardList();
+		votingCardList.setContest(contest);
+		return votingCardList;
+	}
+
+	private static VotingCardType votingCard(final int index) {
+		final VotingCardType votingCard = new VotingCardType();
+		votingCard.setVoterIdentification(String.valueOf(100001 + index));
+		votingCard.setVotingCardId(String.format("%032X", index));
+		votingCard.setStartVotingKey("uiic7wh9r7a6nuas2i23h3ae");
+		votingCard.setBallotCastingKey("963878822");
+		votingCard.setVoteCastReturnCode("80761537");
+
+		final VoteType vote = new VoteType();
+		vote.setVoteIdentification("ch_test");
+		vote.getQuestion().add(new QuestionType()
+				.withQuestionIdentification("806f52e6-9d49-4906-b2a8-7c89dfdf53e2")
+				.withAnswer(List.of(
+						new AnswerType().withAnswerIdentification("3aa38c9e-6e93-3159-91e1-c3da90681572").withChoiceReturnCode("7241"),
+						new AnswerType().withAnswerIdentification("16ac94e3-0c72-3570-9df9-050ebb18a9cc").withChoiceReturnCode("5581"))));
+		votingCard.getVote().add(vote);
+
+		return votingCard;
+	}
+}
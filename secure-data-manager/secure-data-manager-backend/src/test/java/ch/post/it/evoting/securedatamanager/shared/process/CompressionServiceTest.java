@@ -4,6 +4,7 @@
 package ch.post.it.evoting.securedatamanager.shared.process;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -12,6 +13,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,7 +29,7 @@ class CompressionServiceTest {
 
 	@BeforeEach
 	void setUp() {
-		compressionService = new CompressionService();
+		compressionService = new CompressionService(1, 2);
 	}
 
 	@Test
@@ -62,6 +64,35 @@ class CompressionServiceTest {
 		assertDirectoryContent(inputDirectoryCopy, outputDirectory);
 	}
 
+	@Test
+	void zipAndUnzipPreservesContent() throws IOException {
+
+		// given
+		final Path inputDirectory = testDirectory.resolve("input");
+		final Path outputDirectory = testDirectory.resolve("output");
+
+		final byte[] compressible = "compressible content ".repeat(10_000).getBytes();
+		final byte[] incompressible = new byte[100_000];
+		new Random(0).nextBytes(incompressible);
+
+		Files.createDirectories(inputDirectory.resolve("nested"));
+		Files.createDirectories(outputDirectory);
+		Files.write(inputDirectory.resolve("compressible.txt"), compressible);
+		Files.write(inputDirectory.resolve("nested/incompressible.bin"), incompressible);
+		Files.write(inputDirectory.resolve("empty.txt"), new byte[0]);
+
+		// when
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		compressionService.zipDirectory(byteArrayOutputStream, inputDirectory);
+		compressionService.unzipToDirectory(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()), outputDirectory);
+
+		// then
+		assertTrue(byteArrayOutputStream.size() < compressible.length + incompressible.length);
+		assertArrayEquals(compressible, Files.readAllBytes(outputDirectory.resolve("compressible.txt")));
+		assertArrayEquals(incompressible, Files.readAllBytes(outputDirectory.resolve("nested/incompressible.bin")));
+		assertArrayEquals(new byte[0], Files.readAllBytes(outputDirectory.resolve("empty.txt")));
+	}
+
 	private static void assertDirectoryContent(final Path expectedStructure, final Path actualStructure) throws IOException {
 		try (final Stream<Path> files = Files.walk(expectedStructure)) {
 			assertTrue(files.filter(Files::isRegularFile).allMatch(p -> Files.exists(actualStructure.resolve(expectedStructure.relativize(p)))));
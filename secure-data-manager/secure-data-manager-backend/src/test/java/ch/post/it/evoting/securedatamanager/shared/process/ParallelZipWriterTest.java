@@ -0,0 +1,181 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.shared.process;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ParallelZipWriter")
+class ParallelZipWriterTest {
+
+	private static final byte[] ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = { 'P', 'K', 6, 6 };
+
+	private ParallelZipWriter parallelZipWriter;
+
+	@TempDir
+	private Path testDirectory;
+
+	@BeforeEach
+	void setUp() {
+		parallelZipWriter = new ParallelZipWriter(Deflater.BEST_SPEED, 2);
+	}
+
+	@Test
+	@DisplayName("deflates the entries larger than the in-memory threshold into a temporary file")
+	void spoolsLargeEntries() throws IOException {
+		final Path inputDirectory = Files.createDirectories(testDirectory.resolve("input"));
+
+		// Compressible content above the threshold is spooled and deflated, incompressible content above the threshold is spooled and stored.
+		final byte[] compressible = new byte[ParallelZipWriter.IN_MEMORY_THRESHOLD + 1];
+		final Random random = new Random(0);
+		for (int i = 0; i < compressible.length; i++) {
+			compressible[i] = (byte) ('a' + random.nextInt(4));
+		}
+		final byte[] incompressible = new byte[ParallelZipWriter.IN_MEMORY_THRESHOLD + 1];
+		random.nextBytes(incompressible);
+		final byte[] small = "small content ".repeat(100).getBytes();
+
+		final Path compressibleFile = Files.write(inputDirectory.resolve("compressible.txt"), compressible);
+		final Path incompressibleFile = Files.write(inputDirectory.resolve("incompressible.bin"), incompressible);
+		final Path smallFile = Files.write(inputDirectory.resolve("small.txt"), small);
+
+		final Set<Path> spoolsBefore = listSpools();
+		final Path archive = testDirectory.resolve("archive.zip");
+		try (final OutputStream outputStream = Files.newOutputStream(archive)) {
+			parallelZipWriter.write(outputStream, inputDirectory, List.of(compressibleFile, incompressibleFile, smallFile));
+		}
+
+		// Read back with the CRC-32 verification of the entries.
+		final List<ZipEntry> entries = new ArrayList<>();
+		final List<byte[]> contents = new ArrayList<>();
+		try (final ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(archive))) {
+			ZipEntry entry;
+			while ((entry = zipInputStream.getNextEntry()) != null) {
+				entries.add(entry);
+				contents.add(zipInputStream.readAllBytes());
+			}
+		}
+
+		assertEquals(3, entries.size());
+		assertAll(
+				() -> assertEquals("compressible.txt", entries.get(0).getName()),
+				() -> assertEquals(ZipEntry.DEFLATED, entries.get(0).getMethod()),
+				() -> assertArrayEquals(compressible, contents.get(0)),
+				() -> assertEquals("incompressible.bin", entries.get(1).getName()),
+				() -> assertEquals(ZipEntry.STORED, entries.get(1).getMethod()),
+				() -> assertArrayEquals(incompressible, contents.get(1)),
+				() -> assertEquals("small.txt", entries.get(2).getName()),
+				() -> assertArrayEquals(small, contents.get(2)),
+				() -> assertTrue(spoolsBefore.containsAll(listSpools()), "The temporary files of the spooled entries must be deleted.")
+		);
+	}
+
+	@Test
+	@DisplayName("writes the Zip64 end of central directory when the number of entries requires it")
+	void writesZip64EndOfCentralDirectory() throws IOException {
+		final Path inputDirectory = Files.createDirectories(testDirectory.resolve("input"));
+
+		// The end of central directory counts the entries on 16 bits, 0xFFFF entries and more require the Zip64 record.
+		final int numberOfEntries = 0xFFFF + 1;
+		final List<Path> files = new ArrayList<>(numberOfEntries);
+		for (int i = 0; i < numberOfEntries; i++) {
+			files.add(Files.writeString(inputDirectory.resolve(i + ".txt"), Integer.toString(i)));
+		}
+
+		final Path archive = testDirectory.resolve("archive.zip");
+		try (final OutputStream outputStream = Files.newOutputStream(archive)) {
+			parallelZipWriter.write(outputStream, inputDirectory, files);
+		}
+
+		assertTrue(containsZip64EndOfCentralDirectory(archive));
+		try (final ZipFile zipFile = new ZipFile(archive.toFile())) {
+			assertEquals(numberOfEntries, zipFile.size());
+			for (final int i : new int[] { 0, 0xFFFE, 0xFFFF }) {
+				try (final InputStream inputStream = zipFile.getInputStream(zipFile.getEntry(i + ".txt"))) {
+					assertEquals(Integer.toString(i), new String(inputStream.readAllBytes()));
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("does not write the Zip64 records for a small archive")
+	void doesNotWriteZip64ForSmallArchive() throws IOException {
+		final Path inputDirectory = Files.createDirectories(testDirectory.resolve("input"));
+		final Path file = Files.writeString(inputDirectory.resolve("file.txt"), "content");
+
+		final Path archive = testDirectory.resolve("archive.zip");
+		try (final OutputStream outputStream = Files.newOutputStream(archive)) {
+			parallelZipWriter.write(outputStream, inputDirectory, List.of(file));
+		}
+
+		try (final ZipFile zipFile = new ZipFile(archive.toFile())) {
+			assertAll(
+					() -> assertEquals(1, zipFile.size()),
+					() -> assertNull(zipFile.getEntry("file.txt").getExtra()),
+					() -> assertFalse(containsZip64EndOfCentralDirectory(archive))
+			);
+		}
+	}
+
+	@Test
+	@DisplayName("with invalid arguments throws")
+	void invalidArgumentsThrow() {
+		final List<Path> files = List.of();
+
+		assertAll(
+				() -> assertThrows(IllegalArgumentException.class, () -> new ParallelZipWriter(Deflater.NO_COMPRESSION - 1, 2)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new ParallelZipWriter(Deflater.BEST_COMPRESSION + 1, 2)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new ParallelZipWriter(Deflater.BEST_SPEED, 0)),
+				() -> assertThrows(NullPointerException.class, () -> parallelZipWriter.write(null, testDirectory, files)),
+				() -> assertThrows(NullPointerException.class, () -> parallelZipWriter.write(OutputStream.nullOutputStream(), null, files)),
+				() -> assertThrows(NullPointerException.class, () -> parallelZipWriter.write(OutputStream.nullOutputStream(), testDirectory, null))
+		);
+	}
+
+	private static boolean containsZip64EndOfCentralDirectory(final Path archive) throws IOException {
+		final byte[] bytes = Files.readAllBytes(archive);
+		for (int i = 0; i <= bytes.length - ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE.length; i++) {
+			if (Arrays.equals(bytes, i, i + ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE.length, ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE, 0,
+					ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE.length)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Set<Path> listSpools() throws IOException {
+		try (final Stream<Path> paths = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+			return paths.filter(path -> path.getFileName().toString().startsWith("zip-entry-"))
+					.collect(Collectors.toSet());
+		}
+	}
+}
@@ -109,6 +109,43 @@ class SetupComponentCMTablePayloadFileRepositoryTest {
 
 	}
 
+	@Nested
+	@DisplayName("deleting")
+	class DeleteTest {
+
+		@TempDir
+		private Path tempDir;
+
+		@Test
+		@DisplayName("removes every chunk and keeps the other files of the verification card set")
+		void deleteChunks() throws IOException {
+			final PathResolver pathResolver = new SetupPathResolver(tempDir, Path.of(""), Path.of(""), Path.of(""), Path.of(""));
+			final SetupComponentCMTablePayloadFileRepository repository = new SetupComponentCMTablePayloadFileRepository(objectMapper, pathResolver);
+			final Random random = RandomFactory.createRandom();
+			final Alphabet base64Alphabet = Base64Alphabet.getInstance();
+			for (int chunkId = 0; chunkId < 2; chunkId++) {
+				repository.save(new SetupComponentCMTablePayload.Builder()
+						.setElectionEventId(ELECTION_EVENT_ID)
+						.setVerificationCardSetId(VERIFICATION_CARD_SET_ID)
+						.setChunkId(chunkId)
+						.setReturnCodesMappingTable(ImmutableMap.of(
+								random.genRandomString(BASE64_ENCODED_HASH_OUTPUT_LENGTH, base64Alphabet),
+								random.genRandomString(BASE64_ENCODED_HASH_OUTPUT_LENGTH, base64Alphabet)))
+						.build());
+			}
+			final Path otherFile = Files.writeString(
+					pathResolver.resolveVerificationCardSetPath(ELECTION_EVENT_ID, VERIFICATION_CARD_SET_ID).resolve("voterReturnCodesPayload.json"), "{}");
+
+			repository.deleteByElectionEventIdAndVerificationCardSetId(ELECTION_EVENT_ID, VERIFICATION_CARD_SET_ID);
+
+			assertAll(
+					() -> assertFalse(repository.findByElectionEventIdAndVerificationCardSetId(ELECTION_EVENT_ID, VERIFICATION_CARD_SET_ID).isPresent()),
+					() -> assertTrue(Files.exists(otherFile))
+			);
+		}
+
+	}
+
 	@Nested
 	@DisplayName("calling findById")
 	@TestInstance(TestInstance.Lifecycle.PER_CLASS)
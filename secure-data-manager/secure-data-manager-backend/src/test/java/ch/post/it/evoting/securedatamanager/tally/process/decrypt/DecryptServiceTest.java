@@ -0,0 +1,92 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.tally.process.decrypt;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+import ch.post.it.evoting.securedatamanager.shared.process.BallotBoxService;
+import ch.post.it.evoting.securedatamanager.shared.process.ControlComponentBallotBoxPayloadFileRepository;
+import ch.post.it.evoting.securedatamanager.shared.process.ControlComponentShufflePayloadFileRepository;
+import ch.post.it.evoting.securedatamanager.shared.workflow.WorkflowExceptionHandler;
+import ch.post.it.evoting.securedatamanager.shared.workflow.WorkflowService;
+import ch.post.it.evoting.securedatamanager.tally.process.VerifyElectoralBoardPasswordService;
+
+@DisplayName("DecryptService")
+class DecryptServiceTest {
+
+	private static final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+	private static final long MEBIBYTE = 1024 * 1024;
+
+	private final String electionEventId = uuidGenerator.generate();
+	private final String smallBallotBoxId = uuidGenerator.generate();
+	private final String largeBallotBoxId = uuidGenerator.generate();
+	private final String emptyBallotBoxId = uuidGenerator.generate();
+
+	private ControlComponentBallotBoxPayloadFileRepository controlComponentBallotBoxPayloadFileRepository;
+	private ControlComponentShufflePayloadFileRepository controlComponentShufflePayloadFileRepository;
+	private DecryptService decryptService;
+
+	@BeforeEach
+	void setUp() {
+		controlComponentBallotBoxPayloadFileRepository = mock(ControlComponentBallotBoxPayloadFileRepository.class);
+		controlComponentShufflePayloadFileRepository = mock(ControlComponentShufflePayloadFileRepository.class);
+
+		when(controlComponentBallotBoxPayloadFileRepository.getPayloadSize(eq(electionEventId), eq(smallBallotBoxId), anyInt())).thenReturn(MEBIBYTE);
+		when(controlComponentShufflePayloadFileRepository.getPayloadSize(eq(electionEventId), eq(smallBallotBoxId), anyInt())).thenReturn(MEBIBYTE);
+		when(controlComponentBallotBoxPayloadFileRepository.getPayloadSize(eq(electionEventId), eq(largeBallotBoxId), anyInt()))
+				.thenReturn(10 * MEBIBYTE);
+		when(controlComponentShufflePayloadFileRepository.getPayloadSize(eq(electionEventId), eq(largeBallotBoxId), anyInt()))
+				.thenReturn(20 * MEBIBYTE);
+
+		decryptService = newDecryptService(0.7, 4);
+	}
+
+	@Test
+	@DisplayName("estimates the heap usage of the ballot boxes from their ballot box and shuffle payload files")
+	void estimateHeapPermits() {
+		final ImmutableList<Integer> heapPermits = decryptService.estimateHeapPermits(electionEventId,
+				ImmutableList.of(smallBallotBoxId, largeBallotBoxId, emptyBallotBoxId));
+
+		// 4 nodes, 4 bytes of heap per byte of the payload files, in permits of 1 MiB.
+		assertEquals(ImmutableList.of(4 * 4 * 2, 4 * 4 * 30, 1), heapPermits);
+	}
+
+	@Test
+	@DisplayName("with invalid arguments throws")
+	void invalidArgumentsThrow() {
+		final ImmutableList<String> ballotBoxIds = ImmutableList.of(smallBallotBoxId);
+		final ImmutableList<String> invalidBallotBoxIds = ImmutableList.of("invalid");
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> decryptService.estimateHeapPermits(null, ballotBoxIds)),
+				() -> assertThrows(FailedValidationException.class, () -> decryptService.estimateHeapPermits("invalid", ballotBoxIds)),
+				() -> assertThrows(NullPointerException.class, () -> decryptService.estimateHeapPermits(electionEventId, null)),
+				() -> assertThrows(FailedValidationException.class, () -> decryptService.estimateHeapPermits(electionEventId, invalidBallotBoxIds)),
+				() -> assertThrows(IllegalArgumentException.class, () -> newDecryptService(0, 4)),
+				() -> assertThrows(IllegalArgumentException.class, () -> newDecryptService(1.1, 4)),
+				() -> assertThrows(IllegalArgumentException.class, () -> newDecryptService(0.7, 0))
+		);
+	}
+
+	private DecryptService newDecryptService(final double heapUsageRate, final double heapUsagePerPayloadByte) {
+		return new DecryptService(mock(ExecutorService.class), mock(WorkflowService.class), mock(BallotBoxService.class),
+				mock(MixOfflineFacade.class), mock(WorkflowExceptionHandler.class), mock(VerifyElectoralBoardPasswordService.class),
+				controlComponentBallotBoxPayloadFileRepository, controlComponentShufflePayloadFileRepository, heapUsageRate, heapUsagePerPayloadByte);
+	}
+}
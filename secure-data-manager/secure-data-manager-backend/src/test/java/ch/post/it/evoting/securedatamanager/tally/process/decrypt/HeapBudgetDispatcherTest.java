@@ -0,0 +1,171 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.tally.process.decrypt;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.securedatamanager.tally.process.decrypt.HeapBudgetDispatcher.BudgetedTask;
+
+@DisplayName("HeapBudgetDispatcher")
+class HeapBudgetDispatcherTest {
+
+	private static final int BUDGET_PERMITS = 3;
+
+	private ExecutorService executorService;
+	private HeapBudgetDispatcher heapBudgetDispatcher;
+
+	@BeforeEach
+	void setUp() {
+		executorService = Executors.newFixedThreadPool(4);
+		heapBudgetDispatcher = new HeapBudgetDispatcher(executorService, BUDGET_PERMITS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("runs all the tasks without exceeding the heap budget")
+	void runsWithinBudget() {
+		final AtomicInteger reservedPermits = new AtomicInteger();
+		final AtomicInteger maximumReservedPermits = new AtomicInteger();
+		final AtomicInteger completedTasks = new AtomicInteger();
+		final ImmutableList<BudgetedTask> tasks = IntStream.of(2, 1, 3, 1, 2, 5, 1)
+				.mapToObj(heapPermits -> new BudgetedTask(() -> {
+					final int permits = Math.min(heapPermits, BUDGET_PERMITS);
+					maximumReservedPermits.accumulateAndGet(reservedPermits.addAndGet(permits), Math::max);
+					sleep();
+					reservedPermits.addAndGet(-permits);
+					completedTasks.incrementAndGet();
+				}, heapPermits))
+				.collect(toImmutableList());
+
+		final ImmutableList<CompletableFuture<Void>> futures = heapBudgetDispatcher.dispatch(tasks);
+
+		assertDoesNotThrow(() -> CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {})).get(10, TimeUnit.SECONDS));
+		assertAll(
+				() -> assertEquals(tasks.size(), completedTasks.get()),
+				() -> assertTrue(maximumReservedPermits.get() <= BUDGET_PERMITS)
+		);
+	}
+
+	@Test
+	@DisplayName("dispatches the smaller tasks fitting in the budget while the largest pending task waits")
+	void dispatchesSmallerTasksWhileLargestWaits() throws InterruptedException {
+		final CountDownLatch releaseFirst = new CountDownLatch(1);
+		final BudgetedTask first = new BudgetedTask(() -> await(releaseFirst), 2);
+		final BudgetedTask second = new BudgetedTask(() -> {
+		}, 2);
+		final BudgetedTask small = new BudgetedTask(() -> {
+		}, 1);
+
+		final ImmutableList<CompletableFuture<Void>> futures = heapBudgetDispatcher.dispatch(ImmutableList.of(first, second, small));
+
+		assertDoesNotThrow(() -> futures.get(2).get(10, TimeUnit.SECONDS));
+		assertFalse(futures.get(1).isDone());
+
+		releaseFirst.countDown();
+		assertDoesNotThrow(() -> CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {})).get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("stops dispatching smaller tasks once they overtook the largest pending task by the whole budget")
+	void boundsOvertakingOfLargestTask() {
+		final CountDownLatch releaseFirst = new CountDownLatch(1);
+		final BudgetedTask first = new BudgetedTask(() -> await(releaseFirst), 2);
+		final BudgetedTask largest = new BudgetedTask(() -> {
+		}, 2);
+		final ImmutableList<BudgetedTask> tasks = Stream.concat(Stream.of(first, largest), IntStream.range(0, BUDGET_PERMITS + 1)
+						.mapToObj(i -> new BudgetedTask(() -> {
+						}, 1)))
+				.collect(toImmutableList());
+
+		final ImmutableList<CompletableFuture<Void>> futures = heapBudgetDispatcher.dispatch(tasks);
+
+		// The first smaller tasks overtake the largest pending task up to the budget, the last one waits for it.
+		IntStream.range(2, 2 + BUDGET_PERMITS)
+				.forEach(i -> assertDoesNotThrow(() -> futures.get(i).get(10, TimeUnit.SECONDS)));
+		sleep();
+		assertAll(
+				() -> assertFalse(futures.get(1).isDone()),
+				() -> assertFalse(futures.get(futures.size() - 1).isDone())
+		);
+
+		releaseFirst.countDown();
+		assertDoesNotThrow(() -> CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {})).get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("completes the future of a failed task exceptionally and releases its permits")
+	void failedTaskReleasesPermits() {
+		final IllegalStateException failure = new IllegalStateException("failure");
+		final BudgetedTask failing = new BudgetedTask(() -> {
+			throw failure;
+		}, BUDGET_PERMITS);
+		final BudgetedTask following = new BudgetedTask(() -> {
+		}, BUDGET_PERMITS);
+
+		final ImmutableList<CompletableFuture<Void>> futures = heapBudgetDispatcher.dispatch(ImmutableList.of(failing, following));
+
+		final CompletionException exception = assertThrows(CompletionException.class, () -> futures.get(0).join());
+		assertEquals(failure, exception.getCause());
+		assertDoesNotThrow(() -> futures.get(1).get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("with invalid arguments throws")
+	void invalidArgumentsThrow() {
+		final Runnable runnable = () -> {
+		};
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> new HeapBudgetDispatcher(null, BUDGET_PERMITS)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new HeapBudgetDispatcher(executorService, 0)),
+				() -> assertThrows(NullPointerException.class, () -> heapBudgetDispatcher.dispatch(null)),
+				() -> assertThrows(NullPointerException.class, () -> new BudgetedTask(null, 1)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new BudgetedTask(runnable, 0))
+		);
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(20);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void await(final CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.securedatamanager.tally.process.decrypt;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+
+@DisplayName("VerifiedElectionEventPayloadCache")
+class VerifiedElectionEventPayloadCacheTest {
+
+	private static final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+
+	private final String electionEventId = uuidGenerator.generate();
+	private final AtomicInteger numberOfLoads = new AtomicInteger();
+
+	private VerifiedElectionEventPayloadCache<String> verifiedElectionEventPayloadCache;
+
+	@BeforeEach
+	void setUp() {
+		verifiedElectionEventPayloadCache = new VerifiedElectionEventPayloadCache<>(id -> {
+			numberOfLoads.incrementAndGet();
+			return "payload-" + id;
+		});
+	}
+
+	@Test
+	@DisplayName("loads and verifies the payload of an election event only once")
+	void loadsOnce() {
+		final String otherElectionEventId = uuidGenerator.generate();
+
+		assertAll(
+				() -> assertEquals("payload-" + electionEventId, verifiedElectionEventPayloadCache.get(electionEventId)),
+				() -> assertEquals("payload-" + electionEventId, verifiedElectionEventPayloadCache.get(electionEventId)),
+				() -> assertEquals("payload-" + otherElectionEventId, verifiedElectionEventPayloadCache.get(otherElectionEventId)),
+				() -> assertEquals(2, numberOfLoads.get())
+		);
+	}
+
+	@Test
+	@DisplayName("loads and verifies the payload again once invalidated")
+	void loadsAgainOnceInvalidated() {
+		verifiedElectionEventPayloadCache.get(electionEventId);
+		verifiedElectionEventPayloadCache.invalidateAll();
+
+		assertAll(
+				() -> assertEquals("payload-" + electionEventId, verifiedElectionEventPayloadCache.get(electionEventId)),
+				() -> assertEquals(2, numberOfLoads.get())
+		);
+	}
+
+	@Test
+	@DisplayName("concurrent requests wait for a single load")
+	void concurrentRequestsWaitForSingleLoad() throws Exception {
+		final CountDownLatch loadStarted = new CountDownLatch(1);
+		final CountDownLatch releaseLoad = new CountDownLatch(1);
+		final VerifiedElectionEventPayloadCache<String> slowCache = new VerifiedElectionEventPayloadCache<>(id -> {
+			numberOfLoads.incrementAndGet();
+			loadStarted.countDown();
+			try {
+				releaseLoad.await(10, TimeUnit.SECONDS);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			return "payload-" + id;
+		});
+
+		try (final ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+			final List<CompletableFuture<String>> futures = IntStream.range(0, 4)
+					.mapToObj(i -> CompletableFuture.supplyAsync(() -> slowCache.get(electionEventId), executorService))
+					.toList();
+			loadStarted.await(10, TimeUnit.SECONDS);
+			releaseLoad.countDown();
+
+			for (final CompletableFuture<String> future : futures) {
+				assertEquals("payload-" + electionEventId, future.get(10, TimeUnit.SECONDS));
+			}
+		}
+		assertEquals(1, numberOfLoads.get());
+	}
+
+	@Test
+	@DisplayName("rethrows a failed load as is and does not cache it")
+	void failedLoadIsNotCached() {
+		final IllegalStateException failure = new IllegalStateException("The signature is invalid.");
+		final AtomicInteger attempts = new AtomicInteger();
+		final VerifiedElectionEventPayloadCache<String> failingOnceCache = new VerifiedElectionEventPayloadCache<>(id -> {
+			if (attempts.getAndIncrement() == 0) {
+				throw failure;
+			}
+			return "payload-" + id;
+		});
+
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> failingOnceCache.get(electionEventId)));
+		assertEquals("payload-" + electionEventId, failingOnceCache.get(electionEventId));
+	}
+
+	@Test
+	@DisplayName("with invalid arguments throws")
+	void invalidArgumentsThrow() {
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> new VerifiedElectionEventPayloadCache<>(null)),
+				() -> assertThrows(NullPointerException.class, () -> verifiedElectionEventPayloadCache.get(null)),
+				() -> assertThrows(FailedValidationException.class, () -> verifiedElectionEventPayloadCache.get("invalid"))
+		);
+	}
+}
@@ -3,8 +3,12 @@
  */
 package ch.post.it.evoting.tools.disputeresolver;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -39,6 +43,19 @@ public class DisputeResolverConfiguration {
 				repository.getKeystoreAlias());
 	}
 
+	/**
+	 * The bounded pool shared by the consistency checks and the per-node reading, signature validation and hashing of the payloads, which run before
+	 * and within the checks. A check waiting for its per-node work helps running it, instead of blocking a thread of the pool.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	ForkJoinPool disputeResolverPool(
+			@Value("${dispute-resolver.parallelism:4}")
+			final int parallelism) {
+		checkArgument(parallelism > 0, "The parallelism must be strictly positive. [parallelism: %s]", parallelism);
+
+		return new ForkJoinPool(parallelism);
+	}
+
 	@Bean
 	public ZeroKnowledgeProof zeroKnowledgeProof() {
 		return ZeroKnowledgeProofFactory.createZeroKnowledgeProof();
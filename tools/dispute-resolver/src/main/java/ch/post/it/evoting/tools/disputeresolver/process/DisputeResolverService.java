@@ -5,6 +5,12 @@ package ch.post.it.evoting.tools.disputeresolver.process;
 
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -24,24 +30,28 @@ import ch.post.it.evoting.tools.disputeresolver.protocol.CheckVoteConsistencySer
 public class DisputeResolverService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(DisputeResolverService.class);
+	private static final int NUMBER_OF_CHECKS = 3;
 
 	private final DisputeResolverInputService disputeResolverInputService;
 	private final CheckVoteConsistencyService checkVoteConsistencyService;
 	private final DisputeResolverOutputService disputeResolverOutputService;
 	private final CheckVoteConfirmationConsistencyService checkVoteConfirmationConsistencyService;
 	private final CheckExtractedElectionEventConsistencyService checkExtractedElectionEventConsistencyService;
+	private final ForkJoinPool disputeResolverPool;
 
 	public DisputeResolverService(
 			final DisputeResolverInputService disputeResolverInputService,
 			final CheckVoteConsistencyService checkVoteConsistencyService,
 			final DisputeResolverOutputService disputeResolverOutputService,
 			final CheckVoteConfirmationConsistencyService checkVoteConfirmationConsistencyService,
-			final CheckExtractedElectionEventConsistencyService checkExtractedElectionEventConsistencyService) {
+			final CheckExtractedElectionEventConsistencyService checkExtractedElectionEventConsistencyService,
+			final ForkJoinPool disputeResolverPool) {
 		this.disputeResolverInputService = disputeResolverInputService;
 		this.checkVoteConsistencyService = checkVoteConsistencyService;
 		this.disputeResolverOutputService = disputeResolverOutputService;
 		this.checkVoteConfirmationConsistencyService = checkVoteConfirmationConsistencyService;
 		this.checkExtractedElectionEventConsistencyService = checkExtractedElectionEventConsistencyService;
+		this.disputeResolverPool = disputeResolverPool;
 	}
 
 	/**
@@ -68,27 +78,40 @@ public class DisputeResolverService {
 		LOGGER.info("Dispute resolver output saved successfully.");
 	}
 
+	/**
+	 * Resolves the dispute. The three checks are independent of each other and run concurrently on the dispute resolver pool, each one logging its
+	 * progress when it completes. Their results are then evaluated in the order of the specification, so that the reported failure does not depend
+	 * on the scheduling of the checks.
+	 */
 	private DisputeResolverOutput resolve(final DisputeResolverInput disputeResolverInput) {
 		final String electionEventId = disputeResolverInput.electionEventId();
+		final AtomicInteger completedChecks = new AtomicInteger();
 
 		// CheckExtractedElectionEventConsistency.
 		LOGGER.debug("Checking extracted election event consistency... [electionEventId: {}]", electionEventId);
-		final boolean checkExtractedElectionEventConsistencyResult =
-				checkExtractedElectionEventConsistencyService.checkExtractedElectionEventConsistency(disputeResolverInput);
-		checkState(checkExtractedElectionEventConsistencyResult, "The extracted election events are not consistent. [electionEventId: %s]",
-				electionEventId);
-		LOGGER.info("\t[1/3] Extracted election event consistency check passed.");
+		final CompletableFuture<Boolean> checkExtractedElectionEventConsistency = runCheck(completedChecks,
+				"Extracted election event consistency",
+				() -> checkExtractedElectionEventConsistencyService.checkExtractedElectionEventConsistency(disputeResolverInput));
 
 		// CheckVoteConsistency.
 		LOGGER.debug("Checking vote consistency... [electionEventId: {}]", electionEventId);
-		final boolean checkVoteConsistencyResult = checkVoteConsistencyService.checkVoteConsistency(disputeResolverInput);
-		checkState(checkVoteConsistencyResult, "The votes are not consistent. [electionEventId: %s]", electionEventId);
-		LOGGER.info("\t[2/3] Vote consistency check passed.");
+		final CompletableFuture<Boolean> checkVoteConsistency = runCheck(completedChecks, "Vote consistency",
+				() -> checkVoteConsistencyService.checkVoteConsistency(disputeResolverInput));
 
 		// CheckVoteConfirmationConsistency.
 		LOGGER.debug("Checking vote confirmation consistency... [electionEventId: {}]", electionEventId);
-		final ImmutableList<ResolvedConfirmedVote> resolvedConfirmedVotes = checkVoteConfirmationConsistencyService.checkVoteConfirmationConsistency(
-				disputeResolverInput);
+		final CompletableFuture<ImmutableList<ResolvedConfirmedVote>> checkVoteConfirmationConsistency = runCheck(completedChecks,
+				"Vote confirmation consistency",
+				() -> checkVoteConfirmationConsistencyService.checkVoteConfirmationConsistency(disputeResolverInput));
+
+		checkState(join(checkExtractedElectionEventConsistency), "The extracted election events are not consistent. [electionEventId: %s]",
+				electionEventId);
+		LOGGER.info("\t[1/3] Extracted election event consistency check passed.");
+
+		checkState(join(checkVoteConsistency), "The votes are not consistent. [electionEventId: %s]", electionEventId);
+		LOGGER.info("\t[2/3] Vote consistency check passed.");
+
+		final ImmutableList<ResolvedConfirmedVote> resolvedConfirmedVotes = join(checkVoteConfirmationConsistency);
 		checkState(resolvedConfirmedVotes.size() <= disputeResolverInput.controlComponentExtractedVerificationCardsPayloads().getFirst()
 						.getExtractedVerificationCards().size(),
 				"The resolved confirmed votes must not be larger than the extracted verification cards. [electionEventId: %s]", electionEventId);
@@ -100,4 +123,23 @@ public class DisputeResolverService {
 		);
 	}
 
+	private <T> CompletableFuture<T> runCheck(final AtomicInteger completedChecks, final String checkName, final Supplier<T> check) {
+		return CompletableFuture.supplyAsync(() -> {
+			final T result = check.get();
+			LOGGER.debug("{} check completed. [completedChecks: {}/{}]", checkName, completedChecks.incrementAndGet(), NUMBER_OF_CHECKS);
+			return result;
+		}, disputeResolverPool);
+	}
+
+	private static <T> T join(final CompletableFuture<T> check) {
+		try {
+			return check.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
 }
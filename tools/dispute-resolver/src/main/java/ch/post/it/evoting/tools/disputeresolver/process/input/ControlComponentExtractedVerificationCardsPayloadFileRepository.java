@@ -11,6 +11,8 @@ import static com.google.common.base.Preconditions.checkState;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,10 +31,13 @@ public class ControlComponentExtractedVerificationCardsPayloadFileRepository {
 
 	private final ObjectMapper objectMapper;
 	private final PathService pathService;
+	private final ForkJoinPool disputeResolverPool;
 
-	public ControlComponentExtractedVerificationCardsPayloadFileRepository(final ObjectMapper objectMapper, final PathService pathService) {
+	public ControlComponentExtractedVerificationCardsPayloadFileRepository(final ObjectMapper objectMapper, final PathService pathService,
+			final ForkJoinPool disputeResolverPool) {
 		this.objectMapper = objectMapper;
 		this.pathService = pathService;
+		this.disputeResolverPool = disputeResolverPool;
 	}
 
 	/**
@@ -46,8 +51,12 @@ public class ControlComponentExtractedVerificationCardsPayloadFileRepository {
 	public ImmutableList<ControlComponentExtractedVerificationCardsPayload> findAll() {
 		LOGGER.debug("Finding all control component extracted verification cards payloads...");
 
-		final ImmutableList<ControlComponentExtractedVerificationCardsPayload> payloads = pathService.getControlComponentExtractedVerificationCardsPayloadsPaths().stream()
-				.map(this::findByPath)
+		// The payloads of the nodes are read and deserialized in parallel on the dispute resolver pool.
+		final ImmutableList<ForkJoinTask<ControlComponentExtractedVerificationCardsPayload>> findTasks = pathService.getControlComponentExtractedVerificationCardsPayloadsPaths().stream()
+				.map(path -> disputeResolverPool.submit(() -> findByPath(path)))
+				.collect(toImmutableList());
+		final ImmutableList<ControlComponentExtractedVerificationCardsPayload> payloads = findTasks.stream()
+				.map(ForkJoinTask::join)
 				.collect(toImmutableList());
 
 		LOGGER.debug("Successfully found all control component extracted verification cards payloads.");
@@ -3,9 +3,12 @@
  */
 package ch.post.it.evoting.tools.disputeresolver.process.input;
 
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.security.SignatureException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,13 +30,16 @@ public class ControlComponentExtractedVerificationCardsPayloadService {
 
 	private final SignatureKeystore<Alias> signatureKeystoreService;
 	private final ControlComponentExtractedVerificationCardsPayloadFileRepository controlComponentExtractedVerificationCardsPayloadFileRepository;
+	private final ForkJoinPool disputeResolverPool;
 
 	public ControlComponentExtractedVerificationCardsPayloadService(
 			final SignatureKeystore<Alias> signatureKeystoreService,
-			final ControlComponentExtractedVerificationCardsPayloadFileRepository controlComponentExtractedVerificationCardsPayloadFileRepository) {
+			final ControlComponentExtractedVerificationCardsPayloadFileRepository controlComponentExtractedVerificationCardsPayloadFileRepository,
+			final ForkJoinPool disputeResolverPool) {
 
 		this.signatureKeystoreService = signatureKeystoreService;
 		this.controlComponentExtractedVerificationCardsPayloadFileRepository = controlComponentExtractedVerificationCardsPayloadFileRepository;
+		this.disputeResolverPool = disputeResolverPool;
 	}
 
 	/**
@@ -54,7 +60,12 @@ public class ControlComponentExtractedVerificationCardsPayloadService {
 
 		LOGGER.info("Loaded all control component extracted verification cards payloads. Validating signatures...");
 
-		controlComponentExtractedVerificationCardsPayloads.forEach(this::validateSignature);
+		// The signatures of the nodes are validated in parallel on the dispute resolver pool, each validation recursively hashing the whole payload.
+		// Joined in order, so that the reported failure does not depend on the scheduling of the validations.
+		controlComponentExtractedVerificationCardsPayloads.stream()
+				.map(payload -> disputeResolverPool.submit(() -> validateSignature(payload)))
+				.collect(toImmutableList())
+				.forEach(ForkJoinTask::join);
 
 		LOGGER.info("Successfully validated the signatures of all control component extracted verification cards payloads.");
 
@@ -7,6 +7,9 @@ import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImm
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 import org.springframework.stereotype.Service;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
@@ -22,10 +25,12 @@ public class CheckVoteConsistencyAlgorithm {
 
 	private final Base64 base64;
 	private final Hash hash;
+	private final ForkJoinPool disputeResolverPool;
 
-	public CheckVoteConsistencyAlgorithm(final Base64 base64, final Hash hash) {
+	public CheckVoteConsistencyAlgorithm(final Base64 base64, final Hash hash, final ForkJoinPool disputeResolverPool) {
 		this.base64 = base64;
 		this.hash = hash;
+		this.disputeResolverPool = disputeResolverPool;
 	}
 
 	/**
@@ -47,9 +52,10 @@ public class CheckVoteConsistencyAlgorithm {
 		final ImmutableList<ImmutableList<ExtractedVerificationCard>> evc_vector = input;
 
 		// Operation.
-		return evc_vector.stream()
+		// The hashes of the nodes are independent and computed in parallel on the dispute resolver pool.
+		final ImmutableList<ForkJoinTask<String>> d_vector = evc_vector.stream()
 				// for j in [1, 4]
-				.map(evc_j -> {
+				.map(evc_j -> disputeResolverPool.submit(() -> {
 					final ImmutableList<HashableList> h_evc_j_vector = evc_j.stream()
 							// for i in [0, N_S)
 							.map(evc_j_i -> {
@@ -63,7 +69,11 @@ public class CheckVoteConsistencyAlgorithm {
 					final HashableList h_j = HashableList.from(h_evc_j_vector);
 
 					return base64.base64Encode(hash.recursiveHash(h_j));
-				})
+				}))
+				.collect(toImmutableList());
+
+		return d_vector.stream()
+				.map(ForkJoinTask::join)
 				// d_1 = d_2 = d_3 = d_4
 				.distinct()
 				.count() == 1;
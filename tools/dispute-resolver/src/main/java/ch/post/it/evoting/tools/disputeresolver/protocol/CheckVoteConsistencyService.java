@@ -6,6 +6,10 @@ package ch.post.it.evoting.tools.disputeresolver.protocol;
 import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -46,6 +50,44 @@ public class CheckVoteConsistencyService {
 		LOGGER.debug("Performing CheckVoteConsistency algorithm...");
 
 		// Call the algorithm.
-		return checkVoteConsistencyAlgorithm.checkVoteConsistency(extractedVerificationCards);
+		final boolean checkVoteConsistencyResult = checkVoteConsistencyAlgorithm.checkVoteConsistency(extractedVerificationCards);
+
+		if (!checkVoteConsistencyResult) {
+			findFirstDivergence(extractedVerificationCards).ifPresent(index -> LOGGER.warn(
+					"The extracted verification cards of the control components diverge. [index: {}, verificationCardIds: {}]", index,
+					extractedVerificationCards.stream()
+							.map(evc_j -> index < evc_j.size() ? evc_j.get(index).verificationCardId() : "-")
+							.collect(toImmutableList())));
+		}
+
+		return checkVoteConsistencyResult;
+	}
+
+	/**
+	 * Finds the first position at which the extracted verification cards of the control components differ, to help diagnose an inconsistency.
+	 *
+	 * @param extractedVerificationCards the extracted verification cards of each control component. Must be non-null.
+	 * @return the index of the first extracted verification card differing between the control components, or the length of the shortest list if
+	 * one list is a prefix of the others. Empty if all lists are equal.
+	 */
+	static OptionalInt findFirstDivergence(final ImmutableList<ImmutableList<ExtractedVerificationCard>> extractedVerificationCards) {
+		checkNotNull(extractedVerificationCards);
+
+		final int minimumSize = extractedVerificationCards.stream().mapToInt(ImmutableList::size).min().orElse(0);
+		final int maximumSize = extractedVerificationCards.stream().mapToInt(ImmutableList::size).max().orElse(0);
+
+		final OptionalInt firstDifferentCard = IntStream.range(0, minimumSize)
+				.filter(index -> extractedVerificationCards.stream()
+						// Only the hashed part of the extracted verification card must be consistent, the confirmation state may differ.
+						.map(evc_j -> List.<Object>of(evc_j.get(index).verificationCardId(), evc_j.get(index).verificationCardSetId(),
+								evc_j.get(index).encryptedVote()))
+						.distinct()
+						.count() > 1)
+				.findFirst();
+
+		if (firstDifferentCard.isPresent() || minimumSize == maximumSize) {
+			return firstDifferentCard;
+		}
+		return OptionalInt.of(minimumSize);
 	}
 }
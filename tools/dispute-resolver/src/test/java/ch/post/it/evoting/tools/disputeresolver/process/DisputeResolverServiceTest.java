@@ -13,6 +13,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -52,7 +53,8 @@ class DisputeResolverServiceTest {
 			checkVoteConsistencyService,
 			disputeResolverOutputService,
 			checkVoteConfirmationConsistencyService,
-			checkExtractedElectionEventConsistencyService);
+			checkExtractedElectionEventConsistencyService,
+			ForkJoinPool.commonPool());
 	private ImmutableList<ResolvedConfirmedVote> resolvedConfirmedVotes;
 	private long numberOfExtractedVerificationCards;
 	private DisputeResolverInput disputeResolverInput;
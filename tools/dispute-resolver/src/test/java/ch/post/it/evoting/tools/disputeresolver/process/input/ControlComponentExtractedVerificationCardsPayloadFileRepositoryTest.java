@@ -18,6 +18,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -64,7 +65,7 @@ class ControlComponentExtractedVerificationCardsPayloadFileRepositoryTest {
 				controlComponentExtractedVerificationCardsPayloadsPaths);
 
 		controlComponentExtractedVerificationCardsPayloadFileRepository = new ControlComponentExtractedVerificationCardsPayloadFileRepository(mapper,
-				pathService);
+				pathService, ForkJoinPool.commonPool());
 
 		final ImmutableList<ControlComponentExtractedVerificationCardsPayload> retrievedControlComponentExtractedVerificationCardsPayloads = assertDoesNotThrow(
 				() -> controlComponentExtractedVerificationCardsPayloadFileRepository.findAll());
@@ -122,7 +123,7 @@ class ControlComponentExtractedVerificationCardsPayloadFileRepositoryTest {
 				ImmutableList.from(controlComponentVerificationCardsPayloadsPaths));
 
 		controlComponentExtractedVerificationCardsPayloadFileRepository = new ControlComponentExtractedVerificationCardsPayloadFileRepository(mapper,
-				pathService);
+				pathService, ForkJoinPool.commonPool());
 
 		final IllegalStateException illegalStateException = assertThrows(IllegalStateException.class,
 				() -> controlComponentExtractedVerificationCardsPayloadFileRepository.findAll());
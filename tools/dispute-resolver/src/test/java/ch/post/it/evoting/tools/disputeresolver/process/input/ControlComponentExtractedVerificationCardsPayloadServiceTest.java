@@ -12,6 +12,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.security.SignatureException;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,7 +39,7 @@ class ControlComponentExtractedVerificationCardsPayloadServiceTest {
 	void setUp() throws SignatureException {
 		controlComponentExtractedVerificationCardsPayloads = new ControlComponentExtractedVerificationCardsPayloadGenerator().generate();
 		controlComponentExtractedVerificationCardsPayloadService = new ControlComponentExtractedVerificationCardsPayloadService(
-				signatureKeystoreService, controlComponentExtractedVerificationCardsPayloadFileRepository);
+				signatureKeystoreService, controlComponentExtractedVerificationCardsPayloadFileRepository, ForkJoinPool.commonPool());
 
 		// Mock the repository to return the generated payloads.
 		when(controlComponentExtractedVerificationCardsPayloadFileRepository.findAll()).thenReturn(controlComponentExtractedVerificationCardsPayloads);
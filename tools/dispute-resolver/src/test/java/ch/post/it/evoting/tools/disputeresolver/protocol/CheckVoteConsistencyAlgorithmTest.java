@@ -9,6 +9,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,7 +39,8 @@ class CheckVoteConsistencyAlgorithmTest {
 				.map(ControlComponentExtractedVerificationCardsPayload::getExtractedVerificationCards)
 				.collect(toImmutableList());
 
-		checkVoteConsistencyAlgorithm = new CheckVoteConsistencyAlgorithm(BaseEncodingFactory.createBase64(), HashFactory.createHash());
+		checkVoteConsistencyAlgorithm = new CheckVoteConsistencyAlgorithm(BaseEncodingFactory.createBase64(), HashFactory.createHash(),
+				ForkJoinPool.commonPool());
 	}
 
 	@Test
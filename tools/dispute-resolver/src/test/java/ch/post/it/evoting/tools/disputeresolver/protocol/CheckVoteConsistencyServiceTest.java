@@ -4,10 +4,14 @@
 package ch.post.it.evoting.tools.disputeresolver.protocol;
 
 import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,7 +47,7 @@ class CheckVoteConsistencyServiceTest {
 				.collect(toImmutableList());
 
 		final CheckVoteConsistencyAlgorithm checkVoteConsistencyAlgorithm = new CheckVoteConsistencyAlgorithm(BaseEncodingFactory.createBase64(),
-				HashFactory.createHash());
+				HashFactory.createHash(), ForkJoinPool.commonPool());
 		checkVoteConsistencyService = new CheckVoteConsistencyService(checkVoteConsistencyAlgorithm);
 	}
 
@@ -79,4 +83,30 @@ class CheckVoteConsistencyServiceTest {
 				controlComponentExtractedVerificationCardsPayloads);
 		assertTrue(() -> checkVoteConsistencyService.checkVoteConsistency(disputeResolverInput));
 	}
+
+	@Test
+	@DisplayName("consistent encrypted votes has no first divergence.")
+	void consistentHasNoDivergence() {
+		final ImmutableList<ImmutableList<ExtractedVerificationCard>> extractedVerificationCards = controlComponentExtractedVerificationCardsPayloads.stream()
+				.map(ControlComponentExtractedVerificationCardsPayload::getExtractedVerificationCards)
+				.collect(toImmutableList());
+
+		assertEquals(OptionalInt.empty(), CheckVoteConsistencyService.findFirstDivergence(extractedVerificationCards));
+	}
+
+	@Test
+	@DisplayName("inconsistent encrypted votes reports the first divergence.")
+	void inconsistentReportsFirstDivergence() {
+		final ExtractedVerificationCardGenerator extractedVerificationCardGenerator = new ExtractedVerificationCardGenerator();
+		final ExtractedVerificationCard first = extractedVerificationCardGenerator.generate();
+		final ExtractedVerificationCard second = extractedVerificationCardGenerator.generate();
+		final ExtractedVerificationCard other = extractedVerificationCardGenerator.generate();
+
+		final ImmutableList<ExtractedVerificationCard> consistent = ImmutableList.of(first, second);
+
+		assertEquals(OptionalInt.of(1), CheckVoteConsistencyService.findFirstDivergence(
+				ImmutableList.of(consistent, consistent, ImmutableList.of(first, other), consistent)));
+		assertEquals(OptionalInt.of(1), CheckVoteConsistencyService.findFirstDivergence(
+				ImmutableList.of(consistent, consistent, ImmutableList.of(first), consistent)));
+	}
 }
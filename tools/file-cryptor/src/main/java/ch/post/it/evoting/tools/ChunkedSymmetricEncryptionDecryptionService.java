@@ -0,0 +1,335 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.tools;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.Argon2;
+import ch.post.it.evoting.cryptoprimitives.hashing.Argon2Hash;
+import ch.post.it.evoting.cryptoprimitives.symmetric.Symmetric;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricCiphertext;
+
+/**
+ * Encrypts and decrypts files with a password in a chunked format of fixed-size authenticated segments.
+ * <p>
+ * The file starts with a header made of a magic number, the segment size and the Argon2id salt of the key derived from the password. The header is
+ * followed by the segments, each one stored as the length of its ciphertext, its nonce and its ciphertext. Every segment is authenticated together
+ * with the segment size, its index and whether it is the final segment, so that segments cannot be reordered, dropped or truncated unnoticed. All
+ * the segments but the final one hold exactly a segment size of plaintext, so that they can be located, encrypted and decrypted independently: in
+ * parallel for a whole file, and only the needed ones for a byte range.
+ * </p>
+ * <p>
+ * The nonce of each segment is drawn at random by the symmetric encryption, which does not accept a given nonce, and stored in the record of the
+ * segment. The key is derived with a fresh salt for each encrypted file, hence the nonces only need to be unique among the segments of a file.
+ * </p>
+ */
+public class ChunkedSymmetricEncryptionDecryptionService {
+
+	static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+	private static final byte[] MAGIC = "EVFCCHK1".getBytes(StandardCharsets.US_ASCII);
+	private static final int MAX_SALT_LENGTH = 1024;
+	private static final String ASSOCIATED_DATA = "file-cryptor-chunked";
+	private static final String SEGMENT = "segment";
+	private static final String FINAL_SEGMENT = "final";
+
+	private final Symmetric symmetric;
+	private final Argon2 argon2;
+	private final int segmentSize;
+
+	public ChunkedSymmetricEncryptionDecryptionService(final Symmetric symmetric, final Argon2 argon2, final int segmentSize) {
+		checkArgument(segmentSize > 0, "The segment size must be strictly positive. [segmentSize: %s]", segmentSize);
+
+		this.symmetric = checkNotNull(symmetric);
+		this.argon2 = checkNotNull(argon2);
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Encrypts the source file into the target file, the segments being encrypted in parallel.
+	 *
+	 * @param sourcePath the path of the file to encrypt. Must be non-null.
+	 * @param targetPath the path of the encrypted file. Must be non-null and must not exist. If the encryption fails, the partially encrypted
+	 *                   target file is deleted.
+	 * @param password   the password. Must be non-null.
+	 * @throws NullPointerException if any parameter is null.
+	 * @throws UncheckedIOException if the source file cannot be read or the target file cannot be written.
+	 */
+	public void encrypt(final Path sourcePath, final Path targetPath, final char[] password) {
+		checkNotNull(sourcePath);
+		checkNotNull(targetPath);
+		checkNotNull(password);
+
+		final Argon2Hash argon2Hash = argon2.genArgon2id(toBytes(password));
+		final ImmutableByteArray key = argon2Hash.tag();
+		final ImmutableByteArray salt = argon2Hash.salt();
+
+		try (final FileChannel source = FileChannel.open(sourcePath, StandardOpenOption.READ)) {
+			final long plaintextLength = source.size();
+			final int numberOfSegments = Math.toIntExact(Math.max(1, Math.ceilDiv(plaintextLength, segmentSize)));
+
+			final ByteBuffer header = ByteBuffer.allocate(MAGIC.length + 2 * Integer.BYTES + salt.length())
+					.put(MAGIC)
+					.putInt(segmentSize)
+					.putInt(salt.length())
+					.put(salt.elements())
+					.flip();
+			final long headerLength = header.remaining();
+
+			final FileChannel target = FileChannel.open(targetPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+			try (target) {
+				writeFully(target, header, 0);
+
+				// The first segment determines the length of the records of all the segments but the final one.
+				final ByteBuffer firstRecord = encryptSegment(source, key, 0, numberOfSegments, plaintextLength);
+				final int recordLength = firstRecord.remaining();
+				writeFully(target, firstRecord, headerLength);
+
+				IntStream.range(1, numberOfSegments)
+						.parallel()
+						.forEach(index -> {
+							final ByteBuffer segmentRecord = encryptSegment(source, key, index, numberOfSegments, plaintextLength);
+							checkState(index == numberOfSegments - 1 || segmentRecord.remaining() == recordLength,
+									"The segments must have records of the same length. [index: %s]", index);
+							writeFully(target, segmentRecord, headerLength + (long) index * recordLength);
+						});
+			} catch (final IOException | RuntimeException e) {
+				// The target file was created by this encryption, it must not be left holding a partial encrypted file.
+				deleteAfterFailure(targetPath, e);
+				throw e;
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Decrypts the source file into the target file, the segments being decrypted in parallel. If the decryption fails, the partially decrypted
+	 * target file is deleted.
+	 *
+	 * @param sourcePath the path of the encrypted file. Must be non-null.
+	 * @param targetPath the path of the decrypted file. Must be non-null and must not exist.
+	 * @param password   the password. Must be non-null.
+	 * @throws NullPointerException  if any parameter is null.
+	 * @throws IllegalStateException if the encrypted file is not in the chunked format or cannot be authenticated.
+	 * @throws UncheckedIOException  if the source file cannot be read or the target file cannot be written.
+	 */
+	public void decrypt(final Path sourcePath, final Path targetPath, final char[] password) {
+		checkNotNull(sourcePath);
+		checkNotNull(targetPath);
+		checkNotNull(password);
+
+		try (final FileChannel source = FileChannel.open(sourcePath, StandardOpenOption.READ)) {
+			final Layout layout = readLayout(source, password);
+
+			final FileChannel target = FileChannel.open(targetPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+			try (target) {
+				IntStream.range(0, layout.numberOfSegments())
+						.parallel()
+						.forEach(index -> writeFully(target, ByteBuffer.wrap(decryptSegment(source, layout, index).elements()),
+								(long) index * layout.segmentSize()));
+			} catch (final IOException | RuntimeException e) {
+				// The target file was created by this decryption, it must not be left holding a partial or unauthenticated plaintext.
+				deleteAfterFailure(targetPath, e);
+				throw e;
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Decrypts a byte range of the source file, only the segments holding the range being read and decrypted.
+	 *
+	 * @param sourcePath the path of the encrypted file. Must be non-null.
+	 * @param password   the password. Must be non-null.
+	 * @param offset     the offset of the range in the plaintext. Must be positive.
+	 * @param length     the length of the range. Must be positive.
+	 * @return the decrypted bytes of the range.
+	 * @throws NullPointerException     if any parameter is null.
+	 * @throws IllegalArgumentException if the range is negative or exceeds the plaintext.
+	 * @throws IllegalStateException    if the encrypted file is not in the chunked format or cannot be authenticated.
+	 * @throws UncheckedIOException     if the source file cannot be read.
+	 */
+	public ImmutableByteArray decryptRange(final Path sourcePath, final char[] password, final long offset, final int length) {
+		checkNotNull(sourcePath);
+		checkNotNull(password);
+		checkArgument(offset >= 0, "The offset must be positive. [offset: %s]", offset);
+		checkArgument(length >= 0, "The length must be positive. [length: %s]", length);
+
+		try (final FileChannel source = FileChannel.open(sourcePath, StandardOpenOption.READ)) {
+			final Layout layout = readLayout(source, password);
+
+			if (length == 0) {
+				return ImmutableByteArray.EMPTY;
+			}
+
+			final long firstIndex = offset / layout.segmentSize();
+			final long lastIndex = (offset + length - 1) / layout.segmentSize();
+			checkArgument(lastIndex < layout.numberOfSegments(), "The range exceeds the plaintext. [offset: %s, length: %s]", offset, length);
+			final ImmutableList<ImmutableByteArray> segments = IntStream.rangeClosed((int) firstIndex, (int) lastIndex)
+					.parallel()
+					.mapToObj(index -> decryptSegment(source, layout, index))
+					.collect(ImmutableList.toImmutableList());
+
+			final byte[] range = new byte[length];
+			int copied = 0;
+			for (int i = 0; i < segments.size(); i++) {
+				final byte[] segment = segments.get(i).elements();
+				final int from = i == 0 ? (int) (offset - firstIndex * layout.segmentSize()) : 0;
+				final int count = Math.min(segment.length - from, length - copied);
+				checkArgument(count > 0, "The range exceeds the plaintext. [offset: %s, length: %s]", offset, length);
+				System.arraycopy(segment, from, range, copied, count);
+				copied += count;
+			}
+			checkArgument(copied == length, "The range exceeds the plaintext. [offset: %s, length: %s]", offset, length);
+
+			return new ImmutableByteArray(range);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private ByteBuffer encryptSegment(final FileChannel source, final ImmutableByteArray key, final int index, final int numberOfSegments,
+			final long plaintextLength) {
+		final long position = (long) index * segmentSize;
+		final int segmentLength = (int) Math.min(segmentSize, plaintextLength - position);
+		final ByteBuffer plaintext = ByteBuffer.allocate(segmentLength);
+		readFully(source, plaintext, position);
+
+		final SymmetricCiphertext ciphertext = symmetric.genCiphertextSymmetric(key, new ImmutableByteArray(plaintext.array()),
+				associatedData(segmentSize, index, index == numberOfSegments - 1));
+
+		return ByteBuffer.allocate(Integer.BYTES + ciphertext.nonce().length() + ciphertext.ciphertext().length())
+				.putInt(ciphertext.ciphertext().length())
+				.put(ciphertext.nonce().elements())
+				.put(ciphertext.ciphertext().elements())
+				.flip();
+	}
+
+	private ImmutableByteArray decryptSegment(final FileChannel source, final Layout layout, final int index) {
+		final boolean isFinalSegment = index == layout.numberOfSegments() - 1;
+		final long position = layout.headerLength() + (long) index * layout.recordLength();
+		final long availableLength = layout.fileLength() - position;
+		final int segmentRecordLength = isFinalSegment ? Math.toIntExact(availableLength) : layout.recordLength();
+		checkState(segmentRecordLength > Integer.BYTES + symmetric.getNonceLength(), "The segment is truncated. [index: %s]", index);
+
+		final ByteBuffer segmentRecord = ByteBuffer.allocate(segmentRecordLength);
+		readFully(source, segmentRecord, position);
+		segmentRecord.flip();
+
+		final int ciphertextLength = segmentRecord.getInt();
+		checkState(ciphertextLength == segmentRecordLength - Integer.BYTES - symmetric.getNonceLength(),
+				"The length of the segment does not match its record. [index: %s]", index);
+		final byte[] nonce = new byte[symmetric.getNonceLength()];
+		segmentRecord.get(nonce);
+		final byte[] ciphertext = new byte[ciphertextLength];
+		segmentRecord.get(ciphertext);
+
+		final ImmutableByteArray plaintext = symmetric.getPlaintextSymmetric(layout.key(), new ImmutableByteArray(ciphertext),
+				new ImmutableByteArray(nonce), associatedData(layout.segmentSize(), index, isFinalSegment));
+		checkState(isFinalSegment ? plaintext.length() <= layout.segmentSize() : plaintext.length() == layout.segmentSize(),
+				"The segment does not hold the expected plaintext length. [index: %s]", index);
+
+		return plaintext;
+	}
+
+	private Layout readLayout(final FileChannel source, final char[] password) throws IOException {
+		final long fileLength = source.size();
+
+		final ByteBuffer fixedHeader = ByteBuffer.allocate(MAGIC.length + 2 * Integer.BYTES);
+		checkState(fileLength >= fixedHeader.capacity(), "The encrypted file is not in the chunked format.");
+		readFully(source, fixedHeader, 0);
+		fixedHeader.flip();
+
+		final byte[] magic = new byte[MAGIC.length];
+		fixedHeader.get(magic);
+		checkState(Arrays.equals(MAGIC, magic), "The encrypted file is not in the chunked format.");
+		final int fileSegmentSize = fixedHeader.getInt();
+		checkState(fileSegmentSize > 0, "The segment size must be strictly positive. [segmentSize: %s]", fileSegmentSize);
+		final int saltLength = fixedHeader.getInt();
+		checkState(saltLength > 0 && saltLength <= MAX_SALT_LENGTH, "The salt length is invalid. [saltLength: %s]", saltLength);
+
+		final ByteBuffer salt = ByteBuffer.allocate(saltLength);
+		checkState(fileLength >= fixedHeader.capacity() + saltLength, "The encrypted file is truncated.");
+		readFully(source, salt, fixedHeader.capacity());
+		final long headerLength = (long) fixedHeader.capacity() + saltLength;
+
+		final ByteBuffer firstCiphertextLength = ByteBuffer.allocate(Integer.BYTES);
+		checkState(fileLength >= headerLength + Integer.BYTES, "The encrypted file is truncated.");
+		readFully(source, firstCiphertextLength, headerLength);
+		final long recordLength = Integer.BYTES + (long) symmetric.getNonceLength() + firstCiphertextLength.flip().getInt();
+		checkState(recordLength > Integer.BYTES + symmetric.getNonceLength() && recordLength <= Integer.MAX_VALUE,
+				"The length of the first segment is invalid.");
+
+		final int numberOfSegments = Math.toIntExact(Math.ceilDiv(fileLength - headerLength, recordLength));
+
+		final ImmutableByteArray key = argon2.getArgon2id(toBytes(password), new ImmutableByteArray(salt.array()));
+
+		return new Layout(key, fileSegmentSize, headerLength, (int) recordLength, numberOfSegments, fileLength);
+	}
+
+	private static ImmutableList<String> associatedData(final int segmentSize, final int index, final boolean isFinalSegment) {
+		return ImmutableList.of(ASSOCIATED_DATA, String.valueOf(segmentSize), String.valueOf(index), isFinalSegment ? FINAL_SEGMENT : SEGMENT);
+	}
+
+	private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position) {
+		try {
+			long currentPosition = position;
+			while (buffer.hasRemaining()) {
+				final int read = channel.read(buffer, currentPosition);
+				checkState(read >= 0, "The file ended unexpectedly. [position: %s]", currentPosition);
+				currentPosition += read;
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position) {
+		try {
+			long currentPosition = position;
+			while (buffer.hasRemaining()) {
+				currentPosition += channel.write(buffer, currentPosition);
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void deleteAfterFailure(final Path path, final Exception failure) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (final IOException e) {
+			failure.addSuppressed(e);
+		}
+	}
+
+	private static ImmutableByteArray toBytes(final char[] chars) {
+		final CharBuffer charBuffer = CharBuffer.wrap(chars);
+		final ByteBuffer byteBuffer = StandardCharsets.UTF_8.encode(charBuffer);
+		final byte[] bytes = Arrays.copyOfRange(byteBuffer.array(), byteBuffer.position(), byteBuffer.limit());
+		Arrays.fill(byteBuffer.array(), (byte) 0); // clear sensitive data
+		return new ImmutableByteArray(bytes);
+	}
+
+	private record Layout(ImmutableByteArray key, int segmentSize, long headerLength, int recordLength, int numberOfSegments, long fileLength) {
+	}
+}
@@ -13,6 +13,7 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,17 +30,24 @@ public class EncryptionDecryptionService {
 	private static final ImmutableByteArray ASSOCIATED_DATA = ImmutableByteArray.EMPTY;
 
 	private final StreamableSymmetricEncryptionDecryptionService symmetricEncryptionDecryptionService;
+	private final ChunkedSymmetricEncryptionDecryptionService chunkedSymmetricEncryptionDecryptionService;
 
 	private final Mode mode;
+	private final Format format;
 	private final char[] password;
 
 	private final Path sourcePath;
 	private final Path targetPath;
+	private final Long rangeOffset;
+	private final Integer rangeLength;
 
 	public EncryptionDecryptionService(
 			final StreamableSymmetricEncryptionDecryptionService symmetricEncryptionDecryptionService,
+			final ChunkedSymmetricEncryptionDecryptionService chunkedSymmetricEncryptionDecryptionService,
 			@Value("${mode}")
 			final Mode mode,
+			@Value("${format}")
+			final Format format,
 			@Value("${password}")
 			final char[] password,
 			@Value("${password-file-path}")
@@ -47,12 +55,23 @@ public class EncryptionDecryptionService {
 			@Value("${source.file-path}")
 			final Path sourceFilePath,
 			@Value("${target.file-path}")
-			final Path targetFilePath) {
+			final Path targetFilePath,
+			@Value("${range.offset}")
+			final Long rangeOffset,
+			@Value("${range.length}")
+			final Integer rangeLength) {
 		this.symmetricEncryptionDecryptionService = symmetricEncryptionDecryptionService;
+		this.chunkedSymmetricEncryptionDecryptionService = chunkedSymmetricEncryptionDecryptionService;
 		this.mode = checkNotNull(mode, "The mode is required.");
+		this.format = checkNotNull(format, "The format is required.");
 		this.password = determinePassword(password, passwordFilePath);
 		this.sourcePath = checkNotNull(sourceFilePath, "The source file path is required.");
 		this.targetPath = checkNotNull(targetFilePath, "The target file path is required.");
+		checkArgument((rangeOffset == null) == (rangeLength == null), "Either both or none of the range offset and length are required.");
+		checkArgument(rangeOffset == null || (mode == Mode.DECRYPT && format == Format.CHUNKED),
+				"A range can only be decrypted in chunked format.");
+		this.rangeOffset = rangeOffset;
+		this.rangeLength = rangeLength;
 	}
 
 	@SuppressWarnings("java:S1301")
@@ -61,6 +80,11 @@ public class EncryptionDecryptionService {
 		checkState(Files.exists(sourcePath), "The given source file does not exist. [path: %s]", sourcePath);
 		checkState(!Files.exists(targetPath), "The given target file already exists. [path: %s]", targetPath);
 
+		if (format == Format.CHUNKED) {
+			runChunked();
+			return;
+		}
+
 		try (final InputStream inputStream = Files.newInputStream(sourcePath);
 				final OutputStream outputStream = Files.newOutputStream(targetPath)) {
 			switch (mode) {
@@ -81,11 +105,55 @@ public class EncryptionDecryptionService {
 		}
 	}
 
+	@SuppressWarnings("java:S1301")
+		// By choice, we prefer the usage of switch statement over if-else clause.
+	private void runChunked() {
+		switch (mode) {
+		case ENCRYPT -> {
+			LOGGER.info("Encrypting file in chunked format. Please wait... [path: {}]", sourcePath);
+			chunkedSymmetricEncryptionDecryptionService.encrypt(sourcePath, targetPath, password);
+			LOGGER.info("File successfully encrypted. [path: {}]", targetPath);
+		}
+		case DECRYPT -> {
+			if (rangeOffset != null) {
+				decryptRange();
+				return;
+			}
+			LOGGER.info("Decrypting file in chunked format. Please wait... [path: {}]", sourcePath);
+			chunkedSymmetricEncryptionDecryptionService.decrypt(sourcePath, targetPath, password);
+			LOGGER.info("File successfully decrypted. [path: {}]", targetPath);
+		}
+		}
+	}
+
+	private void decryptRange() {
+		LOGGER.info("Decrypting range of file in chunked format. Please wait... [path: {}, offset: {}, length: {}]", sourcePath, rangeOffset,
+				rangeLength);
+		final ImmutableByteArray range = chunkedSymmetricEncryptionDecryptionService.decryptRange(sourcePath, password, rangeOffset, rangeLength);
+		try {
+			Files.write(targetPath, range.elements(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		LOGGER.info("Range successfully decrypted. [path: {}]", targetPath);
+	}
+
 	public enum Mode {
 		ENCRYPT,
 		DECRYPT
 	}
 
+	public enum Format {
+		/**
+		 * A single stream, encrypted and decrypted sequentially.
+		 */
+		STREAM,
+		/**
+		 * Fixed-size authenticated segments, encrypted and decrypted in parallel.
+		 */
+		CHUNKED
+	}
+
 	private char[] determinePassword(final char[] password, final Path passwordFilePath) {
 		checkArgument(password != null || passwordFilePath != null, "Either password or password file path is required.");
 
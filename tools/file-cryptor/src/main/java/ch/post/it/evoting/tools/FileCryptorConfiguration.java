@@ -11,6 +11,7 @@ import ch.post.it.evoting.cryptoprimitives.hashing.Argon2Factory;
 import ch.post.it.evoting.cryptoprimitives.hashing.Argon2Profile;
 import ch.post.it.evoting.cryptoprimitives.math.Random;
 import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricFactory;
 import ch.post.it.evoting.evotinglibraries.protocol.algorithms.channelsecurity.StreamableSymmetricEncryptionDecryptionService;
 
 @Configuration
@@ -31,4 +32,10 @@ public class FileCryptorConfiguration {
 		return new StreamableSymmetricEncryptionDecryptionService(random, argon2);
 	}
 
+	@Bean
+	ChunkedSymmetricEncryptionDecryptionService chunkedSymmetricEncryptionDecryptionService(final Argon2 argon2) {
+		return new ChunkedSymmetricEncryptionDecryptionService(SymmetricFactory.createSymmetric(), argon2,
+				ChunkedSymmetricEncryptionDecryptionService.DEFAULT_SEGMENT_SIZE);
+	}
+
 }
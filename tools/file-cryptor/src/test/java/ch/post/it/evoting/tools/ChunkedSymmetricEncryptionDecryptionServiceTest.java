@@ -0,0 +1,129 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.tools;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import ch.post.it.evoting.cryptoprimitives.hashing.Argon2Factory;
+import ch.post.it.evoting.cryptoprimitives.hashing.Argon2Profile;
+import ch.post.it.evoting.cryptoprimitives.math.Random;
+import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricFactory;
+
+@DisplayName("ChunkedSymmetricEncryptionDecryptionService")
+class ChunkedSymmetricEncryptionDecryptionServiceTest {
+
+	private static final int SEGMENT_SIZE = 16;
+
+	private final Random random = RandomFactory.createRandom();
+	private final ChunkedSymmetricEncryptionDecryptionService chunkedSymmetricEncryptionDecryptionService =
+			new ChunkedSymmetricEncryptionDecryptionService(SymmetricFactory.createSymmetric(), Argon2Factory.createArgon2(Argon2Profile.TEST),
+					SEGMENT_SIZE);
+	private final char[] password = "Password_Password_123456".toCharArray();
+
+	@TempDir
+	private Path tempDir;
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, SEGMENT_SIZE - 1, SEGMENT_SIZE, SEGMENT_SIZE + 1, 10 * SEGMENT_SIZE + 3 })
+	@DisplayName("decrypts what it encrypts")
+	void cycle(final int plaintextLength) throws IOException {
+		final byte[] plaintext = random.randomBytes(plaintextLength).elements();
+		final Path encryptedPath = encrypt(plaintext);
+		final Path decryptedPath = tempDir.resolve("decrypted");
+
+		chunkedSymmetricEncryptionDecryptionService.decrypt(encryptedPath, decryptedPath, password);
+
+		assertArrayEquals(plaintext, Files.readAllBytes(decryptedPath));
+	}
+
+	@Test
+	@DisplayName("decrypts a byte range")
+	void decryptRange() throws IOException {
+		final byte[] plaintext = random.randomBytes(10 * SEGMENT_SIZE + 3).elements();
+		final Path encryptedPath = encrypt(plaintext);
+
+		assertArrayEquals(Arrays.copyOfRange(plaintext, 5, 5 + 3 * SEGMENT_SIZE),
+				chunkedSymmetricEncryptionDecryptionService.decryptRange(encryptedPath, password, 5, 3 * SEGMENT_SIZE).elements());
+		assertArrayEquals(Arrays.copyOfRange(plaintext, 10 * SEGMENT_SIZE, plaintext.length),
+				chunkedSymmetricEncryptionDecryptionService.decryptRange(encryptedPath, password, 10 * SEGMENT_SIZE, 3).elements());
+		assertThrows(IllegalArgumentException.class,
+				() -> chunkedSymmetricEncryptionDecryptionService.decryptRange(encryptedPath, password, 10 * SEGMENT_SIZE, 4));
+	}
+
+	@Test
+	@DisplayName("with an unreadable source throws UncheckedIOException and leaves no target")
+	void unreadableSourceThrows() {
+		final Path encryptedPath = tempDir.resolve("encrypted");
+
+		// A directory can be opened but not read.
+		assertThrows(UncheckedIOException.class, () -> chunkedSymmetricEncryptionDecryptionService.encrypt(tempDir, encryptedPath, password));
+		assertFalse(Files.exists(encryptedPath));
+	}
+
+	@Test
+	@DisplayName("with a dropped final segment throws IllegalStateException")
+	void droppedFinalSegmentThrows() throws IOException {
+		final Path encryptedPath = encrypt(random.randomBytes(2 * SEGMENT_SIZE + 1).elements());
+		final Path decryptedPath = tempDir.resolve("decrypted");
+
+		// The header is made of the magic number, the segment size, the salt length and the salt.
+		final ByteBuffer encrypted = ByteBuffer.wrap(Files.readAllBytes(encryptedPath));
+		final int headerLength = 8 + 2 * Integer.BYTES + encrypted.getInt(8 + Integer.BYTES);
+		// The record of a segment is made of its ciphertext length, its nonce and its ciphertext.
+		final int recordLength = Integer.BYTES + SymmetricFactory.createSymmetric().getNonceLength() + encrypted.getInt(headerLength);
+		Files.write(encryptedPath, Arrays.copyOf(encrypted.array(), headerLength + 2 * recordLength));
+
+		assertThrows(IllegalStateException.class, () -> chunkedSymmetricEncryptionDecryptionService.decrypt(encryptedPath, decryptedPath, password));
+		assertFalse(Files.exists(decryptedPath));
+	}
+
+	@Test
+	@DisplayName("with a wrong password throws IllegalStateException")
+	void wrongPasswordThrows() throws IOException {
+		final Path encryptedPath = encrypt(random.randomBytes(SEGMENT_SIZE).elements());
+		final Path decryptedPath = tempDir.resolve("decrypted");
+		final char[] wrongPassword = "Wrong_Password_Password_1".toCharArray();
+
+		assertThrows(IllegalStateException.class,
+				() -> chunkedSymmetricEncryptionDecryptionService.decrypt(encryptedPath, decryptedPath, wrongPassword));
+		assertFalse(Files.exists(decryptedPath));
+	}
+
+	@Test
+	@DisplayName("with an existing target throws UncheckedIOException and keeps the target")
+	void existingTargetThrows() throws IOException {
+		final Path encryptedPath = encrypt(random.randomBytes(SEGMENT_SIZE).elements());
+		final byte[] existing = random.randomBytes(SEGMENT_SIZE).elements();
+		final Path decryptedPath = Files.write(tempDir.resolve("decrypted"), existing);
+
+		assertThrows(UncheckedIOException.class, () -> chunkedSymmetricEncryptionDecryptionService.decrypt(encryptedPath, decryptedPath, password));
+		assertArrayEquals(existing, Files.readAllBytes(decryptedPath));
+	}
+
+	private Path encrypt(final byte[] plaintext) throws IOException {
+		final Path plaintextPath = tempDir.resolve("plaintext");
+		final Path encryptedPath = tempDir.resolve("encrypted");
+		Files.write(plaintextPath, plaintext);
+
+		chunkedSymmetricEncryptionDecryptionService.encrypt(plaintextPath, encryptedPath, password);
+
+		return encryptedPath;
+	}
+}
@@ -3,16 +3,20 @@
  */
 package ch.post.it.evoting.tools;
 
+import static ch.post.it.evoting.tools.EncryptionDecryptionService.Format.CHUNKED;
+import static ch.post.it.evoting.tools.EncryptionDecryptionService.Format.STREAM;
 import static ch.post.it.evoting.tools.EncryptionDecryptionService.Mode.DECRYPT;
 import static ch.post.it.evoting.tools.EncryptionDecryptionService.Mode.ENCRYPT;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +27,7 @@ import ch.post.it.evoting.cryptoprimitives.hashing.Argon2Profile;
 import ch.post.it.evoting.cryptoprimitives.math.Base64Alphabet;
 import ch.post.it.evoting.cryptoprimitives.math.Random;
 import ch.post.it.evoting.cryptoprimitives.math.RandomFactory;
+import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricFactory;
 import ch.post.it.evoting.evotinglibraries.protocol.algorithms.channelsecurity.StreamableSymmetricEncryptionDecryptionService;
 
 class EncryptionDecryptionServiceTest {
@@ -30,6 +35,8 @@ class EncryptionDecryptionServiceTest {
 	private final Random random = RandomFactory.createRandom();
 	private final StreamableSymmetricEncryptionDecryptionService symmetricEncryptionDecryptionService = new StreamableSymmetricEncryptionDecryptionService(
 			random, Argon2Factory.createArgon2(Argon2Profile.TEST));
+	private final ChunkedSymmetricEncryptionDecryptionService chunkedSymmetricEncryptionDecryptionService =
+			new ChunkedSymmetricEncryptionDecryptionService(SymmetricFactory.createSymmetric(), Argon2Factory.createArgon2(Argon2Profile.TEST), 16);
 
 	private final char[] password = "Password_Password_123456".toCharArray();
 
@@ -40,6 +47,7 @@ class EncryptionDecryptionServiceTest {
 	private Path encryptedFilePath;
 	private Path decryptedFilePath;
 
+	private Path passwordFilePath;
 	private EncryptionDecryptionService encryptionService;
 	private EncryptionDecryptionService decryptionService;
 
@@ -53,23 +61,31 @@ class EncryptionDecryptionServiceTest {
 
 		// initialize password file.
 		final String passwordFile = "password.txt";
-		final Path passwordFilePath = tempDir.resolve(passwordFile);
+		passwordFilePath = tempDir.resolve(passwordFile);
 		Files.createFile(passwordFilePath);
 		Files.writeString(passwordFilePath, new String(password));
 
 		encryptionService = new EncryptionDecryptionService(symmetricEncryptionDecryptionService,
+				chunkedSymmetricEncryptionDecryptionService,
 				ENCRYPT,
+				STREAM,
 				password,
 				null, // use password for encryption.
 				plaintextFilePath,
-				encryptedFilePath);
+				encryptedFilePath,
+				null,
+				null);
 
 		decryptionService = new EncryptionDecryptionService(symmetricEncryptionDecryptionService,
+				chunkedSymmetricEncryptionDecryptionService,
 				DECRYPT,
+				STREAM,
 				null, // use password file for decryption.
 				passwordFilePath,
 				encryptedFilePath,
-				decryptedFilePath);
+				decryptedFilePath,
+				null,
+				null);
 
 		// create plaintext file.
 		Files.createFile(plaintextFilePath);
@@ -102,4 +118,82 @@ class EncryptionDecryptionServiceTest {
 		// assert plaintext file content and decrypted-plaintext file content are equal.
 		assertArrayEquals(Files.readAllBytes(plaintextFilePath), Files.readAllBytes(decryptedFilePath));
 	}
+
+	@Test
+	void chunkedCycleHappyPath() throws IOException {
+		final EncryptionDecryptionService chunkedEncryptionService = new EncryptionDecryptionService(symmetricEncryptionDecryptionService,
+				chunkedSymmetricEncryptionDecryptionService,
+				ENCRYPT,
+				CHUNKED,
+				password,
+				null, // use password for encryption.
+				plaintextFilePath,
+				encryptedFilePath,
+				null,
+				null);
+		final EncryptionDecryptionService chunkedDecryptionService = new EncryptionDecryptionService(symmetricEncryptionDecryptionService,
+				chunkedSymmetricEncryptionDecryptionService,
+				DECRYPT,
+				CHUNKED,
+				null, // use password file for decryption.
+				passwordFilePath,
+				encryptedFilePath,
+				decryptedFilePath,
+				null,
+				null);
+
+		// encrypt plaintext file to new encrypted-plaintext file.
+		assertDoesNotThrow(chunkedEncryptionService::run);
+
+		// decrypt encrypted-file to new decrypted-plaintext file.
+		assertDoesNotThrow(chunkedDecryptionService::run);
+
+		// assert plaintext file content and decrypted-plaintext file content are equal.
+		assertArrayEquals(Files.readAllBytes(plaintextFilePath), Files.readAllBytes(decryptedFilePath));
+	}
+
+	@Test
+	void chunkedRangeHappyPath() throws IOException {
+		final EncryptionDecryptionService chunkedEncryptionService = new EncryptionDecryptionService(symmetricEncryptionDecryptionService,
+				chunkedSymmetricEncryptionDecryptionService,
+				ENCRYPT,
+				CHUNKED,
+				password,
+				null, // use password for encryption.
+				plaintextFilePath,
+				encryptedFilePath,
+				null,
+				null);
+		final EncryptionDecryptionService chunkedRangeDecryptionService = new EncryptionDecryptionService(symmetricEncryptionDecryptionService,
+				chunkedSymmetricEncryptionDecryptionService,
+				DECRYPT,
+				CHUNKED,
+				password,
+				null,
+				encryptedFilePath,
+				decryptedFilePath,
+				1L,
+				2);
+		Files.writeString(plaintextFilePath, "range-of-the-plaintext");
+
+		assertDoesNotThrow(chunkedEncryptionService::run);
+		assertDoesNotThrow(chunkedRangeDecryptionService::run);
+
+		// assert decrypted-file holds the range of the plaintext.
+		assertArrayEquals(Arrays.copyOfRange(Files.readAllBytes(plaintextFilePath), 1, 3), Files.readAllBytes(decryptedFilePath));
+	}
+
+	@Test
+	void rangeWithStreamFormatThrows() {
+		assertThrows(IllegalArgumentException.class, () -> new EncryptionDecryptionService(symmetricEncryptionDecryptionService,
+				chunkedSymmetricEncryptionDecryptionService,
+				DECRYPT,
+				STREAM,
+				password,
+				null,
+				encryptedFilePath,
+				decryptedFilePath,
+				1L,
+				2));
+	}
 }
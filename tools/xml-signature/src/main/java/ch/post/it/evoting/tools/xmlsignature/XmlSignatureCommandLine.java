@@ -21,7 +21,7 @@ public class XmlSignatureCommandLine {
 			+ String.join("|", Arrays.stream(SupportedFileType.values()).map(SupportedFileType::name).toList())
 			+ "> <"
 			+ String.join("|", Arrays.stream(Action.values()).map(Action::name).toList())
-			+ "> <filePath>";
+			+ "> <filePath|directoryPath>";
 
 	private final KeystoreRepository keystoreRepository;
 
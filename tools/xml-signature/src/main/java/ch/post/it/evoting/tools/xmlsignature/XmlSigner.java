@@ -6,37 +6,101 @@ package ch.post.it.evoting.tools.xmlsignature;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.DosFileAttributeView;
+import java.nio.file.attribute.DosFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.List;
+import java.util.stream.Stream;
 
 import ch.post.it.evoting.evotinglibraries.protocol.algorithms.channelsecurity.XMLSignatureService;
 
+/**
+ * Signs and verifies xml files, or all the xml files of a directory.
+ * <p>
+ * The files are streamed to the signature service. A signed file is written once, to a temporary file of the same directory which then atomically
+ * replaces the original file, so that the original file is never left partially written. The signed file keeps the permissions of the original
+ * file. The files of a directory are processed in parallel.
+ * </p>
+ */
 public class XmlSigner {
+
+	private static final String XML_EXTENSION = ".xml";
+
 	private final XMLSignatureService xmlSignatureService;
 
 	public XmlSigner() {
 		this.xmlSignatureService = new XMLSignatureService();
 	}
 
+	/**
+	 * Signs the given xml file, or all the xml files of the given directory, in place.
+	 *
+	 * @param path       the path of the xml file or of the directory. Must be non-null.
+	 * @param signingKey the signing key.
+	 * @throws NullPointerException     if the path is null.
+	 * @throws IllegalArgumentException if the file is not an xml or the directory does not contain any xml file.
+	 * @throws UncheckedIOException     if a signed file cannot be written.
+	 */
 	public void sign(final Path path, final PrivateKey signingKey) {
-		final Path realPath = validatePath(path);
-		try (final InputStream fileInputStream = Files.newInputStream(realPath);
-				final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-			xmlSignatureService.genXMLSignature(fileInputStream, outputStream, signingKey);
-			Files.write(realPath, outputStream.toByteArray());
+		final List<Path> realPaths = validatePath(path);
+
+		realPaths.parallelStream().forEach(realPath -> signFile(realPath, signingKey));
+	}
+
+	/**
+	 * Verifies the signature of the given xml file, or of all the xml files of the given directory.
+	 *
+	 * @param path                     the path of the xml file or of the directory. Must be non-null.
+	 * @param signatureVerificationKey the signature verification key.
+	 * @return true if the signature of the file, or the signatures of all the files of the directory, are valid, false otherwise.
+	 * @throws NullPointerException     if the path is null.
+	 * @throws IllegalArgumentException if the file is not an xml or the directory does not contain any xml file.
+	 */
+	public boolean verify(final Path path, final PublicKey signatureVerificationKey) {
+		final List<Path> realPaths = validatePath(path);
+
+		return realPaths.parallelStream().allMatch(realPath -> verifyFile(realPath, signatureVerificationKey));
+	}
+
+	private void signFile(final Path realPath, final PrivateKey signingKey) {
+		final Path signedPath;
+		try {
+			signedPath = Files.createTempFile(realPath.getParent(), realPath.getFileName().toString(), ".tmp");
 		} catch (final IOException e) {
-			throw new IllegalArgumentException("Could not find file to sign", e);
+			throw new UncheckedIOException(String.format("Could not create the signed file. [path: %s]", realPath), e);
+		}
+
+		try {
+			try (final InputStream fileInputStream = Files.newInputStream(realPath);
+					final OutputStream signedOutputStream = Files.newOutputStream(signedPath)) {
+				xmlSignatureService.genXMLSignature(fileInputStream, signedOutputStream, signingKey);
+			} catch (final IOException e) {
+				throw new UncheckedIOException(String.format("Could not write the signed file. [path: %s]", realPath), e);
+			}
+
+			copyAttributes(realPath, signedPath);
+
+			try {
+				Files.move(signedPath, realPath, StandardCopyOption.ATOMIC_MOVE);
+			} catch (final IOException e) {
+				throw new UncheckedIOException(String.format("Could not replace the file by the signed file. [path: %s]", realPath), e);
+			}
+		} finally {
+			deleteIfExists(signedPath);
 		}
 	}
 
-	public boolean verify(final Path path, final PublicKey signatureVerificationKey) {
-		final Path realPath = validatePath(path);
+	private boolean verifyFile(final Path realPath, final PublicKey signatureVerificationKey) {
 		try (final InputStream fileInputStream = Files.newInputStream(realPath)) {
 			return xmlSignatureService.verifyXMLSignature(fileInputStream, signatureVerificationKey);
 		} catch (final IOException e) {
@@ -44,7 +108,41 @@ public class XmlSigner {
 		}
 	}
 
-	private Path validatePath(final Path path) {
+	/**
+	 * Copies the permissions, or on file systems without POSIX permissions the DOS attributes, of the original file to the signed file. The signed
+	 * file is created as a temporary file, readable and writable by its owner only, and would otherwise change the permissions of the original file
+	 * when replacing it.
+	 */
+	private static void copyAttributes(final Path realPath, final Path signedPath) {
+		try {
+			final PosixFileAttributeView signedPosixView = Files.getFileAttributeView(signedPath, PosixFileAttributeView.class);
+			if (signedPosixView != null) {
+				signedPosixView.setPermissions(Files.getPosixFilePermissions(realPath));
+				return;
+			}
+
+			final DosFileAttributeView signedDosView = Files.getFileAttributeView(signedPath, DosFileAttributeView.class);
+			if (signedDosView != null) {
+				final DosFileAttributes attributes = Files.readAttributes(realPath, DosFileAttributes.class);
+				signedDosView.setArchive(attributes.isArchive());
+				signedDosView.setHidden(attributes.isHidden());
+				signedDosView.setSystem(attributes.isSystem());
+				signedDosView.setReadOnly(attributes.isReadOnly());
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(String.format("Could not copy the attributes of the file to the signed file. [path: %s]", realPath), e);
+		}
+	}
+
+	private static void deleteIfExists(final Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(String.format("Could not delete the temporary file. [path: %s]", path), e);
+		}
+	}
+
+	private static List<Path> validatePath(final Path path) {
 		checkNotNull(path);
 
 		final Path realPath;
@@ -54,10 +152,29 @@ public class XmlSigner {
 			throw new IllegalStateException(String.format("The xml file does not exist or an I/O error occurred. [path: %s]", path));
 		}
 
-		final String fileName = realPath.getFileName().toString();
-		checkArgument(fileName.endsWith(".xml"), "The file is not an xml. [path: %s]", realPath);
+		if (Files.isDirectory(realPath, LinkOption.NOFOLLOW_LINKS)) {
+			final List<Path> xmlPaths;
+			try (final Stream<Path> directoryPaths = Files.list(realPath)) {
+				xmlPaths = directoryPaths
+						.filter(directoryPath -> Files.isRegularFile(directoryPath, LinkOption.NOFOLLOW_LINKS))
+						.filter(XmlSigner::isXml)
+						.sorted()
+						.toList();
+			} catch (final IOException e) {
+				throw new UncheckedIOException(String.format("Could not list the directory. [path: %s]", realPath), e);
+			}
+			checkArgument(!xmlPaths.isEmpty(), "The directory does not contain any xml file. [path: %s]", realPath);
+
+			return xmlPaths;
+		}
+
+		checkArgument(isXml(realPath), "The file is not an xml. [path: %s]", realPath);
+
+		return List.of(realPath);
+	}
 
-		return realPath;
+	private static boolean isXml(final Path path) {
+		return path.getFileName().toString().endsWith(XML_EXTENSION);
 	}
 
 }
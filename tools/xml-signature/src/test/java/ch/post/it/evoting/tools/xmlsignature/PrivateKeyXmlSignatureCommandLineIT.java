@@ -11,14 +11,20 @@ import static ch.post.it.evoting.tools.xmlsignature.XmlSignatureCommandLineUtils
 import static ch.post.it.evoting.tools.xmlsignature.XmlSignatureCommandLineUtils.getConfigurationAnonymizedPath;
 import static ch.post.it.evoting.tools.xmlsignature.XmlSignatureCommandLineUtils.getEvotingPrintPath;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Objects;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -70,6 +76,21 @@ class PrivateKeyXmlSignatureCommandLineIT {
 				.anyMatch(message -> message.startsWith(SUCCESS_LOG_PREFIX)));
 	}
 
+	@Test
+	@DisplayName("sign keeps the permissions of the file")
+	void signKeepsPermissions() throws IOException {
+		assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+		final Path filePath = signFolder.resolve(CONFIGURATION_ANONYMIZED_XML);
+		Files.copy(CONFIGURATION_ANONYMIZED_PATH, filePath, REPLACE_EXISTING);
+		final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+		Files.setPosixFilePermissions(filePath, permissions);
+
+		xmlSignatureCommandLine.run(SupportedFileType.CONFIG.name(), Action.SIGN.name(), filePath.toString());
+
+		assertEquals(permissions, Files.getPosixFilePermissions(filePath));
+	}
+
 	@Test
 	@DisplayName("verify with valid configuration-anonymized signature logs success")
 	void verifyValidConfigurationAnonymizedSignatureLogsSuccess() {
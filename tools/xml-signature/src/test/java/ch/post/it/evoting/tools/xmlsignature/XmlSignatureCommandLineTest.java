@@ -18,6 +18,7 @@ import static ch.post.it.evoting.tools.xmlsignature.XmlSignatureCommandLineUtils
 import static ch.post.it.evoting.tools.xmlsignature.XmlSignatureCommandLineUtils.getKeystorePasswordPath;
 import static ch.post.it.evoting.tools.xmlsignature.XmlSignatureCommandLineUtils.getKeystorePath;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 
@@ -157,6 +158,28 @@ class XmlSignatureCommandLineTest {
 				.anyMatch(message -> message.startsWith(expectedLog)));
 	}
 
+	@Test
+	void signAndVerifyDirectoryLogsSuccess() throws Exception {
+		final KeystoreRepository cantonKeystoreRepository = new KeystoreRepository(getKeystorePath(CANTON_KEYSTORE_PATH).toString(),
+				getKeystorePasswordPath(CANTON_KEYSTORE_PASSWORD_PATH).toString());
+		final XmlSignatureCommandLine cantonXmlSignatureCommandLine = new XmlSignatureCommandLine(cantonKeystoreRepository);
+
+		final Path directory = Files.createDirectories(signFolder.resolve("directory"));
+		Files.copy(CONFIGURATION_ANONYMIZED_PATH, directory.resolve("configuration-anonymized-1.xml"), REPLACE_EXISTING);
+		Files.copy(CONFIGURATION_ANONYMIZED_PATH, directory.resolve("configuration-anonymized-2.xml"), REPLACE_EXISTING);
+
+		cantonXmlSignatureCommandLine.run(SupportedFileType.CONFIG.name(), Action.SIGN.name(), directory.toString());
+		cantonXmlSignatureCommandLine.run(SupportedFileType.CONFIG.name(), Action.VERIFY.name(), directory.toString());
+
+		assertEquals(2, logAppender.list.stream()
+				.map(ILoggingEvent::getMessage)
+				.filter(message -> message.startsWith(SUCCESS_LOG_PREFIX))
+				.count());
+		try (final Stream<Path> directoryPaths = Files.list(directory)) {
+			assertEquals(2, directoryPaths.count());
+		}
+	}
+
 	private static Stream<Arguments> verifyArgumentProvider() {
 		return Stream.of(
 				Arguments.of(SupportedFileType.CONFIG, Action.VERIFY, CONFIGURATION_ANONYMIZED_PATH, SUCCESS_LOG_PREFIX),
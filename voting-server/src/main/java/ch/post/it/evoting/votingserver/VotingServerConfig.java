@@ -44,6 +44,9 @@ import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import ch.post.it.evoting.cryptoprimitives.hashing.Argon2;
 import ch.post.it.evoting.cryptoprimitives.hashing.Argon2Factory;
@@ -56,6 +59,7 @@ import ch.post.it.evoting.cryptoprimitives.symmetric.Symmetric;
 import ch.post.it.evoting.cryptoprimitives.symmetric.SymmetricFactory;
 import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivation;
 import ch.post.it.evoting.cryptoprimitives.utils.KeyDerivationFactory;
+import ch.post.it.evoting.domain.metrics.AlgorithmMetricsBeanPostProcessor;
 import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
 import ch.post.it.evoting.evotinglibraries.domain.mapper.CBORObjectMapper;
 import ch.post.it.evoting.evotinglibraries.domain.mapper.DomainObjectMapper;
@@ -75,6 +79,11 @@ import reactor.core.publisher.Hooks;
 @EnableJpaRepositories
 public class VotingServerConfig {
 
+	@Bean
+	public static AlgorithmMetricsBeanPostProcessor algorithmMetricsBeanPostProcessor(final ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		return new AlgorithmMetricsBeanPostProcessor(meterRegistryProvider, "ch.post.it.evoting.votingserver.protocol");
+	}
+
 	@Bean
 	public ObjectMapper objectMapper() {
 		final ObjectMapper objectMapper = DomainObjectMapper.getNewInstance();
@@ -220,7 +229,8 @@ public class VotingServerConfig {
 	@Bean
 	public TenantService tenantService(
 			final HikariConfig hikariConfig,
-			final TenantProperties tenantProperties) {
+			final TenantProperties tenantProperties,
+			final MeterRegistry meterRegistry) {
 
 		return new TenantService(tenantProperties, (tenantId, property) -> {
 
@@ -230,6 +240,8 @@ public class VotingServerConfig {
 			tenantHikariConfig.setUsername(property.getUsername());
 			tenantHikariConfig.setPassword(property.getPassword());
 			tenantHikariConfig.setPoolName(hikariConfig().getPoolName() + "-" + tenantId);
+			// Publishes the connection acquisition time of each tenant pool, the tenant data sources are not instrumented by Spring Boot.
+			tenantHikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
 
 			return new HikariDataSource(tenantHikariConfig);
 		}, true);
@@ -19,14 +19,9 @@ public interface InProgressMessageRepository extends CrudRepository<InProgressMe
 
 	Integer countByCorrelationIdAndResponsePayloadIsNotNull(final String correlationId);
 
-	List<InProgressMessage> findAllByCorrelationIdAndResponsePayloadIsNotNull(final String correlationId);
-
 	Optional<InProgressMessage> findFirstByRequestMessageTypeAndContextId(final String requestMessageType, final String contextId);
 
 	@Transactional
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	List<InProgressMessage> findAllByCorrelationIdOrderByNodeId(final String correlationId);
-
-	@Transactional
-	void deleteAllByCorrelationId(final String correlationId);
 }
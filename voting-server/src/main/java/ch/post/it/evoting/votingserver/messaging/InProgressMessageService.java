@@ -12,8 +12,6 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
-import com.google.common.collect.MoreCollectors;
-
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableSet;
@@ -47,17 +45,37 @@ public class InProgressMessageService {
 		checkNotNull(payload);
 		checkNotNull(responseMessageType);
 
-		//Lock all for lines with the same correlationId to avoid concurrent modifications within the same correlationId
-		final List<InProgressMessage> inProgressMessages = inProgressMessageRepository.findAllByCorrelationIdOrderByNodeId(correlationId);
-
-		final InProgressMessage inProgressMessage = inProgressMessages.stream().filter(ipm -> ipm.getNodeId() == nodeId)
-				.collect(MoreCollectors.onlyElement());
+		// Only the row of the responding node is updated, the responses of the other nodes are stored concurrently.
+		final InProgressMessage inProgressMessage = inProgressMessageRepository.findById(new InProgressMessageId(correlationId, nodeId))
+				.orElseThrow(() -> new IllegalStateException(
+						String.format("No in progress message for this response. [correlationId: %s, nodeId: %s]", correlationId, nodeId)));
 
 		inProgressMessage.setResponsePayload(payload);
 		inProgressMessage.setResponseMessageType(responseMessageType);
 		inProgressMessageRepository.save(inProgressMessage);
 	}
 
+	/**
+	 * Claims the responses of all the nodes for the given correlationId, by locking and deleting them in the current transaction. Concurrent claims
+	 * are serialized by the lock, so that exactly one of them succeeds.
+	 *
+	 * @param correlationId the correlation id. Must not be null.
+	 * @return the responses of all the nodes, or an empty optional if they were already claimed or if not all the nodes responded.
+	 * @throws NullPointerException if the correlation id is null.
+	 */
+	public Optional<ImmutableList<InProgressMessage>> claimAllNodesResponses(final String correlationId) {
+		checkNotNull(correlationId);
+
+		final List<InProgressMessage> inProgressMessages = inProgressMessageRepository.findAllByCorrelationIdOrderByNodeId(correlationId);
+		if (inProgressMessages.size() != ControlComponentNode.ids().size()
+				|| inProgressMessages.stream().anyMatch(inProgressMessage -> inProgressMessage.getResponsePayload() == null)) {
+			return Optional.empty();
+		}
+
+		inProgressMessageRepository.deleteAll(inProgressMessages);
+		return Optional.of(ImmutableList.from(inProgressMessages));
+	}
+
 	/**
 	 * Get the correlationId for a given requestMessageType and contextId, if it exists.
 	 *
@@ -79,11 +97,6 @@ public class InProgressMessageService {
 		return inProgressMessageRepository.countByCorrelationIdAndResponsePayloadIsNotNull(correlationId);
 	}
 
-	public ImmutableList<InProgressMessage> getAllNodesResponses(final String correlationId) {
-		checkNotNull(correlationId);
-		return ImmutableList.from(inProgressMessageRepository.findAllByCorrelationIdAndResponsePayloadIsNotNull(correlationId));
-	}
-
 	public void removeInProgressMessage(final String correlationId, final int nodeId) {
 		checkNotNull(correlationId);
 		checkArgument(ControlComponentNode.ids().contains(nodeId));
@@ -91,9 +104,4 @@ public class InProgressMessageService {
 		final InProgressMessageId inProgressMessageId = new InProgressMessageId(correlationId, nodeId);
 		inProgressMessageRepository.deleteById(inProgressMessageId);
 	}
-
-	public void removeInProgressMessages(final String correlationId) {
-		checkNotNull(correlationId);
-		inProgressMessageRepository.deleteAllByCorrelationId(correlationId);
-	}
 }
@@ -35,6 +35,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.google.common.collect.MoreCollectors;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableSet;
@@ -45,6 +48,8 @@ import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
 public class MessageHandler {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MessageHandler.class);
+	private static final String RECEIVE_METRIC_NAME = "evoting.jms.receive";
+	private static final String SEND_METRIC_NAME = "evoting.jms.send";
 
 	private final List<Configuration<?, ?>> configurations;
 	private final InProgressMessageService inProgressMessageService;
@@ -53,6 +58,8 @@ public class MessageHandler {
 	private final ContextHolder contextHolder;
 	private final JmsTemplate mutlicastJmsTemplate;
 	private final Serializer serializer;
+	private final ResponseAggregator responseAggregator;
+	private final MeterRegistry meterRegistry;
 
 	public MessageHandler(
 			@Qualifier("multicastJmsTemplate")
@@ -64,7 +71,9 @@ public class MessageHandler {
 			final EntityManager entityManager,
 			@Lazy
 			final MessageHandler messageHandler,
-			final ContextHolder contextHolder) {
+			final ContextHolder contextHolder,
+			final ResponseAggregator responseAggregator,
+			final MeterRegistry meterRegistry) {
 		this.mutlicastJmsTemplate = multicastJmsTemplate;
 		this.serializer = serializer;
 		this.configurations = configurations;
@@ -72,6 +81,8 @@ public class MessageHandler {
 		this.entityManager = entityManager;
 		this.self = messageHandler;
 		this.contextHolder = contextHolder;
+		this.responseAggregator = responseAggregator;
+		this.meterRegistry = meterRegistry;
 	}
 
 	public String generateCorrelationId() {
@@ -154,6 +165,7 @@ public class MessageHandler {
 		entityManager.clear();
 
 		// As this call is not transactional, it must be the last operation done in the current transaction.
+		final Timer.Sample sample = Timer.start(meterRegistry);
 		mutlicastJmsTemplate.convertAndSend(CONTROL_COMPONENTS_ADDRESS, payload, jmsMessage -> {
 			jmsMessage.setJMSCorrelationID(correlationId);
 			jmsMessage.setStringProperty(MESSAGE_HEADER_MESSAGE_TYPE, msg.getClass().getName());
@@ -165,16 +177,23 @@ public class MessageHandler {
 			}
 			return jmsMessage;
 		});
+		sample.stop(Timer.builder(SEND_METRIC_NAME)
+				.tag("messageType", msg.getClass().getSimpleName())
+				.publishPercentileHistogram()
+				.register(meterRegistry));
 
 		return correlationId;
 	}
 
 	@JmsListener(destination = VOTING_SERVER_ADDRESS, containerFactory = "customFactory")
 	public <T, U> void onMessage(final Message message) throws JMSException {
+		final Timer.Sample sample = Timer.start(meterRegistry);
+		String messageType = "unknown";
+		String outcome = "failure";
 		try {
 			checkNotNull(message);
 			contextHolder.setTenantId(checkNotNull(message.getStringProperty(MESSAGE_HEADER_TENANT_ID)));
-			final String messageType = checkNotNull(message.getStringProperty(MESSAGE_HEADER_MESSAGE_TYPE));
+			messageType = checkNotNull(message.getStringProperty(MESSAGE_HEADER_MESSAGE_TYPE));
 			final String correlationId = checkNotNull(message.getJMSCorrelationID());
 
 			LOGGER.info("Received new response. [messageType: {}, correlationId: {}]", messageType, correlationId);
@@ -190,32 +209,59 @@ public class MessageHandler {
 			final boolean aggregateResults = configuration.aggregateResponseResults();
 
 			self.processMessage(aggregateResults, correlationId, nodeId, messageBody, messageType, responseHandler, payload);
+			outcome = "success";
 		} finally {
+			sample.stop(Timer.builder(RECEIVE_METRIC_NAME)
+					.tag("messageType", messageType.substring(messageType.lastIndexOf('.') + 1))
+					.tag("outcome", outcome)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
 			contextHolder.clear();
 		}
 	}
 
-	@Transactional
+	/**
+	 * Processes a response of a control component.
+	 * <p>
+	 * An aggregated response is stored in its own transaction, without locking the responses of the other nodes, and accumulated in memory. The
+	 * response handler is called once all the nodes responded, by the instance that claims the stored responses first.
+	 * </p>
+	 */
 	public <U> void processMessage(final boolean aggregateResults, final String correlationId, final int nodeId, final ImmutableByteArray messageBody,
 			final String messageType, final BiConsumer<String, ImmutableList<U>> responseHandler, final U payload) {
 		if (aggregateResults) {
-			//Lock all inProgressMessages with the same correlationId to avoid concurrent modifications and having an incorrect count
-			inProgressMessageService.storeResponse(correlationId, nodeId, messageBody, messageType);
-			final int count = inProgressMessageService.countAllInProgressMessagesWithResponsePayload(correlationId);
+			self.storeResponse(correlationId, nodeId, messageBody, messageType);
+			final boolean allNodesReceivedLocally = responseAggregator.add(correlationId, nodeId, payload, messageBody.elements().length);
+			// The count is read after the commit of the response, hence the last stored response always sees all the nodes.
+			final int count = allNodesReceivedLocally ?
+					ControlComponentNode.ids().size() :
+					inProgressMessageService.countAllInProgressMessagesWithResponsePayload(correlationId);
 			if (count == ControlComponentNode.ids().size()) {
 				LOGGER.info("All nodes have returned their contributions. [correlationId: {}]", correlationId);
-				handleResponseForAggregatedMessages(correlationId, messageType);
+				self.handleResponseForAggregatedMessages(correlationId, messageType);
 			} else {
 				LOGGER.info("Not all nodes have returned their contributions. [correlationId: {}, count: {}]", correlationId, count);
 			}
 		} else {
-			LOGGER.info("Response received. [correlationId: {}, nodeId: {}]", correlationId, nodeId);
-			inProgressMessageService.removeInProgressMessage(correlationId, nodeId);
-			responseHandler.accept(correlationId, ImmutableList.of(payload));
+			self.processResponse(correlationId, nodeId, responseHandler, payload);
 		}
 	}
 
-	private <T, U> void handleResponseForAggregatedMessages(final String correlationId, final String messageType) {
+	@Transactional
+	public void storeResponse(final String correlationId, final int nodeId, final ImmutableByteArray messageBody, final String messageType) {
+		inProgressMessageService.storeResponse(correlationId, nodeId, messageBody, messageType);
+	}
+
+	@Transactional
+	public <U> void processResponse(final String correlationId, final int nodeId, final BiConsumer<String, ImmutableList<U>> responseHandler,
+			final U payload) {
+		LOGGER.info("Response received. [correlationId: {}, nodeId: {}]", correlationId, nodeId);
+		inProgressMessageService.removeInProgressMessage(correlationId, nodeId);
+		responseHandler.accept(correlationId, ImmutableList.of(payload));
+	}
+
+	@Transactional
+	public <T, U> void handleResponseForAggregatedMessages(final String correlationId, final String messageType) {
 		checkNotNull(correlationId);
 		checkNotNull(messageType);
 
@@ -223,18 +269,26 @@ public class MessageHandler {
 		final Configuration<T, U> configuration = (Configuration<T, U>) getConfiguration(messageType);
 		final BiConsumer<String, ImmutableList<U>> responseHandler = configuration.ResponseHandler();
 
-		final ImmutableList<InProgressMessage> allNodesResponses = inProgressMessageService.getAllNodesResponses(correlationId);
+		final Optional<ImmutableList<InProgressMessage>> allNodesResponses = inProgressMessageService.claimAllNodesResponses(correlationId);
+		if (allNodesResponses.isEmpty()) {
+			LOGGER.info("Response for aggregated messages already handled. [correlationId: {}]", correlationId);
+			responseAggregator.remove(correlationId);
+			return;
+		}
 
-		final ImmutableList<U> payloads = allNodesResponses.stream()
-				.map(InProgressMessage::getResponsePayload)
-				.map(configuration.responseDeserializer)
+		// The responses received by this instance are already deserialized.
+		@SuppressWarnings("unchecked")
+		final ImmutableList<U> payloads = allNodesResponses.get().stream()
+				.map(inProgressMessage -> responseAggregator.get(correlationId, inProgressMessage.getNodeId())
+						.map(payload -> (U) payload)
+						.orElseGet(() -> configuration.responseDeserializer().apply(inProgressMessage.getResponsePayload())))
 				.sorted(Comparator.comparingInt(configuration.nodeIdExtractor::apply))
 				.collect(toImmutableList());
 
 		checkState(payloads.size() == ControlComponentNode.ids().size(),
 				"The number of payloads does not correspond to the number of control component nodes");
 
-		inProgressMessageService.removeInProgressMessages(correlationId);
+		responseAggregator.remove(correlationId);
 		responseHandler.accept(correlationId, payloads);
 
 		LOGGER.info("Response for aggregated messages handled. [correlationId: {}]", correlationId);
@@ -0,0 +1,128 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.messaging;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.primitives.Ints;
+
+import ch.post.it.evoting.evotinglibraries.domain.ControlComponentNode;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+
+/**
+ * Accumulates, per correlation id and tenant, the deserialized responses of the control components received by this instance.
+ * <p>
+ * The responses of a node are added atomically, without locking the other requests. The responses of a request can land on different voting-server instances, therefore this accumulator only saves
+ * the reload and deserialization of the responses received locally; the database remains the reference to decide whether all the nodes answered.
+ * An accumulation is discarded once its request is completed, by this instance or, when notified through the broadcast of the response, by another
+ * one. The remaining accumulations expire with the response completion cache timeout and their total size, estimated by the size of the serialized
+ * responses, is bounded. A discarded accumulation only costs the reload of its responses from the database.
+ * </p>
+ */
+@Component
+class ResponseAggregator {
+
+	private final ContextHolder contextHolder;
+	private final Cache<AggregationKey, Aggregation> aggregations;
+
+	ResponseAggregator(
+			final ContextHolder contextHolder,
+			@Value("${responseCompletionService.cache-timeout:10}")
+			final long cacheTimeout,
+			@Value("${response-aggregator.cache.maximum-size:256MB}")
+			final DataSize maximumSize) {
+		checkNotNull(maximumSize);
+		checkArgument(!maximumSize.isNegative(), "The maximum size must be positive.");
+
+		this.contextHolder = contextHolder;
+		this.aggregations = Caffeine.newBuilder()
+				.maximumWeight(maximumSize.toBytes())
+				.weigher((final AggregationKey key, final Aggregation aggregation) -> Ints.saturatedCast(aggregation.size()))
+				.expireAfterWrite(cacheTimeout, TimeUnit.MINUTES)
+				.build();
+	}
+
+	/**
+	 * Adds the response of a node. A duplicate response of the same node is ignored.
+	 *
+	 * @param correlationId the correlation id of the request. Must be non-null.
+	 * @param nodeId        the node id of the response. Must be a control component node id.
+	 * @param payload       the deserialized response. Must be non-null.
+	 * @param size          the size in bytes of the serialized response. Must be positive.
+	 * @return true if this call added the last missing response, i.e. this instance now holds the responses of all the nodes. False otherwise,
+	 * including for a duplicate response.
+	 */
+	boolean add(final String correlationId, final int nodeId, final Object payload, final int size) {
+		checkNotNull(correlationId);
+		checkArgument(ControlComponentNode.ids().contains(nodeId));
+		checkNotNull(payload);
+		checkArgument(size >= 0, "The size must be positive. [size: %s]", size);
+
+		final AtomicBoolean allNodesAdded = new AtomicBoolean();
+		// The aggregation is replaced on each response so that the cache weighs it again.
+		aggregations.asMap().compute(new AggregationKey(contextHolder.getTenantId(), correlationId), (key, aggregation) -> {
+			final Aggregation current = aggregation == null ? new Aggregation(Map.of(), 0) : aggregation;
+			if (current.payloads().containsKey(nodeId)) {
+				return current;
+			}
+			final Aggregation updated = current.with(nodeId, payload, size);
+			allNodesAdded.set(updated.payloads().size() == ControlComponentNode.ids().size());
+			return updated;
+		});
+		return allNodesAdded.get();
+	}
+
+	/**
+	 * @param correlationId the correlation id of the request. Must be non-null.
+	 * @param nodeId        the node id of the response.
+	 * @return the deserialized response of the node, if received by this instance.
+	 */
+	Optional<Object> get(final String correlationId, final int nodeId) {
+		checkNotNull(correlationId);
+
+		return Optional.ofNullable(aggregations.getIfPresent(new AggregationKey(contextHolder.getTenantId(), correlationId)))
+				.map(aggregation -> aggregation.payloads().get(nodeId));
+	}
+
+	/**
+	 * Discards the responses of a completed request.
+	 *
+	 * @param correlationId the correlation id of the request. Must be non-null.
+	 */
+	void remove(final String correlationId) {
+		checkNotNull(correlationId);
+
+		aggregations.invalidate(new AggregationKey(contextHolder.getTenantId(), correlationId));
+	}
+
+	private record AggregationKey(String tenantId, String correlationId) {
+
+		private AggregationKey {
+			checkNotNull(tenantId);
+			checkNotNull(correlationId);
+		}
+	}
+
+	private record Aggregation(Map<Integer, Object> payloads, long size) {
+
+		private Aggregation with(final int nodeId, final Object payload, final int payloadSize) {
+			final Map<Integer, Object> updatedPayloads = new HashMap<>(payloads);
+			updatedPayloads.put(nodeId, payload);
+			return new Aggregation(Map.copyOf(updatedPayloads), size + payloadSize);
+		}
+	}
+}
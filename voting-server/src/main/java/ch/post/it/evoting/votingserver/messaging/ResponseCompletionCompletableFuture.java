@@ -12,6 +12,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 public class ResponseCompletionCompletableFuture<T> {
@@ -28,6 +29,10 @@ public class ResponseCompletionCompletableFuture<T> {
 		return completableFuture.thenApply(fn);
 	}
 
+	public CompletableFuture<T> whenComplete(final BiConsumer<? super T, ? super Throwable> action) {
+		return completableFuture.whenComplete(action);
+	}
+
 	/**
 	 * Waits if necessary for at most {@link #defaultTimeout} seconds for this future to complete, and then returns its result, if available.
 	 *
@@ -26,6 +26,10 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
 
@@ -35,12 +39,15 @@ public class ResponseCompletionService {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCompletionService.class);
 	private static final String BROADCAST_TOPIC_EXCHANGE = "broadcast-topic-exchange";
 	private static final String HEADER_MESSAGE_TYPE = "message_type";
+	private static final String METRIC_NAME = "evoting.response.completion";
 
 	private final EntityManager entityManager;
 	private final Serializer serializer;
 	private final Cache<String, CachedElement<?>> cache;
 	private final ContextHolder contextHolder;
 	private final JmsTemplate multicastJmsTemplate;
+	private final MeterRegistry meterRegistry;
+	private final ResponseAggregator responseAggregator;
 
 	@Value("${responseCompletion.defaultTimeout:120}")
 	private long defaultCompletionTimout;
@@ -52,14 +59,20 @@ public class ResponseCompletionService {
 			final JmsTemplate multicastJmsTemplate,
 			@Value("${responseCompletionService.cache-timeout:10}")
 			final long cacheTimeout,
-			final ContextHolder contextHolder) {
+			final ContextHolder contextHolder,
+			final MeterRegistry meterRegistry,
+			final ResponseAggregator responseAggregator) {
 		this.entityManager = entityManager;
 		this.serializer = serializer;
 		this.multicastJmsTemplate = multicastJmsTemplate;
+		this.meterRegistry = meterRegistry;
+		this.responseAggregator = responseAggregator;
+		final Counter evictions = Counter.builder(METRIC_NAME + ".evicted").register(meterRegistry);
 		this.cache = Caffeine.newBuilder()
 				.expireAfterWrite(cacheTimeout, TimeUnit.MINUTES)
 				.removalListener((correlationId, value, cause) -> {
 					if (cause.wasEvicted()) {
+						evictions.increment();
 						LOGGER.debug("Response completion evicted from cache. [correlationId : {}]", correlationId);
 					}
 				})
@@ -141,11 +154,23 @@ public class ResponseCompletionService {
 
 		@SuppressWarnings("unchecked")
 		final ResponseCompletionCompletableFuture<T> responseCompletionCompletableFuture = (ResponseCompletionCompletableFuture<T>) cache.get(
-				correlationId, string -> cachedElementSupplier.get()).completableFuture();
+				correlationId, string -> timed(cachedElementSupplier.get())).completableFuture();
 
 		return responseCompletionCompletableFuture;
 	}
 
+	/**
+	 * Records the time from the registration to the completion of the future in the {@value #METRIC_NAME} timer.
+	 */
+	private <T> CachedElement<T> timed(final CachedElement<T> cachedElement) {
+		final Timer.Sample sample = Timer.start(meterRegistry);
+		cachedElement.completableFuture().whenComplete((value, throwable) -> sample.stop(Timer.builder(METRIC_NAME)
+				.tag("outcome", throwable == null ? "success" : "failure")
+				.publishPercentileHistogram()
+				.register(meterRegistry)));
+		return cachedElement;
+	}
+
 	public ResponseCompletionCompletableFuture<Empty> registerForCompletion(final String correlationId) {
 		checkNotNull(correlationId);
 		return registerForResponseCompletion(correlationId, Empty.class);
@@ -181,6 +206,9 @@ public class ResponseCompletionService {
 			final String correlationId = checkNotNull(message.getJMSCorrelationID());
 			final String messageType = checkNotNull(message.getStringProperty(HEADER_MESSAGE_TYPE));
 
+			// The request is completed by another instance, the responses received by this instance are no longer needed.
+			responseAggregator.remove(correlationId);
+
 			@SuppressWarnings("unchecked")
 			final CachedElement<T> cachedElement = (CachedElement<T>) cache.getIfPresent(correlationId);
 
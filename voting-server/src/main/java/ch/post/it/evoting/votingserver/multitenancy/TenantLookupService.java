@@ -3,37 +3,190 @@
  */
 package ch.post.it.evoting.votingserver.multitenancy;
 
+import static ch.post.it.evoting.evotinglibraries.domain.validations.TenantIdValidation.validateTenantId;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
-import org.springframework.cache.annotation.Cacheable;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
 import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.Tenant;
 import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.TenantService;
 
+/**
+ * Routes the requests of an election event to the tenant owning it.
+ * <p>
+ * The election event ids of all the tenants are indexed in memory. The index is rebuilt at startup and updated when an election event context is
+ * saved. The lookup of an indexed election event is therefore a hash lookup. An election event missing from the index, for instance because it was
+ * configured through another instance, is looked up in the tenant databases; the election event ids found in none of them are remembered for a
+ * short time, bounding the cost of the requests for unknown election events. The tenant databases are queried in parallel on a pool bounded by
+ * {@code tenant-lookup.parallelism} threads.
+ * </p>
+ */
 @Service
 public class TenantLookupService {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(TenantLookupService.class);
+
 	private final TenantService tenantService;
+	private final Map<String, String> tenantIdsByElectionEventId = new ConcurrentHashMap<>();
+	private final Cache<String, Boolean> unknownElectionEventIds;
+	private final ExecutorService queryExecutor;
+
+	public TenantLookupService(
+			final TenantService tenantService,
+			@Value("${tenant-lookup.unknown.maximum-size}")
+			final long unknownMaximumSize,
+			@Value("${tenant-lookup.unknown.expire-after-write}")
+			final Duration unknownExpireAfterWrite,
+			@Value("${tenant-lookup.parallelism}")
+			final int parallelism) {
+		checkArgument(unknownMaximumSize >= 0, "The maximum number of unknown election event ids must be positive.");
+		checkNotNull(unknownExpireAfterWrite);
+		checkArgument(parallelism > 0, "The parallelism must be strictly positive. [parallelism: %s]", parallelism);
 
-	public TenantLookupService(final TenantService tenantService) {
 		this.tenantService = tenantService;
+		this.unknownElectionEventIds = Caffeine.newBuilder()
+				.maximumSize(unknownMaximumSize)
+				.expireAfterWrite(unknownExpireAfterWrite)
+				.build();
+		this.queryExecutor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("tenant-lookup-", 0).daemon().factory());
 	}
 
-	@Cacheable("lookupTenantFromElectionEventId")
+	/**
+	 * Looks up the tenant owning the given election event.
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @return the tenant owning the election event, empty if no tenant owns it.
+	 * @throws NullPointerException      if {@code electionEventId} is null.
+	 * @throws FailedValidationException if {@code electionEventId} is not a valid UUID.
+	 */
 	public Optional<Tenant> lookupTenantFromElectionEventId(final String electionEventId) {
 		validateUUID(electionEventId);
-		for (final Tenant tenant : tenantService.getTenants()) {
-			final JdbcTemplate jdbc = new JdbcTemplate(tenant.dataSource());
-			final Integer count = jdbc.queryForObject("select count(*) from ELECTION_EVENT where ELECTION_EVENT_ID = ?", Integer.class, electionEventId);
-			final boolean exist = count != null && count > 0;
-			if (exist) {
-				return Optional.of(tenant);
+
+		final String tenantId = tenantIdsByElectionEventId.get(electionEventId);
+		if (tenantId != null) {
+			return Optional.of(tenantService.getTenant(tenantId));
+		}
+		if (unknownElectionEventIds.getIfPresent(electionEventId) != null) {
+			return Optional.empty();
+		}
+
+		final Optional<Tenant> tenant = lookupTenantFromDatabases(electionEventId);
+		tenant.ifPresentOrElse(owner -> tenantIdsByElectionEventId.put(electionEventId, owner.id()),
+				() -> unknownElectionEventIds.put(electionEventId, Boolean.TRUE));
+		return tenant;
+	}
+
+	/**
+	 * Indexes the given election event under the given tenant, once the current transaction commits.
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @param tenantId        the id of the tenant owning the election event. Must be non-null and valid.
+	 * @throws NullPointerException      if any parameter is null.
+	 * @throws FailedValidationException if any parameter is invalid.
+	 */
+	public void register(final String electionEventId, final String tenantId) {
+		validateUUID(electionEventId);
+		validateTenantId(tenantId);
+
+		final Runnable registration = () -> {
+			tenantIdsByElectionEventId.put(electionEventId, tenantId);
+			unknownElectionEventIds.invalidate(electionEventId);
+		};
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					registration.run();
+				}
+			});
+		} else {
+			registration.run();
+		}
+	}
+
+	/**
+	 * Rebuilds the index from the election events of all the tenants, querying the tenant databases in parallel.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void rebuildIndex() {
+		final List<Tenant> tenants = tenantService.getTenants();
+		final ImmutableList<List<String>> electionEventIdsByTenant = queryTenants(tenants, tenant -> new JdbcTemplate(tenant.dataSource())
+				.queryForList("select ELECTION_EVENT_ID from ELECTION_EVENT", String.class));
+
+		for (int i = 0; i < tenants.size(); i++) {
+			final Tenant tenant = tenants.get(i);
+			final List<String> electionEventIds = electionEventIdsByTenant.get(i);
+			electionEventIds.forEach(electionEventId -> tenantIdsByElectionEventId.put(electionEventId, tenant.id()));
+			LOGGER.info("Indexed the election events of the tenant. [tenantId: {}, electionEvents: {}]", tenant.id(), electionEventIds.size());
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		queryExecutor.shutdown();
+	}
+
+	private Optional<Tenant> lookupTenantFromDatabases(final String electionEventId) {
+		final List<Tenant> tenants = tenantService.getTenants();
+		final ImmutableList<Boolean> owned = queryTenants(tenants, tenant -> {
+			final Integer count = new JdbcTemplate(tenant.dataSource())
+					.queryForObject("select count(*) from ELECTION_EVENT where ELECTION_EVENT_ID = ?", Integer.class, electionEventId);
+			return count != null && count > 0;
+		});
+
+		for (int i = 0; i < tenants.size(); i++) {
+			if (owned.get(i)) {
+				return Optional.of(tenants.get(i));
 			}
 		}
 		return Optional.empty();
 	}
+
+	/**
+	 * Runs the given query against the databases of the given tenants on the query pool and returns the results in the order of the tenants.
+	 */
+	private <T> ImmutableList<T> queryTenants(final List<Tenant> tenants, final Function<Tenant, T> query) {
+		final ImmutableList<CompletableFuture<T>> queries = tenants.stream()
+				.map(tenant -> CompletableFuture.supplyAsync(() -> query.apply(tenant), queryExecutor))
+				.collect(ImmutableList.toImmutableList());
+
+		try {
+			return queries.stream()
+					.map(CompletableFuture::join)
+					.collect(ImmutableList.toImmutableList());
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
 }
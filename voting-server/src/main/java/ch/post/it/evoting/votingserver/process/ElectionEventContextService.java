@@ -30,6 +30,7 @@ import ch.post.it.evoting.evotinglibraries.domain.electoralmodel.VoteTexts;
 import ch.post.it.evoting.evotinglibraries.domain.mixnet.ElectionEventContextPayload;
 import ch.post.it.evoting.evotinglibraries.domain.signature.Alias;
 import ch.post.it.evoting.evotinglibraries.domain.signature.CryptoPrimitivesSignature;
+import ch.post.it.evoting.votingserver.multitenancy.TenantLookupService;
 import ch.post.it.evoting.votingserver.process.votingcardmanagement.ElectionEventDto;
 
 @Service
@@ -42,18 +43,21 @@ public class ElectionEventContextService {
 	private final BallotBoxService ballotBoxService;
 	private final ElectionEventContextRepository electionEventContextRepository;
 	private final SignatureKeystore<Alias> signatureKeystoreService;
+	private final TenantLookupService tenantLookupService;
 
 	public ElectionEventContextService(
 			final ElectionEventService electionEventService,
 			final VerificationCardSetService verificationCardSetService,
 			final BallotBoxService ballotBoxService,
 			final ElectionEventContextRepository electionEventContextRepository,
-			final SignatureKeystore<Alias> signatureKeystoreService) {
+			final SignatureKeystore<Alias> signatureKeystoreService,
+			final TenantLookupService tenantLookupService) {
 		this.electionEventService = electionEventService;
 		this.verificationCardSetService = verificationCardSetService;
 		this.ballotBoxService = ballotBoxService;
 		this.electionEventContextRepository = electionEventContextRepository;
 		this.signatureKeystoreService = signatureKeystoreService;
+		this.tenantLookupService = tenantLookupService;
 	}
 
 	/**
@@ -78,6 +82,7 @@ public class ElectionEventContextService {
 				"The election event period should not be finished yet. [electionEventId: %s]", electionEventId);
 
 		electionEventService.save(electionEventId, electionEventContextPayload.getEncryptionGroup());
+		tenantLookupService.register(electionEventId, electionEventContextPayload.getTenantId());
 
 		electionEventContextRepository.save(createElectionEventContextEntity(electionEventContext));
 		final String startTime = LocalDateTimeUtils.format(electionEventContext.startTime());
@@ -0,0 +1,16 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public record ReturnCodesMappingTableEntryDto(String hashedLongReturnCode,
+											  String encryptedShortReturnCode) {
+
+	public ReturnCodesMappingTableEntryDto {
+		checkNotNull(hashedLongReturnCode);
+		checkNotNull(encryptedShortReturnCode);
+	}
+
+}
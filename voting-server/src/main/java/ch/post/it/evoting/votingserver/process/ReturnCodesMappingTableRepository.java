@@ -4,8 +4,13 @@
 package ch.post.it.evoting.votingserver.process;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,4 +22,9 @@ public interface ReturnCodesMappingTableRepository extends CrudRepository<Return
 	@Query("select e.encryptedShortReturnCode from ReturnCodesMappingTableEntryEntity e where e.verificationCardSetEntity.verificationCardSetId = ?1 and e.hashedLongReturnCode = ?2")
 	Optional<String> findByHashedLongReturnCode(final String verificationCardSetId, final String hashLongReturnCode);
 
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+	@Query("select new ch.post.it.evoting.votingserver.process.ReturnCodesMappingTableEntryDto(e.hashedLongReturnCode, e.encryptedShortReturnCode) "
+			+ "from ReturnCodesMappingTableEntryEntity e where e.verificationCardSetEntity.verificationCardSetId = ?1")
+	Stream<ReturnCodesMappingTableEntryDto> streamAllByVerificationCardSetId(final String verificationCardSetId);
+
 }
@@ -11,6 +11,8 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -87,4 +89,22 @@ public class ReturnCodesMappingTableService {
 		return returnCodesMappingTableRepository.findByHashedLongReturnCode(verificationCardSetId, hashLongReturnCode);
 	}
 
+	/**
+	 * Streams all the entries of the return codes mapping table of the given verification card set to the given consumer, without keeping them in
+	 * the persistence context.
+	 *
+	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
+	 * @param consumer              the consumer of the entries. Must be non-null.
+	 */
+	@Transactional(readOnly = true)
+	public void forEachEntry(final String verificationCardSetId, final Consumer<ReturnCodesMappingTableEntryDto> consumer) {
+		validateUUID(verificationCardSetId);
+		checkNotNull(consumer);
+
+		try (final Stream<ReturnCodesMappingTableEntryDto> entries = returnCodesMappingTableRepository.streamAllByVerificationCardSetId(
+				verificationCardSetId)) {
+			entries.forEach(consumer);
+		}
+	}
+
 }
@@ -67,4 +67,12 @@ public class VerificationCardSetService {
 				.orElseThrow(() -> new IllegalStateException(
 						String.format("Verification card set not found. [verificationCardSetId: %s]", verificationCardSetId)));
 	}
+
+	public ImmutableList<String> getVerificationCardSetIds(final String electionEventId) {
+		validateUUID(electionEventId);
+
+		return verificationCardSetRepository.findAllByElectionEventId(electionEventId).stream()
+				.map(VerificationCardSetEntity::getVerificationCardSetId)
+				.collect(toImmutableList());
+	}
 }
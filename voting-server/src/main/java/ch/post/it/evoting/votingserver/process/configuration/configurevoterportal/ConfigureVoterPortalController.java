@@ -19,15 +19,20 @@ import org.springframework.web.bind.annotation.RestController;
 
 import ch.post.it.evoting.domain.configuration.VoterPortalConfigPayload;
 import ch.post.it.evoting.votingserver.process.ConfigureVoterPortalService;
+import ch.post.it.evoting.votingserver.process.voting.ReturnCodesMappingTableCache;
 
 @RestController
 @RequestMapping("api/v1/configuration/configurevoterportal")
 public class ConfigureVoterPortalController {
 
 	private final ConfigureVoterPortalService configureVoterPortalService;
+	private final ReturnCodesMappingTableCache returnCodesMappingTableCache;
 
-	public ConfigureVoterPortalController(final ConfigureVoterPortalService configureVoterPortalService) {
+	public ConfigureVoterPortalController(
+			final ConfigureVoterPortalService configureVoterPortalService,
+			final ReturnCodesMappingTableCache returnCodesMappingTableCache) {
 		this.configureVoterPortalService = configureVoterPortalService;
+		this.returnCodesMappingTableCache = returnCodesMappingTableCache;
 	}
 
 	@PostMapping("electionevent/{electionEventId}")
@@ -41,6 +46,7 @@ public class ConfigureVoterPortalController {
 		checkState(electionEventId.equals(voterPortalConfigPayload.electionEventId()));
 
 		configureVoterPortalService.saveVoterPortalConfiguration(electionEventId, voterPortalConfigPayload);
+		returnCodesMappingTableCache.warmUp(electionEventId);
 	}
 
 	@GetMapping("electionevent/{electionEventId}")
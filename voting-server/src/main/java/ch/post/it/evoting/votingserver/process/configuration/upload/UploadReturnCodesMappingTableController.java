@@ -31,6 +31,7 @@ import ch.post.it.evoting.evotinglibraries.domain.signature.CryptoPrimitivesSign
 import ch.post.it.evoting.votingserver.idempotence.IdempotenceContext;
 import ch.post.it.evoting.votingserver.idempotence.IdempotenceService;
 import ch.post.it.evoting.votingserver.process.ReturnCodesMappingTableService;
+import ch.post.it.evoting.votingserver.process.voting.ReturnCodesMappingTableCache;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -52,15 +53,18 @@ public class UploadReturnCodesMappingTableController {
 
 	private final SignatureKeystore<Alias> signatureKeystoreService;
 	private final ReturnCodesMappingTableService returnCodesMappingTableService;
+	private final ReturnCodesMappingTableCache returnCodesMappingTableCache;
 
 	private final IdempotenceService<IdempotenceContext> idempotenceService;
 
 	public UploadReturnCodesMappingTableController(
 			final SignatureKeystore<Alias> signatureKeystoreService,
 			final ReturnCodesMappingTableService returnCodesMappingTableService,
+			final ReturnCodesMappingTableCache returnCodesMappingTableCache,
 			final IdempotenceService<IdempotenceContext> idempotenceService) {
 		this.signatureKeystoreService = signatureKeystoreService;
 		this.returnCodesMappingTableService = returnCodesMappingTableService;
+		this.returnCodesMappingTableCache = returnCodesMappingTableCache;
 		this.idempotenceService = idempotenceService;
 	}
 
@@ -89,6 +93,7 @@ public class UploadReturnCodesMappingTableController {
 					idempotenceService.execute(IdempotenceContext.SAVE_RETURN_CODES_MAPPING_TABLE,
 							String.format("%s-%s-%s", electionEventId, verificationCardSetId, setupComponentCMTablePayload.getChunkId()),
 							setupComponentCMTablePayload, () -> returnCodesMappingTableService.save(setupComponentCMTablePayload));
+					returnCodesMappingTableCache.invalidate(verificationCardSetId);
 					LOGGER.info("Successfully saved the return codes mapping table. [electionEventId: {}, verificationCardSetId: {}]",
 							electionEventId, verificationCardSetId);
 				})
@@ -0,0 +1,187 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process.tally.mixdecrypt;
+
+import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.ControlComponentShufflePayload;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.ControlComponentVotesHashPayload;
+
+/**
+ * Keeps, per tenant and ballot box, the deserialized payloads of the online mixing in progress on this instance.
+ * <p>
+ * The next node of the mixing receives the votes hash payloads and the shuffle payloads of the previous nodes. Keeping them in memory saves
+ * reloading and deserializing all the previous shuffle payloads from the database before each hop. The cache is bounded by the estimated heap
+ * size of the payloads held; the payloads are always persisted before being cached, the database therefore acts as the overflow tier: a ballot box evicted
+ * from the cache, or whose previous hop was handled by another instance, is reloaded from the database. Entries are only updated once the
+ * transaction persisting the payloads commits.
+ * </p>
+ */
+@Component
+class MixDecryptPayloadCache {
+
+	// The election event id, ballot box id, node id, hash and signature of a votes hash payload.
+	private static final long ESTIMATED_BYTES_PER_VOTES_HASH_PAYLOAD = 1024;
+	// The BigInteger and GqElement object headers and fields around the magnitude of a group element.
+	private static final long ESTIMATED_BYTES_PER_ELEMENT_OVERHEAD = 64;
+	// A shuffle payload holds the shuffled ciphertexts, the partially decrypted ciphertexts and their decryption proofs, each of about N * (l + 1)
+	// elements. The shuffle argument, of O(N) elements with a smaller constant, is not counted.
+	private static final long ELEMENT_SETS_PER_SHUFFLE_PAYLOAD = 3;
+
+	private final ContextHolder contextHolder;
+	private final Cache<MixingKey, MixingProgress> mixings;
+
+	MixDecryptPayloadCache(
+			final ContextHolder contextHolder,
+			@Value("${mix-decrypt.cache.maximum-size}")
+			final DataSize maximumSize,
+			@Value("${mix-decrypt.cache.expire-after-access}")
+			final Duration expireAfterAccess) {
+		checkNotNull(maximumSize);
+		checkArgument(!maximumSize.isNegative(), "The maximum size of the cache must be positive.");
+		checkNotNull(expireAfterAccess);
+
+		this.contextHolder = contextHolder;
+		this.mixings = Caffeine.newBuilder()
+				.maximumWeight(maximumSize.toBytes())
+				.weigher((final MixingKey key, final MixingProgress progress) -> progress.estimatedBytes())
+				.expireAfterAccess(expireAfterAccess)
+				.build();
+	}
+
+	/**
+	 * Caches the payloads of a ballot box whose mixing starts, once the current transaction commits.
+	 *
+	 * @param electionEventId                   the election event id. Must be non-null and a valid UUID.
+	 * @param ballotBoxId                       the ballot box id. Must be non-null and a valid UUID.
+	 * @param controlComponentVotesHashPayloads the votes hash payloads of the ballot box. Must be non-null.
+	 */
+	void start(final String electionEventId, final String ballotBoxId,
+			final ImmutableList<ControlComponentVotesHashPayload> controlComponentVotesHashPayloads) {
+		checkNotNull(controlComponentVotesHashPayloads);
+
+		put(electionEventId, ballotBoxId, new MixingProgress(controlComponentVotesHashPayloads, ImmutableList.emptyList()));
+	}
+
+	/**
+	 * @param electionEventId          the election event id. Must be non-null and a valid UUID.
+	 * @param ballotBoxId              the ballot box id. Must be non-null and a valid UUID.
+	 * @param numberOfShufflePayloads the expected number of shuffle payloads.
+	 * @return the cached payloads of the ballot box if they hold exactly the given number of shuffle payloads, empty otherwise.
+	 */
+	Optional<MixingProgress> get(final String electionEventId, final String ballotBoxId, final int numberOfShufflePayloads) {
+		return Optional.ofNullable(mixings.getIfPresent(key(electionEventId, ballotBoxId)))
+				.filter(progress -> progress.controlComponentShufflePayloads().size() == numberOfShufflePayloads);
+	}
+
+	/**
+	 * Caches the payloads of a ballot box, replacing the previous ones, once the current transaction commits.
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @param ballotBoxId     the ballot box id. Must be non-null and a valid UUID.
+	 * @param mixingProgress  the payloads of the ballot box. Must be non-null.
+	 */
+	void put(final String electionEventId, final String ballotBoxId, final MixingProgress mixingProgress) {
+		checkNotNull(mixingProgress);
+
+		final MixingKey mixingKey = key(electionEventId, ballotBoxId);
+		afterCommit(() -> mixings.put(mixingKey, mixingProgress));
+	}
+
+	/**
+	 * Discards the payloads of a mixed ballot box, once the current transaction commits.
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @param ballotBoxId     the ballot box id. Must be non-null and a valid UUID.
+	 */
+	void remove(final String electionEventId, final String ballotBoxId) {
+		final MixingKey mixingKey = key(electionEventId, ballotBoxId);
+		afterCommit(() -> mixings.invalidate(mixingKey));
+	}
+
+	private MixingKey key(final String electionEventId, final String ballotBoxId) {
+		return new MixingKey(contextHolder.getTenantId(), validateUUID(electionEventId), validateUUID(ballotBoxId));
+	}
+
+	private static void afterCommit(final Runnable runnable) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					runnable.run();
+				}
+			});
+		} else {
+			runnable.run();
+		}
+	}
+
+	/**
+	 * The payloads sent to the next node of the mixing of a ballot box.
+	 *
+	 * @param controlComponentVotesHashPayloads the votes hash payloads of the ballot box.
+	 * @param controlComponentShufflePayloads   the shuffle payloads of the nodes which already mixed the ballot box, ordered by node id.
+	 */
+	record MixingProgress(ImmutableList<ControlComponentVotesHashPayload> controlComponentVotesHashPayloads,
+						  ImmutableList<ControlComponentShufflePayload> controlComponentShufflePayloads) {
+
+		MixingProgress {
+			checkNotNull(controlComponentVotesHashPayloads);
+			checkNotNull(controlComponentShufflePayloads);
+		}
+
+		/**
+		 * @return a copy of this progress with the given shuffle payload appended.
+		 */
+		MixingProgress append(final ControlComponentShufflePayload controlComponentShufflePayload) {
+			checkNotNull(controlComponentShufflePayload);
+
+			return new MixingProgress(controlComponentVotesHashPayloads, controlComponentShufflePayloads.append(controlComponentShufflePayload));
+		}
+
+		/**
+		 * @return the estimated heap size of the payloads, in bytes, capped to {@link Integer#MAX_VALUE}.
+		 */
+		int estimatedBytes() {
+			final long votesHashPayloadsBytes = controlComponentVotesHashPayloads.size() * ESTIMATED_BYTES_PER_VOTES_HASH_PAYLOAD;
+			final long shufflePayloadsBytes = controlComponentShufflePayloads.stream()
+					.mapToLong(MixingProgress::estimatedBytes)
+					.sum();
+			return (int) Math.min(votesHashPayloadsBytes + shufflePayloadsBytes, Integer.MAX_VALUE);
+		}
+
+		private static long estimatedBytes(final ControlComponentShufflePayload controlComponentShufflePayload) {
+			final long bytesPerElement = controlComponentShufflePayload.getEncryptionGroup().getP().bitLength() / Byte.SIZE
+					+ ESTIMATED_BYTES_PER_ELEMENT_OVERHEAD;
+			final long numberOfCiphertexts = controlComponentShufflePayload.getVerifiableDecryptions().get_N();
+			final long ciphertextSize = controlComponentShufflePayload.getVerifiableDecryptions().get_l() + 1L;
+			return ELEMENT_SETS_PER_SHUFFLE_PAYLOAD * numberOfCiphertexts * ciphertextSize * bytesPerElement;
+		}
+	}
+
+	private record MixingKey(String tenantId, String electionEventId, String ballotBoxId) {
+
+		private MixingKey {
+			checkNotNull(tenantId);
+			checkNotNull(electionEventId);
+			checkNotNull(ballotBoxId);
+		}
+	}
+}
@@ -24,21 +24,32 @@ import ch.post.it.evoting.evotinglibraries.domain.mixnet.ControlComponentVotesHa
 import ch.post.it.evoting.evotinglibraries.domain.tally.ControlComponentBallotBoxPayload;
 import ch.post.it.evoting.votingserver.messaging.MessageHandler;
 import ch.post.it.evoting.votingserver.messaging.Serializer;
-
+import ch.post.it.evoting.votingserver.process.tally.mixdecrypt.MixDecryptPayloadCache.MixingProgress;
+
+/**
+ * Orchestrates the online mixing of a ballot box, node after node.
+ * <p>
+ * The payloads sent to the next node are taken from the {@link MixDecryptPayloadCache} when the previous hop was handled by this instance, and are
+ * reloaded from the database otherwise. The request to the next node is sent as soon as the response of the current node is persisted.
+ * </p>
+ */
 @Service
 public class MixDecryptService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MixDecryptService.class);
 	private final Serializer serializer;
 	private final MessageHandler messageHandler;
+	private final MixDecryptPayloadCache mixDecryptPayloadCache;
 	private final MixDecryptOnlinePayloadService mixDecryptOnlinePayloadService;
 
 	public MixDecryptService(
 			final Serializer serializer,
 			final MessageHandler messageHandler,
+			final MixDecryptPayloadCache mixDecryptPayloadCache,
 			final MixDecryptOnlinePayloadService mixDecryptOnlinePayloadService) {
 		this.serializer = serializer;
 		this.messageHandler = messageHandler;
+		this.mixDecryptPayloadCache = mixDecryptPayloadCache;
 		this.mixDecryptOnlinePayloadService = mixDecryptOnlinePayloadService;
 	}
 
@@ -57,6 +68,7 @@ public class MixDecryptService {
 
 		LOGGER.info("Starting mixing. [electionEventId: {}, ballotBoxId: {}]", electionEventId, ballotBoxId);
 
+		mixDecryptPayloadCache.start(electionEventId, ballotBoxId, controlComponentVotesHashPayloads);
 		messageHandler.sendMessage(mixDecryptOnlineRequestPayload, initialNodeId);
 	}
 
@@ -85,15 +97,21 @@ public class MixDecryptService {
 		// Check mixing progress
 		if (nodeId < ControlComponentNode.ids().size()) {
 
-			// Prepare request for the next node
-			final ImmutableList<ControlComponentShufflePayload> shufflePayloads = mixDecryptOnlinePayloadService.getControlComponentShufflePayloadsOrderByNodeId(
-					electionEventId, ballotBoxId);
-			final ImmutableList<ControlComponentVotesHashPayload> controlComponentVotesHashPayloads = mixDecryptOnlinePayloadService.getControlComponentVotesHashPayloads(
-					electionEventId, ballotBoxId);
+			// Prepare request for the next node, from the cache if the previous nodes' payloads are held by this instance.
+			final MixingProgress mixingProgress = mixDecryptPayloadCache.get(electionEventId, ballotBoxId, nodeId - 1)
+					.map(progress -> progress.append(controlComponentShufflePayload))
+					.orElseGet(() -> {
+						LOGGER.debug("Reloading the mixing payloads from the database. [electionEventId:{}, ballotBoxId:{}, correlationId:{}]",
+								electionEventId, ballotBoxId, correlationId);
+						return new MixingProgress(
+								mixDecryptOnlinePayloadService.getControlComponentVotesHashPayloads(electionEventId, ballotBoxId),
+								mixDecryptOnlinePayloadService.getControlComponentShufflePayloadsOrderByNodeId(electionEventId, ballotBoxId));
+					});
+			mixDecryptPayloadCache.put(electionEventId, ballotBoxId, mixingProgress);
 
 			final int nextNodeId = nodeId + 1;
 			final MixDecryptOnlineRequestPayload mixDecryptOnlineRequestPayload = new MixDecryptOnlineRequestPayload(electionEventId, ballotBoxId,
-					nextNodeId, controlComponentVotesHashPayloads, shufflePayloads);
+					nextNodeId, mixingProgress.controlComponentVotesHashPayloads(), mixingProgress.controlComponentShufflePayloads());
 
 			messageHandler.sendMessage(mixDecryptOnlineRequestPayload, correlationId, nextNodeId);
 			LOGGER.info("Sent next mixing request to node {} [electionEventId:{}, ballotBoxId:{}, correlationId:{}]", nextNodeId, electionEventId,
@@ -102,6 +120,7 @@ public class MixDecryptService {
 		} else {
 
 			// All nodes have sent a response, process is completed
+			mixDecryptPayloadCache.remove(electionEventId, ballotBoxId);
 			LOGGER.info("Successfully mixed the ballot box. [electionEventId:{}, ballotBoxId:{}, correlationId:{}]", electionEventId, ballotBoxId,
 					correlationId);
 
@@ -0,0 +1,168 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process.voting;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.security.SignatureException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
+import ch.post.it.evoting.cryptoprimitives.signing.SignatureKeystore;
+import ch.post.it.evoting.domain.InvalidPayloadSignatureException;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
+import ch.post.it.evoting.evotinglibraries.domain.signature.Alias;
+import ch.post.it.evoting.evotinglibraries.domain.signature.CryptoPrimitivesSignature;
+import ch.post.it.evoting.evotinglibraries.domain.signature.SignedControlComponentPayload;
+
+/**
+ * Verifies the signatures of the payloads returned by the control components.
+ * <p>
+ * The payloads of the different nodes are verified in parallel, each signature verification recursively hashing its payload. The tenant of the
+ * calling thread is propagated to the verifying threads, the signature keystore being routed by tenant.
+ * </p>
+ * <p>
+ * The successfully verified signatures are kept in a bounded cache, keyed by tenant, signer alias, recursive hash of the payload and its additional
+ * context data, and signature. A payload received again, such as the replayed response of a control component to a retried request, is then only
+ * hashed and not verified again. Failed verifications are not cached.
+ * </p>
+ */
+@Service
+public class ControlComponentSignatureVerificationService {
+
+	private final SignatureKeystore<Alias> signatureKeystoreService;
+	private final ContextHolder contextHolder;
+	private final ExecutorService verificationExecutor;
+	private final Hash hash;
+	private final Cache<VerifiedSignatureKey, Boolean> verifiedSignatures;
+
+	public ControlComponentSignatureVerificationService(
+			final SignatureKeystore<Alias> signatureKeystoreService,
+			final ContextHolder contextHolder,
+			final Hash hash,
+			@Value("${control-component-signature-verification.parallelism}")
+			final int parallelism,
+			@Value("${control-component-signature-verification.cache.maximum-size}")
+			final long maximumSize) {
+		checkArgument(parallelism >= 0, "The parallelism must be positive. [parallelism: %s]", parallelism);
+		checkArgument(maximumSize >= 0, "The maximum size must be positive. [maximumSize: %s]", maximumSize);
+
+		this.signatureKeystoreService = signatureKeystoreService;
+		this.contextHolder = contextHolder;
+		this.hash = hash;
+		this.verifiedSignatures = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.build();
+		this.verificationExecutor = Executors.newFixedThreadPool(parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism,
+				Thread.ofPlatform().name("cc-signature-verifier-", 0).daemon().factory());
+	}
+
+	/**
+	 * Verifies, in parallel, the signatures of the given control component payloads. When several payloads fail the verification, the failure of
+	 * the first one in the list is thrown.
+	 *
+	 * @param payloads                     the payloads of the control components. Must be non-null.
+	 * @param payloadDescription           the description of the payloads, for error messages. Must be non-null.
+	 * @param additionalContextDataFactory the factory of the additional context data of the signature of a node, given its node id. Must be
+	 *                                     non-null.
+	 * @param contextIds                   the context ids of the payloads, for error messages. Must be non-null.
+	 * @param <T>                          the type of the payloads.
+	 * @throws NullPointerException             if any parameter is null.
+	 * @throws IllegalStateException            if a payload is not signed or if a signature cannot be verified.
+	 * @throws InvalidPayloadSignatureException if a signature is invalid.
+	 */
+	public <T extends SignedControlComponentPayload> void verifySignatures(final ImmutableList<T> payloads, final String payloadDescription,
+			final IntFunction<Hashable> additionalContextDataFactory, final ContextIds contextIds) {
+		checkNotNull(payloads);
+		checkNotNull(payloadDescription);
+		checkNotNull(additionalContextDataFactory);
+		checkNotNull(contextIds);
+
+		final String tenantId = contextHolder.getTenantId();
+		final ImmutableList<CompletableFuture<Void>> verifications = payloads.stream()
+				.map(payload -> CompletableFuture.runAsync(() -> {
+					contextHolder.setTenantId(tenantId);
+					try {
+						verifySignature(payload, payloadDescription, additionalContextDataFactory, contextIds);
+					} finally {
+						contextHolder.clear();
+					}
+				}, verificationExecutor))
+				.collect(ImmutableList.toImmutableList());
+
+		// Joined in order, so that the reported failure does not depend on the scheduling of the verifications.
+		for (final CompletableFuture<Void> verification : verifications) {
+			try {
+				verification.join();
+			} catch (final CompletionException e) {
+				if (e.getCause() instanceof final RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw e;
+			}
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		verificationExecutor.shutdown();
+	}
+
+	private <T extends SignedControlComponentPayload> void verifySignature(final T payload, final String payloadDescription,
+			final IntFunction<Hashable> additionalContextDataFactory, final ContextIds contextIds) {
+		final int nodeId = payload.getNodeId();
+		final CryptoPrimitivesSignature signature = payload.getSignature();
+
+		checkState(signature != null, "The signature of the %s is null. [nodeId: %s, contextIds: %s]", payloadDescription, nodeId, contextIds);
+
+		final Alias alias = Alias.getControlComponentByNodeId(nodeId);
+		final Hashable additionalContextData = additionalContextDataFactory.apply(nodeId);
+		final VerifiedSignatureKey verifiedSignatureKey = new VerifiedSignatureKey(contextHolder.getTenantId(), alias,
+				hash.recursiveHash(payload, additionalContextData), signature.signatureContents());
+		if (verifiedSignatures.getIfPresent(verifiedSignatureKey) != null) {
+			return;
+		}
+
+		final boolean isSignatureValid;
+		try {
+			isSignatureValid = signatureKeystoreService.verifySignature(alias, payload, additionalContextData, signature.signatureContents());
+		} catch (final SignatureException e) {
+			throw new IllegalStateException(String.format("Could not verify the signature of the %s. [nodeId: %s, contextIds: %s]", payloadDescription,
+					nodeId, contextIds), e);
+		}
+
+		if (!isSignatureValid) {
+			throw new InvalidPayloadSignatureException(payload.getClass(), String.format("[nodeId: %s, contextIds: %s]", nodeId, contextIds));
+		}
+		verifiedSignatures.put(verifiedSignatureKey, Boolean.TRUE);
+	}
+
+	private record VerifiedSignatureKey(String tenantId, Alias alias, ImmutableByteArray payloadHash, ImmutableByteArray signature) {
+
+		private VerifiedSignatureKey {
+			checkNotNull(tenantId);
+			checkNotNull(alias);
+			checkNotNull(payloadHash);
+			checkNotNull(signature);
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process.voting;
+
+import static ch.post.it.evoting.domain.DigestRecords.DIGEST_LENGTH;
+import static ch.post.it.evoting.domain.DigestRecords.RECORD_LENGTH;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+import ch.post.it.evoting.domain.DigestRecords;
+
+/**
+ * In-memory Return Codes Mapping Table of a verification card set.
+ * <p>
+ * The keys of the table are the base64 encodings of 32-byte hashes. They are kept as sorted {@link DigestRecords}, allowing a lookup by binary
+ * search. The encrypted Short Return Codes are kept as ASCII bytes in a single array, so that the table holds a few primitive arrays instead of one
+ * object per entry.
+ * </p>
+ */
+public final class InMemoryReturnCodesMappingTable implements ReturnCodesMappingTable {
+
+	private final LongBuffer keys;
+	private final int[] valueIndexes;
+	private final int[] valueOffsets;
+	private final byte[] values;
+	private final int size;
+
+	private InMemoryReturnCodesMappingTable(final LongBuffer keys, final int[] valueIndexes, final int[] valueOffsets, final byte[] values,
+			final int size) {
+		this.keys = keys;
+		this.valueIndexes = valueIndexes;
+		this.valueOffsets = valueOffsets;
+		this.values = values;
+		this.size = size;
+	}
+
+	@Override
+	public Optional<String> get(final String hashedLongReturnCode) {
+		checkNotNull(hashedLongReturnCode);
+
+		final long[] key = DigestRecords.decode(hashedLongReturnCode);
+		if (key == null) {
+			return Optional.empty();
+		}
+
+		final int index = DigestRecords.binarySearch(keys, size, key);
+		if (index < 0) {
+			return Optional.empty();
+		}
+
+		final int valueIndex = valueIndexes[index];
+		final int offset = valueOffsets[valueIndex];
+		return Optional.of(new String(values, offset, valueOffsets[valueIndex + 1] - offset, StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * @return the number of entries of this table.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the approximate number of bytes used to store this table.
+	 */
+	public int sizeInBytes() {
+		return size * DIGEST_LENGTH + size * Integer.BYTES * 2 + valueOffsets[size];
+	}
+
+	/**
+	 * Builds an {@link InMemoryReturnCodesMappingTable} from entries added in any order. A builder is not thread-safe and can be built only once.
+	 */
+	public static class Builder {
+
+		private long[] keys = new long[1024 * RECORD_LENGTH];
+		private int[] valueOffsets = new int[1025];
+		private byte[] values = new byte[1024 * 48];
+		private int size;
+		private boolean built;
+
+		/**
+		 * Adds an entry to the table.
+		 *
+		 * @param hashedLongReturnCode     the base64 encoded hashed Long Return Code. Must be non-null and the base64 encoding of a 32-byte hash.
+		 * @param encryptedShortReturnCode the base64 encoded encrypted Short Return Code. Must be non-null.
+		 * @throws NullPointerException     if any parameter is null.
+		 * @throws IllegalArgumentException if the hashed Long Return Code is not the base64 encoding of a 32-byte hash or if the table is too large.
+		 * @throws IllegalStateException    if the table has already been built.
+		 */
+		public Builder add(final String hashedLongReturnCode, final String encryptedShortReturnCode) {
+			checkNotNull(hashedLongReturnCode);
+			checkNotNull(encryptedShortReturnCode);
+			checkState(!built, "The table has already been built.");
+
+			final long[] key = DigestRecords.decode(hashedLongReturnCode);
+			checkArgument(key != null, "The hashed Long Return Code is not the base64 encoding of a %s-byte hash.", DIGEST_LENGTH);
+			final byte[] value = encryptedShortReturnCode.getBytes(StandardCharsets.US_ASCII);
+			checkArgument((long) valueOffsets[size] + value.length <= Integer.MAX_VALUE && (long) (size + 1) * RECORD_LENGTH <= Integer.MAX_VALUE,
+					"Too many entries. [size: %s]", size);
+
+			if ((size + 1) * RECORD_LENGTH > keys.length) {
+				keys = Arrays.copyOf(keys, (int) Math.min((long) keys.length * 2, Integer.MAX_VALUE - 8));
+				valueOffsets = Arrays.copyOf(valueOffsets, keys.length / RECORD_LENGTH + 1);
+			}
+			final int valueOffset = valueOffsets[size];
+			if (valueOffset + value.length > values.length) {
+				values = Arrays.copyOf(values, (int) Math.min(Math.max((long) values.length * 2, (long) valueOffset + value.length),
+						Integer.MAX_VALUE - 8));
+			}
+
+			System.arraycopy(key, 0, keys, size * RECORD_LENGTH, RECORD_LENGTH);
+			System.arraycopy(value, 0, values, valueOffset, value.length);
+			valueOffsets[++size] = valueOffset + value.length;
+
+			return this;
+		}
+
+		/**
+		 * Sorts the added entries and builds the table.
+		 *
+		 * @throws IllegalStateException if the table has already been built.
+		 */
+		public InMemoryReturnCodesMappingTable build() {
+			checkState(!built, "The table has already been built.");
+			built = true;
+
+			final long[] sortedKeys = Arrays.copyOf(keys, size * RECORD_LENGTH);
+			final int[] valueIndexes = new int[size];
+			for (int i = 0; i < size; i++) {
+				valueIndexes[i] = i;
+			}
+			DigestRecords.sort(sortedKeys, valueIndexes, size);
+
+			final InMemoryReturnCodesMappingTable table = new InMemoryReturnCodesMappingTable(LongBuffer.wrap(sortedKeys), valueIndexes,
+					Arrays.copyOf(valueOffsets, size + 1), Arrays.copyOf(values, valueOffsets[size]), size);
+			keys = null;
+			valueOffsets = null;
+			values = null;
+			return table;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process.voting;
+
+import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+import ch.post.it.evoting.votingserver.process.ReturnCodesMappingTableService;
+import ch.post.it.evoting.votingserver.process.VerificationCardSetService;
+
+/**
+ * Bounded cache of the in-memory Return Codes Mapping Tables, one per verification card set and tenant.
+ * <p>
+ * A table is loaded from the database in the background, either on the first lookup of its verification card set or when the voter portal of its
+ * election event is configured, if the warm-up is enabled. Until the table is loaded, and if it does not fit in the cache, callers must fall back
+ * to the database. The cache is disabled if its maximum size is zero.
+ * </p>
+ */
+@Service
+public class ReturnCodesMappingTableCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReturnCodesMappingTableCache.class);
+
+	private final ReturnCodesMappingTableService returnCodesMappingTableService;
+	private final VerificationCardSetService verificationCardSetService;
+	private final ContextHolder contextHolder;
+	private final long maximumSizeBytes;
+	private final boolean enabled;
+	private final boolean warmUp;
+	private final Set<CacheKey> oversizedTables = ConcurrentHashMap.newKeySet();
+	private final AsyncLoadingCache<CacheKey, InMemoryReturnCodesMappingTable> tables;
+
+	public ReturnCodesMappingTableCache(
+			final ReturnCodesMappingTableService returnCodesMappingTableService,
+			final VerificationCardSetService verificationCardSetService,
+			final ContextHolder contextHolder,
+			@Value("${return-codes-mapping-table.cache.maximum-size-bytes}")
+			final long maximumSizeBytes,
+			@Value("${return-codes-mapping-table.cache.warm-up}")
+			final boolean warmUp) {
+		checkArgument(maximumSizeBytes >= 0, "The maximum size of the return codes mapping table cache must be positive.");
+
+		this.returnCodesMappingTableService = returnCodesMappingTableService;
+		this.verificationCardSetService = verificationCardSetService;
+		this.contextHolder = contextHolder;
+		this.maximumSizeBytes = maximumSizeBytes;
+		this.enabled = maximumSizeBytes > 0;
+		this.warmUp = warmUp;
+		// A single loading thread bounds the load put on the database and the transient memory of the tables being built.
+		final Executor loadingExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("cmtable-loader").daemon().factory());
+		this.tables = Caffeine.newBuilder()
+				.maximumWeight(maximumSizeBytes)
+				.<CacheKey, InMemoryReturnCodesMappingTable>weigher((cacheKey, table) -> table.sizeInBytes())
+				.executor(loadingExecutor)
+				.buildAsync(this::load);
+	}
+
+	/**
+	 * Gets the in-memory Return Codes Mapping Table of the given verification card set, triggering its loading in the background if needed.
+	 *
+	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
+	 * @return the in-memory table, or an empty optional if the cache is disabled or if the table is not loaded yet.
+	 * @throws NullPointerException      if the verification card set id is null.
+	 * @throws FailedValidationException if the verification card set id is not a valid UUID.
+	 */
+	public Optional<ReturnCodesMappingTable> get(final String verificationCardSetId) {
+		validateUUID(verificationCardSetId);
+
+		if (!enabled) {
+			return Optional.empty();
+		}
+
+		final CacheKey cacheKey = new CacheKey(contextHolder.getTenantId(), verificationCardSetId);
+		if (oversizedTables.contains(cacheKey)) {
+			return Optional.empty();
+		}
+
+		final CompletableFuture<InMemoryReturnCodesMappingTable> table = tables.get(cacheKey);
+		return table.isDone() && !table.isCompletedExceptionally() ? Optional.ofNullable(table.join()) : Optional.empty();
+	}
+
+	/**
+	 * Triggers the loading in the background of the Return Codes Mapping Tables of all the verification card sets of the given election event, if
+	 * the warm-up is enabled.
+	 *
+	 * @param electionEventId the election event id. Must be non-null and a valid UUID.
+	 * @throws NullPointerException      if the election event id is null.
+	 * @throws FailedValidationException if the election event id is not a valid UUID.
+	 */
+	public void warmUp(final String electionEventId) {
+		validateUUID(electionEventId);
+
+		if (!enabled || !warmUp) {
+			return;
+		}
+
+		final String tenantId = contextHolder.getTenantId();
+		verificationCardSetService.getVerificationCardSetIds(electionEventId)
+				.forEach(verificationCardSetId -> tables.get(new CacheKey(tenantId, verificationCardSetId)));
+		LOGGER.info("Return codes mapping tables warm-up triggered. [electionEventId: {}]", electionEventId);
+	}
+
+	/**
+	 * Discards the in-memory Return Codes Mapping Table of the given verification card set, for instance because new entries were saved.
+	 *
+	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
+	 * @throws NullPointerException      if the verification card set id is null.
+	 * @throws FailedValidationException if the verification card set id is not a valid UUID.
+	 */
+	public void invalidate(final String verificationCardSetId) {
+		validateUUID(verificationCardSetId);
+
+		final CacheKey cacheKey = new CacheKey(contextHolder.getTenantId(), verificationCardSetId);
+		oversizedTables.remove(cacheKey);
+		tables.synchronous().invalidate(cacheKey);
+	}
+
+	private InMemoryReturnCodesMappingTable load(final CacheKey cacheKey) {
+		contextHolder.setTenantId(cacheKey.tenantId());
+		try {
+			final InMemoryReturnCodesMappingTable.Builder builder = new InMemoryReturnCodesMappingTable.Builder();
+			returnCodesMappingTableService.forEachEntry(cacheKey.verificationCardSetId(),
+					entry -> builder.add(entry.hashedLongReturnCode(), entry.encryptedShortReturnCode()));
+			final InMemoryReturnCodesMappingTable table = builder.build();
+
+			if (table.sizeInBytes() > maximumSizeBytes) {
+				// Not cached, otherwise every lookup would reload the table only for it to be evicted right away.
+				oversizedTables.add(cacheKey);
+				LOGGER.warn("Return codes mapping table too large for the cache. [verificationCardSetId: {}, bytes: {}, maximumSizeBytes: {}]",
+						cacheKey.verificationCardSetId(), table.sizeInBytes(), maximumSizeBytes);
+				return null;
+			}
+
+			LOGGER.info("Loaded return codes mapping table in memory. [verificationCardSetId: {}, size: {}, bytes: {}]",
+					cacheKey.verificationCardSetId(), table.size(), table.sizeInBytes());
+			return table;
+		} catch (final RuntimeException e) {
+			LOGGER.warn("Failed to load return codes mapping table in memory. [verificationCardSetId: {}]", cacheKey.verificationCardSetId(), e);
+			throw e;
+		} finally {
+			contextHolder.clear();
+		}
+	}
+
+	private record CacheKey(String tenantId, String verificationCardSetId) {
+
+		private CacheKey {
+			checkNotNull(tenantId);
+			checkNotNull(verificationCardSetId);
+		}
+	}
+}
@@ -6,22 +6,29 @@ package ch.post.it.evoting.votingserver.process.voting;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 
 import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
 import ch.post.it.evoting.votingserver.process.ReturnCodesMappingTableService;
 
 /**
- * Provides a {@link ReturnCodesMappingTable} associated to a particular verification card set. The Return Codes Mapping Table is backed by the
- * database.
+ * Provides a {@link ReturnCodesMappingTable} associated to a particular verification card set. The Return Codes Mapping Table is served from the
+ * {@link ReturnCodesMappingTableCache} once loaded in memory and backed by the database otherwise. Entries missing from the in-memory table are
+ * also looked up in the database, so that a table loaded before all its entries were saved never hides an entry.
  */
 @Service
 public class ReturnCodesMappingTableSupplier {
 
 	private final ReturnCodesMappingTableService returnCodesMappingTableService;
+	private final ReturnCodesMappingTableCache returnCodesMappingTableCache;
 
-	public ReturnCodesMappingTableSupplier(final ReturnCodesMappingTableService returnCodesMappingTableService) {
+	public ReturnCodesMappingTableSupplier(
+			final ReturnCodesMappingTableService returnCodesMappingTableService,
+			final ReturnCodesMappingTableCache returnCodesMappingTableCache) {
 		this.returnCodesMappingTableService = returnCodesMappingTableService;
+		this.returnCodesMappingTableCache = returnCodesMappingTableCache;
 	}
 
 	/**
@@ -35,10 +42,13 @@ public class ReturnCodesMappingTableSupplier {
 	public ReturnCodesMappingTable get(final String verificationCardSetId) {
 		validateUUID(verificationCardSetId);
 
+		final Optional<ReturnCodesMappingTable> inMemoryReturnCodesMappingTable = returnCodesMappingTableCache.get(verificationCardSetId);
+
 		return hashedLongReturnCode -> {
 			checkNotNull(hashedLongReturnCode);
 
-			return returnCodesMappingTableService.getEncryptedShortReturnCode(verificationCardSetId, hashedLongReturnCode);
+			return inMemoryReturnCodesMappingTable.flatMap(table -> table.get(hashedLongReturnCode))
+					.or(() -> returnCodesMappingTableService.getEncryptedShortReturnCode(verificationCardSetId, hashedLongReturnCode));
 		};
 	}
 
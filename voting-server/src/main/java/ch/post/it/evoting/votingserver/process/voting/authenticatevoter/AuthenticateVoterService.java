@@ -10,42 +10,32 @@ import org.springframework.stereotype.Service;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 import ch.post.it.evoting.domain.configuration.SetupComponentVoterAuthenticationData;
 import ch.post.it.evoting.domain.configuration.VerificationCardKeystore;
-import ch.post.it.evoting.evotinglibraries.domain.election.PrimesMappingTable;
 import ch.post.it.evoting.evotinglibraries.domain.election.VerificationCardState;
 import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
-import ch.post.it.evoting.votingserver.process.BallotBoxService;
-import ch.post.it.evoting.votingserver.process.ElectionEventContextService;
 import ch.post.it.evoting.votingserver.process.ElectionEventContextService.VotesElectionsTexts;
-import ch.post.it.evoting.votingserver.process.SetupComponentPublicKeysService;
 import ch.post.it.evoting.votingserver.process.SetupComponentVerificationCardKeystoreService;
 import ch.post.it.evoting.votingserver.process.SetupComponentVoterAuthenticationDataPayloadService;
 import ch.post.it.evoting.votingserver.process.VerificationCardService;
-import ch.post.it.evoting.votingserver.process.VotingClientPublicKeys;
 import ch.post.it.evoting.votingserver.process.voting.VoterAuthenticationData;
+import ch.post.it.evoting.votingserver.process.voting.authenticatevoter.VerificationCardSetMaterialCache.VerificationCardSetMaterial;
 
 @Service
 public class AuthenticateVoterService {
 
 	private final VerificationCardService verificationCardService;
-	private final ElectionEventContextService electionEventContextService;
 	private final SetupComponentVoterAuthenticationDataPayloadService setupComponentVoterAuthenticationDataPayloadService;
-	private final SetupComponentPublicKeysService setupComponentPublicKeysService;
 	private final SetupComponentVerificationCardKeystoreService setupComponentVerificationCardKeystoreService;
-	private final BallotBoxService ballotBoxService;
+	private final VerificationCardSetMaterialCache verificationCardSetMaterialCache;
 
 	public AuthenticateVoterService(
 			final VerificationCardService verificationCardService,
-			final ElectionEventContextService electionEventContextService,
 			final SetupComponentVoterAuthenticationDataPayloadService setupComponentVoterAuthenticationDataPayloadService,
-			final SetupComponentPublicKeysService setupComponentPublicKeysService,
 			final SetupComponentVerificationCardKeystoreService setupComponentVerificationCardKeystoreService,
-			final BallotBoxService ballotBoxService) {
+			final VerificationCardSetMaterialCache verificationCardSetMaterialCache) {
 		this.verificationCardService = verificationCardService;
-		this.electionEventContextService = electionEventContextService;
 		this.setupComponentVoterAuthenticationDataPayloadService = setupComponentVoterAuthenticationDataPayloadService;
-		this.setupComponentPublicKeysService = setupComponentPublicKeysService;
 		this.setupComponentVerificationCardKeystoreService = setupComponentVerificationCardKeystoreService;
-		this.ballotBoxService = ballotBoxService;
+		this.verificationCardSetMaterialCache = verificationCardSetMaterialCache;
 	}
 
 	/**
@@ -77,24 +67,22 @@ public class AuthenticateVoterService {
 
 		return switch (verificationCardState) {
 			case INITIAL -> {
-				final VotesElectionsTexts verificationCardSetTexts = electionEventContextService.getVerificationCardSetTexts(
-						electionEventId, verificationCardSetId);
+				final VerificationCardSetMaterial verificationCardSetMaterial = verificationCardSetMaterialCache.get(electionEventId,
+						verificationCardSetId);
+				final VotesElectionsTexts verificationCardSetTexts = verificationCardSetMaterial.verificationCardSetTexts();
 				final VoterMaterial voterMaterial = new VoterMaterial(verificationCardSetTexts.votesTexts(),
 						verificationCardSetTexts.electionsTexts());
 
 				final VerificationCardKeystore verificationCardKeystore = setupComponentVerificationCardKeystoreService.loadVerificationCardKeystore(
 						electionEventId, verificationCardSetId, verificationCardId);
 
-				final VotingClientPublicKeys votingClientPublicKeys = setupComponentPublicKeysService.getVotingClientPublicKeys(electionEventId);
-
-				final PrimesMappingTable primesMappingTable = ballotBoxService.getPrimesMappingTableByVerificationCardSetId(verificationCardSetId);
-
 				yield new AuthenticateVoterResponsePayload(verificationCardState, voterMaterial, voterAuthenticationData, verificationCardKeystore,
-						votingClientPublicKeys, primesMappingTable);
+						verificationCardSetMaterial.votingClientPublicKeys(), verificationCardSetMaterial.primesMappingTable());
 			}
 			case SENT -> {
-				final VotesElectionsTexts verificationCardSetTexts = electionEventContextService.getVerificationCardSetTexts(
-						electionEventId, verificationCardSetId);
+				final VerificationCardSetMaterial verificationCardSetMaterial = verificationCardSetMaterialCache.get(electionEventId,
+						verificationCardSetId);
+				final VotesElectionsTexts verificationCardSetTexts = verificationCardSetMaterial.verificationCardSetTexts();
 				final ImmutableList<String> shortChoiceReturnCodes = verificationCardService.getShortChoiceReturnCodes(credentialId);
 				final VoterMaterial voterMaterial = new VoterMaterial(verificationCardSetTexts.votesTexts(),
 						verificationCardSetTexts.electionsTexts(), shortChoiceReturnCodes);
@@ -102,12 +90,8 @@ public class AuthenticateVoterService {
 				final VerificationCardKeystore verificationCardKeystore = setupComponentVerificationCardKeystoreService.loadVerificationCardKeystore(
 						electionEventId, verificationCardSetId, verificationCardId);
 
-				final VotingClientPublicKeys votingClientPublicKeys = setupComponentPublicKeysService.getVotingClientPublicKeys(electionEventId);
-
-				final PrimesMappingTable primesMappingTable = ballotBoxService.getPrimesMappingTableByVerificationCardSetId(verificationCardSetId);
-
 				yield new AuthenticateVoterResponsePayload(verificationCardState, voterMaterial, voterAuthenticationData, verificationCardKeystore,
-						votingClientPublicKeys, primesMappingTable);
+						verificationCardSetMaterial.votingClientPublicKeys(), verificationCardSetMaterial.primesMappingTable());
 			}
 			case CONFIRMED -> {
 				final VoterMaterial voterMaterial = new VoterMaterial(verificationCardService.getShortVoteCastReturnCode(credentialId));
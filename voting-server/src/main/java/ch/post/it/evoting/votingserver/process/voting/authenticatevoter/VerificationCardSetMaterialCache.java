@@ -0,0 +1,126 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process.voting.authenticatevoter;
+
+import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.election.PrimesMappingTable;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+import ch.post.it.evoting.votingserver.process.BallotBoxService;
+import ch.post.it.evoting.votingserver.process.ElectionEventContextService;
+import ch.post.it.evoting.votingserver.process.ElectionEventContextService.VotesElectionsTexts;
+import ch.post.it.evoting.votingserver.process.SetupComponentPublicKeysService;
+import ch.post.it.evoting.votingserver.process.VotingClientPublicKeys;
+
+/**
+ * Bounded cache of the part of the authenticate voter response that is identical for all the voters of a verification card set: the texts, the
+ * voting client public keys and the primes mapping table.
+ * <p>
+ * This material is immutable once the election event is configured. Caching it avoids reading and deserializing the election event context, the
+ * setup component public keys and the primes mapping table on every login.
+ * </p>
+ */
+@Service
+public class VerificationCardSetMaterialCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VerificationCardSetMaterialCache.class);
+
+	private final ElectionEventContextService electionEventContextService;
+	private final SetupComponentPublicKeysService setupComponentPublicKeysService;
+	private final BallotBoxService ballotBoxService;
+	private final ContextHolder contextHolder;
+	private final Cache<CacheKey, VerificationCardSetMaterial> materials;
+
+	public VerificationCardSetMaterialCache(
+			final ElectionEventContextService electionEventContextService,
+			final SetupComponentPublicKeysService setupComponentPublicKeysService,
+			final BallotBoxService ballotBoxService,
+			final ContextHolder contextHolder,
+			@Value("${authenticate-voter.cache.maximum-size}")
+			final long maximumSize,
+			@Value("${authenticate-voter.cache.expire-after-write}")
+			final Duration expireAfterWrite) {
+		checkArgument(maximumSize >= 0, "The maximum size of the verification card set material cache must be positive.");
+		checkNotNull(expireAfterWrite);
+
+		this.electionEventContextService = electionEventContextService;
+		this.setupComponentPublicKeysService = setupComponentPublicKeysService;
+		this.ballotBoxService = ballotBoxService;
+		this.contextHolder = contextHolder;
+		this.materials = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(expireAfterWrite)
+				.build();
+	}
+
+	/**
+	 * Gets the material of the given verification card set, loading it from the database on first access.
+	 *
+	 * @param electionEventId       the election event id. Must be non-null and a valid UUID.
+	 * @param verificationCardSetId the verification card set id. Must be non-null and a valid UUID.
+	 * @return the material of the verification card set.
+	 * @throws NullPointerException      if any parameter is null.
+	 * @throws FailedValidationException if any parameter is not a valid UUID.
+	 */
+	public VerificationCardSetMaterial get(final String electionEventId, final String verificationCardSetId) {
+		validateUUID(electionEventId);
+		validateUUID(verificationCardSetId);
+
+		return materials.get(new CacheKey(contextHolder.getTenantId(), electionEventId, verificationCardSetId), this::load);
+	}
+
+	private VerificationCardSetMaterial load(final CacheKey cacheKey) {
+		final String electionEventId = cacheKey.electionEventId();
+		final String verificationCardSetId = cacheKey.verificationCardSetId();
+
+		final VerificationCardSetMaterial verificationCardSetMaterial = new VerificationCardSetMaterial(
+				electionEventContextService.getVerificationCardSetTexts(electionEventId, verificationCardSetId),
+				setupComponentPublicKeysService.getVotingClientPublicKeys(electionEventId),
+				ballotBoxService.getPrimesMappingTableByVerificationCardSetId(verificationCardSetId));
+
+		LOGGER.info("Loaded verification card set material. [electionEventId: {}, verificationCardSetId: {}]", electionEventId,
+				verificationCardSetId);
+		return verificationCardSetMaterial;
+	}
+
+	/**
+	 * The part of the authenticate voter response common to all the voters of a verification card set.
+	 *
+	 * @param verificationCardSetTexts the votes and elections texts of the verification card set.
+	 * @param votingClientPublicKeys   the voting client public keys of the election event.
+	 * @param primesMappingTable       the primes mapping table of the verification card set.
+	 */
+	public record VerificationCardSetMaterial(VotesElectionsTexts verificationCardSetTexts,
+											  VotingClientPublicKeys votingClientPublicKeys,
+											  PrimesMappingTable primesMappingTable) {
+
+		public VerificationCardSetMaterial {
+			checkNotNull(verificationCardSetTexts);
+			checkNotNull(votingClientPublicKeys);
+			checkNotNull(primesMappingTable);
+		}
+	}
+
+	private record CacheKey(String tenantId, String electionEventId, String verificationCardSetId) {
+
+		private CacheKey {
+			checkNotNull(tenantId);
+			checkNotNull(electionEventId);
+			checkNotNull(verificationCardSetId);
+		}
+	}
+}
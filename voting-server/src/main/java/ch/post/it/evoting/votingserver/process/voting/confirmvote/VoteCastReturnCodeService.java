@@ -7,7 +7,6 @@ import static ch.post.it.evoting.domain.Constants.MAX_CONFIRMATION_ATTEMPTS;
 import static ch.post.it.evoting.evotinglibraries.domain.validations.ControlComponentPayloadListValidation.validate;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.base.Preconditions.checkState;
 
 import java.security.SignatureException;
 
@@ -24,7 +23,6 @@ import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.signing.SignatureKeystore;
-import ch.post.it.evoting.domain.InvalidPayloadSignatureException;
 import ch.post.it.evoting.domain.voting.confirmvote.ConfirmationKey;
 import ch.post.it.evoting.domain.voting.confirmvote.ControlComponenthlVCCRequestPayload;
 import ch.post.it.evoting.domain.voting.confirmvote.ControlComponenthlVCCSharePayload;
@@ -42,6 +40,7 @@ import ch.post.it.evoting.votingserver.messaging.Serializer;
 import ch.post.it.evoting.votingserver.process.ElectionEventService;
 import ch.post.it.evoting.votingserver.process.VerificationCardService;
 import ch.post.it.evoting.votingserver.process.voting.ConfirmationKeyInvalidException;
+import ch.post.it.evoting.votingserver.process.voting.ControlComponentSignatureVerificationService;
 import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCOutput;
 import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCService;
 import ch.post.it.evoting.votingserver.shelf.WorkflowShelfService;
@@ -62,6 +61,7 @@ public class VoteCastReturnCodeService {
 	private final VerificationCardService verificationCardService;
 	private final SignatureKeystore<Alias> signatureKeystoreService;
 	private final ResponseCompletionService responseCompletionService;
+	private final ControlComponentSignatureVerificationService controlComponentSignatureVerificationService;
 
 	public VoteCastReturnCodeService(
 			final Serializer serializer,
@@ -71,7 +71,8 @@ public class VoteCastReturnCodeService {
 			final WorkflowShelfService workflowShelfService,
 			final VerificationCardService verificationCardService,
 			final SignatureKeystore<Alias> signatureKeystoreService,
-			final ResponseCompletionService responseCompletionService) {
+			final ResponseCompletionService responseCompletionService,
+			final ControlComponentSignatureVerificationService controlComponentSignatureVerificationService) {
 		this.serializer = serializer;
 		this.messageHandler = messageHandler;
 		this.extractVCCService = extractVCCService;
@@ -80,6 +81,7 @@ public class VoteCastReturnCodeService {
 		this.verificationCardService = verificationCardService;
 		this.signatureKeystoreService = signatureKeystoreService;
 		this.responseCompletionService = responseCompletionService;
+		this.controlComponentSignatureVerificationService = controlComponentSignatureVerificationService;
 	}
 
 	/**
@@ -267,31 +269,12 @@ public class VoteCastReturnCodeService {
 			checkArgument(payload.getVerificationCardId().equals(contextIds.verificationCardId()),
 					"The Control Component lVCC Share payload does not contain the expected verification card id. [expected: %s, actual: %s]",
 					contextIds.verificationCardId(), payload.getVerificationCardId());
-
-			// Verify signature.
-			final int nodeId = payload.getNodeId();
-			final CryptoPrimitivesSignature signature = payload.getSignature();
-
-			checkState(signature != null, "The signature of the Control Component lVCC Share payload is null. [nodeId: %s, contextIds: %s]",
-					nodeId, contextIds);
-
-			final Hashable additionalContextData = ChannelSecurityContextData.controlComponentlVCCShare(nodeId, contextIds.electionEventId(),
-					contextIds.verificationCardSetId(), contextIds.verificationCardId());
-
-			final boolean isSignatureValid;
-			try {
-				isSignatureValid = signatureKeystoreService.verifySignature(Alias.getControlComponentByNodeId(nodeId), payload, additionalContextData,
-						signature.signatureContents());
-			} catch (final SignatureException e) {
-				throw new IllegalStateException(
-						String.format("Could not verify the signature of the Control Component lVCC Share payload. [nodeId: %s, contextIds: %s]",
-								nodeId, contextIds));
-			}
-			if (!isSignatureValid) {
-				throw new InvalidPayloadSignatureException(ControlComponentlVCCSharePayload.class,
-						String.format("[nodeId: %s, contextIds: %s]", nodeId, contextIds));
-			}
 		});
+
+		// Verify signatures.
+		controlComponentSignatureVerificationService.verifySignatures(controlComponentlVCCSharePayloads, "Control Component lVCC Share payload",
+				nodeId -> ChannelSecurityContextData.controlComponentlVCCShare(nodeId, contextIds.electionEventId(),
+						contextIds.verificationCardSetId(), contextIds.verificationCardId()), contextIds);
 	}
 
 	@VisibleForTesting
@@ -7,7 +7,6 @@ import static ch.post.it.evoting.evotinglibraries.domain.validations.ControlComp
 import static ch.post.it.evoting.evotinglibraries.domain.validations.Validations.validateUUID;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.base.Preconditions.checkState;
 
 import java.security.SignatureException;
 
@@ -23,7 +22,6 @@ import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.signing.SignatureKeystore;
-import ch.post.it.evoting.domain.InvalidPayloadSignatureException;
 import ch.post.it.evoting.domain.voting.sendvote.CombinedControlComponentPartialDecryptPayload;
 import ch.post.it.evoting.domain.voting.sendvote.ControlComponentPartialDecryptPayload;
 import ch.post.it.evoting.domain.voting.sendvote.ControlComponentlCCSharePayload;
@@ -41,6 +39,7 @@ import ch.post.it.evoting.votingserver.messaging.ResponseCompletionService;
 import ch.post.it.evoting.votingserver.messaging.Serializer;
 import ch.post.it.evoting.votingserver.process.ElectionEventService;
 import ch.post.it.evoting.votingserver.process.VerificationCardService;
+import ch.post.it.evoting.votingserver.process.voting.ControlComponentSignatureVerificationService;
 import ch.post.it.evoting.votingserver.protocol.voting.sendvote.ExtractCRCOutput;
 import ch.post.it.evoting.votingserver.protocol.voting.sendvote.ExtractCRCService;
 import ch.post.it.evoting.votingserver.shelf.WorkflowShelfService;
@@ -61,6 +60,7 @@ public class ChoiceReturnCodesService {
 	private final VerificationCardService verificationCardService;
 	private final SignatureKeystore<Alias> signatureKeystoreService;
 	private final ResponseCompletionService responseCompletionService;
+	private final ControlComponentSignatureVerificationService controlComponentSignatureVerificationService;
 
 	ChoiceReturnCodesService(
 			final Serializer serializer,
@@ -70,7 +70,8 @@ public class ChoiceReturnCodesService {
 			final WorkflowShelfService workflowShelfService,
 			final VerificationCardService verificationCardService,
 			final SignatureKeystore<Alias> signatureKeystoreService,
-			final ResponseCompletionService responseCompletionService) {
+			final ResponseCompletionService responseCompletionService,
+			final ControlComponentSignatureVerificationService controlComponentSignatureVerificationService) {
 		this.serializer = serializer;
 		this.messageHandler = messageHandler;
 		this.extractCRCService = extractCRCService;
@@ -79,6 +80,7 @@ public class ChoiceReturnCodesService {
 		this.verificationCardService = verificationCardService;
 		this.signatureKeystoreService = signatureKeystoreService;
 		this.responseCompletionService = responseCompletionService;
+		this.controlComponentSignatureVerificationService = controlComponentSignatureVerificationService;
 	}
 
 	@Transactional
@@ -230,36 +232,14 @@ public class ChoiceReturnCodesService {
 	private void verifyLCCSharePayloads(final GqGroup encryptionGroup, final ContextIds contextIds,
 			final ImmutableList<ControlComponentlCCSharePayload> controlComponentLCCSharePayloads) {
 
-		for (final ControlComponentlCCSharePayload payload : controlComponentLCCSharePayloads) {
-			// Verify encryption group.
-			checkArgument(payload.getEncryptionGroup().equals(encryptionGroup),
-					"The group of the Control Component LCC Share payload must be equal to the encryption group.");
-
-			// Verify signatures.
-			final int nodeId = payload.getLongChoiceReturnCodeShare().nodeId();
-			final Hashable additionalContextData = ChannelSecurityContextData.controlComponentlCCShare(nodeId, contextIds.electionEventId(),
-					contextIds.verificationCardSetId(), contextIds.verificationCardId());
-
-			final CryptoPrimitivesSignature signature = payload.getSignature();
-
-			checkState(signature != null, "The signature of the long return codes share payload is null. [nodeId: %s, contextIds: %s]",
-					nodeId, contextIds);
-
-			final boolean isSignatureValid;
-			try {
-				isSignatureValid = signatureKeystoreService.verifySignature(Alias.getControlComponentByNodeId(nodeId), payload, additionalContextData,
-						signature.signatureContents());
-			} catch (final SignatureException e) {
-				throw new IllegalStateException(
-						String.format("Could not verify the signature of the long return codes share payload. [nodeId: %s, contextIds: %s]",
-								nodeId, contextIds));
-			}
-
-			if (!isSignatureValid) {
-				throw new InvalidPayloadSignatureException(ControlComponentlCCSharePayload.class,
-						String.format("[nodeId: %s, contextIds: %s]", nodeId, contextIds));
-			}
-		}
+		// Verify encryption group.
+		controlComponentLCCSharePayloads.forEach(payload -> checkArgument(payload.getEncryptionGroup().equals(encryptionGroup),
+				"The group of the Control Component LCC Share payload must be equal to the encryption group."));
+
+		// Verify signatures.
+		controlComponentSignatureVerificationService.verifySignatures(controlComponentLCCSharePayloads, "long return codes share payload",
+				nodeId -> ChannelSecurityContextData.controlComponentlCCShare(nodeId, contextIds.electionEventId(), contextIds.verificationCardSetId(),
+						contextIds.verificationCardId()), contextIds);
 	}
 
 	private record ContextShelf(String rootCorrelationId, ContextIds contextIds, GqGroup encryptionGroup) {
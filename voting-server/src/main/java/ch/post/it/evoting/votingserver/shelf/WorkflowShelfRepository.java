@@ -3,6 +3,8 @@
  */
 package ch.post.it.evoting.votingserver.shelf;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,4 +12,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository
 @Transactional(readOnly = true)
 public interface WorkflowShelfRepository extends CrudRepository<WorkflowShelfEntity, String> {
+
+	// Deletes without loading the shelved data, which was served from the local cache.
+	@Modifying
+	@Transactional
+	@Query("delete from WorkflowShelfEntity e where e.id = ?1")
+	int deleteShelfById(String id);
 }
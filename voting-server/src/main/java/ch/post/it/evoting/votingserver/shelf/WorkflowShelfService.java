@@ -3,26 +3,60 @@
  */
 package ch.post.it.evoting.votingserver.shelf;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
 import ch.post.it.evoting.votingserver.messaging.Serializer;
 
+/**
+ * Shelves the workflow data of a request while the control components compute their contributions.
+ * <p>
+ * The data is persisted in database, within the transaction of the caller, and additionally kept in a bounded local cache once committed. A pull
+ * on the instance that shelved the data is served from the cache and only deletes the row, a pull on another instance reads it from database.
+ * </p>
+ */
 @Service
 public class WorkflowShelfService {
 
 	private final WorkflowShelfRepository repository;
 	private final Serializer serializer;
+	private final ContextHolder contextHolder;
+	private final Cache<ShelfKey, Object> cache;
+
+	public WorkflowShelfService(
+			final WorkflowShelfRepository repository,
+			final Serializer serializer,
+			final ContextHolder contextHolder,
+			@Value("${workflow-shelf.cache.maximum-size}")
+			final long maximumSize,
+			@Value("${workflow-shelf.cache.expire-after-write}")
+			final Duration expireAfterWrite) {
+		checkArgument(maximumSize >= 0, "The maximum size of the cache must be positive.");
+		checkNotNull(expireAfterWrite);
 
-	public WorkflowShelfService(final WorkflowShelfRepository repository, final Serializer serializer) {
 		this.repository = repository;
 		this.serializer = serializer;
+		this.contextHolder = contextHolder;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(expireAfterWrite)
+				.build();
 	}
 
 	/**
-	 * Push a data to a shelf in database
+	 * Push a data to a shelf in database. The data is also cached locally once the transaction of the caller, if any, commits.
 	 *
 	 * @param id   the key identifying the data that will be shelf
 	 * @param data the data to be shelved.
@@ -37,20 +71,32 @@ public class WorkflowShelfService {
 		final WorkflowShelfEntity entity = new WorkflowShelfEntity(id, dataAsBytes);
 
 		repository.save(entity);
+
+		final ShelfKey shelfKey = new ShelfKey(contextHolder.getTenantId(), id);
+		afterCommit(() -> cache.put(shelfKey, data));
 	}
 
 	/**
-	 * Pull data from shelf in database
+	 * Pull data from shelf, from the local cache if it was shelved by this instance, from database otherwise. The data is deleted from database in
+	 * both cases.
 	 *
 	 * @param id    the key identifying the data to retrieve from shelf
 	 * @param clazz the clazz of the data to be pull
 	 * @param <T>   the type of the data
 	 * @return the data
+	 * @throws IllegalStateException if there is no data shelved with this id.
 	 */
 	public <T> T pullFromShelf(final String id, final Class<T> clazz) {
 		checkNotNull(id);
 		checkNotNull(clazz);
 
+		final ShelfKey shelfKey = new ShelfKey(contextHolder.getTenantId(), id);
+		final Object cached = cache.asMap().remove(shelfKey);
+		// A rolled back pull finds the row again in database.
+		if (cached != null && repository.deleteShelfById(id) == 1) {
+			return clazz.cast(cached);
+		}
+
 		final WorkflowShelfEntity entity = repository.findById(id)
 				.orElseThrow(() -> new IllegalStateException(String.format("No shelf with this correlationId. [id: %s]", id)));
 
@@ -60,4 +106,25 @@ public class WorkflowShelfService {
 
 		return deserialize;
 	}
+
+	private static void afterCommit(final Runnable runnable) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					runnable.run();
+				}
+			});
+		} else {
+			runnable.run();
+		}
+	}
+
+	private record ShelfKey(String tenantId, String id) {
+
+		private ShelfKey {
+			checkNotNull(tenantId);
+			checkNotNull(id);
+		}
+	}
 }
@@ -0,0 +1,169 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.messaging;
+
+import static ch.post.it.evoting.cryptoprimitives.collection.ImmutableList.toImmutableList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.evotinglibraries.domain.ControlComponentNode;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+
+@DisplayName("MessageHandler")
+class MessageHandlerTest {
+
+	private static final String CORRELATION_ID = "correlationId";
+	private static final String MESSAGE_TYPE = String.class.getName();
+	private static final int NUMBER_OF_NODES = ControlComponentNode.ids().size();
+
+	private InProgressMessageRepository inProgressMessageRepository;
+	private MessageHandler self;
+	private ResponseAggregator responseAggregator;
+	private List<ImmutableList<String>> handledResponses;
+	private MessageHandler messageHandler;
+
+	@BeforeEach
+	void setUp() {
+		final ContextHolder contextHolder = mock(ContextHolder.class);
+		when(contextHolder.getTenantId()).thenReturn("tenant");
+
+		inProgressMessageRepository = mock(InProgressMessageRepository.class);
+		self = mock(MessageHandler.class);
+		responseAggregator = new ResponseAggregator(contextHolder, 10, DataSize.ofMegabytes(1));
+		handledResponses = new ArrayList<>();
+
+		final BiConsumer<String, ImmutableList<String>> responseHandler = (correlationId, payloads) -> handledResponses.add(payloads);
+		final MessageHandler.Configuration<Integer, String> configuration = new MessageHandler.Configuration<>(Integer.class, true,
+				String::valueOf, String.class, MessageHandlerTest::nodeId, bytes -> new String(bytes.elements(), StandardCharsets.UTF_8),
+				responseHandler, true);
+
+		messageHandler = new MessageHandler(mock(JmsTemplate.class), mock(Serializer.class), List.of(configuration),
+				new InProgressMessageService(inProgressMessageRepository), mock(EntityManager.class), self, contextHolder, responseAggregator,
+				mock(MeterRegistry.class));
+	}
+
+	@Nested
+	@DisplayName("processMessage")
+	class ProcessMessageTest {
+
+		@Test
+		@DisplayName("handles the responses once the last node is received locally, without counting the stored responses")
+		void allNodesReceivedLocally() {
+			final List<Integer> nodeIds = ControlComponentNode.ids().stream().toList();
+			when(inProgressMessageRepository.countByCorrelationIdAndResponsePayloadIsNotNull(CORRELATION_ID)).thenReturn(1);
+
+			nodeIds.subList(0, nodeIds.size() - 1).forEach(MessageHandlerTest.this::processMessage);
+			verify(self, never()).handleResponseForAggregatedMessages(anyString(), anyString());
+
+			processMessage(nodeIds.getLast());
+
+			verify(self, times(NUMBER_OF_NODES)).storeResponse(anyString(), anyInt(), any(), anyString());
+			verify(inProgressMessageRepository, times(NUMBER_OF_NODES - 1)).countByCorrelationIdAndResponsePayloadIsNotNull(CORRELATION_ID);
+			verify(self).handleResponseForAggregatedMessages(CORRELATION_ID, MESSAGE_TYPE);
+		}
+
+		@Test
+		@DisplayName("handles the responses once the stored responses of all the nodes are counted")
+		void allNodesStoredByOtherInstances() {
+			when(inProgressMessageRepository.countByCorrelationIdAndResponsePayloadIsNotNull(CORRELATION_ID)).thenReturn(NUMBER_OF_NODES);
+
+			processMessage(ControlComponentNode.first().id());
+
+			verify(self).handleResponseForAggregatedMessages(CORRELATION_ID, MESSAGE_TYPE);
+		}
+
+		@Test
+		@DisplayName("does not handle the responses again for a duplicate response of a handled request")
+		void duplicateAfterCompletion() {
+			ControlComponentNode.ids().forEach(MessageHandlerTest.this::processMessage);
+			when(inProgressMessageRepository.countByCorrelationIdAndResponsePayloadIsNotNull(CORRELATION_ID)).thenReturn(0);
+
+			processMessage(ControlComponentNode.first().id());
+
+			verify(self).handleResponseForAggregatedMessages(CORRELATION_ID, MESSAGE_TYPE);
+		}
+	}
+
+	@Nested
+	@DisplayName("handleResponseForAggregatedMessages")
+	class HandleResponseForAggregatedMessagesTest {
+
+		@Test
+		@DisplayName("claims the stored responses and passes the payloads of all the nodes in node order")
+		void claimsAllNodesResponses() {
+			final List<InProgressMessage> inProgressMessages = ControlComponentNode.ids().stream()
+					.map(nodeId -> new InProgressMessage(CORRELATION_ID, nodeId, serialize(nodeId)))
+					.toList()
+					.reversed();
+			when(inProgressMessageRepository.findAllByCorrelationIdOrderByNodeId(CORRELATION_ID)).thenReturn(inProgressMessages);
+			// The first node was received by this instance, the others are deserialized from the stored responses.
+			final int localNodeId = ControlComponentNode.first().id();
+			responseAggregator.add(CORRELATION_ID, localNodeId, payload(localNodeId), 1);
+
+			messageHandler.handleResponseForAggregatedMessages(CORRELATION_ID, MESSAGE_TYPE);
+
+			assertEquals(List.of(ControlComponentNode.ids().stream().map(MessageHandlerTest::payload).collect(toImmutableList())),
+					handledResponses);
+			verify(inProgressMessageRepository).deleteAll(inProgressMessages);
+			assertEquals(Optional.empty(), responseAggregator.get(CORRELATION_ID, localNodeId));
+		}
+
+		@Test
+		@DisplayName("does not call the handler when the responses are already claimed")
+		void alreadyClaimed() {
+			when(inProgressMessageRepository.findAllByCorrelationIdOrderByNodeId(CORRELATION_ID)).thenReturn(List.of());
+			final int localNodeId = ControlComponentNode.first().id();
+			responseAggregator.add(CORRELATION_ID, localNodeId, payload(localNodeId), 1);
+
+			messageHandler.handleResponseForAggregatedMessages(CORRELATION_ID, MESSAGE_TYPE);
+
+			assertEquals(List.of(), handledResponses);
+			verify(inProgressMessageRepository, never()).deleteAll(any());
+			assertEquals(Optional.empty(), responseAggregator.get(CORRELATION_ID, localNodeId));
+		}
+	}
+
+	private void processMessage(final int nodeId) {
+		messageHandler.processMessage(true, CORRELATION_ID, nodeId, serialize(nodeId), MESSAGE_TYPE, (correlationId, payloads) -> {
+		}, payload(nodeId));
+	}
+
+	private static String payload(final int nodeId) {
+		return "payload" + nodeId;
+	}
+
+	private static ImmutableByteArray serialize(final int nodeId) {
+		return new ImmutableByteArray(payload(nodeId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static int nodeId(final String payload) {
+		return Integer.parseInt(payload.substring("payload".length()));
+	}
+}
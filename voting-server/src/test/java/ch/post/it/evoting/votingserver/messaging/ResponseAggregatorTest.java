@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import ch.post.it.evoting.evotinglibraries.domain.ControlComponentNode;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+
+@DisplayName("ResponseAggregator")
+class ResponseAggregatorTest {
+
+	private static final String CORRELATION_ID = "correlationId";
+	private static final int SIZE = 10;
+
+	private ContextHolder contextHolder;
+	private ResponseAggregator responseAggregator;
+
+	@BeforeEach
+	void setUp() {
+		contextHolder = mock(ContextHolder.class);
+		when(contextHolder.getTenantId()).thenReturn("tenant");
+		responseAggregator = new ResponseAggregator(contextHolder, 10, DataSize.ofKilobytes(1));
+	}
+
+	@Test
+	@DisplayName("reports all nodes received only once the last node is added")
+	void allNodesReceived() {
+		final List<Integer> nodeIds = ControlComponentNode.ids().stream().toList();
+
+		nodeIds.subList(0, nodeIds.size() - 1).forEach(nodeId -> assertFalse(responseAggregator.add(CORRELATION_ID, nodeId, "payload" + nodeId, SIZE)));
+		assertTrue(responseAggregator.add(CORRELATION_ID, nodeIds.getLast(), "payload" + nodeIds.getLast(), SIZE));
+
+		nodeIds.forEach(nodeId -> assertEquals(Optional.of("payload" + nodeId), responseAggregator.get(CORRELATION_ID, nodeId)));
+	}
+
+	@Test
+	@DisplayName("ignores a duplicate response of the same node")
+	void duplicateResponse() {
+		final int nodeId = ControlComponentNode.first().id();
+
+		assertFalse(responseAggregator.add(CORRELATION_ID, nodeId, "first", SIZE));
+		assertFalse(responseAggregator.add(CORRELATION_ID, nodeId, "second", SIZE));
+
+		assertEquals(Optional.of("first"), responseAggregator.get(CORRELATION_ID, nodeId));
+	}
+
+	@Test
+	@DisplayName("reports all nodes received to exactly one of concurrent adders")
+	void concurrentAdders() {
+		final AtomicInteger completions = new AtomicInteger();
+
+		ControlComponentNode.ids().stream().toList().parallelStream()
+				.forEach(nodeId -> IntStream.range(0, 2).forEach(attempt -> {
+					if (responseAggregator.add(CORRELATION_ID, nodeId, nodeId, SIZE)) {
+						completions.incrementAndGet();
+					}
+				}));
+
+		assertEquals(1, completions.get());
+	}
+
+	@Test
+	@DisplayName("keeps the responses of each tenant apart and discards them on remove")
+	void tenantsAndRemove() {
+		final int nodeId = ControlComponentNode.first().id();
+		responseAggregator.add(CORRELATION_ID, nodeId, "payload", SIZE);
+
+		when(contextHolder.getTenantId()).thenReturn("otherTenant");
+		assertEquals(Optional.empty(), responseAggregator.get(CORRELATION_ID, nodeId));
+
+		when(contextHolder.getTenantId()).thenReturn("tenant");
+		responseAggregator.remove(CORRELATION_ID);
+		assertEquals(Optional.empty(), responseAggregator.get(CORRELATION_ID, nodeId));
+	}
+
+	@Test
+	@DisplayName("with invalid parameters throws")
+	void invalidParameters() {
+		final int nodeId = ControlComponentNode.first().id();
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> new ResponseAggregator(contextHolder, 10, null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new ResponseAggregator(contextHolder, 10, DataSize.ofBytes(-1))),
+				() -> assertThrows(IllegalArgumentException.class, () -> responseAggregator.add(CORRELATION_ID, nodeId, "payload", -1))
+		);
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.multitenancy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import ch.post.it.evoting.domain.multitenancy.TenantConstants;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.KeystoreRepository;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.Tenant;
+import ch.post.it.evoting.evotinglibraries.multitenancy.multitenancy.TenantService;
+
+@DisplayName("TenantLookupService")
+class TenantLookupServiceTest {
+
+	private static final String OTHER_TENANT_ID = "other";
+	private static final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+
+	private Tenant testTenant;
+	private Tenant otherTenant;
+	private TenantService tenantService;
+	private TenantLookupService tenantLookupService;
+
+	@BeforeEach
+	void setup() {
+		testTenant = new Tenant(TenantConstants.TEST_TENANT_ID, createDataSource(), mock(KeystoreRepository.class));
+		otherTenant = new Tenant(OTHER_TENANT_ID, createDataSource(), mock(KeystoreRepository.class));
+
+		tenantService = mock(TenantService.class);
+		when(tenantService.getTenants()).thenReturn(List.of(testTenant, otherTenant));
+		when(tenantService.getTenant(TenantConstants.TEST_TENANT_ID)).thenReturn(testTenant);
+		when(tenantService.getTenant(OTHER_TENANT_ID)).thenReturn(otherTenant);
+
+		tenantLookupService = new TenantLookupService(tenantService, 100, Duration.ofMinutes(1), 2);
+	}
+
+	@Test
+	@DisplayName("rebuildIndex indexes the election events of all the tenants")
+	void rebuildIndexIndexesAllTenants() {
+		final String testElectionEventId = insertElectionEvent(testTenant);
+		final String otherElectionEventId = insertElectionEvent(otherTenant);
+
+		tenantLookupService.rebuildIndex();
+		dropElectionEventTable(testTenant);
+		dropElectionEventTable(otherTenant);
+
+		assertEquals(Optional.of(testTenant), tenantLookupService.lookupTenantFromElectionEventId(testElectionEventId));
+		assertEquals(Optional.of(otherTenant), tenantLookupService.lookupTenantFromElectionEventId(otherElectionEventId));
+	}
+
+	@Test
+	@DisplayName("lookupTenantFromElectionEventId finds an election event missing from the index in the tenant databases")
+	void lookupFindsElectionEventMissingFromIndex() {
+		tenantLookupService.rebuildIndex();
+		final String electionEventId = insertElectionEvent(otherTenant);
+
+		assertEquals(Optional.of(otherTenant), tenantLookupService.lookupTenantFromElectionEventId(electionEventId));
+
+		dropElectionEventTable(otherTenant);
+		assertEquals(Optional.of(otherTenant), tenantLookupService.lookupTenantFromElectionEventId(electionEventId));
+	}
+
+	@Test
+	@DisplayName("lookupTenantFromElectionEventId remembers the unknown election events")
+	void lookupRemembersUnknownElectionEvents() {
+		final String electionEventId = uuidGenerator.generate();
+
+		assertTrue(tenantLookupService.lookupTenantFromElectionEventId(electionEventId).isEmpty());
+
+		insertElectionEvent(testTenant, electionEventId);
+		assertTrue(tenantLookupService.lookupTenantFromElectionEventId(electionEventId).isEmpty());
+	}
+
+	@Test
+	@DisplayName("register indexes the election event and forgets it as unknown")
+	void registerIndexesElectionEvent() {
+		final String electionEventId = uuidGenerator.generate();
+		assertTrue(tenantLookupService.lookupTenantFromElectionEventId(electionEventId).isEmpty());
+
+		tenantLookupService.register(electionEventId, OTHER_TENANT_ID);
+
+		assertEquals(Optional.of(otherTenant), tenantLookupService.lookupTenantFromElectionEventId(electionEventId));
+	}
+
+	@Test
+	@DisplayName("with invalid arguments throws")
+	void invalidArgumentsThrow() {
+		final String electionEventId = uuidGenerator.generate();
+
+		assertThrows(NullPointerException.class, () -> tenantLookupService.lookupTenantFromElectionEventId(null));
+		assertThrows(FailedValidationException.class, () -> tenantLookupService.lookupTenantFromElectionEventId("not a UUID"));
+		assertThrows(NullPointerException.class, () -> tenantLookupService.register(null, OTHER_TENANT_ID));
+		assertThrows(NullPointerException.class, () -> tenantLookupService.register(electionEventId, null));
+		assertThrows(IllegalArgumentException.class, () -> new TenantLookupService(tenantService, 100, Duration.ofMinutes(1), 0));
+	}
+
+	private static DataSource createDataSource() {
+		final JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1", uuidGenerator.generate()));
+		new JdbcTemplate(dataSource).execute("create table ELECTION_EVENT (ELECTION_EVENT_ID varchar(32) primary key)");
+		return dataSource;
+	}
+
+	private static String insertElectionEvent(final Tenant tenant) {
+		return insertElectionEvent(tenant, uuidGenerator.generate());
+	}
+
+	private static String insertElectionEvent(final Tenant tenant, final String electionEventId) {
+		new JdbcTemplate(tenant.dataSource()).update("insert into ELECTION_EVENT (ELECTION_EVENT_ID) values (?)", electionEventId);
+		return electionEventId;
+	}
+
+	private static void dropElectionEventTable(final Tenant tenant) {
+		new JdbcTemplate(tenant.dataSource()).execute("drop table ELECTION_EVENT");
+	}
+}
@@ -30,6 +30,7 @@ import ch.post.it.evoting.evotinglibraries.domain.mapper.DomainObjectMapper;
 import ch.post.it.evoting.evotinglibraries.domain.mixnet.ElectionEventContextPayload;
 import ch.post.it.evoting.evotinglibraries.domain.mixnet.generators.ElectionEventContextPayloadGenerator;
 import ch.post.it.evoting.evotinglibraries.domain.signature.Alias;
+import ch.post.it.evoting.votingserver.multitenancy.TenantLookupService;
 
 @Service
 class ElectionEventContextServiceTest {
@@ -66,7 +67,7 @@ class ElectionEventContextServiceTest {
 						electionEventContext.electionsTexts()));
 		when(verificationCardSetRepository.findById(anyString())).thenReturn(genVerificationCardEntity(electionEventEntity));
 		electionEventContextService = spy(new ElectionEventContextService(electionEventService, verificationCardSetService, ballotBoxService,
-				electionEventContextRepository, signatureKeystore));
+				electionEventContextRepository, signatureKeystore, mock(TenantLookupService.class)));
 
 		doReturn(true).when(signatureKeystore).verifySignature(any(), any(), any(), any());
 	}
@@ -36,6 +36,7 @@ import ch.post.it.evoting.votingserver.idempotence.IdempotenceService;
 import ch.post.it.evoting.votingserver.idempotence.IdempotentExecution;
 import ch.post.it.evoting.votingserver.idempotence.IdempotentExecutionRepository;
 import ch.post.it.evoting.votingserver.process.ReturnCodesMappingTableService;
+import ch.post.it.evoting.votingserver.process.voting.ReturnCodesMappingTableCache;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -61,7 +62,7 @@ class UploadReturnCodesMappingTableControllerTest {
 		);
 		returnCodesMappingTableService = mock(ReturnCodesMappingTableService.class);
 		uploadReturnCodesMappingTableController = new UploadReturnCodesMappingTableController(
-				signatureKeystoreService, returnCodesMappingTableService, idempotenceService);
+				signatureKeystoreService, returnCodesMappingTableService, mock(ReturnCodesMappingTableCache.class), idempotenceService);
 
 		final InputStream returnCodesMappingTablePayloadInputStream = UploadReturnCodesMappingTableControllerTest.class.getResourceAsStream(
 				"/process/returnCodesMappingTableResourceTest/setupComponentCMTablePayload.0.json");
@@ -0,0 +1,143 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process.tally.mixdecrypt;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.ControlComponentShufflePayload;
+import ch.post.it.evoting.evotinglibraries.domain.mixnet.ControlComponentVotesHashPayload;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+import ch.post.it.evoting.votingserver.process.tally.mixdecrypt.MixDecryptPayloadCache.MixingProgress;
+
+@DisplayName("MixDecryptPayloadCache")
+class MixDecryptPayloadCacheTest {
+
+	private static final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+	private static final GqGroup encryptionGroup = GroupTestData.getGqGroup();
+
+	private ContextHolder contextHolder;
+	private MixDecryptPayloadCache mixDecryptPayloadCache;
+	private String electionEventId;
+	private String ballotBoxId;
+	private ImmutableList<ControlComponentVotesHashPayload> controlComponentVotesHashPayloads;
+
+	@BeforeEach
+	void setUp() {
+		contextHolder = mock(ContextHolder.class);
+		when(contextHolder.getTenantId()).thenReturn("tenant");
+
+		mixDecryptPayloadCache = new MixDecryptPayloadCache(contextHolder, DataSize.ofMegabytes(64), Duration.ofHours(1));
+
+		electionEventId = uuidGenerator.generate();
+		ballotBoxId = uuidGenerator.generate();
+		controlComponentVotesHashPayloads = ImmutableList.of(mock(ControlComponentVotesHashPayload.class));
+	}
+
+	@Test
+	@DisplayName("returns the started mixing without shuffle payloads")
+	void getStarted() {
+		mixDecryptPayloadCache.start(electionEventId, ballotBoxId, controlComponentVotesHashPayloads);
+
+		final MixingProgress mixingProgress = mixDecryptPayloadCache.get(electionEventId, ballotBoxId, 0).orElseThrow();
+
+		assertAll(
+				() -> assertEquals(controlComponentVotesHashPayloads, mixingProgress.controlComponentVotesHashPayloads()),
+				() -> assertTrue(mixingProgress.controlComponentShufflePayloads().isEmpty())
+		);
+	}
+
+	@Test
+	@DisplayName("returns the appended shuffle payloads only for the expected number of shuffle payloads")
+	void getAppended() {
+		final ControlComponentShufflePayload controlComponentShufflePayload = shufflePayload(10);
+		mixDecryptPayloadCache.start(electionEventId, ballotBoxId, controlComponentVotesHashPayloads);
+		final MixingProgress mixingProgress = mixDecryptPayloadCache.get(electionEventId, ballotBoxId, 0).orElseThrow()
+				.append(controlComponentShufflePayload);
+		mixDecryptPayloadCache.put(electionEventId, ballotBoxId, mixingProgress);
+
+		assertAll(
+				() -> assertEquals(ImmutableList.of(controlComponentShufflePayload),
+						mixDecryptPayloadCache.get(electionEventId, ballotBoxId, 1).orElseThrow().controlComponentShufflePayloads()),
+				() -> assertTrue(mixDecryptPayloadCache.get(electionEventId, ballotBoxId, 0).isEmpty()),
+				() -> assertTrue(mixDecryptPayloadCache.get(electionEventId, ballotBoxId, 2).isEmpty())
+		);
+	}
+
+	@Test
+	@DisplayName("does not return the mixing of another tenant")
+	void getOtherTenant() {
+		mixDecryptPayloadCache.start(electionEventId, ballotBoxId, controlComponentVotesHashPayloads);
+		when(contextHolder.getTenantId()).thenReturn("other-tenant");
+
+		assertTrue(mixDecryptPayloadCache.get(electionEventId, ballotBoxId, 0).isEmpty());
+	}
+
+	@Test
+	@DisplayName("does not return a removed mixing")
+	void getRemoved() {
+		mixDecryptPayloadCache.start(electionEventId, ballotBoxId, controlComponentVotesHashPayloads);
+		mixDecryptPayloadCache.remove(electionEventId, ballotBoxId);
+
+		assertTrue(mixDecryptPayloadCache.get(electionEventId, ballotBoxId, 0).isEmpty());
+	}
+
+	@Test
+	@DisplayName("weighs the payloads by their estimated size")
+	void estimatedBytes() {
+		final MixingProgress started = new MixingProgress(controlComponentVotesHashPayloads, ImmutableList.emptyList());
+		final MixingProgress mixedOnce = started.append(shufflePayload(10));
+		final MixingProgress mixedTwice = mixedOnce.append(shufflePayload(10));
+		final long bytesPerElement = encryptionGroup.getP().bitLength() / Byte.SIZE;
+
+		assertAll(
+				() -> assertTrue(started.estimatedBytes() > 0),
+				() -> assertTrue(mixedOnce.estimatedBytes() - started.estimatedBytes() >= 3 * 10 * 2 * bytesPerElement),
+				() -> assertEquals(mixedOnce.estimatedBytes() - started.estimatedBytes(), mixedTwice.estimatedBytes() - mixedOnce.estimatedBytes())
+		);
+	}
+
+	@Test
+	@DisplayName("with a negative maximum size throws IllegalArgumentException")
+	void negativeMaximumSize() {
+		final DataSize maximumSize = DataSize.ofBytes(-1);
+		final Duration expireAfterAccess = Duration.ofHours(1);
+
+		assertThrows(IllegalArgumentException.class, () -> new MixDecryptPayloadCache(contextHolder, maximumSize, expireAfterAccess));
+	}
+
+	@Test
+	@DisplayName("with invalid ids throws FailedValidationException")
+	void invalidIds() {
+		assertAll(
+				() -> assertThrows(FailedValidationException.class, () -> mixDecryptPayloadCache.get("invalid", ballotBoxId, 0)),
+				() -> assertThrows(FailedValidationException.class, () -> mixDecryptPayloadCache.get(electionEventId, "invalid", 0))
+		);
+	}
+
+	private static ControlComponentShufflePayload shufflePayload(final int numberOfCiphertexts) {
+		final ControlComponentShufflePayload controlComponentShufflePayload = mock(ControlComponentShufflePayload.class, RETURNS_DEEP_STUBS);
+		when(controlComponentShufflePayload.getEncryptionGroup()).thenReturn(encryptionGroup);
+		when(controlComponentShufflePayload.getVerifiableDecryptions().get_N()).thenReturn(numberOfCiphertexts);
+		when(controlComponentShufflePayload.getVerifiableDecryptions().get_l()).thenReturn(1);
+		return controlComponentShufflePayload;
+	}
+}
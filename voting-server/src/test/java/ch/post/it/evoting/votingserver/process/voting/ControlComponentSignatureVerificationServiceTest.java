@@ -0,0 +1,129 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process.voting;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.SignatureException;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
+import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
+import ch.post.it.evoting.cryptoprimitives.signing.SignatureKeystore;
+import ch.post.it.evoting.domain.InvalidPayloadSignatureException;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
+import ch.post.it.evoting.evotinglibraries.domain.signature.Alias;
+import ch.post.it.evoting.evotinglibraries.domain.signature.CryptoPrimitivesSignature;
+import ch.post.it.evoting.evotinglibraries.domain.signature.SignedControlComponentPayload;
+
+@DisplayName("ControlComponentSignatureVerificationService")
+class ControlComponentSignatureVerificationServiceTest {
+
+	private static final int NODE_ID = 1;
+	private static final ImmutableByteArray PAYLOAD_HASH = ImmutableByteArray.of((byte) 1, (byte) 2);
+	private static final Hashable ADDITIONAL_CONTEXT_DATA = HashableString.from("context");
+	private static final IntFunction<Hashable> ADDITIONAL_CONTEXT_DATA_FACTORY = nodeId -> ADDITIONAL_CONTEXT_DATA;
+
+	private SignatureKeystore<Alias> signatureKeystore;
+	private ContextHolder contextHolder;
+	private Hash hash;
+	private ContextIds contextIds;
+	private ControlComponentSignatureVerificationService controlComponentSignatureVerificationService;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		signatureKeystore = mock(SignatureKeystore.class);
+		contextHolder = mock(ContextHolder.class);
+		when(contextHolder.getTenantId()).thenReturn("tenant");
+		hash = mock(Hash.class);
+		when(hash.recursiveHash(any(), any())).thenReturn(PAYLOAD_HASH);
+		contextIds = mock(ContextIds.class);
+		controlComponentSignatureVerificationService = new ControlComponentSignatureVerificationService(signatureKeystore, contextHolder, hash, 2,
+				10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		controlComponentSignatureVerificationService.shutdown();
+	}
+
+	@Test
+	@DisplayName("verifies the signature of a payload received again only once")
+	void verifiesOnce() throws SignatureException {
+		final SignedControlComponentPayload payload = payload(ImmutableByteArray.of((byte) 3));
+		when(signatureKeystore.verifySignature(any(), any(), any(), any())).thenReturn(true);
+
+		verifySignatures(payload);
+		verifySignatures(payload);
+
+		verify(signatureKeystore, times(1)).verifySignature(eq(Alias.getControlComponentByNodeId(NODE_ID)), eq(payload), eq(ADDITIONAL_CONTEXT_DATA),
+				eq(ImmutableByteArray.of((byte) 3)));
+	}
+
+	@Test
+	@DisplayName("verifies again a payload with another signature or of another tenant")
+	void verifiesOtherSignatureAndTenant() throws SignatureException {
+		when(signatureKeystore.verifySignature(any(), any(), any(), any())).thenReturn(true);
+
+		verifySignatures(payload(ImmutableByteArray.of((byte) 3)));
+		verifySignatures(payload(ImmutableByteArray.of((byte) 4)));
+		when(contextHolder.getTenantId()).thenReturn("otherTenant");
+		verifySignatures(payload(ImmutableByteArray.of((byte) 3)));
+
+		verify(signatureKeystore, times(3)).verifySignature(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("does not cache a failed verification")
+	void failedVerificationNotCached() throws SignatureException {
+		final SignedControlComponentPayload payload = payload(ImmutableByteArray.of((byte) 3));
+		when(signatureKeystore.verifySignature(any(), any(), any(), any())).thenReturn(false);
+
+		assertAll(
+				() -> assertThrows(InvalidPayloadSignatureException.class, () -> verifySignatures(payload)),
+				() -> assertThrows(InvalidPayloadSignatureException.class, () -> verifySignatures(payload))
+		);
+		verify(signatureKeystore, times(2)).verifySignature(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("with invalid arguments throws")
+	void invalidArgumentsThrow() {
+		assertAll(
+				() -> assertThrows(IllegalArgumentException.class,
+						() -> new ControlComponentSignatureVerificationService(signatureKeystore, contextHolder, hash, -1, 10)),
+				() -> assertThrows(IllegalArgumentException.class,
+						() -> new ControlComponentSignatureVerificationService(signatureKeystore, contextHolder, hash, 2, -1))
+		);
+	}
+
+	private void verifySignatures(final SignedControlComponentPayload payload) {
+		controlComponentSignatureVerificationService.verifySignatures(ImmutableList.of(payload), "payload", ADDITIONAL_CONTEXT_DATA_FACTORY,
+				contextIds);
+	}
+
+	private static SignedControlComponentPayload payload(final ImmutableByteArray signature) {
+		final SignedControlComponentPayload payload = mock(SignedControlComponentPayload.class);
+		when(payload.getNodeId()).thenReturn(NODE_ID);
+		when(payload.getSignature()).thenReturn(new CryptoPrimitivesSignature(signature));
+		return payload;
+	}
+}
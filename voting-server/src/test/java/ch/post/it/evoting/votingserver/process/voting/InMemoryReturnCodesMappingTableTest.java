@@ -0,0 +1,104 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process.voting;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import ch.post.it.evoting.domain.DigestRecords;
+
+@DisplayName("InMemoryReturnCodesMappingTable")
+class InMemoryReturnCodesMappingTableTest {
+
+	private static final int SIZE = 1000;
+	private static final SecureRandom random = new SecureRandom();
+
+	private static Map<String, String> entries;
+
+	@BeforeAll
+	static void setUpAll() {
+		entries = new LinkedHashMap<>();
+		while (entries.size() < SIZE) {
+			// The encrypted Short Return Codes have different lengths, as those of the Choice and Vote Cast Return Codes.
+			entries.put(genBase64(DigestRecords.DIGEST_LENGTH), genBase64(entries.size() % 2 == 0 ? 32 : 36));
+		}
+	}
+
+	@Test
+	@DisplayName("gets the encrypted Short Return Code of every entry")
+	void getsAllEntries() {
+		final InMemoryReturnCodesMappingTable.Builder builder = new InMemoryReturnCodesMappingTable.Builder();
+		entries.forEach(builder::add);
+		final InMemoryReturnCodesMappingTable table = builder.build();
+
+		assertEquals(SIZE, table.size());
+		assertTrue(table.sizeInBytes() > SIZE * DigestRecords.DIGEST_LENGTH);
+		assertAll(entries.entrySet().stream()
+				.map(entry -> (Executable) () -> assertEquals(Optional.of(entry.getValue()), table.get(entry.getKey()))));
+	}
+
+	@Test
+	@DisplayName("does not get other entries")
+	void doesNotGetOthers() {
+		final InMemoryReturnCodesMappingTable.Builder builder = new InMemoryReturnCodesMappingTable.Builder();
+		entries.forEach(builder::add);
+		final InMemoryReturnCodesMappingTable table = builder.build();
+
+		final byte[] key = Base64.getDecoder().decode(entries.keySet().iterator().next());
+		key[DigestRecords.DIGEST_LENGTH - 1] ^= 1;
+
+		assertAll(
+				() -> assertEquals(Optional.empty(), table.get(genBase64(DigestRecords.DIGEST_LENGTH))),
+				() -> assertEquals(Optional.empty(), table.get(Base64.getEncoder().encodeToString(key))),
+				() -> assertEquals(Optional.empty(), table.get("not base64")),
+				() -> assertEquals(Optional.empty(), table.get(genBase64(16)))
+		);
+	}
+
+	@Test
+	@DisplayName("without entries gets nothing")
+	void emptyGetsNothing() {
+		final InMemoryReturnCodesMappingTable table = new InMemoryReturnCodesMappingTable.Builder().build();
+
+		assertEquals(0, table.size());
+		assertEquals(Optional.empty(), table.get(entries.keySet().iterator().next()));
+	}
+
+	@Test
+	@DisplayName("with invalid parameters throws")
+	void invalidParametersThrows() {
+		final InMemoryReturnCodesMappingTable.Builder builder = new InMemoryReturnCodesMappingTable.Builder();
+		final String key = genBase64(DigestRecords.DIGEST_LENGTH);
+		final String invalidKey = genBase64(16);
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> builder.add(null, "value")),
+				() -> assertThrows(NullPointerException.class, () -> builder.add(key, null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> builder.add(invalidKey, "value"))
+		);
+
+		builder.build();
+		assertThrows(IllegalStateException.class, () -> builder.add(key, "value"));
+		assertThrows(IllegalStateException.class, builder::build);
+	}
+
+	private static String genBase64(final int length) {
+		final byte[] bytes = new byte[length];
+		random.nextBytes(bytes);
+		return Base64.getEncoder().encodeToString(bytes);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * (c) Copyright 2025 Swiss Post Ltd.
+ */
+package ch.post.it.evoting.votingserver.process.voting.authenticatevoter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
+import ch.post.it.evoting.evotinglibraries.domain.election.PrimesMappingTable;
+import ch.post.it.evoting.evotinglibraries.domain.validations.FailedValidationException;
+import ch.post.it.evoting.votingserver.process.BallotBoxService;
+import ch.post.it.evoting.votingserver.process.ElectionEventContextService;
+import ch.post.it.evoting.votingserver.process.ElectionEventContextService.VotesElectionsTexts;
+import ch.post.it.evoting.votingserver.process.SetupComponentPublicKeysService;
+import ch.post.it.evoting.votingserver.process.VotingClientPublicKeys;
+import ch.post.it.evoting.votingserver.process.voting.authenticatevoter.VerificationCardSetMaterialCache.VerificationCardSetMaterial;
+
+@DisplayName("VerificationCardSetMaterialCache calling get")
+class VerificationCardSetMaterialCacheTest {
+
+	private static final UUIDGenerator uuidGenerator = UUIDGenerator.getInstance();
+
+	private ElectionEventContextService electionEventContextService;
+	private SetupComponentPublicKeysService setupComponentPublicKeysService;
+	private BallotBoxService ballotBoxService;
+	private ContextHolder contextHolder;
+	private VerificationCardSetMaterialCache verificationCardSetMaterialCache;
+	private String electionEventId;
+	private String verificationCardSetId;
+	private VotesElectionsTexts verificationCardSetTexts;
+
+	@BeforeEach
+	void setUp() {
+		electionEventContextService = mock(ElectionEventContextService.class);
+		setupComponentPublicKeysService = mock(SetupComponentPublicKeysService.class);
+		ballotBoxService = mock(BallotBoxService.class);
+		contextHolder = mock(ContextHolder.class);
+		when(contextHolder.getTenantId()).thenReturn("tenant");
+
+		verificationCardSetMaterialCache = new VerificationCardSetMaterialCache(electionEventContextService, setupComponentPublicKeysService,
+				ballotBoxService, contextHolder, 10, Duration.ofHours(1));
+
+		electionEventId = uuidGenerator.generate();
+		verificationCardSetId = uuidGenerator.generate();
+		verificationCardSetTexts = mock(VotesElectionsTexts.class);
+		when(electionEventContextService.getVerificationCardSetTexts(electionEventId, verificationCardSetId)).thenReturn(verificationCardSetTexts);
+		when(setupComponentPublicKeysService.getVotingClientPublicKeys(electionEventId)).thenReturn(mock(VotingClientPublicKeys.class));
+		when(ballotBoxService.getPrimesMappingTableByVerificationCardSetId(verificationCardSetId)).thenReturn(mock(PrimesMappingTable.class));
+	}
+
+	@Test
+	@DisplayName("twice loads the material once")
+	void loadsOnce() {
+		final VerificationCardSetMaterial first = verificationCardSetMaterialCache.get(electionEventId, verificationCardSetId);
+		final VerificationCardSetMaterial second = verificationCardSetMaterialCache.get(electionEventId, verificationCardSetId);
+
+		assertSame(first, second);
+		assertSame(verificationCardSetTexts, first.verificationCardSetTexts());
+		verify(electionEventContextService, times(1)).getVerificationCardSetTexts(electionEventId, verificationCardSetId);
+		verify(setupComponentPublicKeysService, times(1)).getVotingClientPublicKeys(electionEventId);
+		verify(ballotBoxService, times(1)).getPrimesMappingTableByVerificationCardSetId(verificationCardSetId);
+	}
+
+	@Test
+	@DisplayName("for another tenant loads the material again")
+	void loadsPerTenant() {
+		verificationCardSetMaterialCache.get(electionEventId, verificationCardSetId);
+		when(contextHolder.getTenantId()).thenReturn("otherTenant");
+		verificationCardSetMaterialCache.get(electionEventId, verificationCardSetId);
+
+		verify(electionEventContextService, times(2)).getVerificationCardSetTexts(electionEventId, verificationCardSetId);
+	}
+
+	@Test
+	@DisplayName("with invalid parameters throws")
+	void invalidParametersThrows() {
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> verificationCardSetMaterialCache.get(null, verificationCardSetId)),
+				() -> assertThrows(NullPointerException.class, () -> verificationCardSetMaterialCache.get(electionEventId, null)),
+				() -> assertThrows(FailedValidationException.class, () -> verificationCardSetMaterialCache.get("invalid", verificationCardSetId))
+		);
+	}
+}
@@ -30,6 +30,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.signing.SignatureKeystore;
@@ -54,6 +55,7 @@ import ch.post.it.evoting.votingserver.process.ElectionEventService;
 import ch.post.it.evoting.votingserver.process.VerificationCardService;
 import ch.post.it.evoting.votingserver.process.VerificationCardStateService;
 import ch.post.it.evoting.votingserver.process.voting.ConfirmationKeyInvalidException;
+import ch.post.it.evoting.votingserver.process.voting.ControlComponentSignatureVerificationService;
 import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCOutput;
 import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCService;
 import ch.post.it.evoting.votingserver.shelf.WorkflowShelfService;
@@ -116,7 +118,8 @@ class VoteCastReturnCodeServiceIT extends ArtemisSupport {
 		doReturn(0).when(verificationCardStateService).getNextConfirmationAttemptId(anyString());
 
 		voteCastReturnCodeService = new VoteCastReturnCodeService(serializer, messageHandler, extractVCCService, electionEventService,
-				workflowShelfService, verificationCardService, signatureKeystore, responseCompletionService);
+				workflowShelfService, verificationCardService, signatureKeystore, responseCompletionService,
+				new ControlComponentSignatureVerificationService(signatureKeystore, contextHolder, HashFactory.createHash(), 4, 100));
 	}
 
 	@Test
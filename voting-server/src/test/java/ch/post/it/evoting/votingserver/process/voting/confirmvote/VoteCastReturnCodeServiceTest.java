@@ -49,12 +49,11 @@ import ch.post.it.evoting.domain.voting.confirmvote.ControlComponenthlVCCSharePa
 import ch.post.it.evoting.domain.voting.confirmvote.ControlComponentlVCCSharePayload;
 import ch.post.it.evoting.domain.voting.confirmvote.LongVoteCastReturnCodeShare;
 import ch.post.it.evoting.evotinglibraries.domain.UUIDGenerator;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
 import ch.post.it.evoting.evotinglibraries.domain.common.ContextIds;
 import ch.post.it.evoting.evotinglibraries.domain.mapper.DomainObjectMapper;
 import ch.post.it.evoting.evotinglibraries.domain.signature.Alias;
 import ch.post.it.evoting.evotinglibraries.domain.signature.CryptoPrimitivesSignature;
-import ch.post.it.evoting.votingserver.messaging.InProgressMessage;
-import ch.post.it.evoting.votingserver.messaging.InProgressMessageService;
 import ch.post.it.evoting.votingserver.messaging.MessageHandler;
 import ch.post.it.evoting.votingserver.messaging.ResponseCompletionService;
 import ch.post.it.evoting.votingserver.messaging.Serializer;
@@ -76,6 +75,8 @@ import ch.post.it.evoting.votingserver.process.VerificationCardStateEntity;
 import ch.post.it.evoting.votingserver.process.VerificationCardStateRepository;
 import ch.post.it.evoting.votingserver.process.VerificationCardStateService;
 import ch.post.it.evoting.votingserver.process.voting.ConfirmationKeyInvalidException;
+import ch.post.it.evoting.votingserver.process.voting.ControlComponentSignatureVerificationService;
+import ch.post.it.evoting.votingserver.process.voting.ReturnCodesMappingTableCache;
 import ch.post.it.evoting.votingserver.process.voting.ReturnCodesMappingTableSupplier;
 import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCAlgorithm;
 import ch.post.it.evoting.votingserver.protocol.voting.confirmvote.ExtractVCCService;
@@ -98,7 +99,6 @@ class VoteCastReturnCodeServiceTest {
 	private static BallotBoxService ballotBoxService;
 	private static ReturnCodesMappingTableRepository returnCodesMappingTableRepository;
 	private static MessageHandler messageHandler;
-	private static InProgressMessageService inProgressMessageService;
 
 	private static VerificationCardStateService verificationCardStateService;
 	private ContextIds contextIds;
@@ -122,7 +122,8 @@ class VoteCastReturnCodeServiceTest {
 		returnCodesMappingTableRepository = mock(ReturnCodesMappingTableRepository.class);
 		final ReturnCodesMappingTableService returnCodesMappingTableService = new ReturnCodesMappingTableService(verificationCardSetService,
 				returnCodesMappingTableRepository, 10);
-		final ReturnCodesMappingTableSupplier returnCodesMappingTableSupplier = new ReturnCodesMappingTableSupplier(returnCodesMappingTableService);
+		final ReturnCodesMappingTableSupplier returnCodesMappingTableSupplier = new ReturnCodesMappingTableSupplier(returnCodesMappingTableService,
+				mock(ReturnCodesMappingTableCache.class));
 		final IdentifierValidationService identifierValidationService = mock(IdentifierValidationService.class);
 		doNothing().when(identifierValidationService).validateContextIds(any());
 		final ExtractVCCAlgorithm extractVCCAlgorithm = new ExtractVCCAlgorithm(HashFactory.createHash(), SymmetricFactory.createSymmetric(),
@@ -132,12 +133,14 @@ class VoteCastReturnCodeServiceTest {
 
 		messageHandler = mock(MessageHandler.class);
 
-		inProgressMessageService = mock(InProgressMessageService.class);
 		workflowShelfService = mock(WorkflowShelfService.class);
 		final ResponseCompletionService responseCompletionService = mock(ResponseCompletionService.class);
+		final ContextHolder contextHolder = mock(ContextHolder.class);
+		when(contextHolder.getTenantId()).thenReturn("tenant");
 
 		voteCastReturnCodeService = new VoteCastReturnCodeService(serializer, messageHandler, extractVCCService, electionEventService,
-				workflowShelfService, verificationCardService, signatureKeystoreService, responseCompletionService);
+				workflowShelfService, verificationCardService, signatureKeystoreService, responseCompletionService,
+				new ControlComponentSignatureVerificationService(signatureKeystoreService, contextHolder, HashFactory.createHash(), 4, 100));
 	}
 
 	@BeforeEach
@@ -190,11 +193,6 @@ class VoteCastReturnCodeServiceTest {
 
 		when(workflowShelfService.pullFromShelf(any(), any())).thenReturn(
 				new VoteCastReturnCodeService.ShelfElement(FIRST_CORRELATION_ID, contextIds, encryptionGroup));
-
-		when(inProgressMessageService.getAllNodesResponses(FIRST_CORRELATION_ID)).thenReturn(
-				getControlComponenthlVCCInProgressMessages(controlComponenthlVCCSharePayload1, controlComponenthlVCCSharePayload2,
-						controlComponenthlVCCSharePayload3,
-						controlComponenthlVCCSharePayload4));
 	}
 
 	@Test
@@ -250,12 +248,6 @@ class VoteCastReturnCodeServiceTest {
 			return true;
 		});
 
-		when(inProgressMessageService.getAllNodesResponses(SECOND_CORRELATION_ID)).thenReturn(
-				getControlComponentlVCCShareInProgressMessages(SECOND_CORRELATION_ID, controlComponentlVCCSharePayload1,
-						controlComponentlVCCSharePayload2,
-						controlComponentlVCCSharePayload3,
-						controlComponentlVCCSharePayload4));
-
 		final ImmutableList<String> shortChoiceReturnCodes = random.genUniqueDecimalStrings(4, 5);
 		verificationCardService.saveSentState(verificationCardId, shortChoiceReturnCodes);
 		final IllegalStateException exception = assertThrows(IllegalStateException.class,
@@ -308,12 +300,6 @@ class VoteCastReturnCodeServiceTest {
 			return true;
 		});
 
-		when(inProgressMessageService.getAllNodesResponses(SECOND_CORRELATION_ID)).thenReturn(
-				getControlComponentlVCCShareInProgressMessages(SECOND_CORRELATION_ID, controlComponentlVCCSharePayload1,
-						controlComponentlVCCSharePayload2,
-						controlComponentlVCCSharePayload3,
-						controlComponentlVCCSharePayload4));
-
 		final ImmutableList<String> shortChoiceReturnCodes = random.genUniqueDecimalStrings(4, 5);
 		verificationCardService.saveSentState(verificationCardId, shortChoiceReturnCodes);
 
@@ -376,12 +362,6 @@ class VoteCastReturnCodeServiceTest {
 			return true;
 		});
 
-		when(inProgressMessageService.getAllNodesResponses(SECOND_CORRELATION_ID)).thenReturn(
-				getControlComponentlVCCShareInProgressMessages(FIRST_CORRELATION_ID, controlComponentlVCCSharePayload1,
-						controlComponentlVCCSharePayload2,
-						controlComponentlVCCSharePayload3,
-						controlComponentlVCCSharePayload4));
-
 		final ImmutableList<String> shortChoiceReturnCodes = random.genUniqueDecimalStrings(4, 5);
 		verificationCardService.saveSentState(verificationCardId, shortChoiceReturnCodes);
 
@@ -412,34 +392,4 @@ class VoteCastReturnCodeServiceTest {
 		final ConfirmationKey confKey = new ConfirmationKey(contextIds, confirmationKey);
 		return new ControlComponenthlVCCSharePayload(encryptionGroup, nodeId, "1234567890", confKey, confirmationAttemptId, signature);
 	}
-
-	private static ImmutableList<InProgressMessage> getControlComponentlVCCShareInProgressMessages(
-			final String firstCorrelationId,
-			final ControlComponentlVCCSharePayload controlComponentlVCCSharePayload1,
-			final ControlComponentlVCCSharePayload controlComponentlVCCSharePayload2,
-			final ControlComponentlVCCSharePayload controlComponentlVCCSharePayload3,
-			final ControlComponentlVCCSharePayload controlComponentlVCCSharePayload4) {
-		return ImmutableList.of(
-				new InProgressMessage(firstCorrelationId, 1, serializer.serialize(controlComponentlVCCSharePayload1)),
-				new InProgressMessage(firstCorrelationId, 2, serializer.serialize(controlComponentlVCCSharePayload2)),
-				new InProgressMessage(firstCorrelationId, 3, serializer.serialize(controlComponentlVCCSharePayload3)),
-				new InProgressMessage(firstCorrelationId, 4, serializer.serialize(controlComponentlVCCSharePayload4)));
-
-	}
-
-	private static ImmutableList<InProgressMessage> getControlComponenthlVCCInProgressMessages(
-			final ControlComponenthlVCCSharePayload controlComponenthlVCCSharePayload1,
-			final ControlComponenthlVCCSharePayload controlComponenthlVCCSharePayload2,
-			final ControlComponenthlVCCSharePayload controlComponenthlVCCSharePayload3,
-			final ControlComponenthlVCCSharePayload controlComponenthlVCCSharePayload4) {
-		return ImmutableList.of(
-				new InProgressMessage(VoteCastReturnCodeServiceTest.FIRST_CORRELATION_ID, 1,
-						serializer.serialize(controlComponenthlVCCSharePayload1)),
-				new InProgressMessage(VoteCastReturnCodeServiceTest.FIRST_CORRELATION_ID, 2,
-						serializer.serialize(controlComponenthlVCCSharePayload2)),
-				new InProgressMessage(VoteCastReturnCodeServiceTest.FIRST_CORRELATION_ID, 3,
-						serializer.serialize(controlComponenthlVCCSharePayload3)),
-				new InProgressMessage(VoteCastReturnCodeServiceTest.FIRST_CORRELATION_ID, 4,
-						serializer.serialize(controlComponenthlVCCSharePayload4)));
-	}
 }
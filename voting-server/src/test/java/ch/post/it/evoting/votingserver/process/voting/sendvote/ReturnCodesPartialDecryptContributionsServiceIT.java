@@ -33,6 +33,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.HashFactory;
 import ch.post.it.evoting.cryptoprimitives.signing.SignatureKeystore;
 import ch.post.it.evoting.domain.voting.sendvote.ControlComponentPartialDecryptPayload;
 import ch.post.it.evoting.domain.voting.sendvote.ControlComponentlCCSharePayload;
@@ -47,6 +48,7 @@ import ch.post.it.evoting.votingserver.messaging.ResponseCompletionService;
 import ch.post.it.evoting.votingserver.messaging.Serializer;
 import ch.post.it.evoting.votingserver.process.ElectionEventService;
 import ch.post.it.evoting.votingserver.process.VerificationCardService;
+import ch.post.it.evoting.votingserver.process.voting.ControlComponentSignatureVerificationService;
 import ch.post.it.evoting.votingserver.protocol.voting.sendvote.ExtractCRCOutput;
 import ch.post.it.evoting.votingserver.protocol.voting.sendvote.ExtractCRCService;
 import ch.post.it.evoting.votingserver.shelf.WorkflowShelfService;
@@ -81,7 +83,8 @@ class ReturnCodesPartialDecryptContributionsServiceIT extends ArtemisSupport {
 	void beforeEach() {
 		electionEventServiceMock = mock(ElectionEventService.class);
 		choiceReturnCodesService = new ChoiceReturnCodesService(serializer, messageHandler, extractCRCService, electionEventServiceMock,
-				workflowShelfService, verificationCardService, signatureKeystoreService, responseCompletionService);
+				workflowShelfService, verificationCardService, signatureKeystoreService, responseCompletionService,
+				new ControlComponentSignatureVerificationService(signatureKeystoreService, contextHolder, HashFactory.createHash(), 4, 100));
 	}
 
 	@Test
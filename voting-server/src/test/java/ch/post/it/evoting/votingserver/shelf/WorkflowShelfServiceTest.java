@@ -10,25 +10,39 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import ch.post.it.evoting.cryptoprimitives.collection.ImmutableByteArray;
+import ch.post.it.evoting.evotinglibraries.domain.common.ContextHolder;
 import ch.post.it.evoting.votingserver.messaging.Serializer;
 
 class WorkflowShelfServiceTest {
 
 	private static final WorkflowShelfRepository workflowShelfRepository = mock(WorkflowShelfRepository.class);
 	private static final Serializer serializer = mock(Serializer.class);
+	private static final ContextHolder contextHolder = mock(ContextHolder.class);
 	private static WorkflowShelfService workflowShelfService;
 
 	@BeforeAll
 	static void beforeAll() {
-		workflowShelfService = new WorkflowShelfService(workflowShelfRepository, serializer);
+		workflowShelfService = new WorkflowShelfService(workflowShelfRepository, serializer, contextHolder, 100, Duration.ofMinutes(10));
+	}
+
+	@BeforeEach
+	void setUp() {
+		reset(workflowShelfRepository, serializer);
+		when(contextHolder.getTenantId()).thenReturn("tenant");
 	}
 
 	@Test
@@ -51,4 +65,59 @@ class WorkflowShelfServiceTest {
 		assertThrows(IllegalStateException.class, () -> workflowShelfService.pullFromShelf(id, byte[].class));
 	}
 
+	@Test
+	@DisplayName("pulling data shelved by this instance is served from the cache and only deletes the row")
+	void localPull() {
+		final ImmutableByteArray data = ImmutableByteArray.of((byte) 1);
+		when(serializer.serialize(data)).thenReturn(data);
+		when(workflowShelfRepository.deleteShelfById("local")).thenReturn(1);
+
+		workflowShelfService.pushToShelf("local", data);
+		verify(workflowShelfRepository).save(any());
+
+		assertEquals(data, workflowShelfService.pullFromShelf("local", ImmutableByteArray.class));
+
+		verify(workflowShelfRepository).deleteShelfById("local");
+		verify(workflowShelfRepository, never()).findById(anyString());
+		verify(serializer, never()).deserialize(any(), any());
+	}
+
+	@Test
+	@DisplayName("pulling cached data already deleted from the database fails")
+	void localPullOfDeletedRow() {
+		final ImmutableByteArray data = ImmutableByteArray.of((byte) 1);
+		when(serializer.serialize(data)).thenReturn(data);
+		when(workflowShelfRepository.deleteShelfById("deleted")).thenReturn(0);
+		when(workflowShelfRepository.findById("deleted")).thenReturn(Optional.empty());
+
+		workflowShelfService.pushToShelf("deleted", data);
+
+		assertThrows(IllegalStateException.class, () -> workflowShelfService.pullFromShelf("deleted", ImmutableByteArray.class));
+	}
+
+	@Test
+	@DisplayName("pulling data shelved by another instance reads and deletes it from the database")
+	void remotePull() {
+		final ImmutableByteArray data = ImmutableByteArray.of((byte) 1);
+		when(workflowShelfRepository.findById("remote")).thenReturn(Optional.of(new WorkflowShelfEntity("remote", data)));
+		when(serializer.deserialize(data, ImmutableByteArray.class)).thenReturn(data);
+
+		assertEquals(data, workflowShelfService.pullFromShelf("remote", ImmutableByteArray.class));
+
+		verify(workflowShelfRepository, never()).deleteShelfById(anyString());
+		verify(workflowShelfRepository).deleteById("remote");
+	}
+
+	@Test
+	@DisplayName("pulling data shelved for another tenant does not use the cache")
+	void otherTenantPull() {
+		final ImmutableByteArray data = ImmutableByteArray.of((byte) 1);
+		when(serializer.serialize(data)).thenReturn(data);
+		workflowShelfService.pushToShelf("otherTenant", data);
+		when(contextHolder.getTenantId()).thenReturn("otherTenant");
+		when(workflowShelfRepository.findById("otherTenant")).thenReturn(Optional.empty());
+
+		assertThrows(IllegalStateException.class, () -> workflowShelfService.pullFromShelf("otherTenant", ImmutableByteArray.class));
+		verify(workflowShelfRepository, never()).deleteShelfById(anyString());
+	}
 }